@@ -10,6 +10,7 @@ LOCAL_MODULE    := rtkgps
 LOCAL_CFLAGS += -fvisibility=hidden
 
 LOCAL_SRC_FILES := \
+	geoid_private.c \
 	gtime.c \
 	prcopt.c \
 	rtkjni.c \
@@ -34,7 +35,7 @@ TARGET_PLATFORM := android-14
 TARGET_ARCH_ABI := armeabi armeabi-v7a mips x86
 LOCAL_MODULE    := proj
 LOCAL_C_INCLUDES := $(LOCAL_PATH)/proj-4.8.0/src
-LOCAL_CFLAGS    := -DJNI_ENABLED=1
+LOCAL_CFLAGS    := -DJNI_ENABLED=1 -DMUTEX_pthread
 LOCAL_LDLIBS := -lm
 LOCAL_LDLIBS += -llog
 LOCAL_SRC_FILES := \
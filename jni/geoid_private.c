@@ -0,0 +1,14 @@
+/*
+ * Private copy of RTKLIB geoid.c for the Java geoid lookups.
+ *
+ * RTKLIB keeps the opened geoid model and file in statics of geoid.c that
+ * the server thread reads through geoidh() for the solution output. This
+ * copy is built with the entry points renamed, so it has statics of its
+ * own: lookups from Java never close, reopen or read the global geoid.
+ * Only used from RtkCommon, under its private geoid lock.
+ */
+#define opengeoid private_opengeoid
+#define closegeoid private_closegeoid
+#define geoidh private_geoidh
+
+#include "geoid.c"
@@ -18,33 +18,6 @@ static struct {
 } gpsplus_rtklib_gtime_methods;
 
 
-static gtime_t get_gtime_t(JNIEnv* env, jobject thiz)
-{
-   gtime_t gt;
-   gt.time = (*env)->GetLongField(env, thiz, gpsplus_rtklib_gtime_fields.time);
-   gt.sec = (*env)->GetDoubleField(env, thiz, gpsplus_rtklib_gtime_fields.sec);
-   return gt;
-}
-
-static jlong GTime_get_utc_time_millis(JNIEnv* env, jobject thiz)
-{
-   gtime_t t;
-   t = gpst2utc(get_gtime_t(env, thiz));
-   return (jlong)(1000ll * t.time + llround(1000.0 * t.sec));
-}
-
-static jint GTime_get_gps_week(JNIEnv* env, jobject thiz)
-{
-   int week;
-   time2gpst(get_gtime_t(env, thiz), &week);
-   return week;
-}
-
-static jdouble GTime_get_gps_tow(JNIEnv* env, jobject thiz)
-{
-   return time2gpst(get_gtime_t(env, thiz), NULL);
-}
-
 static int init_gtime_fields_methods(JNIEnv* env, jclass clazz) {
 
     gpsplus_rtklib_gtime_fields.time = (*env)->GetFieldID(env, clazz, "time", "J");
@@ -73,13 +46,6 @@ void set_gtime(JNIEnv* env, jclass jgtime, gtime_t time)
 	 (jdouble)time.sec);
 }
 
-
-static JNINativeMethod nativeMethods[] = {
-   { "getUtcTimeMillis", "()J", (void*)GTime_get_utc_time_millis },
-   { "getGpsWeek", "()I", (void*)GTime_get_gps_week },
-   { "getGpsTow", "()D", (void*)GTime_get_gps_tow }
-};
-
 int registerGTimeNatives(JNIEnv* env) {
     int result = -1;
 
@@ -89,10 +55,6 @@ int registerGTimeNatives(JNIEnv* env) {
     if (clazz == NULL)
        return JNI_FALSE;
 
-    if ((*env)->RegisterNatives(env, clazz, nativeMethods, sizeof(nativeMethods)
-	     / sizeof(nativeMethods[0])) != JNI_OK)
-       return JNI_FALSE;
-
     if ( ! init_gtime_fields_methods(env, clazz))
        return JNI_FALSE;
 
@@ -115,6 +115,10 @@ JNIEXPORT jstring JNICALL Java_org_proj4_PJ_getVersion
  * \brief
  * Allocates a new PJ structure from a definition string.
  *
+ * Every PJ structure gets its own context, freed with it, so threads using
+ * distinct PJ structures do not share the last error. The grids shared by
+ * all the structures are loaded under the proj.4 lock (MUTEX_pthread).
+ *
  * \param  env        - The JNI environment.
  * \param  class      - The class from which this method has been invoked.
  * \param  definition - The string definition to be given to Proj4.
@@ -126,8 +130,10 @@ JNIEXPORT jlong JNICALL Java_org_proj4_PJ_allocatePJ
     const char *def_utf = (*env)->GetStringUTFChars(env, definition, NULL);
     if (!def_utf) return 0; /* OutOfMemoryError already thrown. */
 
-    PJ *pj = pj_init_plus(def_utf);
+    projCtx ctx = pj_ctx_alloc();
+    PJ *pj = pj_init_plus_ctx(ctx, def_utf);
     (*env)->ReleaseStringUTFChars(env, definition, def_utf);
+    if (!pj) pj_ctx_free(ctx);
 
     return (jlong) pj;
 }
@@ -135,12 +141,19 @@ JNIEXPORT jlong JNICALL Java_org_proj4_PJ_allocatePJ
 JNIEXPORT void JNICALL Java_org_proj4_PJ_setApplicationPath
   (JNIEnv *env, jclass class, jstring applicationPath)
 {
-    char *givenPath = (*env)->GetStringUTFChars(env, applicationPath, NULL);
+    const char *givenPath = (*env)->GetStringUTFChars(env, applicationPath, NULL);
     if (!givenPath) return ;
-    if (appPath) free(appPath);
-    appPath = (char*) malloc( (strlen(givenPath)+1)*sizeof(char) );
-    if (!appPath) return;
-    strcpy(appPath,givenPath);
+    /* other threads may be opening a grid with the current path */
+    pj_acquire_lock();
+    if (!appPath || strcmp(appPath, givenPath) != 0) {
+        char *newPath = (char*) malloc( (strlen(givenPath)+1)*sizeof(char) );
+        if (newPath) {
+            strcpy(newPath,givenPath);
+            if (appPath) free(appPath);
+            appPath = newPath;
+        }
+    }
+    pj_release_lock();
     (*env)->ReleaseStringUTFChars(env, applicationPath, givenPath);
 
 }
@@ -161,7 +174,12 @@ JNIEXPORT jlong JNICALL Java_org_proj4_PJ_allocateGeoPJ
   (JNIEnv *env, jclass class, jobject projected)
 {
     PJ *pj = getPJ(env, projected);
-    return (pj) ? (jlong) pj_latlong_from_proj(pj) : 0;
+    if (!pj) return 0;
+
+    /* initialized in the context of the projected PJ, then given its own */
+    PJ *geo = pj_latlong_from_proj(pj);
+    if (geo) pj_set_ctx(geo, pj_ctx_alloc());
+    return (jlong) geo;
 }
 
 /*!
@@ -487,8 +505,11 @@ JNIEXPORT void JNICALL Java_org_proj4_PJ_finalize
     if (id) {
         PJ *pj = (PJ*) (*env)->GetLongField(env, object, id);
         if (pj) {
+            projCtx ctx = pj_get_ctx(pj);
             (*env)->SetLongField(env, object, id, (jlong) 0);
             pj_free(pj);
+            /* allocated with the PJ structure, see allocatePJ */
+            if (ctx != pj_get_default_ctx()) pj_ctx_free(ctx);
         }
     }
 }
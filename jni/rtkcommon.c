@@ -4,6 +4,7 @@
 #include <strings.h>
 
 #include "rtklib.h"
+#include "rtkjni.h"
 
 #define TAG "nativeRtkCommion"
 #define LOGV(...) showmsg(__VA_ARGS__)
@@ -80,6 +81,45 @@ static jdouble RtkCommon_geoidh_from_external_model(JNIEnv* env, jclass clazz, j
    return correction;
 }
 
+/* model opened in the private geoid, -1 if none */
+static int private_geoid_model = -1;
+
+static void RtkCommon__get_embedded_geoid(JNIEnv* env, jclass clazz, jfloatArray j_dst)
+{
+   float row[361];
+   double pos[2];
+   int i, j;
+
+   if (private_geoid_model != GEOID_EMBEDDED) {
+      private_opengeoid(GEOID_EMBEDDED, "");
+      private_geoid_model = GEOID_EMBEDDED;
+   }
+   for (j=0; j<181; j++) {
+      pos[0] = (j-90)/180.0*PI;
+      for (i=0; i<360; i++) {
+	 pos[1] = i/180.0*PI;
+	 row[i] = (float)private_geoidh(pos);
+      }
+      /* RTKLIB rejects 360E, it is 0E */
+      row[360] = row[0];
+      (*env)->SetFloatArrayRegion(env, j_dst, 361*j, 361, row);
+   }
+}
+
+static jdouble RtkCommon__private_geoidh(JNIEnv* env, jclass clazz, jdouble j_lat, jdouble j_lon, jint model, jstring geoid_filename)
+{
+   double pos[2] = {j_lat, j_lon};
+
+   if (model != private_geoid_model) {
+      const char *filename = (*env)->GetStringUTFChars(env, geoid_filename, 0);
+      /* the file stays open for the next lookups */
+      private_geoid_model = private_opengeoid(model, filename) ? model : -1;
+      (*env)->ReleaseStringUTFChars(env, geoid_filename, filename);
+   }
+   if (model != private_geoid_model) return 0.0;
+   return (jdouble)private_geoidh(pos);
+}
+
 static void RtkCommon__ecef2pos(JNIEnv* env, jclass clazz, jdouble x,
       jdouble y, jdouble z, jdoubleArray j_pos)
 {
@@ -211,8 +251,10 @@ static JNINativeMethod nativeMethods[] = {
    {"closegeoid", "()V",(void*)RtkCommon_closegeoid},
    {"geoidh", "(DD)D", (void*)RtkCommon_geoidh},
    {"geoidh_from_external_model","(DDILjava/lang/String;)D",(void*)RtkCommon_geoidh_from_external_model},
+   {"_getEmbeddedGeoid", "([F)V", (void*)RtkCommon__get_embedded_geoid},
+   {"_privateGeoidh", "(DDILjava/lang/String;)D", (void*)RtkCommon__private_geoidh},
    {"_deg2dms", "(D[D)V", (void*)RtkCommon__deg2dms},
-   {"norm", "([D)D", (void*)RtkCommon_norm},
+   {"_norm", "([D)D", (void*)RtkCommon_norm},
    {"_ecef2pos", "(DDD[D)V", (void*)RtkCommon__ecef2pos},
    {"_ecef2enu", "(DD[D[D)V", (void*)RtkCommon__ecef2enu},
    {"_pos2ecef", "(DDD[D)V", (void*)RtkCommon__pos2ecef},
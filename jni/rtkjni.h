@@ -19,5 +19,10 @@ void j_str2buf(JNIEnv* env, jstring str, char *dest, size_t n);
 /* gtime.c */
 void set_gtime(JNIEnv* env, jclass jgtime, gtime_t time);
 
+/* geoid_private.c */
+int private_opengeoid(int model, const char *file);
+void private_closegeoid(void);
+double private_geoidh(const double *pos);
+
 
 #endif /* _RTKJNI_H  */
@@ -723,6 +723,59 @@ static void RtkServer__readsatant(JNIEnv* env, jclass thiz, jstring file)
 	(*env)->ReleaseStringUTFChars(env,file, filename);
 }
 
+/* Continues the output or log file stream j_index in the file j_path.
+ * The new file is opened first and its port swapped with the current one
+ * under the stream lock, so that no write is lost; the previous file is
+ * then closed. */
+static jboolean RtkServer__rotate_file_stream(JNIEnv* env, jclass thiz,
+      jint j_index, jstring j_path)
+{
+   struct native_ctx_t *nctx;
+   stream_t *str;
+   stream_t newstr;
+   const char *path;
+   void *port;
+   jboolean res;
+
+   nctx = (struct native_ctx_t *)(uintptr_t)(*env)->GetLongField(env, thiz, m_object_field);
+   if (nctx == NULL) {
+      LOGV("nctx is null");
+      return JNI_FALSE;
+   }
+   if (j_index < 3 || j_index > 7)
+      return JNI_FALSE;
+
+   path = (*env)->GetStringUTFChars(env, j_path, NULL);
+   if (path == NULL)
+      return JNI_FALSE;
+
+   res = JNI_FALSE;
+   str = &nctx->rtksvr.stream[j_index];
+   strinit(&newstr);
+   if (!stropen(&newstr, STR_FILE, STR_MODE_W, path)) {
+      LOGV("rotate_file_stream: cannot open %s", path);
+      goto rotate_file_stream_end;
+   }
+
+   strlock(str);
+   if (str->type == STR_FILE && (str->mode & STR_MODE_W) && str->port != NULL) {
+      port = str->port;
+      str->port = newstr.port;
+      newstr.port = port;
+      strncpy(str->path, path, MAXSTRPATH - 1);
+      str->path[MAXSTRPATH - 1] = '\0';
+      res = JNI_TRUE;
+   }
+   strunlock(str);
+
+   /* previous file, or the new one if the stream is not an open file */
+   strclose(&newstr);
+
+rotate_file_stream_end:
+   (*env)->ReleaseStringUTFChars(env, j_path, path);
+   return res;
+}
+
 static JNINativeMethod nativeMethods[] = {
    {"_create", "()V", (void*)RtkServer__create},
    {"_destroy", "()V", (void*)RtkServer__destroy},
@@ -750,7 +803,8 @@ static JNINativeMethod nativeMethods[] = {
    {"_getObservationStatus", "(ILgpsplus/rtklib/RtkServerObservationStatus$Native;)V", (void*)RtkServer__get_observation_status},
    {"_writeCommands", "([Ljava/lang/String;)V", (void*)RtkServer__write_commands},
    {"_readsp3","(Ljava/lang/String;)V", (void*)RtkServer__readsp3},
-   {"_readsatant","(Ljava/lang/String;)V", (void*)RtkServer__readsatant}
+   {"_readsatant","(Ljava/lang/String;)V", (void*)RtkServer__readsatant},
+   {"_rotateFileStream","(ILjava/lang/String;)Z", (void*)RtkServer__rotate_file_stream}
 };
 
 static int init_observation_status_fields(JNIEnv* env) {
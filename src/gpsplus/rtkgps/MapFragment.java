@@ -6,7 +6,9 @@ import android.app.Activity;
 import android.app.Fragment;
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.graphics.Point;
 import android.location.Location;
+import android.os.AsyncTask;
 import android.os.Bundle;
 import android.util.DisplayMetrics;
 import android.util.Log;
@@ -17,6 +19,7 @@ import android.view.MenuInflater;
 import android.view.MenuItem;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.Toast;
 
 import butterknife.ButterKnife;
 import butterknife.InjectView;
@@ -33,10 +36,19 @@ import gpsplus.rtklib.Solution;
 import gpsplus.rtklib.constants.SolutionStatus;
 
 import org.osmdroid.ResourceProxy;
-import org.osmdroid.tileprovider.MapTileProviderBase;
+import org.osmdroid.events.MapAdapter;
+import org.osmdroid.events.ScrollEvent;
+import org.osmdroid.events.ZoomEvent;
+import org.osmdroid.tileprovider.modules.TilePreseeder;
+import org.osmdroid.tileprovider.modules.TileSourceArchive;
+import org.osmdroid.tileprovider.modules.WMTSMapTileProviderBasic;
 import org.osmdroid.tileprovider.tilesource.ITileSource;
+import org.osmdroid.tileprovider.tilesource.OnlineTileSourceBase;
 import org.osmdroid.tileprovider.tilesource.TileSourceFactory;
 import org.osmdroid.tileprovider.tilesource.bing.BingMapTileSource;
+import org.osmdroid.util.BoundingBoxE6;
+import org.osmdroid.util.GeoPoint;
+import org.osmdroid.util.TileSystem;
 import org.osmdroid.views.MapView;
 import org.osmdroid.views.overlay.ScaleBarOverlay;
 import org.osmdroid.views.overlay.compass.CompassOverlay;
@@ -45,6 +57,10 @@ import org.osmdroid.views.overlay.mylocation.IMyLocationConsumer;
 import org.osmdroid.views.overlay.mylocation.IMyLocationProvider;
 import org.osmdroid.views.overlay.mylocation.MyLocationNewOverlay;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
 
@@ -63,6 +79,9 @@ public class MapFragment extends Fragment {
     private static final String MAP_MODE_BING_AERIAL="Bing aerial";
     private static final String MAP_MODE_BING_ROAD="Bing road";
 
+    /** Zoom levels downloaded above the displayed one */
+    private static final int PRESEED_ZOOM_LEVELS = 3;
+
     private Timer mStreamStatusUpdateTimer;
     private RtkServerStreamStatus mStreamStatus;
     private ResourceProxy mResourceProxy;
@@ -84,7 +103,8 @@ public class MapFragment extends Fragment {
     @InjectView(R.id.solutionView) SolutionView mSolutionView;
 
     private MapView mMapView;
-    private MapTileProviderBase mGeoportailTileProvider;
+    private WMTSMapTileProviderBasic mGeoportailTileProvider;
+    private PreseedTask mPreseedTask;
 
 
     public MapFragment() {
@@ -137,11 +157,24 @@ public class MapFragment extends Fragment {
 //ON WORK
         //modified provider for setting User-Agent to Android wich is mandatory for geoportail
         //also trust all certificates for communicating via https
-        mGeoportailTileProvider = new org.osmdroid.tileprovider.modules.WMTSMapTileProviderBasic(inflater.getContext());
+        mGeoportailTileProvider = new WMTSMapTileProviderBasic(inflater.getContext());
 
         mMapView = new MapView(inflater.getContext(), 256, mResourceProxy,mGeoportailTileProvider);
         mMapView.setBuiltInZoomControls(true);
         mMapView.setMultiTouchControls(true);
+        mMapView.setMapListener(new MapAdapter() {
+            @Override
+            public boolean onScroll(ScrollEvent event) {
+                updateTileViewport();
+                return false;
+            }
+
+            @Override
+            public boolean onZoom(ZoomEvent event) {
+                updateTileViewport();
+                return false;
+            }
+        });
         mMapView.setLayerType(View.LAYER_TYPE_SOFTWARE, null);
 
         mPathOverlay = new SolutionPathOverlay(mResourceProxy);
@@ -227,6 +260,8 @@ public class MapFragment extends Fragment {
         }
 
         menu.findItem(checked).setChecked(true);
+        menu.findItem(R.id.menu_map_preseed).setTitle(mPreseedTask == null
+                ? R.string.menu_map_preseed : R.string.menu_map_preseed_stop);
     }
 
     @Override
@@ -249,6 +284,7 @@ public class MapFragment extends Fragment {
     @Override
     public void onDestroyView() {
         super.onDestroyView();
+        if (mPreseedTask != null) mPreseedTask.cancelPreseed();
         mMapView = null;
         mPathOverlay = null;
         mMyLocationOverlay = null;
@@ -281,6 +317,13 @@ public class MapFragment extends Fragment {
         case R.id.menu_map_mode_geoportail_map:
             tileSource = GeoportailLayer.MAPS.getLayer();
             break;
+        case R.id.menu_map_preseed:
+            if (mPreseedTask != null) {
+                mPreseedTask.cancelPreseed();
+            }else {
+                startPreseed();
+            }
+            return true;
         default:
             return super.onOptionsItemSelected(item);
         }
@@ -386,6 +429,115 @@ public class MapFragment extends Fragment {
         }
     }
 
+    /**
+     * Tells the tile downloader which tiles are displayed, so it fetches them
+     * first and drops the ones scrolled away
+     */
+    private void updateTileViewport() {
+        if (mMapView == null) return;
+        final BoundingBoxE6 box = mMapView.getProjection().getBoundingBox();
+        final int zoom = mMapView.getZoomLevel();
+        final int tileSize = TileSystem.getTileSize();
+        final Point topLeft = TileSystem.LatLongToPixelXY(box.getLatNorthE6() / 1E6,
+                box.getLonWestE6() / 1E6, zoom, null);
+        final Point bottomRight = TileSystem.LatLongToPixelXY(box.getLatSouthE6() / 1E6,
+                box.getLonEastE6() / 1E6, zoom, null);
+        int left = topLeft.x / tileSize;
+        int right = bottomRight.x / tileSize;
+        if (left > right) {
+            // across the date line
+            left = 0;
+            right = (1 << zoom) - 1;
+        }
+        mGeoportailTileProvider.setViewport(zoom, left, topLeft.y / tileSize, right, bottomRight.y / tileSize);
+    }
+
+    /**
+     * Downloads the tiles of the displayed area, from the displayed zoom
+     * level to {@link #PRESEED_ZOOM_LEVELS} levels above, into an MBTiles
+     * archive of the tile source read when offline
+     */
+    private void startPreseed() {
+        final ITileSource tileSource = mMapView.getTileProvider().getTileSource();
+        final BoundingBoxE6 box = mMapView.getProjection().getBoundingBox();
+        if (!(tileSource instanceof OnlineTileSourceBase)
+                || box.getLonWestE6() > box.getLonEastE6()) {
+            Toast.makeText(getActivity(), R.string.map_preseed_unavailable, Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        final List<GeoPoint> polygon = Arrays.asList(
+                new GeoPoint(box.getLatNorthE6(), box.getLonWestE6()),
+                new GeoPoint(box.getLatNorthE6(), box.getLonEastE6()),
+                new GeoPoint(box.getLatSouthE6(), box.getLonEastE6()),
+                new GeoPoint(box.getLatSouthE6(), box.getLonWestE6()));
+        final int minZoom = mMapView.getZoomLevel();
+        final int maxZoom = Math.min(minZoom + PRESEED_ZOOM_LEVELS,
+                tileSource.getMaximumZoomLevel());
+        final File archive = TileSourceArchive.getArchiveFile(tileSource);
+
+        final TilePreseeder preseeder;
+        try {
+            preseeder = new TilePreseeder(mGeoportailTileProvider.getScheduler(),
+                    (OnlineTileSourceBase)tileSource, polygon, minZoom, maxZoom, archive);
+        }catch (IllegalArgumentException e) {
+            Log.w(TAG, "Cannot download the area: " + e);
+            Toast.makeText(getActivity(), R.string.map_preseed_unavailable, Toast.LENGTH_SHORT).show();
+            return;
+        }
+        archive.getParentFile().mkdirs();
+        mPreseedTask = new PreseedTask(preseeder);
+        mPreseedTask.execute();
+        Toast.makeText(getActivity(), getString(R.string.map_preseed_started, minZoom, maxZoom),
+                Toast.LENGTH_SHORT).show();
+    }
+
+    /**
+     * Runs a {@link TilePreseeder} out of the UI thread, then makes the map
+     * read the archive
+     */
+    private class PreseedTask extends AsyncTask<Void, Void, TilePreseeder.Result> {
+
+        private final TilePreseeder mPreseeder;
+        private final Context mAppContext;
+
+        PreseedTask(TilePreseeder preseeder) {
+            mPreseeder = preseeder;
+            mAppContext = getActivity().getApplicationContext();
+        }
+
+        void cancelPreseed() {
+            mPreseeder.cancel();
+        }
+
+        @Override
+        protected TilePreseeder.Result doInBackground(Void... params) {
+            try {
+                return mPreseeder.run();
+            }catch (IOException e) {
+                Log.e(TAG, "Area download failed: " + e);
+                return null;
+            }
+        }
+
+        @Override
+        protected void onPostExecute(TilePreseeder.Result result) {
+            mPreseedTask = null;
+            if (mMapView != null) mGeoportailTileProvider.reloadArchives();
+
+            final String msg;
+            if (result == null) {
+                msg = mAppContext.getString(R.string.map_preseed_failed);
+            }else if (result.complete) {
+                msg = mAppContext.getString(R.string.map_preseed_done,
+                        result.written, result.existing, result.failed);
+            }else {
+                msg = mAppContext.getString(R.string.map_preseed_interrupted, result.written);
+            }
+            Toast.makeText(mAppContext, msg, Toast.LENGTH_LONG).show();
+        }
+    }
+
     private void appendSolutions(Solution solutions[]) {
         mPathOverlay.addSolutions(solutions);
     }
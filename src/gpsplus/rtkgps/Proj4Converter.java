@@ -1,39 +1,68 @@
 package gpsplus.rtkgps;
 
 
-import org.proj4.CRSRegistry;
-import org.proj4.PJ;
 import org.proj4.PJException;
 import org.proj4.ProjCoordinate;
 
+/**
+ * Projects WGS84 coordinates with a proj.4 definition.
+ * <p>
+ * Besides the single point {@link #convert(String, double, double)}, the
+ * batch methods transform whole arrays in one native call through a
+ * reusable buffer. Instances are not thread safe: each one checks out the
+ * PJ pair of its current definition from the shared {@link Proj4Pool},
+ * so switching definitions or creating converters does not rebuild the
+ * projections. Call {@link #release()} when done with the converter.
+ */
 public class Proj4Converter {
 
-    private String mApplicationPath="";
-    private PJ sourcePJ;
-    private PJ targetPJ;
-    private String mCurrentTargetDefinition = null;
+    /** Points per native call of the batch methods, bounds the buffer size */
+    public static final int BATCH_SIZE = 4096;
+
+    private final Proj4Pool mPool;
+    private Proj4Pool.PJPair mPair;
+
+    /** Interleaved (lon, lat) buffer of the batch methods */
+    private double mBuffer[];
 
     public Proj4Converter() {
         this( MainActivity.getApplicationDirectory() );
     }
 
     public Proj4Converter(String applicationPath) {
-        this.mApplicationPath = applicationPath;
-        sourcePJ = new PJ(CRSRegistry.WGS84_LON_LAT, mApplicationPath);
+        mPool = Proj4Pool.getInstance(applicationPath);
+        mPair = null;
+        mBuffer = new double[2];
     }
 
-    public ProjCoordinate convert(String proj4DefinitionString, double lat, double lon)
-    {
-        if ( (mCurrentTargetDefinition == null) || (!proj4DefinitionString.equals(mCurrentTargetDefinition)) ) {
-            targetPJ = new PJ(proj4DefinitionString, mApplicationPath);           // (x,y) axis order
-            mCurrentTargetDefinition = proj4DefinitionString;
+    private Proj4Pool.PJPair getPair(String proj4DefinitionString) {
+        if ( (mPair == null) || (!proj4DefinitionString.equals(mPair.definition)) ) {
+            final Proj4Pool.PJPair pair = mPool.acquire(proj4DefinitionString);
+            if (mPair != null) mPool.release(mPair);
+            mPair = pair;
         }
+        return mPair;
+    }
+
+    /**
+     * Gives the projections back to the pool. The converter may be used
+     * again afterwards.
+     */
+    public void release() {
+        if (mPair != null) {
+            mPool.release(mPair);
+            mPair = null;
+        }
+    }
 
-        double[] coordinates = new double[2];
+    public ProjCoordinate convert(String proj4DefinitionString, double lat, double lon)
+    {
+        final Proj4Pool.PJPair pair = getPair(proj4DefinitionString);
+        final double coordinates[] = mBuffer;
         coordinates[0] = lon;
         coordinates[1] = lat;
         try {
-            sourcePJ.transform(targetPJ, 2, coordinates, 0, 1);
+            pair.source.transform(pair.target, 2, coordinates, 0, 1);
         } catch (PJException e) {
             // TODO Auto-generated catch block
             e.printStackTrace();
@@ -41,4 +70,59 @@ public class Proj4Converter {
         return new ProjCoordinate(coordinates[0], coordinates[1]);
     }
 
+    /**
+     * Projects {@code numPts} interleaved (lon, lat) pairs in place, as
+     * (x, y), in one native call
+     * @param offset index in {@code coordinates} of the first longitude
+     * @throws PJException if proj.4 rejected the whole batch
+     */
+    public void transform(String proj4DefinitionString, double coordinates[], int offset, int numPts)
+            throws PJException {
+        if (numPts == 0) return;
+        final Proj4Pool.PJPair pair = getPair(proj4DefinitionString);
+        pair.source.transform(pair.target, 2, coordinates, offset, numPts);
+    }
+
+    /**
+     * Projects {@code count} points stored column-wise. Output arrays may
+     * be the input arrays ({@code x == lon}, {@code y == lat}) to convert
+     * in place. Points proj.4 cannot project are set to NaN.
+     * @return number of points projected
+     */
+    public int convert(String proj4DefinitionString, double lat[], double lon[], int offset, int count,
+            double x[], double y[]) {
+        final Proj4Pool.PJPair pair = getPair(proj4DefinitionString);
+        if (mBuffer.length < 2 * Math.min(count, BATCH_SIZE)) {
+            mBuffer = new double[2 * Math.min(count, BATCH_SIZE)];
+        }
+        final double buffer[] = mBuffer;
+        int converted = 0;
+        for (int start = offset; start < offset + count; start += BATCH_SIZE) {
+            final int n = Math.min(BATCH_SIZE, offset + count - start);
+            for (int i = 0, j = 0; i < n; ++i, j += 2) {
+                buffer[j] = lon[start + i];
+                buffer[j + 1] = lat[start + i];
+            }
+            boolean ok = true;
+            try {
+                pair.source.transform(pair.target, 2, buffer, 0, n);
+            } catch (PJException e) {
+                e.printStackTrace();
+                ok = false;
+            }
+            for (int i = 0, j = 0; i < n; ++i, j += 2) {
+                // proj.4 sets the points it cannot project to HUGE_VAL
+                if (ok && !Double.isInfinite(buffer[j]) && !Double.isInfinite(buffer[j + 1])) {
+                    x[start + i] = buffer[j];
+                    y[start + i] = buffer[j + 1];
+                    converted += 1;
+                }else {
+                    x[start + i] = Double.NaN;
+                    y[start + i] = Double.NaN;
+                }
+            }
+        }
+        return converted;
+    }
+
 }
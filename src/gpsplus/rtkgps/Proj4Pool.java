@@ -0,0 +1,129 @@
+package gpsplus.rtkgps;
+
+import android.util.Log;
+
+import org.proj4.CRSRegistry;
+import org.proj4.PJ;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU pool of proj.4 {@link PJ} pairs keyed by target definition.
+ * <p>
+ * PJ instances are not thread safe, so a pair (WGS84 source, target) is
+ * checked out by one thread with {@link #acquire(String)} and given back
+ * with {@link #release(PJPair)}. Threads converting to the same definition
+ * get distinct pairs, which transform concurrently: every PJ has its own
+ * proj.4 context, hence its own last error, and the grids shared by all
+ * the pairs are loaded under the proj.4 lock (built with
+ * {@code MUTEX_pthread}, see jniproj.c). A pair returned to the pool is
+ * reused by the next thread asking for its definition instead of being
+ * rebuilt. At most
+ * {@link #MAX_IDLE_PAIRS} idle pairs are kept, the least recently used
+ * definitions are dropped first.
+ */
+public class Proj4Pool {
+
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+    static final String TAG = Proj4Pool.class.getSimpleName();
+
+    public static final int MAX_IDLE_PAIRS = 16;
+
+    private static final Map<String, Proj4Pool> sInstances = new HashMap<String, Proj4Pool>();
+
+    /** Source and target projections, used by one thread at a time */
+    public static class PJPair {
+        public final String definition;
+        public final PJ source;
+        public final PJ target;
+
+        PJPair(String definition, PJ source, PJ target) {
+            this.definition = definition;
+            this.source = source;
+            this.target = target;
+        }
+    }
+
+    private final String mApplicationPath;
+    private final LinkedHashMap<String, ArrayDeque<PJPair>> mIdle;
+    private int mIdleCount;
+    private int mCreated;
+
+    /**
+     * @param applicationPath directory of the proj.4 grids
+     */
+    public static Proj4Pool getInstance(String applicationPath) {
+        synchronized (sInstances) {
+            Proj4Pool pool = sInstances.get(applicationPath);
+            if (pool == null) {
+                pool = new Proj4Pool(applicationPath);
+                sInstances.put(applicationPath, pool);
+            }
+            return pool;
+        }
+    }
+
+    private Proj4Pool(String applicationPath) {
+        mApplicationPath = applicationPath;
+        mIdle = new LinkedHashMap<String, ArrayDeque<PJPair>>(16, 0.75f, true);
+        mIdleCount = 0;
+        mCreated = 0;
+    }
+
+    /**
+     * Checks out a pair for {@code definition}, created if none is idle.
+     * The pair must only be used by the calling thread until it is released.
+     * @throws IllegalArgumentException if proj.4 rejects the definition
+     */
+    public synchronized PJPair acquire(String definition) {
+        final ArrayDeque<PJPair> idle = mIdle.get(definition);
+        if (idle != null) {
+            final PJPair pair = idle.pollFirst();
+            if (idle.isEmpty()) mIdle.remove(definition);
+            if (pair != null) {
+                mIdleCount -= 1;
+                return pair;
+            }
+        }
+        // Created with the lock held: the grid path is global in proj.4
+        final PJ target = new PJ(definition, mApplicationPath);           // (x,y) axis order
+        final PJ source = new PJ(CRSRegistry.WGS84_LON_LAT, mApplicationPath);
+        mCreated += 1;
+        if (DBG) Log.v(TAG, "PJ pair " + mCreated + " created for " + definition);
+        return new PJPair(definition, source, target);
+    }
+
+    /**
+     * Gives back a pair checked out by {@link #acquire(String)}. The
+     * caller must not use it afterwards.
+     */
+    public synchronized void release(PJPair pair) {
+        ArrayDeque<PJPair> idle = mIdle.get(pair.definition);
+        if (idle == null) {
+            idle = new ArrayDeque<PJPair>(2);
+            mIdle.put(pair.definition, idle);
+        }
+        idle.addFirst(pair);
+        mIdleCount += 1;
+
+        // Drop pairs of the least recently used definitions,
+        // the native structures are freed by PJ.finalize()
+        final Iterator<ArrayDeque<PJPair>> it = mIdle.values().iterator();
+        while (mIdleCount > MAX_IDLE_PAIRS && it.hasNext()) {
+            final ArrayDeque<PJPair> eldest = it.next();
+            while (mIdleCount > MAX_IDLE_PAIRS && !eldest.isEmpty()) {
+                eldest.pollLast();
+                mIdleCount -= 1;
+            }
+            if (eldest.isEmpty()) it.remove();
+        }
+    }
+
+    public synchronized int getIdleCount() {
+        return mIdleCount;
+    }
+}
@@ -6,6 +6,8 @@ import android.content.pm.PackageManager.NameNotFoundException;
 import android.os.StrictMode;
 import android.util.Log;
 
+import gpsplus.rtkgps.upload.UploadManager;
+
 import org.acra.ReportingInteractionMode;
 import org.acra.annotation.ReportsCrashes;
 import org.proj4.PJ;
@@ -49,6 +51,8 @@ public class RtkGps extends Application {
             // TODO Auto-generated catch block
             e.printStackTrace();
         }
+        // Restart uploads interrupted by a previous shutdown
+        UploadManager.getInstance(this).resume();
 
     }
 
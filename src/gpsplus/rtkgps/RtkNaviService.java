@@ -22,13 +22,10 @@ import android.util.Log;
 import android.widget.Toast;
 
 import com.dropbox.sync.android.DbxAccountManager;
-import com.dropbox.sync.android.DbxException;
-import com.dropbox.sync.android.DbxException.Unauthorized;
-import com.dropbox.sync.android.DbxFile;
-import com.dropbox.sync.android.DbxFileSystem;
-import com.dropbox.sync.android.DbxPath;
-import com.dropbox.sync.android.DbxPath.InvalidPathException;
 
+import gpsplus.rtkgps.export.ExportFormat;
+import gpsplus.rtkgps.export.SolutionExporter;
+import gpsplus.rtkgps.geoid.GeoidService;
 import gpsplus.rtkgps.settings.LogBaseFragment;
 import gpsplus.rtkgps.settings.LogRoverFragment;
 import gpsplus.rtkgps.settings.OutputGPXTraceFragment;
@@ -41,7 +38,13 @@ import gpsplus.rtkgps.settings.StreamBluetoothFragment;
 import gpsplus.rtkgps.settings.StreamBluetoothFragment.Value;
 import gpsplus.rtkgps.settings.StreamFileClientFragment;
 import gpsplus.rtkgps.settings.StreamUsbFragment;
-import gpsplus.rtkgps.utils.ZipHelper;
+import gpsplus.rtkgps.upload.DropboxUploadTarget;
+import gpsplus.rtkgps.upload.HttpUploadTarget;
+import gpsplus.rtkgps.upload.UploadManager;
+import gpsplus.rtkgps.utils.GzipLogFollower;
+import gpsplus.rtkgps.utils.LogRotationManager;
+import gpsplus.rtkgps.utils.LogRotationManager.Segment;
+import gpsplus.rtkgps.utils.SnrHistory;
 import gpsplus.rtklib.RtkCommon;
 import gpsplus.rtklib.RtkCommon.Position3d;
 import gpsplus.rtklib.RtkControlResult;
@@ -60,6 +63,8 @@ import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.TimeZone;
 
 public class RtkNaviService extends IntentService implements LocationListener
@@ -68,11 +73,16 @@ public class RtkNaviService extends IntentService implements LocationListener
     private class dpFile {
         private String localFilenameWithPath;
         private String remoteFilename;
+        private boolean compress;
 
         public dpFile(String localFilenameWithPath, String remoteFilename) {
+            this(localFilenameWithPath, remoteFilename, false);
+        }
+        public dpFile(String localFilenameWithPath, String remoteFilename, boolean compress) {
             super();
             this.localFilenameWithPath = localFilenameWithPath;
             this.remoteFilename = remoteFilename;
+            this.compress = compress;
         }
         @SuppressWarnings("unused")
         public dpFile(String filename) {
@@ -96,6 +106,9 @@ public class RtkNaviService extends IntentService implements LocationListener
         public void setRemoteFilename(String remoteFilename) {
             this.remoteFilename = remoteFilename;
         }
+        public boolean isCompressed() {
+            return compress;
+        }
 
     }
     public RtkNaviService() {
@@ -113,6 +126,7 @@ public class RtkNaviService extends IntentService implements LocationListener
     private static final String GPS_PROVIDER = LocationManager.GPS_PROVIDER;
     private int NOTIFICATION = R.string.local_service_started;
     private RtkCommon rtkCommon;
+    private GeoidModel mGeoidModel = GeoidModel.EMBEDDED;
 
     // Binder given to clients
     private final IBinder mBinder = new RtkNaviServiceBinder();
@@ -132,6 +146,29 @@ public class RtkNaviService extends IntentService implements LocationListener
     private boolean mBoolGenerateGPXTrace = false;
     private GPXTrace mGpxTrace = null;
     private long  mLProcessingCycle = 5;
+    private final HashMap<String, GzipLogFollower> mLogFollowers = new HashMap<String, GzipLogFollower>();
+    private final HashMap<String, LogRotationManager> mLogRotations = new HashMap<String, LogRotationManager>();
+
+    private static final int SNR_HISTORY_MINUTES = 10;
+
+    /** the rover status is polled as often as by the status view */
+    private static final long SNR_HISTORY_POLL_MS = 250;
+
+    /**
+     * SNR of the rover while the server runs, whatever the fragment shown.
+     * Fed on the main thread by {@link #mSnrHistorySampler}.
+     */
+    private final SnrHistory mRoverSnrHistory = new SnrHistory(SNR_HISTORY_MINUTES * 60, 1000);
+    private final RtkServerObservationStatus mSnrHistoryStatus = new RtkServerObservationStatus();
+    private Handler mHandler;
+
+    private final Runnable mSnrHistorySampler = new Runnable() {
+        @Override
+        public void run() {
+            mRoverSnrHistory.add(getRoverObservationStatus(mSnrHistoryStatus));
+            mHandler.postDelayed(this, SNR_HISTORY_POLL_MS);
+        }
+    };
 
     @Override
     public void onCreate() {
@@ -139,6 +176,7 @@ public class RtkNaviService extends IntentService implements LocationListener
 
         final PowerManager pm = (PowerManager) getSystemService(Context.POWER_SERVICE);
         mCpuLock = pm.newWakeLock(PowerManager.PARTIAL_WAKE_LOCK, TAG);
+        mHandler = new Handler();
 
     }
 
@@ -210,6 +248,13 @@ public class RtkNaviService extends IntentService implements LocationListener
         return mRtkServer.readSolutionBuffer();
     }
 
+    /**
+     * @return SNR history of the rover, to be read on the main thread
+     */
+    public SnrHistory getRoverSnrHistory() {
+        return mRoverSnrHistory;
+    }
+
     /**
      * Class used for the client Binder. Because we know this service always
      * runs in the same process as its clients, we don't need to deal with IPC.
@@ -248,9 +293,13 @@ public class RtkNaviService extends IntentService implements LocationListener
 
         startBluetoothPipes();
         startUsb();
+        startLogFollowers();
 
         mCpuLock.acquire();
 
+        mHandler.removeCallbacks(mSnrHistorySampler);
+        mHandler.post(mSnrHistorySampler);
+
         Notification notification = createForegroundNotification();
         startForeground(NOTIFICATION, notification);
 
@@ -282,7 +331,9 @@ public class RtkNaviService extends IntentService implements LocationListener
                 }
         }
         GeoidModel model = GeoidModel.valueOf( prefs.getString(SolutionOutputSettingsFragment.KEY_GEOID_MODEL,GeoidModel.EMBEDDED.name()) );
+        // RTKLIB outputs the solutions with the process-global geoid
         rtkCommon = new RtkCommon(model);
+        mGeoidModel = model;
         //load satellite antennas
         loadSatAnt(MainActivity.getApplicationDirectory()+File.separator+"files"+File.separator+"data"+File.separator+"igs05.atx");
         mBoolIsRunning = true;
@@ -303,8 +354,11 @@ public class RtkNaviService extends IntentService implements LocationListener
                   lm.removeTestProvider(GPS_PROVIDER);
         }
         stop();
+        stopLogFollowers();
+        buildSolutionArchives();
         finalizeGpxTrace();
         syncDropbox();
+        syncHttp();
         stopSelf();
     }
 
@@ -354,16 +408,27 @@ public class RtkNaviService extends IntentService implements LocationListener
 
     private void addToDropboxIfNeeded(SharedPreferences prefs, ArrayList<dpFile> alDropboxed, String file)
     {
+        if (mLogRotations.containsKey(file))
+        {
+            // Uploaded segment by segment
+            return;
+        }
         if(prefs.getBoolean(StreamFileClientFragment.KEY_SYNCDROPBOX, false)
                 && prefs.getBoolean(StreamFileClientFragment.KEY_ENABLE, false))
             {
                 if (prefs.getBoolean(StreamFileClientFragment.KEY_ZIPBEFORESYNCING, false))
                 {
-                    String[] _files = {file};
-                    String zipFileName = getZipFilename(file);
-                    ZipHelper.zip(_files, zipFileName);
-                    String fileName = insertDateTimeInDropboxFilename(zipFileName);
-                    alDropboxed.add(new dpFile(zipFileName,fileName));
+                    GzipLogFollower follower = mLogFollowers.remove(file);
+                    if (follower != null)
+                    {
+                        // Already compressed while recording
+                        String gzipFileName = follower.getGzipFile().getPath();
+                        alDropboxed.add(new dpFile(gzipFileName,insertDateTimeInDropboxFilename(gzipFileName)));
+                    }else{
+                        // Compressed by the upload queue, off the stop path
+                        String fileName = insertDateTimeInDropboxFilename(getZipFilename(file));
+                        alDropboxed.add(new dpFile(file,fileName,true));
+                    }
                 }else{
                     alDropboxed.add(new dpFile(file,insertDateTimeInDropboxFilename(file)));
                 }
@@ -415,47 +480,234 @@ public class RtkNaviService extends IntentService implements LocationListener
 
                 }
 
+             UploadManager uploadManager = UploadManager.getInstance(this);
              for(int i=0;i<alDropboxed.size();i++)
              {
                  String szCurrentPath = alDropboxed.get(i).getLocalFilenameWithPath();
 
-                            if (!szCurrentPath.contains("%Y") && !szCurrentPath.contains("%m")
-                                    && !szCurrentPath.contains("%d")
-                                    && !szCurrentPath.contains("%h")
-                                    && !szCurrentPath.contains("%M")
-                                    && !szCurrentPath.contains("%S"))
+                            if (!hasTimeKeywords(szCurrentPath))
                             {
-                                DbxFileSystem dbxFs;
-                                try {
-                                    dbxFs = DbxFileSystem.forAccount(mDbxAcctMgr.getLinkedAccount());
-                                    File f = new File(szCurrentPath);
-                                    String remoteFileName = alDropboxed.get(i).getRemoteFilename();
-                                    DbxFile remoteFile = dbxFs.create(new DbxPath(remoteFileName));
-                                    remoteFile.writeFromExistingFile(f, false);
-                                    remoteFile.close();
-                                } catch (Unauthorized e) {
-                                    // TODO Auto-generated catch block
-                                    e.printStackTrace();
-                                } catch (InvalidPathException e) {
-                                    // TODO Auto-generated catch block
-                                    e.printStackTrace();
-                                } catch (DbxException e) {
-                                    // TODO Auto-generated catch block
-                                    e.printStackTrace();
-                                } catch (IOException e) {
-                                    // TODO Auto-generated catch block
-                                    e.printStackTrace();
-                                }
-
-                                Log.i(TAG, "Sync to dropbox: "+szCurrentPath);
+                                uploadManager.enqueue(szCurrentPath,
+                                        alDropboxed.get(i).getRemoteFilename(),
+                                        DropboxUploadTarget.NAME,
+                                        alDropboxed.get(i).isCompressed());
+                                Log.i(TAG, "Sync to dropbox queued: "+szCurrentPath);
                             }
              }
         }
     }
 
+    private void addToHttpIfNeeded(SharedPreferences prefs, String file)
+    {
+        if (mLogRotations.containsKey(file)) return;
+        String uploadUrl = StreamFileClientFragment.readUploadUrl(prefs);
+        if (uploadUrl == null
+                || !prefs.getBoolean(StreamFileClientFragment.KEY_ENABLE, false)
+                || hasTimeKeywords(file)) return;
+        UploadManager.getInstance(this).enqueue(file, new File(file).getName(),
+                HttpUploadTarget.getName(uploadUrl), false);
+        Log.i(TAG, "Upload to " + uploadUrl + " queued: " + file);
+    }
+
+    private void syncHttp()
+    {
+        RtkServerSettings settings = mRtkServer.getServerSettings();
+        if (settings.getLogRover().getType() == StreamType.FILE)
+        {
+            addToHttpIfNeeded(this.getBaseContext().getSharedPreferences(LogRoverFragment.SHARED_PREFS_NAME, 0),
+                    settings.getLogRover().getPath());
+        }
+        if (settings.getLogBase().getType() == StreamType.FILE)
+        {
+            addToHttpIfNeeded(this.getBaseContext().getSharedPreferences(LogBaseFragment.SHARED_PREFS_NAME, 0),
+                    settings.getLogBase().getPath());
+        }
+        if (settings.getOutputSolution1().getType() == StreamType.FILE)
+        {
+            addToHttpIfNeeded(this.getBaseContext().getSharedPreferences(OutputSolution1Fragment.SHARED_PREFS_NAME, 0),
+                    settings.getOutputSolution1().getPath());
+        }
+        if (settings.getOutputSolution2().getType() == StreamType.FILE)
+        {
+            addToHttpIfNeeded(this.getBaseContext().getSharedPreferences(OutputSolution2Fragment.SHARED_PREFS_NAME, 0),
+                    settings.getOutputSolution2().getPath());
+        }
+    }
+
+    private static boolean hasTimeKeywords(String path)
+    {
+        return path.contains("%Y") || path.contains("%m")
+                || path.contains("%d")
+                || path.contains("%h")
+                || path.contains("%M")
+                || path.contains("%S");
+    }
+
+    private void startLogFollower(SharedPreferences prefs, String file, int stream)
+    {
+        if (startLogRotation(prefs, file, stream)) return;
+        if (prefs.getBoolean(StreamFileClientFragment.KEY_ENABLE, false)
+                && prefs.getBoolean(StreamFileClientFragment.KEY_SYNCDROPBOX, false)
+                && prefs.getBoolean(StreamFileClientFragment.KEY_ZIPBEFORESYNCING, false)
+                && !hasTimeKeywords(file))
+        {
+            GzipLogFollower follower = new GzipLogFollower(file);
+            follower.start();
+            mLogFollowers.put(file, follower);
+        }
+    }
+
+    /**
+     * @param stream RTKLIB stream writing the file, {@link RtkServer#STREAM_LOG_ROVER}...
+     * @return true if rotation is configured for this file
+     */
+    private boolean startLogRotation(SharedPreferences prefs, String file, final int stream)
+    {
+        if (!prefs.getBoolean(StreamFileClientFragment.KEY_ENABLE, false)) return false;
+        long maxBytes = StreamFileClientFragment.readRotateSize(prefs);
+        long maxMillis = StreamFileClientFragment.readRotateInterval(prefs);
+        if ((maxBytes <= 0) && (maxMillis <= 0)) return false;
+
+        boolean dropbox = prefs.getBoolean(StreamFileClientFragment.KEY_SYNCDROPBOX, false);
+        String uploadUrl = StreamFileClientFragment.readUploadUrl(prefs);
+        LogRotationManager.StreamRotator rotator = new LogRotationManager.StreamRotator() {
+            @Override
+            public boolean rotate(String path) {
+                return mRtkServer.rotateFileStream(stream, path);
+            }
+        };
+        LogRotationManager manager = new LogRotationManager(file, mLStartingTime,
+                maxBytes, maxMillis, rotator,
+                (dropbox || uploadUrl != null) ? new SegmentUploader(dropbox, uploadUrl) : null);
+        manager.start();
+        mLogRotations.put(file, manager);
+        return true;
+    }
+
+    private class SegmentUploader implements LogRotationManager.SegmentListener {
+        private final boolean mDropbox;
+        private final String mUploadUrl;
+
+        /**
+         * @param uploadUrl base URL of the HTTP target, null if none
+         */
+        public SegmentUploader(boolean dropbox, String uploadUrl) {
+            mDropbox = dropbox;
+            mUploadUrl = uploadUrl;
+        }
+
+        @Override
+        public void onSegmentReady(LogRotationManager manager, Segment segment) {
+            UploadManager uploadManager = UploadManager.getInstance(RtkNaviService.this);
+            String szPath = segment.file.getPath();
+            if (mUploadUrl != null) {
+                uploadManager.enqueue(szPath, segment.file.getName(),
+                        HttpUploadTarget.getName(mUploadUrl), false);
+            }
+            if (!mDropbox) return;
+            if (!uploadManager.getTarget(DropboxUploadTarget.NAME).isAvailable()) {
+                Log.w(TAG, "Dropbox not linked, " + segment.file + " kept locally");
+                return;
+            }
+            uploadManager.enqueue(szPath, insertDateTimeInDropboxFilename(szPath),
+                    DropboxUploadTarget.NAME, false);
+        }
+    }
+
+    /**
+     * Compresses the rover/base logs while they are recorded so that
+     * nothing but the last few seconds remain to compress at stop,
+     * and rotates the files for which rotation is configured
+     */
+    private void startLogFollowers() {
+        mLogFollowers.clear();
+        mLogRotations.clear();
+        RtkServerSettings settings = mRtkServer.getServerSettings();
+        if (settings.getLogRover().getType() == StreamType.FILE)
+        {
+            startLogFollower(this.getBaseContext().getSharedPreferences(LogRoverFragment.SHARED_PREFS_NAME, 0),
+                    settings.getLogRover().getPath(), RtkServer.STREAM_LOG_ROVER);
+        }
+        if (settings.getLogBase().getType() == StreamType.FILE)
+        {
+            startLogFollower(this.getBaseContext().getSharedPreferences(LogBaseFragment.SHARED_PREFS_NAME, 0),
+                    settings.getLogBase().getPath(), RtkServer.STREAM_LOG_BASE);
+        }
+        if (settings.getOutputSolution1().getType() == StreamType.FILE)
+        {
+            startLogRotation(this.getBaseContext().getSharedPreferences(OutputSolution1Fragment.SHARED_PREFS_NAME, 0),
+                    settings.getOutputSolution1().getPath(), RtkServer.STREAM_OUTPUT_SOLUTION1);
+        }
+        if (settings.getOutputSolution2().getType() == StreamType.FILE)
+        {
+            startLogRotation(this.getBaseContext().getSharedPreferences(OutputSolution2Fragment.SHARED_PREFS_NAME, 0),
+                    settings.getOutputSolution2().getPath(), RtkServer.STREAM_OUTPUT_SOLUTION2);
+        }
+    }
+
+    private void stopLogFollowers() {
+        Iterator<GzipLogFollower> it = mLogFollowers.values().iterator();
+        while (it.hasNext()) {
+            GzipLogFollower follower = it.next();
+            if (!follower.stop()) {
+                Log.e(TAG, "Incomplete compression of " + follower.getLogFile());
+                it.remove();
+            }
+        }
+        // Last segments are compressed and uploaded in the background
+        for (LogRotationManager manager: mLogRotations.values()) {
+            manager.stop();
+        }
+    }
+
+    private void buildSolutionArchive(SharedPreferences prefs, String file)
+    {
+        if (!prefs.getBoolean(OutputSolution1Fragment.KEY_ARCHIVE, false)) return;
+        if (mLogRotations.containsKey(file))
+        {
+            // Only compressed segments are left
+            Log.w(TAG, "Rotated solution file " + file + " not archived");
+            return;
+        }
+        final File pos = LogRotationManager.resolveRtklibPath(file, mLStartingTime);
+        if (pos == null)
+        {
+            Log.w(TAG, "No solution file found for " + file);
+            return;
+        }
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    new SolutionExporter(pos).addOutput(ExportFormat.ARCHIVE).run();
+                } catch (IOException e) {
+                    Log.e(TAG, "Cannot archive " + pos, e);
+                }
+            }
+        }, "SolutionArchive").start();
+    }
+
+    /**
+     * Converts the text solution files to indexed archives in the background
+     */
+    private void buildSolutionArchives() {
+        RtkServerSettings settings = mRtkServer.getServerSettings();
+        if (settings.getOutputSolution1().getType() == StreamType.FILE)
+        {
+            buildSolutionArchive(this.getBaseContext().getSharedPreferences(OutputSolution1Fragment.SHARED_PREFS_NAME, 0),
+                    settings.getOutputSolution1().getPath());
+        }
+        if (settings.getOutputSolution2().getType() == StreamType.FILE)
+        {
+            buildSolutionArchive(this.getBaseContext().getSharedPreferences(OutputSolution2Fragment.SHARED_PREFS_NAME, 0),
+                    settings.getOutputSolution2().getPath());
+        }
+    }
+
     private void stop() {
         stopForeground(true);
         if (mCpuLock.isHeld()) mCpuLock.release();
+        mHandler.removeCallbacks(mSnrHistorySampler);
 
         if (isServiceStarted()) {
             mRtkServer.stop();
@@ -695,7 +947,9 @@ public class RtkNaviService extends IntentService implements LocationListener
                                mGpxTrace.addPoint(Math.toDegrees(positionLatLon.getLat()),
                                                    Math.toDegrees(positionLatLon.getLon()),
                                                    positionLatLon.getHeight(),
-                                                   rtkCommon.getAltitudeCorrection(positionLatLon.getLat(), positionLatLon.getLon()),
+                                                   GeoidService.getInstance().getHeight(mGeoidModel,
+                                                           Math.toDegrees(positionLatLon.getLat()),
+                                                           Math.toDegrees(positionLatLon.getLon())),
                                                    solution.getTime());
                             }
                         }
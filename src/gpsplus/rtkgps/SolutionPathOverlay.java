@@ -4,11 +4,12 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Point;
-import android.graphics.Rect;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
 
 import gpsplus.rtkgps.view.SolutionView;
-import gpsplus.rtklib.RtkCommon;
-import gpsplus.rtklib.RtkCommon.Position3d;
+import gpsplus.rtklib.Geodesy;
 import gpsplus.rtklib.Solution;
 import gpsplus.rtklib.constants.SolutionStatus;
 import microsoft.mappoint.TileSystem;
@@ -17,234 +18,407 @@ import org.osmdroid.ResourceProxy;
 import org.osmdroid.util.BoundingBoxE6;
 import org.osmdroid.views.MapView;
 import org.osmdroid.views.Projection;
-import org.osmdroid.views.drawing.OsmPath;
 import org.osmdroid.views.overlay.PathOverlay;
 import org.osmdroid.views.util.constants.MapViewConstants;
 
+import java.util.Arrays;
+
 /**
  *
  * @author Viesturs Zarins
  * @author Martin Pearman
  *
  *         This class draws a path line in given color.
+ *
+ *         Screen geometry is built by a background thread into one of two
+ *         buffers whenever the zoom level, the viewport or the track changes;
+ *         the UI thread only draws the latest complete buffer, translated
+ *         and scaled to the current projection. The track lock is only held
+ *         to append points or take a snapshot of them: the decimated levels
+ *         and the geometry are built without it.
  */
 public class SolutionPathOverlay extends PathOverlay {
 
     private static final int DEFAULT_SIZE = 1000;
     private static final int PATH_COLOR = Color.GRAY;
 
+    private static final SolutionStatus SOLUTION_STATUSES[] = SolutionStatus.values();
+
+    /** Latitude limit of the Mercator projection of TileSystem (rad) */
+    private static final double MAX_LATITUDE = Math.toRadians(85.05112878);
+
+
+    /**
+     * Screen geometry of the track for one zoom level and projected region,
+     * in world pixels relative to the region origin.
+     */
+    private static class Geometry {
+        int mZoom;
+        int mModCount;
+        int mLeft, mTop, mRight, mBottom;
+        int mOriginX, mOriginY;
 
-    private final int[] mProjectedX;
-    private final int[] mProjectedY;
-	private final SolutionStatus[] mPointSolutionStatus;
+        /** Segments for Canvas.drawLines() */
+        float mLines[];
+        int mLinesSize;
 
-	private int mBufHead;
-	private int mBufSize;
+        /** Points for Canvas.drawPoints(), per solution status */
+        final float mPoints[][];
+        final int mPointsSize[];
+
+        Geometry() {
+            mZoom = -1;
+            mLines = new float[DEFAULT_SIZE * 4];
+            mPoints = new float[SOLUTION_STATUSES.length][];
+            mPointsSize = new int[mPoints.length];
+        }
+
+        boolean covers(int zoom, int modCount, int left, int top, int right, int bottom) {
+            return mZoom == zoom && mModCount == modCount
+                    && left >= mLeft && top >= mTop && right <= mRight && bottom <= mBottom;
+        }
+
+        void reset(int zoom, int modCount, int left, int top, int right, int bottom) {
+            final int zoomDiff = TrackPyramid.MAX_ZOOM - zoom;
+            mZoom = zoom;
+            mModCount = modCount;
+            mLeft = left;
+            mTop = top;
+            mRight = right;
+            mBottom = bottom;
+            mOriginX = left >> zoomDiff;
+            mOriginY = top >> zoomDiff;
+            mLinesSize = 0;
+            for (int i=0; i<mPointsSize.length; ++i) mPointsSize[i]=0;
+        }
+
+        void addLine(float x0, float y0, float x1, float y1) {
+            if (mLinesSize + 4 > mLines.length) mLines = Arrays.copyOf(mLines, mLines.length * 2);
+            mLines[mLinesSize] = x0;
+            mLines[mLinesSize+1] = y0;
+            mLines[mLinesSize+2] = x1;
+            mLines[mLinesSize+3] = y1;
+            mLinesSize += 4;
+        }
+
+        void addPoint(float x, float y, int status) {
+            float dst[] = mPoints[status];
+            final int size = mPointsSize[status];
+            if (dst == null) {
+                dst = mPoints[status] = new float[DEFAULT_SIZE * 2];
+            }else if (size + 2 > dst.length) {
+                dst = mPoints[status] = Arrays.copyOf(dst, dst.length * 2);
+            }
+            dst[size] = x;
+            dst[size+1] = y;
+            mPointsSize[status] = size + 2;
+        }
+    }
 
-	private final float mPointsCache[][];
-	private final int mPointsCacheSize[];
+    private final TrackPyramid mTrack;
 
 	private final Paint mPaint;
 	private final Paint mPointPaint;
 
-	private final OsmPath mPath;
+	private final HandlerThread mTessellatorThread;
+	private final Handler mTessellator;
+
+	/** Guards the buffers and the pending request */
+	private final Object mGeometryLock = new Object();
+	private Geometry mFront;
+	private Geometry mBack;
+
+	private boolean mRequestPosted;
+	private MapView mRequestView;
+	private int mRequestZoom;
+	private int mRequestModCount;
+	private int mRequestLeft, mRequestTop, mRequestRight, mRequestBottom;
+
+	private final Point mProjectedOrigin;
+	private final Point mScreenOrigin;
+
+	/** Reused by addSolutions(), guarded by mBatchLock */
+	private final Object mBatchLock = new Object();
+	private final Solution mBatchSolution[] = new Solution[1];
+	private double mBatchPos[] = new double[3 * 64];
+	private int mBatchX[] = new int[64];
+	private int mBatchY[] = new int[64];
+	private byte mBatchStatus[] = new byte[64];
 
 
 	public SolutionPathOverlay(final ResourceProxy pResourceProxy) {
 	    this(DEFAULT_SIZE, pResourceProxy);
 	}
 
+	/**
+	 * @param size initial capacity, the path grows as needed
+	 */
 	public SolutionPathOverlay(final int size, final ResourceProxy pResourceProxy) {
 		super(PATH_COLOR,pResourceProxy);
 
 	    this.mPaint = new Paint();
 	    this.mPointPaint = new Paint();
-	    this.mPath = new OsmPath();
-		this.mProjectedX = new int[size];
-		this.mProjectedY = new int[size];
-		this.mPointSolutionStatus = new SolutionStatus[size];
-		this.mBufHead = 0;
-		this.mBufSize = 0;
-
-		this.mPointsCache = new float[SolutionStatus.values().length][];
-		this.mPointsCacheSize = new int[this.mPointsCache.length];
+		this.mTrack = new TrackPyramid(size);
+		this.mFront = new Geometry();
+		this.mBack = new Geometry();
+		this.mProjectedOrigin = new Point();
+		this.mScreenOrigin = new Point();
 
 		this.mPaint.setColor(PATH_COLOR);
-		this.mPaint.setStrokeWidth(1.0f);
 		this.mPaint.setStyle(Paint.Style.STROKE);
 
-		this.mPointPaint.setStrokeWidth(5.0f);
+		this.mTessellatorThread = new HandlerThread("SolutionPathTessellator",
+		        Process.THREAD_PRIORITY_BACKGROUND);
+		this.mTessellatorThread.start();
+		this.mTessellator = new Handler(mTessellatorThread.getLooper());
 
 		this.clear();
 	}
 
 	public void clear() {
-		this.mBufHead = 0;
-		this.mBufSize = 0;
-	}
-
-	private int getSize() {
-	    return mProjectedX.length;
-	}
-
-	@SuppressWarnings("unused")
-    private boolean isBufEmpty() {
-	    return this.mBufSize == 0;
-	}
-
-	private boolean isBufFull() {
-	    return this.mBufSize == getSize();
+	    synchronized (mTrack) {
+	        this.mTrack.clear();
+	    }
 	}
 
 	public boolean addSolution(final Solution solution) {
-	    final Position3d pos;
-	    final double lat, lon;
-	    final int tail;
-
 	    if (solution.getSolutionStatus() == SolutionStatus.NONE) {
 	        return false;
 	    }
-
-	    pos = RtkCommon.ecef2pos(solution.getPosition());
-	    lat = Math.toDegrees(pos.getLat());
-	    lon = Math.toDegrees(pos.getLon());
-	    tail = (this.mBufHead + this.mBufSize) % getSize();
-	    mPointSolutionStatus[tail] = solution.getSolutionStatus();
-
-	    // Performs the first computationally heavy part of the projection.
-	    final Point projected = TileSystem.LatLongToPixelXY(lat,
-	            lon, MapViewConstants.MAXIMUM_ZOOMLEVEL, null);
-        mProjectedX[tail] = projected.x;
-        mProjectedY[tail] = projected.y;
-
-	    if (isBufFull()) {
-	        mBufHead = (mBufHead + 1) % getSize();
-	    }else {
-	        mBufSize += 1;
+	    synchronized (mBatchLock) {
+	        mBatchSolution[0] = solution;
+	        addSolutions(mBatchSolution);
+	        mBatchSolution[0] = null;
 	    }
-
 	    return true;
 	}
 
+	/**
+	 * Projects the solutions in one pass: ECEF to geodetic, then to pixels
+	 * at the maximum zoom level, into reused arrays; the track is locked
+	 * once for the whole batch.
+	 */
 	public void addSolutions(final Solution[] solutions) {
-	    for (Solution s: solutions) addSolution(s);
-	}
-
-	private void rewindPointsCache() {
-	    for (int i=0; i<mPointsCacheSize.length; ++i) mPointsCacheSize[i]=0;
+	    synchronized (mBatchLock) {
+	        final int n = solutions.length;
+	        if (mBatchPos.length < 3 * n) {
+	            mBatchPos = new double[3 * n];
+	            mBatchX = new int[n];
+	            mBatchY = new int[n];
+	            mBatchStatus = new byte[n];
+	        }
+	        int count = 0;
+	        for (int i = 0; i < n; ++i) {
+	            final SolutionStatus status = solutions[i].getSolutionStatus();
+	            if (status == SolutionStatus.NONE) continue;
+	            solutions[i].getPosition(mBatchPos, 3 * count);
+	            mBatchStatus[count] = (byte)status.ordinal();
+	            ++count;
+	        }
+	        if (count == 0) return;
+
+	        Geodesy.ecef2pos(mBatchPos, 0, mBatchPos, 0, count);
+	        projectToPixels(mBatchPos, count, mBatchX, mBatchY);
+	        synchronized (mTrack) {
+	            mTrack.addAll(mBatchX, mBatchY, mBatchStatus, count);
+	        }
+	    }
 	}
 
-	private void appendPoint(double x, double y, SolutionStatus status) {
-	    final int ord = status.ordinal();
-	    if (mPointsCache[ord] == null) {
-	        mPointsCache[ord] = new float[getSize() * 2];
+	/**
+	 * TileSystem.LatLongToPixelXY() at the maximum zoom level, for packed
+	 * geodetic positions {lat,lon,h} in radians.
+	 */
+	static void projectToPixels(final double pos[], final int count, final int x[], final int y[]) {
+	    final int mapSize = TileSystem.MapSize(MapViewConstants.MAXIMUM_ZOOMLEVEL);
+	    final double maxPixel = mapSize - 1;
+	    for (int i = 0; i < count; ++i) {
+	        final double lat = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, pos[3 * i]));
+	        final double lon = Math.max(-Math.PI, Math.min(Math.PI, pos[3 * i + 1]));
+	        final double px = (lon + Math.PI) / (2.0 * Math.PI);
+	        final double sinLatitude = Math.sin(lat);
+	        final double py = 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+	        x[i] = (int)Math.max(0, Math.min(maxPixel, px * mapSize + 0.5));
+	        y[i] = (int)Math.max(0, Math.min(maxPixel, py * mapSize + 0.5));
 	    }
-
-	    final float dst[] = mPointsCache[ord];
-	    dst[mPointsCacheSize[ord]] = (float)x;
-	    dst[mPointsCacheSize[ord]+1] = (float)y;
-	    mPointsCacheSize[ord] += 2;
 	}
 
-	private void drawPoints(Canvas canvas) {
-	    for (int i = mPointsCache.length-1; i >= 0; i--) {
-	        final int count = mPointsCacheSize[i];
-	        if (count == 0) continue;
-	        final SolutionStatus status = SolutionStatus.values()[i];
-	        mPointPaint.setColor(SolutionView.SolutionIndicatorView.getIndicatorColor(status));
-	        canvas.drawPoints(mPointsCache[i], 0, count, mPointPaint);
-	    }
+	@Override
+	public void onDetach(final MapView mapView) {
+	    mTessellatorThread.quit();
+	    super.onDetach(mapView);
 	}
 
 	/**
-	 * This method draws the line. Note - highly optimized to handle long paths, proceed with care.
-	 * Should be fine up to 10K points.
+	 * Draws the latest geometry built by the tessellator, and requests a new
+	 * one if it does not match the current zoom level, viewport or track.
 	 */
     @Override
     protected void draw(Canvas canvas, MapView osmv, boolean shadow) {
         final Projection pj;
-        final Rect clipBounds, lineBounds;
-        Point screenPoint0, screenPoint1;
-        Point tempPoint0, tempPoint1;
-        final Point projectedPoint0, projectedPoint1;
-        int bufIdx;
+        final int zoom, modCount;
+        final Geometry front;
+        final float scale;
 
         if (shadow) {
             return;
         }
 
-        if (this.mBufSize < 2) {
-            // nothing to paint
-            return;
-        }
-
         pj = osmv.getProjection();
+        zoom = osmv.getZoomLevel();
+        synchronized (mTrack) {
+            if (mTrack.size() < 2) {
+                // nothing to paint
+                return;
+            }
+            modCount = mTrack.getModCount();
+        }
 
-        // clipping rectangle in the intermediate projection, to avoid performing projection.
+        // visible rectangle in the intermediate projection
         BoundingBoxE6 boundingBox = pj.getBoundingBox();
         Point topLeft = pj.toProjectedPixels(boundingBox.getLatNorthE6(),
                 boundingBox.getLonWestE6(), null);
         Point bottomRight = pj.toProjectedPixels(boundingBox.getLatSouthE6(),
                 boundingBox.getLonEastE6(), null);
-        clipBounds = new Rect(topLeft.x, topLeft.y, bottomRight.x, bottomRight.y);
-
-        screenPoint0 = null;
-        screenPoint1 = null;
-        projectedPoint0 = new Point();
-        projectedPoint1 = new Point();
-        tempPoint0 = new Point();
-        tempPoint1 = new Point();
-
-        mPath.rewind();
-
-        bufIdx = (mBufHead + mBufSize - 1) % getSize();
-        projectedPoint0.set(mProjectedX[bufIdx], mProjectedY[bufIdx]);
-        lineBounds = new Rect(projectedPoint0.x, projectedPoint0.y, projectedPoint0.x, projectedPoint0.y);
-
-        for (int i = mBufSize - 2; i >= 0; i--) {
-            bufIdx = (mBufHead + i) % getSize();
-
-            // compute next points
-            lineBounds.union(mProjectedX[bufIdx], mProjectedY[bufIdx]);
-            if (!Rect.intersects(clipBounds, lineBounds)) {
-                // skip this line, move to next point
-                projectedPoint0.set(mProjectedX[bufIdx], mProjectedY[bufIdx]);
-                screenPoint0 = null;
-                continue;
-            }else {
-                projectedPoint1.set(mProjectedX[bufIdx], mProjectedY[bufIdx]);
-            }
 
-            // the starting point may be not calculated, because previous segment was out of clip
-            // bounds
-            if (screenPoint0 == null) {
-                screenPoint0 = pj.toPixelsFromProjected(projectedPoint0, tempPoint0);
-                mPath.moveTo(screenPoint0.x, screenPoint0.y);
-                appendPoint(screenPoint0.x, screenPoint0.y, mPointSolutionStatus[bufIdx]);
+        synchronized (mGeometryLock) {
+            front = mFront;
+            if (!front.covers(zoom, modCount, topLeft.x, topLeft.y, bottomRight.x, bottomRight.y)) {
+                requestTessellation(osmv, zoom, modCount, topLeft.x, topLeft.y, bottomRight.x, bottomRight.y);
             }
+            if (front.mZoom < 0) return;
+
+            // Place the buffer origin with the current projection
+            final int zoomDiff = TrackPyramid.MAX_ZOOM - front.mZoom;
+            mProjectedOrigin.set(front.mOriginX << zoomDiff, front.mOriginY << zoomDiff);
+            pj.toPixelsFromProjected(mProjectedOrigin, mScreenOrigin);
+            scale = zoom >= front.mZoom
+                    ? (float)(1 << (zoom - front.mZoom))
+                    : 1.0f / (1 << (front.mZoom - zoom));
+
+            canvas.save();
+            canvas.translate(mScreenOrigin.x, mScreenOrigin.y);
+            canvas.scale(scale, scale);
+
+            mPaint.setStrokeWidth(1.0f / scale);
+            canvas.drawLines(front.mLines, 0, front.mLinesSize, mPaint);
+
+            mPointPaint.setStrokeWidth(5.0f / scale);
+            for (int i = front.mPoints.length-1; i >= 0; i--) {
+                final int count = front.mPointsSize[i];
+                if (count == 0) continue;
+                final SolutionStatus status = SOLUTION_STATUSES[i];
+                mPointPaint.setColor(SolutionView.SolutionIndicatorView.getIndicatorColor(status));
+                canvas.drawPoints(front.mPoints[i], 0, count, mPointPaint);
+            }
+
+            canvas.restore();
+        }
+    }
 
-            screenPoint1 = pj.toPixelsFromProjected(projectedPoint1, tempPoint1);
+    /**
+     * Posts a tessellation of the viewport, extended by its own size on each
+     * side so small pans are drawn from the current buffer. Must be called
+     * with mGeometryLock held.
+     */
+    private void requestTessellation(MapView osmv, int zoom, int modCount,
+            int left, int top, int right, int bottom) {
+        if (mRequestPosted
+                && mRequestZoom == zoom && mRequestModCount == modCount
+                && left >= mRequestLeft && top >= mRequestTop
+                && right <= mRequestRight && bottom <= mRequestBottom) {
+            return;
+        }
+        final int width = right - left;
+        final int height = bottom - top;
+        mRequestView = osmv;
+        mRequestZoom = zoom;
+        mRequestModCount = modCount;
+        mRequestLeft = Math.max(0, left - width);
+        mRequestTop = Math.max(0, top - height);
+        mRequestRight = right + width;
+        mRequestBottom = bottom + height;
+        if (!mRequestPosted) {
+            mRequestPosted = true;
+            mTessellator.post(mTessellateRunnable);
+        }
+    }
 
-            // skip this point, too close to previous point
-            if (Math.abs(screenPoint1.x - screenPoint0.x) + Math.abs(screenPoint1.y - screenPoint0.y) <= 1) {
-                continue;
+    private final Runnable mTessellateRunnable = new Runnable() {
+        @Override
+        public void run() {
+            final MapView view;
+            final Geometry back;
+            synchronized (mGeometryLock) {
+                mRequestPosted = false;
+                view = mRequestView;
+                back = mBack;
+                back.reset(mRequestZoom, mRequestModCount,
+                        mRequestLeft, mRequestTop, mRequestRight, mRequestBottom);
             }
 
-            canvas.drawLine(screenPoint0.x, screenPoint0.y, screenPoint1.x, screenPoint1.y, mPaint);
-            mPath.lineTo(screenPoint1.x, screenPoint1.y);
-            appendPoint(screenPoint1.x, screenPoint1.y, mPointSolutionStatus[bufIdx]);
+            tessellate(back);
 
-            // update starting point to next position
-            projectedPoint0.set(projectedPoint1.x, projectedPoint1.y);
-            screenPoint0.set(screenPoint1.x, screenPoint1.y);
-            lineBounds.set(projectedPoint0.x, projectedPoint0.y, projectedPoint0.x, projectedPoint0.y);
+            synchronized (mGeometryLock) {
+                mBack = mFront;
+                mFront = back;
+            }
+            view.postInvalidate();
         }
+    };
 
-        canvas.drawPath(mPath, this.mPaint);
-        drawPoints(canvas);
-
-        rewindPointsCache();
-        mPath.rewind();
+	/**
+	 * Builds the geometry of the points selected by the spatial index of the
+	 * track decimated for the zoom level, plus the latest position.
+	 * Runs on the tessellator thread, the track is only locked to take a
+	 * snapshot of its points.
+	 */
+    private void tessellate(Geometry g) {
+        final int zoomDiff = TrackPyramid.MAX_ZOOM - g.mZoom;
+        final TrackPyramid.Snapshot track;
+        final TrackPyramid.Level level;
+        int selected, prev, bufIdx;
+        float x0 = 0, y0 = 0, x1, y1;
+
+        synchronized (mTrack) {
+            if (mTrack.size() < 2) return;
+            // The track may have grown since the request
+            track = mTrack.snapshot();
+        }
+        g.mModCount = track.getModCount();
+
+        level = mTrack.getLevel(g.mZoom, track);
+        selected = level.select(g.mLeft, g.mTop, g.mRight, g.mBottom);
+        prev = -2;
+
+        for (int i = 0; i < selected; ++i) {
+            final int pos = level.getSelected(i);
+            bufIdx = level.get(pos);
+            x1 = (track.getX(bufIdx) >> zoomDiff) - g.mOriginX;
+            y1 = (track.getY(bufIdx) >> zoomDiff) - g.mOriginY;
+
+            // a new polyline starts when the previous point was not selected
+            if (pos == prev + 1) {
+                if (Math.abs(x1 - x0) + Math.abs(y1 - y0) <= 1) {
+                    // skip this point, too close to previous point
+                    prev = pos;
+                    continue;
+                }
+                g.addLine(x0, y0, x1, y1);
+            }
+            g.addPoint(x1, y1, track.getStatus(bufIdx));
+            x0 = x1;
+            y0 = y1;
+            prev = pos;
+        }
 
+        // The latest position is always drawn, even if decimated out
+        bufIdx = track.size() - 1;
+        if (level.get(level.size() - 1) != bufIdx) {
+            x1 = (track.getX(bufIdx) >> zoomDiff) - g.mOriginX;
+            y1 = (track.getY(bufIdx) >> zoomDiff) - g.mOriginY;
+            if (prev == level.size() - 1) g.addLine(x0, y0, x1, y1);
+            g.addPoint(x1, y1, track.getStatus(bufIdx));
+        }
     }
 }
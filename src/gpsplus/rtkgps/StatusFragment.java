@@ -30,13 +30,17 @@ import butterknife.ButterKnife;
 import butterknife.InjectView;
 import gpsplus.rtkgps.view.GTimeView;
 import gpsplus.rtkgps.view.GpsSkyView;
+import gpsplus.rtkgps.utils.SnrHistory;
+import gpsplus.rtkgps.view.SnrHistoryView;
 import gpsplus.rtkgps.view.SnrView;
 import gpsplus.rtkgps.view.SolutionView;
 import gpsplus.rtkgps.view.SolutionView.Format;
 import gpsplus.rtkgps.view.StreamIndicatorsView;
+import gpsplus.rtklib.GTime;
 import gpsplus.rtklib.RtkControlResult;
 import gpsplus.rtklib.RtkServerObservationStatus;
 import gpsplus.rtklib.RtkServerStreamStatus;
+import gpsplus.rtklib.Solution;
 
 import java.util.Timer;
 import java.util.TimerTask;
@@ -53,6 +57,7 @@ public class StatusFragment extends Fragment {
 
     private static final String KEY_CURRENT_STATUS_VIEW = "StatusFragment.currentStatusView";
 
+    /** Span of the SNR history, sampled at 1 Hz */
     private Timer mStreamStatusUpdateTimer;
     private RtkServerStreamStatus mStreamStatus;
     private final RtkServerObservationStatus mRoverObservationStatus, mBaseObservationStatus;
@@ -68,16 +73,28 @@ public class StatusFragment extends Fragment {
     @InjectView(R.id.Sky) GpsSkyView mSkyView;
     @InjectView(R.id.Snr1) SnrView mSnr1View;
     @InjectView(R.id.Snr2) SnrView mSnr2View;
+    @InjectView(R.id.SnrHistory) SnrHistoryView mSnrHistoryView;
 
     private ArrayAdapter<StatusView> mStatusViewSpinnerAdapter;
 
     private StatusView mCurrentStatusView;
 
+    /**
+     * Epochs last shown, see {@link #updateStatus()}. A view is only given
+     * new data, and redrawn, when the epoch of its data has changed.
+     */
+    private final Epoch mRoverEpoch, mBaseEpoch, mSolutionEpoch;
+
+    private String mStreamStatusMsg;
+
     public StatusFragment() {
         mStreamStatus = new RtkServerStreamStatus();
         mRoverObservationStatus = new RtkServerObservationStatus();
         mBaseObservationStatus = new RtkServerObservationStatus();
         mRtkStatus = new RtkControlResult();
+        mRoverEpoch = new Epoch();
+        mBaseEpoch = new Epoch();
+        mSolutionEpoch = new Epoch();
     }
 
     @Override
@@ -94,6 +111,9 @@ public class StatusFragment extends Fragment {
     public void onDestroyView() {
         super.onDestroyView();
         ButterKnife.reset(this);
+        // new views are empty
+        invalidateEpochs();
+        mStreamStatusMsg = null;
     }
 
     @Override
@@ -247,6 +267,9 @@ public class StatusFragment extends Fragment {
 
     private void setStatusView(StatusView statusView) {
         mCurrentStatusView = statusView;
+        // the view shown now may hold older data
+        mRoverEpoch.invalidate();
+        mBaseEpoch.invalidate();
 
         switch (statusView) {
         //case BASELINE:
@@ -259,6 +282,7 @@ public class StatusFragment extends Fragment {
             mSkyView.setVisibility(View.VISIBLE);
             mSnr1View.setVisibility(View.GONE);
             mSnr2View.setVisibility(View.GONE);
+            mSnrHistoryView.setVisibility(View.GONE);
             break;
         case SNR:
         case SNR_L1:
@@ -267,6 +291,15 @@ public class StatusFragment extends Fragment {
             mSkyView.setVisibility(View.GONE);
             mSnr1View.setVisibility(View.VISIBLE);
             mSnr2View.setVisibility(View.VISIBLE);
+            mSnrHistoryView.setVisibility(View.GONE);
+            break;
+        case SNR_HISTORY_L1:
+        case SNR_HISTORY_L2:
+        case SNR_HISTORY_L5:
+            mSkyView.setVisibility(View.GONE);
+            mSnr1View.setVisibility(View.GONE);
+            mSnr2View.setVisibility(View.GONE);
+            mSnrHistoryView.setVisibility(View.VISIBLE);
             break;
         default:
             throw new IllegalStateException();
@@ -304,6 +337,18 @@ public class StatusFragment extends Fragment {
             mSnr1View.setFreqBand(SnrView.BAND_L5);
             mSnr2View.setFreqBand(SnrView.BAND_L5);
             break;
+        case SNR_HISTORY_L1:
+            mSnrHistoryView.setFreqBand(SnrView.BAND_L1);
+            mSnrHistoryView.update();
+            break;
+        case SNR_HISTORY_L2:
+            mSnrHistoryView.setFreqBand(SnrView.BAND_L2);
+            mSnrHistoryView.update();
+            break;
+        case SNR_HISTORY_L5:
+            mSnrHistoryView.setFreqBand(SnrView.BAND_L5);
+            mSnrHistoryView.update();
+            break;
         default:
             break;
         }
@@ -334,6 +379,12 @@ public class StatusFragment extends Fragment {
                 "Select Time Format Dialog");
     }
 
+    /**
+     * Polled 4 times a second. Only the data shown by the selected status
+     * view is fetched, and the views are only updated when the epoch of
+     * their data has changed, so nothing is redrawn while the server is
+     * idle or between two epochs of a 1 Hz receiver.
+     */
     void updateStatus() {
         MainActivity ma;
         RtkNaviService rtks;
@@ -341,7 +392,10 @@ public class StatusFragment extends Fragment {
 
         ma = (MainActivity)getActivity();
 
-        if (ma == null) return;
+        if (ma == null || !isVisible()) return;
+
+        final boolean showBase = isShowingBase(mCurrentStatusView);
+        final boolean showRover = isShowingRover(mCurrentStatusView);
 
         rtks = ma.getRtkService();
         if (rtks == null) {
@@ -350,37 +404,68 @@ public class StatusFragment extends Fragment {
             mStreamStatus.clear();
         }else {
             rtks.getStreamStatus(mStreamStatus);
+            // the rover epoch is always needed by the time view
             rtks.getRoverObservationStatus(mRoverObservationStatus);
-            rtks.getBaseObservationStatus(mBaseObservationStatus);
+            if (showBase) rtks.getBaseObservationStatus(mBaseObservationStatus);
             rtks.getRtkStatus(mRtkStatus);
             serverStatus = rtks.getServerStatus();
         }
 
         assertNotNull(mStreamStatus.mMsg);
-        mStreamStatusView.setText(mStreamStatus.mMsg);
+        if (!mStreamStatus.mMsg.equals(mStreamStatusMsg)) {
+            mStreamStatusView.setText(mStreamStatus.mMsg);
+            mStreamStatusMsg = mStreamStatus.mMsg;
+        }
 
         mStreamIndicatorsView.setStats(mStreamStatus, serverStatus);
-        mSolutionView.setStats(mRtkStatus);
-        mGTimeView.setTime(mRoverObservationStatus.getTime());
+
+        final boolean demo = MainActivity.getDemoModeLocation().isInDemoMode() && RtkNaviService.mbStarted;
+        final Solution sol = mRtkStatus.getSolution();
+        if (mSolutionEpoch.update(sol.getGpsTimeMillis(), sol.getNs(), sol.getSolutionStatus().ordinal())
+                || demo || mSolutionView.isDirty()) {
+            // the demo mode position is not tied to the solution, and a new
+            // format or preference redraws the same epoch
+            mSolutionView.setStats(mRtkStatus);
+        }
+
+        final GTime roverTime = mRoverObservationStatus.getTime();
+        final boolean roverChanged = mRoverEpoch.update(roverTime.getGpsTimeMillis(),
+                mRoverObservationStatus.getNumSatellites(), 0);
+        if (roverChanged) mGTimeView.setTime(roverTime);
+
+        final boolean baseChanged = showBase
+                && mBaseEpoch.update(mBaseObservationStatus.getTime().getGpsTimeMillis(),
+                        mBaseObservationStatus.getNumSatellites(), 0);
 
         switch (mCurrentStatusView) {
         //case BASELINE:
         case SKYPLOT_BASE_L1:
         case SKYPLOT_BASE_L2:
         case SKYPLOT_BASE_L5:
-            mSkyView.setStats(mBaseObservationStatus);
+            if (baseChanged) mSkyView.setStats(mBaseObservationStatus);
             break;
         case SKYPLOT_ROVER_L1:
         case SKYPLOT_ROVER_L2:
         case SKYPLOT_ROVER_L5:
-            mSkyView.setStats(mRoverObservationStatus);
+            if (roverChanged || demo) mSkyView.setStats(mRoverObservationStatus);
             break;
         case SNR:
         case SNR_L1:
         case SNR_L2:
         case SNR_L5:
-            mSnr1View.setStats(mRoverObservationStatus);
-            mSnr2View.setStats(mBaseObservationStatus);
+            if (showRover && (roverChanged || demo)) mSnr1View.setStats(mRoverObservationStatus);
+            if (baseChanged) mSnr2View.setStats(mBaseObservationStatus);
+            break;
+        case SNR_HISTORY_L1:
+        case SNR_HISTORY_L2:
+        case SNR_HISTORY_L5:
+            // the service feeds the history whatever the fragment shown
+            final SnrHistory history = rtks == null ? null : rtks.getRoverSnrHistory();
+            if (mSnrHistoryView.getHistory() != history) {
+                mSnrHistoryView.setHistory(history);
+            }else {
+                mSnrHistoryView.update();
+            }
             break;
         default:
             throw new IllegalStateException();
@@ -388,6 +473,65 @@ public class StatusFragment extends Fragment {
 
     }
 
+    private static boolean isShowingBase(StatusView view) {
+        switch (view) {
+        case SKYPLOT_ROVER_L1:
+        case SKYPLOT_ROVER_L2:
+        case SKYPLOT_ROVER_L5:
+        case SNR_HISTORY_L1:
+        case SNR_HISTORY_L2:
+        case SNR_HISTORY_L5:
+            return false;
+        default:
+            return true;
+        }
+    }
+
+    private static boolean isShowingRover(StatusView view) {
+        switch (view) {
+        case SKYPLOT_BASE_L1:
+        case SKYPLOT_BASE_L2:
+        case SKYPLOT_BASE_L5:
+            return false;
+        default:
+            return true;
+        }
+    }
+
+    private void invalidateEpochs() {
+        mRoverEpoch.invalidate();
+        mBaseEpoch.invalidate();
+        mSolutionEpoch.invalidate();
+    }
+
+    /**
+     * Last epoch given to a view: time, number of satellites and status.
+     * The server keeps the last epoch when the stream stops, so the
+     * number of satellites and the status catch the clears.
+     */
+    private static class Epoch {
+        private boolean mValid;
+        private long mTimeMillis;
+        private int mNs;
+        private int mStatus;
+
+        /**
+         * @return true if the epoch differs from the last one
+         */
+        boolean update(long timeMillis, int ns, int status) {
+            if (mValid && timeMillis == mTimeMillis && ns == mNs && status == mStatus) return false;
+            mValid = true;
+            mTimeMillis = timeMillis;
+            mNs = ns;
+            mStatus = status;
+            return true;
+        }
+
+        void invalidate() {
+            mValid = false;
+        }
+    }
+
     void updateGTimeFormat(SharedPreferences prefs) {
         try {
             String timeFormat = prefs.getString(PREF_TIME_FORMAT, null);
@@ -436,6 +580,12 @@ public class StatusFragment extends Fragment {
 
         SKYPLOT_BASE_L5(R.string.status_view_skyplot_base_l5),
 
+        SNR_HISTORY_L1(R.string.status_view_snr_history_l1),
+
+        SNR_HISTORY_L2(R.string.status_view_snr_history_l2),
+
+        SNR_HISTORY_L5(R.string.status_view_snr_history_l5),
+
         //BASELINE(R.string.status_view_baseline)
 
         ;
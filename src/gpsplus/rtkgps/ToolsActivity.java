@@ -7,10 +7,12 @@ import android.view.View;
 import android.widget.Button;
 import android.widget.ProgressBar;
 
+import gpsplus.rtkgps.geoid.GeoidService;
 import gpsplus.rtkgps.utils.HTTPDownloader;
 import gpsplus.rtkgps.utils.IDownloaderAccessResponse;
 import gpsplus.rtkgps.utils.PreciseEphemerisDownloader;
 import gpsplus.rtklib.RtkCommon;
+import gpsplus.rtklib.constants.GeoidModel;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -241,18 +243,22 @@ public class ToolsActivity extends Activity implements IDownloaderAccessResponse
                break;
            case RAF09:
                Log.i(TAG,"RAF09 loaded: " + RAF09LOCALFILE);
+               GeoidService.getInstance().reload(GeoidModel.RAF09_M15x20);
                buttonRaf09.setEnabled(false);
                break;
            case EGM2008_M25:
                Log.i(TAG,"EGM2008_M25 loaded: " + EGM2008_M25_LOCALFILE);
+               GeoidService.getInstance().reload(GeoidModel.EGM2008_M25);
                buttonEgm2008M25.setEnabled(false);
                break;
            case EGM2008_M10:
                Log.i(TAG,"EGM2008_M10 loaded: " + EGM2008_M10_LOCALFILE);
+               GeoidService.getInstance().reload(GeoidModel.EGM2008_M10);
                buttonEgm2008M10.setEnabled(false);
                break;
            case EGM96_M150:
                Log.i(TAG,"EGM96_M150 loaded: " + EGM96_M150_LOCALFILE);
+               GeoidService.getInstance().reload(GeoidModel.EGM96_M150);
                buttonEgm96M150.setEnabled(false);
                break;
            default:
@@ -0,0 +1,396 @@
+package gpsplus.rtkgps;
+
+import org.osmdroid.views.util.constants.MapViewConstants;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Multi-resolution store of a track in projected (maximum zoom level)
+ * pixel coordinates.
+ * <p>
+ * Every point is kept at full resolution. On top of that, a decimated
+ * {@link Level} is maintained for each zoom level that has been drawn: it
+ * lists the points more than one screen pixel away from the previous point
+ * kept at that zoom level, so drawing a long track at a low zoom level only
+ * walks a few points. Each level has a bucket index so only the points
+ * around the viewport are visited when drawing.
+ * <p>
+ * Points are appended by {@link #add(int, int, byte)} and
+ * {@link #addAll(int[], int[], byte[], int)} with the track locked by the
+ * caller. The arrays are replaced when they grow or are cleared, never
+ * written below the size, so a {@link Snapshot} taken with the lock held
+ * stays valid without it. Levels are built from snapshots by
+ * {@link #getLevel(int, Snapshot)}, on first use and then incrementally, by
+ * a single thread and without the lock: writers only copy points.
+ */
+public class TrackPyramid {
+
+    public static final int MAX_ZOOM = MapViewConstants.MAXIMUM_ZOOMLEVEL;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /** Spatial index bucket size, in screen pixels */
+    public static final int BUCKET_PIXELS = 256;
+    private static final int BUCKET_SHIFT = 8;
+    private static final int MAX_SEGMENT_BUCKETS = 64;
+
+    /** Growable list of level positions */
+    private static class IntList {
+        int mValues[] = new int[8];
+        int mSize;
+
+        void add(int v) {
+            if (mSize == mValues.length) mValues = Arrays.copyOf(mValues, mSize * 2);
+            mValues[mSize++] = v;
+        }
+    }
+
+    /**
+     * Points of one zoom level, as indices into the full resolution track.
+     * <p>
+     * Points are also binned in square buckets of {@link #BUCKET_PIXELS}
+     * screen pixels so {@link #select(int, int, int, int)} only visits the
+     * buckets around the viewport. A segment is also binned in the buckets
+     * it runs through, unless it spans more than {@link #MAX_SEGMENT_BUCKETS}:
+     * such segments are listed separately and always selected.
+     */
+    public static class Level {
+        private final int mThreshold;
+        private final int mShift;
+        private int mIndex[];
+        private int mSize;
+        private int mLastX;
+        private int mLastY;
+
+        private final HashMap<Long, IntList> mBuckets;
+        private final IntList mLongSegments;
+        private int mSelection[];
+        private int mSelectionSize;
+
+        Level(int zoom, int capacity) {
+            mThreshold = 1 << (MAX_ZOOM - zoom);
+            mShift = MAX_ZOOM - zoom + BUCKET_SHIFT;
+            mIndex = new int[capacity];
+            mSize = 0;
+            mBuckets = new HashMap<Long, IntList>();
+            mLongSegments = new IntList();
+            mSelection = new int[256];
+        }
+
+        public int size() {
+            return mSize;
+        }
+
+        /**
+         * @return index in the full resolution track of the i-th point of this level
+         */
+        public int get(int i) {
+            return mIndex[i];
+        }
+
+        /**
+         * Selects the points that may be visible in the given projected
+         * rectangle, with their neighbours so every segment crossing it can
+         * be drawn. The selection is sorted and is only valid until the next
+         * call.
+         * @return number of selected points
+         * @see #getSelected(int)
+         */
+        public int select(int left, int top, int right, int bottom) {
+            // One bucket of margin: shorter segments have an end in there
+            final int bx0 = (left >> mShift) - 1;
+            final int bx1 = (right >> mShift) + 1;
+            final int by0 = (top >> mShift) - 1;
+            final int by1 = (bottom >> mShift) + 1;
+
+            mSelectionSize = 0;
+            if ((long)(bx1 - bx0 + 1) * (by1 - by0 + 1) > mBuckets.size()) {
+                for (Map.Entry<Long, IntList> e: mBuckets.entrySet()) {
+                    final long key = e.getKey();
+                    final int bx = (int)(key >> 32);
+                    final int by = (int)key;
+                    if (bx >= bx0 && bx <= bx1 && by >= by0 && by <= by1) selectBucket(e.getValue());
+                }
+            }else {
+                for (int bx = bx0; bx <= bx1; ++bx) {
+                    for (int by = by0; by <= by1; ++by) {
+                        final IntList b = mBuckets.get(bucketKey(bx, by));
+                        if (b != null) selectBucket(b);
+                    }
+                }
+            }
+            for (int i = 0; i < mLongSegments.mSize; ++i) {
+                final int p = mLongSegments.mValues[i];
+                addSelection(p - 1);
+                addSelection(p);
+            }
+
+            Arrays.sort(mSelection, 0, mSelectionSize);
+            int n = 0;
+            for (int i = 0; i < mSelectionSize; ++i) {
+                final int p = mSelection[i];
+                if (p < 0 || p >= mSize) continue;
+                if (n > 0 && mSelection[n - 1] == p) continue;
+                mSelection[n++] = p;
+            }
+            mSelectionSize = n;
+            return n;
+        }
+
+        /**
+         * @return position in this level of the i-th selected point
+         */
+        public int getSelected(int i) {
+            return mSelection[i];
+        }
+
+        private void selectBucket(IntList bucket) {
+            for (int i = 0; i < bucket.mSize; ++i) {
+                final int p = bucket.mValues[i];
+                addSelection(p - 1);
+                addSelection(p);
+                addSelection(p + 1);
+            }
+        }
+
+        private void addSelection(int p) {
+            if (mSelectionSize == mSelection.length) {
+                mSelection = Arrays.copyOf(mSelection, mSelectionSize * 2);
+            }
+            mSelection[mSelectionSize++] = p;
+        }
+
+        void offer(int index, int x, int y) {
+            if (mSize != 0
+                    && Math.abs(x - mLastX) < mThreshold
+                    && Math.abs(y - mLastY) < mThreshold) {
+                return;
+            }
+            if (mSize == mIndex.length) mIndex = Arrays.copyOf(mIndex, mSize * 2);
+            if (mSize != 0) {
+                final int span = Math.max(Math.abs((x >> mShift) - (mLastX >> mShift)),
+                        Math.abs((y >> mShift) - (mLastY >> mShift)));
+                if (span > MAX_SEGMENT_BUCKETS) {
+                    mLongSegments.add(mSize);
+                }else {
+                    // Bin the segment in the buckets it runs through
+                    final int steps = 2 * span;
+                    for (int i = 1; i < steps; ++i) {
+                        addToBucket((int)(mLastX + (long)(x - mLastX) * i / steps) >> mShift,
+                                (int)(mLastY + (long)(y - mLastY) * i / steps) >> mShift);
+                    }
+                }
+            }
+            addToBucket(x >> mShift, y >> mShift);
+            mIndex[mSize++] = index;
+            mLastX = x;
+            mLastY = y;
+        }
+
+        /** Adds the point at mSize to a bucket */
+        private void addToBucket(int bx, int by) {
+            final Long key = bucketKey(bx, by);
+            IntList bucket = mBuckets.get(key);
+            if (bucket == null) {
+                bucket = new IntList();
+                mBuckets.put(key, bucket);
+            }else if (bucket.mValues[bucket.mSize - 1] == mSize) {
+                return;
+            }
+            bucket.add(mSize);
+        }
+
+        void clear() {
+            mSize = 0;
+            mBuckets.clear();
+            mLongSegments.mSize = 0;
+        }
+
+        private static long bucketKey(int bx, int by) {
+            return ((long)bx << 32) | (by & 0xffffffffL);
+        }
+    }
+
+    /**
+     * Points of the track when {@link TrackPyramid#snapshot()} was called.
+     * The arrays are shared with the track, which never writes below size.
+     */
+    public static class Snapshot {
+        final int mX[];
+        final int mY[];
+        final byte mStatus[];
+        final int mSize;
+        final int mModCount;
+        final int mGeneration;
+
+        Snapshot(TrackPyramid track) {
+            mX = track.mX;
+            mY = track.mY;
+            mStatus = track.mStatus;
+            mSize = track.mSize;
+            mModCount = track.mModCount;
+            mGeneration = track.mGeneration;
+        }
+
+        public int size() {
+            return mSize;
+        }
+
+        public int getModCount() {
+            return mModCount;
+        }
+
+        public int getX(int index) {
+            return mX[index];
+        }
+
+        public int getY(int index) {
+            return mY[index];
+        }
+
+        public byte getStatus(int index) {
+            return mStatus[index];
+        }
+    }
+
+    private final int mCapacity;
+    int mX[];
+    int mY[];
+    byte mStatus[];
+    private int mSize;
+    private int mModCount;
+    /** incremented by {@link #clear()} */
+    private int mGeneration;
+
+    /** Levels, with the generation and the number of points they were built from */
+    private final Level mLevels[];
+    private final int mLevelGenerations[];
+    private final int mLevelSizes[];
+
+    public TrackPyramid() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TrackPyramid(int capacity) {
+        mCapacity = Math.max(capacity, 16);
+        mX = new int[mCapacity];
+        mY = new int[mCapacity];
+        mStatus = new byte[mCapacity];
+        mSize = 0;
+        mLevels = new Level[MAX_ZOOM + 1];
+        mLevelGenerations = new int[MAX_ZOOM + 1];
+        mLevelSizes = new int[MAX_ZOOM + 1];
+    }
+
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * @return counter incremented on every change of the track
+     */
+    public int getModCount() {
+        return mModCount;
+    }
+
+    public int getX(int index) {
+        return mX[index];
+    }
+
+    public int getY(int index) {
+        return mY[index];
+    }
+
+    public byte getStatus(int index) {
+        return mStatus[index];
+    }
+
+    /**
+     * Empties the track. New arrays are allocated so that the snapshots
+     * taken before stay valid.
+     */
+    public void clear() {
+        if (mSize > 0) {
+            mX = new int[mCapacity];
+            mY = new int[mCapacity];
+            mStatus = new byte[mCapacity];
+        }
+        mSize = 0;
+        mModCount += 1;
+        mGeneration += 1;
+    }
+
+    /**
+     * @return the points of the track, to read without the lock
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Appends a point
+     * @param x projected x at {@link #MAX_ZOOM}
+     * @param y projected y at {@link #MAX_ZOOM}
+     * @param status application defined tag (solution status ordinal)
+     */
+    public void add(int x, int y, byte status) {
+        if (mSize == mX.length) {
+            final int capacity = mSize * 2;
+            mX = Arrays.copyOf(mX, capacity);
+            mY = Arrays.copyOf(mY, capacity);
+            mStatus = Arrays.copyOf(mStatus, capacity);
+        }
+        final int index = mSize++;
+        mModCount += 1;
+        mX[index] = x;
+        mY[index] = y;
+        mStatus[index] = status;
+    }
+
+    /**
+     * Appends {@code count} points with a single change of the track
+     * @see #add(int, int, byte)
+     */
+    public void addAll(int x[], int y[], byte status[], int count) {
+        if (count <= 0) return;
+        if (mSize + count > mX.length) {
+            final int capacity = Math.max(mSize + count, mX.length * 2);
+            mX = Arrays.copyOf(mX, capacity);
+            mY = Arrays.copyOf(mY, capacity);
+            mStatus = Arrays.copyOf(mStatus, capacity);
+        }
+        System.arraycopy(x, 0, mX, mSize, count);
+        System.arraycopy(y, 0, mY, mSize, count);
+        System.arraycopy(status, 0, mStatus, mSize, count);
+        mSize += count;
+        mModCount += 1;
+    }
+
+    /**
+     * Brings the level of {@code zoom} up to {@code snapshot}: built from
+     * the whole track on first call, then from the points added since.
+     * Called by a single thread, without the lock.
+     * @return points to draw at {@code zoom}
+     */
+    public Level getLevel(int zoom, Snapshot snapshot) {
+        zoom = Math.max(0, Math.min(zoom, MAX_ZOOM));
+        Level l = mLevels[zoom];
+        if (l == null) {
+            l = new Level(zoom, Math.max(16, snapshot.mSize >> (MAX_ZOOM - zoom)));
+            mLevels[zoom] = l;
+            mLevelGenerations[zoom] = snapshot.mGeneration;
+            mLevelSizes[zoom] = 0;
+        }else if (mLevelGenerations[zoom] != snapshot.mGeneration) {
+            l.clear();
+            mLevelGenerations[zoom] = snapshot.mGeneration;
+            mLevelSizes[zoom] = 0;
+        }
+        for (int i = mLevelSizes[zoom]; i < snapshot.mSize; ++i) {
+            l.offer(i, snapshot.mX[i], snapshot.mY[i]);
+        }
+        mLevelSizes[zoom] = Math.max(mLevelSizes[zoom], snapshot.mSize);
+        return l;
+    }
+}
@@ -0,0 +1,39 @@
+package gpsplus.rtkgps.export;
+
+import gpsplus.rtkgps.utils.FastTimeFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Comma separated geographic coordinates with the RTKLIB quality columns
+ */
+public class CsvExportWriter extends ExportFormatWriter {
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        out.write("time_utc,latitude,longitude,height,q,ns,sdn,sde,sdu,age,ratio\n");
+    }
+
+    @Override
+    public void writeRow(Writer out, SolutionChunk c, int i) throws IOException {
+        FastTimeFormat.appendIso8601(mLine, c.mTime[i], 3);
+        mLine.append(',').appendFixed(c.mLat[i], 9)
+            .append(',').appendFixed(c.mLon[i], 9)
+            .append(',').appendFixed(c.mHeight[i], 4)
+            .append(',').append(c.mQuality[i])
+            .append(',').append(c.mNs[i])
+            .append(',').appendFixed(c.mSdn[i], 4)
+            .append(',').appendFixed(c.mSde[i], 4)
+            .append(',').appendFixed(c.mSdu[i], 4)
+            .append(',').appendFixed(c.mAge[i], 2)
+            .append(',').appendFixed(c.mRatio[i], 1)
+            .append('\n');
+        flushLine(out);
+    }
+
+    @Override
+    public void writeFooter(Writer out) throws IOException {
+    }
+
+}
@@ -0,0 +1,47 @@
+package gpsplus.rtkgps.export;
+
+public enum ExportFormat {
+
+    GPX("gpx"),
+    KML("kml"),
+    GEOJSON("geojson"),
+    CSV("csv"),
+    PROJECTED_CSV("csv"),
+    UTM_CSV("csv"),
+    ARCHIVE(SolutionArchive.FILE_EXTENSION);
+
+    private final String mExtension;
+
+    private ExportFormat(String extension) {
+        mExtension = extension;
+    }
+
+    public String getExtension() {
+        return mExtension;
+    }
+
+    /**
+     * @param proj4Definition target definition, only used by {@link #PROJECTED_CSV}
+     */
+    public SolutionSink createSink(String proj4Definition) {
+        switch (this) {
+        case GPX:
+            return new GpxExportWriter();
+        case KML:
+            return new KmlExportWriter();
+        case GEOJSON:
+            return new GeoJsonExportWriter();
+        case CSV:
+            return new CsvExportWriter();
+        case PROJECTED_CSV:
+            if (proj4Definition == null) throw new IllegalArgumentException("proj4 definition required");
+            return new ProjectedCsvExportWriter(proj4Definition);
+        case UTM_CSV:
+            return new UtmCsvExportWriter();
+        case ARCHIVE:
+            return new SolutionArchiveWriter();
+        default:
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package gpsplus.rtkgps.export;
+
+import gpsplus.rtkgps.utils.TextBuffer;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Streaming writer of one text export format.
+ * Instances are used by a single {@link ExportWorker} thread and may keep
+ * reusable state; rows are formatted into {@link #mLine} and written
+ * without intermediate Strings.
+ */
+public abstract class ExportFormatWriter implements SolutionSink {
+
+    private static final int WRITER_BUFFER_SIZE = 64 * 1024;
+
+    protected final TextBuffer mLine;
+
+    protected long mRows;
+
+    private Writer mOut;
+
+    protected ExportFormatWriter() {
+        mLine = new TextBuffer(256);
+        mRows = 0;
+    }
+
+    @Override
+    public void open(File output) throws IOException {
+        mOut = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(output), "UTF-8"), WRITER_BUFFER_SIZE);
+        writeHeader(mOut);
+    }
+
+    @Override
+    public void write(SolutionChunk chunk) throws IOException {
+        writeChunk(mOut, chunk);
+    }
+
+    @Override
+    public void close(boolean complete) throws IOException {
+        if (mOut == null) return;
+        try {
+            if (complete) writeFooter(mOut);
+        }finally {
+            mOut.close();
+            mOut = null;
+        }
+    }
+
+    public abstract void writeHeader(Writer out) throws IOException;
+
+    public abstract void writeRow(Writer out, SolutionChunk chunk, int row) throws IOException;
+
+    public abstract void writeFooter(Writer out) throws IOException;
+
+    public void writeChunk(Writer out, SolutionChunk chunk) throws IOException {
+        final int size = chunk.size();
+        for (int i = 0; i < size; ++i) {
+            writeRow(out, chunk, i);
+            mRows += 1;
+        }
+    }
+
+    @Override
+    public long getRows() {
+        return mRows;
+    }
+
+    /**
+     * @return output opened by {@link #open(File)}
+     */
+    Writer getWriter() {
+        return mOut;
+    }
+
+    protected void flushLine(Writer out) throws IOException {
+        mLine.writeTo(out);
+        mLine.clear();
+    }
+}
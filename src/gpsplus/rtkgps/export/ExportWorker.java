@@ -0,0 +1,126 @@
+package gpsplus.rtkgps.export;
+
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Consumer thread of one output file.
+ * Takes chunks from its own queue, hands them to the sink and
+ * releases them back to the pool. Whatever ends the export, an I/O or
+ * runtime exception of the sink or an interruption, the worker keeps
+ * draining its queue until {@link #END} so that the reader never blocks
+ * on a dead consumer.
+ */
+class ExportWorker implements Runnable {
+
+    private static final boolean DBG = false;
+    static final String TAG = ExportWorker.class.getSimpleName();
+
+    /** End of stream marker */
+    static final SolutionChunk END = new SolutionChunk(0);
+
+    private final ExportFormat mFormat;
+    private final SolutionSink mSink;
+    private final File mOutput;
+    private final SolutionChunkPool mPool;
+    private final BlockingQueue<SolutionChunk> mQueue;
+
+    private volatile IOException mError;
+
+    ExportWorker(ExportFormat format, SolutionSink sink, File output,
+            SolutionChunkPool pool, int queueSize) {
+        mFormat = format;
+        mSink = sink;
+        mOutput = output;
+        mPool = pool;
+        mQueue = new ArrayBlockingQueue<SolutionChunk>(queueSize + 1);
+    }
+
+    void put(SolutionChunk chunk) throws InterruptedException {
+        mQueue.put(chunk);
+    }
+
+    ExportFormat getFormat() {
+        return mFormat;
+    }
+
+    File getOutput() {
+        return mOutput;
+    }
+
+    long getRows() {
+        return mSink.getRows();
+    }
+
+    IOException getError() {
+        return mError;
+    }
+
+    @Override
+    public void run() {
+        boolean complete = false;
+        boolean ended = false;
+        boolean interrupted = false;
+        try {
+            mSink.open(mOutput);
+            for (;;) {
+                SolutionChunk chunk = mQueue.take();
+                if (chunk == END) {
+                    ended = true;
+                    break;
+                }
+                try {
+                    mSink.write(chunk);
+                }finally {
+                    mPool.release(chunk);
+                }
+            }
+            complete = true;
+        }catch (IOException e) {
+            Log.e(TAG, mFormat + " export to " + mOutput + " failed", e);
+            mError = e;
+        }catch (RuntimeException e) {
+            Log.e(TAG, mFormat + " export to " + mOutput + " failed", e);
+            mError = new IOException(e.toString(), e);
+        }catch (InterruptedException e) {
+            mError = new IOException("Interrupted");
+            interrupted = true;
+        }finally {
+            // the reader blocks on the pool until every chunk is released
+            if (!ended) interrupted |= drain();
+            try {
+                mSink.close(complete);
+            }catch (IOException e) {
+                if (mError == null) mError = e;
+            }catch (RuntimeException e) {
+                if (mError == null) mError = new IOException(e.toString(), e);
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        if (DBG) Log.v(TAG, mFormat + " done, " + mSink.getRows() + " rows");
+    }
+
+    /**
+     * Releases the chunks queued until the end of stream marker, which the
+     * reader always puts
+     * @return true if the thread was interrupted meanwhile
+     */
+    private boolean drain() {
+        boolean interrupted = false;
+        for (;;) {
+            try {
+                SolutionChunk chunk = mQueue.take();
+                if (chunk == END) break;
+                mPool.release(chunk);
+            }catch (InterruptedException ie) {
+                interrupted = true;
+            }
+        }
+        return interrupted;
+    }
+
+}
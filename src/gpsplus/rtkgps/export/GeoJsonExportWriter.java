@@ -0,0 +1,43 @@
+package gpsplus.rtkgps.export;
+
+import gpsplus.rtkgps.utils.FastTimeFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * GeoJSON FeatureCollection, one Point feature per solution so that the
+ * time and quality of every epoch can be streamed in a single pass
+ */
+public class GeoJsonExportWriter extends ExportFormatWriter {
+
+    private boolean mFirst = true;
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        out.write("{\"type\":\"FeatureCollection\",\"features\":[\n");
+    }
+
+    @Override
+    public void writeRow(Writer out, SolutionChunk c, int i) throws IOException {
+        if (!mFirst) mLine.append(",\n");
+        mFirst = false;
+        mLine.append("{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[")
+            .appendFixed(c.mLon[i], 9).append(',')
+            .appendFixed(c.mLat[i], 9).append(',')
+            .appendFixed(c.mHeight[i], 4)
+            .append("]},\"properties\":{\"time\":\"");
+        FastTimeFormat.appendIso8601(mLine, c.mTime[i], 3);
+        mLine.append("\",\"q\":").append(c.mQuality[i])
+            .append(",\"ns\":").append(c.mNs[i])
+            .append(",\"ratio\":").appendFixed(c.mRatio[i], 1)
+            .append("}}");
+        flushLine(out);
+    }
+
+    @Override
+    public void writeFooter(Writer out) throws IOException {
+        out.write("\n]}\n");
+    }
+
+}
@@ -0,0 +1,40 @@
+package gpsplus.rtkgps.export;
+
+import gpsplus.rtkgps.utils.FastTimeFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * GPX 1.1 track, one trkpt per solution
+ */
+public class GpxExportWriter extends ExportFormatWriter {
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<gpx xmlns=\"http://www.topografix.com/GPX/1/1\""
+                + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                + " xsi:schemaLocation=\"http://www.topografix.com/GPX/1/1 http://www.topografix.com/GPX/1/1/gpx.xsd\""
+                + " version=\"1.1\" creator=\"gpsplus.rtkgps\">\n"
+                + "<trk>\n<trkseg>\n");
+    }
+
+    @Override
+    public void writeRow(Writer out, SolutionChunk c, int i) throws IOException {
+        mLine.append("<trkpt lat=\"").appendFixed(c.mLat[i], 9)
+            .append("\" lon=\"").appendFixed(c.mLon[i], 9)
+            .append("\"><ele>").appendFixed(c.mHeight[i], 4)
+            .append("</ele><time>");
+        FastTimeFormat.appendIso8601(mLine, c.mTime[i], 3);
+        mLine.append("</time><sat>").append(c.mNs[i])
+            .append("</sat></trkpt>\n");
+        flushLine(out);
+    }
+
+    @Override
+    public void writeFooter(Writer out) throws IOException {
+        out.write("</trkseg>\n</trk>\n</gpx>\n");
+    }
+
+}
@@ -0,0 +1,32 @@
+package gpsplus.rtkgps.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * KML 2.2 placemark with the track as an absolute altitude LineString
+ */
+public class KmlExportWriter extends ExportFormatWriter {
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<kml xmlns=\"http://www.opengis.net/kml/2.2\">\n"
+                + "<Document>\n<Placemark>\n<name>RtkGps</name>\n"
+                + "<LineString>\n<altitudeMode>absolute</altitudeMode>\n<coordinates>\n");
+    }
+
+    @Override
+    public void writeRow(Writer out, SolutionChunk c, int i) throws IOException {
+        mLine.appendFixed(c.mLon[i], 9).append(',')
+            .appendFixed(c.mLat[i], 9).append(',')
+            .appendFixed(c.mHeight[i], 4).append('\n');
+        flushLine(out);
+    }
+
+    @Override
+    public void writeFooter(Writer out) throws IOException {
+        out.write("</coordinates>\n</LineString>\n</Placemark>\n</Document>\n</kml>\n");
+    }
+
+}
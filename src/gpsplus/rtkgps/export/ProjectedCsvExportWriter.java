@@ -0,0 +1,90 @@
+package gpsplus.rtkgps.export;
+
+import gpsplus.rtkgps.Proj4Converter;
+import gpsplus.rtkgps.utils.FastTimeFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV of coordinates projected with a proj.4 definition.
+ * Every writer owns its {@link Proj4Converter}, whose PJ pair is checked
+ * out of the shared pool until the writer is closed. Each chunk is
+ * projected in one batch before its rows are written.
+ */
+public class ProjectedCsvExportWriter extends ExportFormatWriter {
+
+    private final String mProj4Definition;
+    private final Proj4Converter mConverter;
+
+    /** Projected coordinates of the chunk being written */
+    private double mX[];
+    private double mY[];
+
+    public ProjectedCsvExportWriter(String proj4Definition) {
+        super();
+        mProj4Definition = proj4Definition;
+        mConverter = new Proj4Converter();
+        mX = new double[0];
+        mY = new double[0];
+    }
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        out.write("# ");
+        out.write(mProj4Definition);
+        out.write("\ntime_utc,x,y,height,q,ns\n");
+    }
+
+    @Override
+    public void writeChunk(Writer out, SolutionChunk chunk) throws IOException {
+        if (mX.length < chunk.capacity()) {
+            mX = new double[chunk.capacity()];
+            mY = new double[chunk.capacity()];
+        }
+        mConverter.convert(mProj4Definition, chunk.mLat, chunk.mLon, 0, chunk.size(), mX, mY);
+        super.writeChunk(out, chunk);
+    }
+
+    /**
+     * Writes a chunk projected by the caller, see {@link SolutionReprojector}
+     */
+    void writeProjected(SolutionChunk chunk, double x[], double y[]) throws IOException {
+        final double ownX[] = mX;
+        final double ownY[] = mY;
+        mX = x;
+        mY = y;
+        try {
+            super.writeChunk(getWriter(), chunk);
+        }finally {
+            mX = ownX;
+            mY = ownY;
+        }
+    }
+
+    @Override
+    public void writeRow(Writer out, SolutionChunk c, int i) throws IOException {
+        FastTimeFormat.appendIso8601(mLine, c.mTime[i], 3);
+        mLine.append(',').appendFixed(mX[i], 4)
+            .append(',').appendFixed(mY[i], 4)
+            .append(',').appendFixed(c.mHeight[i], 4)
+            .append(',').append(c.mQuality[i])
+            .append(',').append(c.mNs[i])
+            .append('\n');
+        flushLine(out);
+    }
+
+    @Override
+    public void writeFooter(Writer out) throws IOException {
+    }
+
+    @Override
+    public void close(boolean complete) throws IOException {
+        try {
+            super.close(complete);
+        }finally {
+            mConverter.release();
+        }
+    }
+
+}
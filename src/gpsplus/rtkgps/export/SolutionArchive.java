@@ -0,0 +1,269 @@
+package gpsplus.rtkgps.export;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read access to a columnar solution archive (.rsa) written by
+ * {@link SolutionArchiveWriter}.
+ * <p>
+ * Layout (big endian):
+ * <pre>
+ * header  : int magic, int version
+ * block*  : int count, int 0,
+ *           long time[n], double lat[n], double lon[n], double height[n],
+ *           float sdn[n], sde[n], sdu[n], age[n], ratio[n],
+ *           short ns[n], byte q[n], padding to 8 bytes
+ * index   : per block long firstTime, long lastTime, long offset, int count, int 0
+ * footer  : long indexOffset, long rows, int blockCount, int magic
+ * </pre>
+ * Rows are sorted by time. The file is memory-mapped; a time range query is
+ * a binary search on the block index followed by a binary search on the
+ * time column of the first block.
+ */
+public class SolutionArchive implements Closeable {
+
+    public static final String FILE_EXTENSION = "rsa";
+
+    static final int MAGIC = 0x52534131;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int BLOCK_HEADER_SIZE = 8;
+    static final int INDEX_ENTRY_SIZE = 32;
+    static final int FOOTER_SIZE = 24;
+
+    /** Bytes per row: 4 doubles/longs, 5 floats, 1 short, 1 byte */
+    static final int ROW_SIZE = 4 * 8 + 5 * 4 + 2 + 1;
+
+    private final RandomAccessFile mFile;
+    private final MappedByteBuffer mBuf;
+    private final long mRows;
+    private final long mBlockFirst[];
+    private final long mBlockLast[];
+    private final int mBlockOffset[];
+    private final int mBlockCount[];
+
+    static int blockSize(int count) {
+        final int size = BLOCK_HEADER_SIZE + count * ROW_SIZE;
+        return (size + 7) & ~7;
+    }
+
+    public SolutionArchive(File file) throws IOException {
+        mFile = new RandomAccessFile(file, "r");
+        try {
+            final long length = mFile.length();
+            if (length > Integer.MAX_VALUE) throw new IOException(file + " too large");
+            if (length < HEADER_SIZE + FOOTER_SIZE) throw new IOException(file + " truncated");
+            mBuf = mFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (mBuf.getInt(0) != MAGIC || mBuf.getInt(4) != VERSION) {
+                throw new IOException(file + ": not a solution archive");
+            }
+            final int footer = (int)length - FOOTER_SIZE;
+            if (mBuf.getInt(footer + 20) != MAGIC) throw new IOException(file + ": incomplete archive");
+            final int indexOffset = (int)mBuf.getLong(footer);
+            mRows = mBuf.getLong(footer + 8);
+            final int blocks = mBuf.getInt(footer + 16);
+
+            mBlockFirst = new long[blocks];
+            mBlockLast = new long[blocks];
+            mBlockOffset = new int[blocks];
+            mBlockCount = new int[blocks];
+            for (int i = 0; i < blocks; ++i) {
+                final int e = indexOffset + i * INDEX_ENTRY_SIZE;
+                mBlockFirst[i] = mBuf.getLong(e);
+                mBlockLast[i] = mBuf.getLong(e + 8);
+                mBlockOffset[i] = (int)mBuf.getLong(e + 16);
+                mBlockCount[i] = mBuf.getInt(e + 24);
+            }
+        }catch (IOException e) {
+            mFile.close();
+            throw e;
+        }
+    }
+
+    public long getRows() {
+        return mRows;
+    }
+
+    public int getBlockCount() {
+        return mBlockCount.length;
+    }
+
+    /**
+     * @return UTC time (ms) of the first solution, Long.MAX_VALUE if empty
+     */
+    public long getStartTime() {
+        return mBlockFirst.length == 0 ? Long.MAX_VALUE : mBlockFirst[0];
+    }
+
+    /**
+     * @return UTC time (ms) of the last solution, Long.MIN_VALUE if empty
+     */
+    public long getEndTime() {
+        return mBlockLast.length == 0 ? Long.MIN_VALUE : mBlockLast[mBlockLast.length - 1];
+    }
+
+    /**
+     * @return cursor over solutions with from &lt;= time &lt;= to (UTC ms)
+     */
+    public Cursor query(long from, long to) {
+        // First block which may contain 'from'
+        int lo = 0, hi = mBlockLast.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (mBlockLast[mid] < from) lo = mid + 1;
+            else hi = mid;
+        }
+        final Cursor c = new Cursor(to);
+        if (lo < mBlockLast.length) {
+            c.seek(lo, lowerBound(lo, from));
+        }else {
+            c.seek(lo, 0);
+        }
+        return c;
+    }
+
+    private int lowerBound(int block, long time) {
+        final int base = mBlockOffset[block] + BLOCK_HEADER_SIZE;
+        int lo = 0, hi = mBlockCount[block];
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (mBuf.getLong(base + 8 * mid) < time) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mFile.close();
+    }
+
+    /**
+     * Forward iterator. Getters read the mapped file directly and do not
+     * allocate.
+     */
+    public class Cursor {
+
+        private final long mTo;
+        private int mBlock;
+        private int mRow;
+        private int mCount;
+        private int mBase;
+        private boolean mStarted;
+
+        Cursor(long to) {
+            mTo = to;
+        }
+
+        void seek(int block, int row) {
+            mBlock = block;
+            mRow = row - 1;
+            mStarted = false;
+            loadBlock();
+        }
+
+        private void loadBlock() {
+            if (mBlock < mBlockCount.length) {
+                mCount = mBlockCount[mBlock];
+                mBase = mBlockOffset[mBlock] + BLOCK_HEADER_SIZE;
+            }else {
+                mCount = 0;
+            }
+        }
+
+        public boolean next() {
+            mStarted = true;
+            mRow += 1;
+            while (mRow >= mCount) {
+                if (mBlock >= mBlockCount.length) return false;
+                mBlock += 1;
+                mRow = 0;
+                loadBlock();
+                if (mBlock >= mBlockCount.length) return false;
+            }
+            return getTime() <= mTo;
+        }
+
+        /**
+         * Appends up to the free capacity of {@code dst}
+         * @return number of rows appended
+         */
+        public int read(SolutionChunk dst) {
+            int n = 0;
+            while (!dst.isFull() && next()) {
+                final int i = dst.append();
+                dst.mTime[i] = getTime();
+                dst.mLat[i] = getLat();
+                dst.mLon[i] = getLon();
+                dst.mHeight[i] = getHeight();
+                dst.mSdn[i] = getSdn();
+                dst.mSde[i] = getSde();
+                dst.mSdu[i] = getSdu();
+                dst.mAge[i] = getAge();
+                dst.mRatio[i] = getRatio();
+                dst.mNs[i] = (short)getNs();
+                dst.mQuality[i] = (byte)getQuality();
+                n += 1;
+            }
+            return n;
+        }
+
+        private void checkStarted() {
+            if (!mStarted) throw new IllegalStateException("next() not called");
+        }
+
+        public long getTime() {
+            checkStarted();
+            return mBuf.getLong(mBase + 8 * mRow);
+        }
+
+        public double getLat() {
+            return mBuf.getDouble(mBase + 8 * (mCount + mRow));
+        }
+
+        public double getLon() {
+            return mBuf.getDouble(mBase + 8 * (2 * mCount + mRow));
+        }
+
+        public double getHeight() {
+            return mBuf.getDouble(mBase + 8 * (3 * mCount + mRow));
+        }
+
+        private float getFloat(int column) {
+            return mBuf.getFloat(mBase + 32 * mCount + 4 * (column * mCount + mRow));
+        }
+
+        public float getSdn() {
+            return getFloat(0);
+        }
+
+        public float getSde() {
+            return getFloat(1);
+        }
+
+        public float getSdu() {
+            return getFloat(2);
+        }
+
+        public float getAge() {
+            return getFloat(3);
+        }
+
+        public float getRatio() {
+            return getFloat(4);
+        }
+
+        public int getNs() {
+            return mBuf.getShort(mBase + 52 * mCount + 2 * mRow);
+        }
+
+        public int getQuality() {
+            return mBuf.get(mBase + 54 * mCount + mRow);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package gpsplus.rtkgps.export;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Writes {@link SolutionArchive} files. Every chunk becomes one block,
+ * chunks must be in time order.
+ */
+public class SolutionArchiveWriter implements SolutionSink {
+
+    private DataOutputStream mOut;
+    private long mPos;
+    private long mRows;
+
+    private int mBlocks;
+    private long mBlockFirst[];
+    private long mBlockLast[];
+    private long mBlockOffset[];
+    private int mBlockCount[];
+
+    public SolutionArchiveWriter() {
+        mBlockFirst = new long[16];
+        mBlockLast = new long[16];
+        mBlockOffset = new long[16];
+        mBlockCount = new int[16];
+    }
+
+    @Override
+    public void open(File output) throws IOException {
+        mOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output), 64 * 1024));
+        mOut.writeInt(SolutionArchive.MAGIC);
+        mOut.writeInt(SolutionArchive.VERSION);
+        mPos = SolutionArchive.HEADER_SIZE;
+        mRows = 0;
+        mBlocks = 0;
+    }
+
+    @Override
+    public void write(SolutionChunk c) throws IOException {
+        final int n = c.size();
+        if (n == 0) return;
+        if (mBlocks > 0 && c.mTime[0] < mBlockLast[mBlocks - 1]) {
+            throw new IOException("Solutions not in time order");
+        }
+        for (int i = 1; i < n; ++i) {
+            if (c.mTime[i] < c.mTime[i - 1]) throw new IOException("Solutions not in time order");
+        }
+        addIndexEntry(c.mTime[0], c.mTime[n - 1], mPos, n);
+
+        final DataOutputStream out = mOut;
+        out.writeInt(n);
+        out.writeInt(0);
+        for (int i = 0; i < n; ++i) out.writeLong(c.mTime[i]);
+        for (int i = 0; i < n; ++i) out.writeDouble(c.mLat[i]);
+        for (int i = 0; i < n; ++i) out.writeDouble(c.mLon[i]);
+        for (int i = 0; i < n; ++i) out.writeDouble(c.mHeight[i]);
+        for (int i = 0; i < n; ++i) out.writeFloat(c.mSdn[i]);
+        for (int i = 0; i < n; ++i) out.writeFloat(c.mSde[i]);
+        for (int i = 0; i < n; ++i) out.writeFloat(c.mSdu[i]);
+        for (int i = 0; i < n; ++i) out.writeFloat(c.mAge[i]);
+        for (int i = 0; i < n; ++i) out.writeFloat(c.mRatio[i]);
+        for (int i = 0; i < n; ++i) out.writeShort(c.mNs[i]);
+        for (int i = 0; i < n; ++i) out.writeByte(c.mQuality[i]);
+        final int size = SolutionArchive.blockSize(n);
+        for (int i = SolutionArchive.BLOCK_HEADER_SIZE + n * SolutionArchive.ROW_SIZE; i < size; ++i) {
+            out.writeByte(0);
+        }
+        mPos += size;
+        mRows += n;
+    }
+
+    @Override
+    public void close(boolean complete) throws IOException {
+        if (mOut == null) return;
+        try {
+            if (complete) {
+                final long indexOffset = mPos;
+                for (int i = 0; i < mBlocks; ++i) {
+                    mOut.writeLong(mBlockFirst[i]);
+                    mOut.writeLong(mBlockLast[i]);
+                    mOut.writeLong(mBlockOffset[i]);
+                    mOut.writeInt(mBlockCount[i]);
+                    mOut.writeInt(0);
+                }
+                mOut.writeLong(indexOffset);
+                mOut.writeLong(mRows);
+                mOut.writeInt(mBlocks);
+                mOut.writeInt(SolutionArchive.MAGIC);
+            }
+        }finally {
+            mOut.close();
+            mOut = null;
+        }
+    }
+
+    @Override
+    public long getRows() {
+        return mRows;
+    }
+
+    private void addIndexEntry(long first, long last, long offset, int count) {
+        if (mBlocks == mBlockFirst.length) {
+            final int size = mBlocks * 2;
+            mBlockFirst = Arrays.copyOf(mBlockFirst, size);
+            mBlockLast = Arrays.copyOf(mBlockLast, size);
+            mBlockOffset = Arrays.copyOf(mBlockOffset, size);
+            mBlockCount = Arrays.copyOf(mBlockCount, size);
+        }
+        mBlockFirst[mBlocks] = first;
+        mBlockLast[mBlocks] = last;
+        mBlockOffset[mBlocks] = offset;
+        mBlockCount[mBlocks] = count;
+        mBlocks += 1;
+    }
+}
@@ -0,0 +1,88 @@
+package gpsplus.rtkgps.export;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed size block of parsed solution rows stored column-wise.
+ * Chunks are recycled through {@link SolutionChunkPool} and shared
+ * read-only between the export workers.
+ */
+public class SolutionChunk {
+
+    /** UTC time (ms since 1970-01-01) */
+    public final long mTime[];
+
+    /** latitude, longitude (deg), ellipsoidal height (m) */
+    public final double mLat[];
+    public final double mLon[];
+    public final double mHeight[];
+
+    /** Solution quality flag (1:fix 2:float 3:sbas 4:dgps 5:single 6:ppp) */
+    public final byte mQuality[];
+
+    /** Number of valid satellites */
+    public final short mNs[];
+
+    /** Standard deviations (m) */
+    public final float mSdn[];
+    public final float mSde[];
+    public final float mSdu[];
+
+    /** Age of differential (s) and ratio factor of ambiguity validation */
+    public final float mAge[];
+    public final float mRatio[];
+
+    private int mSize;
+
+    private final AtomicInteger mRefs;
+
+    SolutionChunk(int capacity) {
+        mTime = new long[capacity];
+        mLat = new double[capacity];
+        mLon = new double[capacity];
+        mHeight = new double[capacity];
+        mQuality = new byte[capacity];
+        mNs = new short[capacity];
+        mSdn = new float[capacity];
+        mSde = new float[capacity];
+        mSdu = new float[capacity];
+        mAge = new float[capacity];
+        mRatio = new float[capacity];
+        mSize = 0;
+        mRefs = new AtomicInteger(0);
+    }
+
+    public int size() {
+        return mSize;
+    }
+
+    public int capacity() {
+        return mTime.length;
+    }
+
+    public boolean isFull() {
+        return mSize == mTime.length;
+    }
+
+    /**
+     * @return index of the newly appended row
+     */
+    int append() {
+        return mSize++;
+    }
+
+    void reset() {
+        mSize = 0;
+    }
+
+    void retain(int count) {
+        mRefs.addAndGet(count);
+    }
+
+    /**
+     * @return true if this was the last reference
+     */
+    boolean releaseRef() {
+        return mRefs.decrementAndGet() == 0;
+    }
+}
@@ -0,0 +1,39 @@
+package gpsplus.rtkgps.export;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Bounded set of reusable {@link SolutionChunk}s.
+ * The reader blocks in {@link #acquire()} while every chunk is still
+ * referenced by a worker, so memory use does not depend on the log size.
+ */
+public class SolutionChunkPool {
+
+    private final ArrayBlockingQueue<SolutionChunk> mFree;
+
+    public SolutionChunkPool(int chunkCount, int chunkCapacity) {
+        mFree = new ArrayBlockingQueue<SolutionChunk>(chunkCount);
+        for (int i = 0; i < chunkCount; ++i) {
+            mFree.add(new SolutionChunk(chunkCapacity));
+        }
+    }
+
+    public SolutionChunk acquire() throws InterruptedException {
+        SolutionChunk chunk = mFree.take();
+        chunk.reset();
+        return chunk;
+    }
+
+    /**
+     * Drops one reference, the chunk is recycled once all consumers released it
+     */
+    public void release(SolutionChunk chunk) {
+        if (chunk.releaseRef()) {
+            mFree.offer(chunk);
+        }
+    }
+
+    void recycle(SolutionChunk chunk) {
+        mFree.offer(chunk);
+    }
+}
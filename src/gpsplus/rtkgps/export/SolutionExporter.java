@@ -0,0 +1,191 @@
+package gpsplus.rtkgps.export;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a solution log once and writes several export formats concurrently.
+ * <p>
+ * The calling thread parses the log into pooled {@link SolutionChunk}s and
+ * publishes every chunk to one {@link ExportWorker} thread per output.
+ * A chunk returns to the pool after the slowest worker released it, so
+ * memory is bounded by {@code CHUNK_COUNT * CHUNK_SIZE} rows whatever the
+ * session length.
+ * <p>
+ * Usage:
+ * <pre>
+ * SolutionExporter.Result r = new SolutionExporter(posFile)
+ *     .addOutput(ExportFormat.GPX, gpxFile)
+ *     .addOutput(ExportFormat.CSV, csvFile)
+ *     .run();
+ * </pre>
+ */
+public class SolutionExporter {
+
+    static final String TAG = SolutionExporter.class.getSimpleName();
+
+    public static final int CHUNK_SIZE = 4096;
+    public static final int CHUNK_COUNT = 8;
+
+    public interface ProgressListener {
+        void onExportProgress(long rows, double rowsPerSecond);
+    }
+
+    public static class Result {
+        public final long rows;
+        public final long skippedLines;
+        public final long elapsedMillis;
+        public final List<File> written;
+        public final List<File> failed;
+
+        Result(long rows, long skippedLines, long elapsedMillis, List<File> written, List<File> failed) {
+            this.rows = rows;
+            this.skippedLines = skippedLines;
+            this.elapsedMillis = elapsedMillis;
+            this.written = written;
+            this.failed = failed;
+        }
+
+        public double getRowsPerSecond() {
+            return elapsedMillis == 0 ? 0 : rows * 1000.0 / elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return rows + " rows in " + elapsedMillis + " ms ("
+                    + Math.round(getRowsPerSecond()) + " rows/s), "
+                    + skippedLines + " lines skipped, " + failed.size() + " outputs failed";
+        }
+    }
+
+    private final File mInput;
+    private final List<ExportFormat> mFormats;
+    private final List<File> mOutputs;
+    private String mProj4Definition;
+    private ProgressListener mProgressListener;
+
+    public SolutionExporter(File input) {
+        mInput = input;
+        mFormats = new ArrayList<ExportFormat>();
+        mOutputs = new ArrayList<File>();
+        mProj4Definition = null;
+    }
+
+    public SolutionExporter addOutput(ExportFormat format, File output) {
+        mFormats.add(format);
+        mOutputs.add(output);
+        return this;
+    }
+
+    /**
+     * Adds an output next to the input file, e.g. solution1.pos -> solution1.kml
+     */
+    public SolutionExporter addOutput(ExportFormat format) {
+        String name = mInput.getName();
+        final int dot = name.lastIndexOf('.');
+        if (dot > 0) name = name.substring(0, dot);
+        if (format == ExportFormat.PROJECTED_CSV) name += "_proj";
+        if (format == ExportFormat.UTM_CSV) name += "_utm";
+        return addOutput(format, new File(mInput.getParentFile(), name + "." + format.getExtension()));
+    }
+
+    public SolutionExporter setProj4Definition(String proj4Definition) {
+        mProj4Definition = proj4Definition;
+        return this;
+    }
+
+    public SolutionExporter setProgressListener(ProgressListener listener) {
+        mProgressListener = listener;
+        return this;
+    }
+
+    public Result run() throws IOException {
+        final long startTime = SystemClock.elapsedRealtime();
+        final SolutionChunkPool pool = new SolutionChunkPool(CHUNK_COUNT, CHUNK_SIZE);
+        final int nWorkers = mFormats.size();
+        final ExportWorker workers[] = new ExportWorker[nWorkers];
+        final Thread threads[] = new Thread[nWorkers];
+
+        // createSink() may throw, no worker must be waiting for END then
+        for (int i = 0; i < nWorkers; ++i) {
+            final ExportFormat format = mFormats.get(i);
+            workers[i] = new ExportWorker(format, format.createSink(mProj4Definition),
+                    mOutputs.get(i), pool, CHUNK_COUNT);
+        }
+        for (int i = 0; i < nWorkers; ++i) {
+            threads[i] = new Thread(workers[i], "Export-" + mFormats.get(i).name());
+            threads[i].start();
+        }
+
+        long rows = 0;
+        SolutionLogReader reader = null;
+        try {
+            reader = new SolutionLogReader(mInput);
+            for (;;) {
+                final SolutionChunk chunk = pool.acquire();
+                final int n = reader.read(chunk);
+                if (n <= 0) {
+                    pool.recycle(chunk);
+                    if (n < 0) break;
+                    continue;
+                }
+                rows += n;
+                chunk.retain(nWorkers);
+                for (ExportWorker w : workers) w.put(chunk);
+                if (mProgressListener != null) {
+                    final long elapsed = SystemClock.elapsedRealtime() - startTime;
+                    mProgressListener.onExportProgress(rows,
+                            elapsed == 0 ? 0 : rows * 1000.0 / elapsed);
+                }
+            }
+        }catch (InterruptedException e) {
+            throw new IOException("Export interrupted");
+        }finally {
+            // workers drain their queue until END, it must get through
+            boolean interrupted = false;
+            for (ExportWorker w : workers) {
+                for (;;) {
+                    try {
+                        w.put(ExportWorker.END);
+                        break;
+                    }catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            for (Thread t : threads) {
+                for (;;) {
+                    try {
+                        t.join();
+                        break;
+                    }catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+            if (reader != null) reader.close();
+        }
+
+        final List<File> written = new ArrayList<File>(nWorkers);
+        final List<File> failed = new ArrayList<File>();
+        for (ExportWorker w : workers) {
+            if (w.getError() == null) {
+                written.add(w.getOutput());
+            }else {
+                failed.add(w.getOutput());
+            }
+        }
+
+        final Result result = new Result(rows, reader.getLinesSkipped(),
+                SystemClock.elapsedRealtime() - startTime, written, failed);
+        Log.i(TAG, mInput.getName() + ": " + result);
+        return result;
+    }
+
+}
@@ -0,0 +1,320 @@
+package gpsplus.rtkgps.export;
+
+import gpsplus.rtkgps.utils.FastTimeFormat;
+import gpsplus.rtklib.GTime;
+import gpsplus.rtklib.RtkCommon;
+import gpsplus.rtklib.RtkCommon.Position3d;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streaming parser of RTKLIB solution files (.pos).
+ * Reads the file once through a fixed byte buffer and fills
+ * {@link SolutionChunk}s without creating per-line objects.
+ * Supported layouts are lat/lon/height in degrees and x/y/z-ecef,
+ * with times either as calendar date or GPS week / time of week,
+ * in GPST, UTC or JST. Other lines (NMEA, DMS, ENU baselines) are counted
+ * as skipped.
+ */
+public class SolutionLogReader implements Closeable {
+
+    public enum TimeSystem {
+        GPST,
+        UTC,
+        JST
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_LINE_LENGTH = 1024;
+    private static final long JST_OFFSET_MILLIS = 9 * 3600 * 1000L;
+
+    private static final double POW10[] = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream mIn;
+    private final byte mBuf[];
+    private int mBufPos;
+    private int mBufLen;
+
+    private final byte mLine[];
+    private int mLineLen;
+    private int mTokStart;
+    private int mTokEnd;
+
+    private TimeSystem mTimeSystem;
+    private boolean mEcef;
+    private boolean mSupportedLayout;
+    private final Position3d mPos;
+
+    /** pos[3], Q, ns, sd[6], age, ratio */
+    private final double mValues[];
+
+    private long mLinesSkipped;
+    private long mBytesRead;
+    private boolean mEof;
+
+    public SolutionLogReader(File file) throws IOException {
+        this(new FileInputStream(file));
+    }
+
+    public SolutionLogReader(InputStream in) {
+        mIn = in;
+        mBuf = new byte[BUFFER_SIZE];
+        mLine = new byte[MAX_LINE_LENGTH];
+        mTimeSystem = TimeSystem.GPST;
+        mEcef = false;
+        mSupportedLayout = true;
+        mPos = new Position3d();
+        mValues = new double[13];
+    }
+
+    public TimeSystem getTimeSystem() {
+        return mTimeSystem;
+    }
+
+    public long getLinesSkipped() {
+        return mLinesSkipped;
+    }
+
+    public long getBytesRead() {
+        return mBytesRead;
+    }
+
+    /**
+     * Appends rows to {@code chunk} until it is full or the input ends
+     * @return number of rows appended, -1 at end of input
+     */
+    public int read(SolutionChunk chunk) throws IOException {
+        int rows = 0;
+        while (!chunk.isFull() && readLine()) {
+            if (mLineLen == 0) continue;
+            if (mLine[0] == '%') {
+                parseHeader();
+            }else if (!mSupportedLayout || !parseSolution(chunk)) {
+                mLinesSkipped += 1;
+            }else {
+                rows += 1;
+            }
+        }
+        return (rows == 0 && mEof) ? -1 : rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mIn.close();
+    }
+
+    private boolean readLine() throws IOException {
+        mLineLen = 0;
+        boolean truncated = false;
+        for (;;) {
+            if (mBufPos == mBufLen) {
+                mBufLen = mIn.read(mBuf, 0, mBuf.length);
+                mBufPos = 0;
+                if (mBufLen <= 0) {
+                    mBufLen = 0;
+                    mEof = true;
+                    return mLineLen > 0;
+                }
+                mBytesRead += mBufLen;
+            }
+            final byte c = mBuf[mBufPos++];
+            if (c == '\n') break;
+            if (c == '\r') continue;
+            if (mLineLen < mLine.length) {
+                mLine[mLineLen++] = c;
+            }else {
+                truncated = true;
+            }
+        }
+        if (truncated) {
+            // Not a solution line
+            mLinesSkipped += 1;
+            mLineLen = 0;
+        }
+        return true;
+    }
+
+    private void parseHeader() {
+        if (contains("x-ecef")) {
+            mEcef = true;
+            mSupportedLayout = true;
+        }else if (contains("latitude(deg)")) {
+            mEcef = false;
+            mSupportedLayout = true;
+        }else if (contains("latitude(d'") || contains("-baseline")) {
+            mSupportedLayout = false;
+        }else {
+            return;
+        }
+        if (contains("UTC")) {
+            mTimeSystem = TimeSystem.UTC;
+        }else if (contains("JST")) {
+            mTimeSystem = TimeSystem.JST;
+        }else {
+            mTimeSystem = TimeSystem.GPST;
+        }
+    }
+
+    private boolean parseSolution(SolutionChunk chunk) {
+        mTokEnd = 0;
+        if (!nextToken()) return false;
+
+        long time;
+        if (indexOf('/', mTokStart, mTokEnd) >= 0) {
+            if (mTokEnd - mTokStart != 10) return false;
+            final int year = (int)parseLong(mTokStart, mTokStart + 4);
+            final int month = (int)parseLong(mTokStart + 5, mTokStart + 7);
+            final int day = (int)parseLong(mTokStart + 8, mTokStart + 10);
+            if (!nextToken() || mTokEnd - mTokStart < 8) return false;
+            final int hour = (int)parseLong(mTokStart, mTokStart + 2);
+            final int min = (int)parseLong(mTokStart + 3, mTokStart + 5);
+            final double sec = parseDouble(mTokStart + 6, mTokEnd);
+            time = FastTimeFormat.toMillis(year, month, day, hour, min, sec);
+        }else {
+            final int week = (int)parseLong(mTokStart, mTokEnd);
+            if (!nextToken()) return false;
+            time = FastTimeFormat.gpsWeekTowToMillis(week, parseDouble(mTokStart, mTokEnd));
+        }
+
+        final double values[] = mValues;
+        int n = 0;
+        while (n < values.length && nextToken()) {
+            values[n++] = parseDouble(mTokStart, mTokEnd);
+        }
+        // position, Q, ns are mandatory
+        if (n < 5) return false;
+        for (int i = n; i < values.length; ++i) values[i] = 0;
+
+        final int row = chunk.append();
+        chunk.mTime[row] = toUtc(time);
+        if (mEcef) {
+            RtkCommon.ecef2pos(values[0], values[1], values[2], mPos);
+            chunk.mLat[row] = Math.toDegrees(mPos.getLat());
+            chunk.mLon[row] = Math.toDegrees(mPos.getLon());
+            chunk.mHeight[row] = mPos.getHeight();
+        }else {
+            chunk.mLat[row] = values[0];
+            chunk.mLon[row] = values[1];
+            chunk.mHeight[row] = values[2];
+        }
+        chunk.mQuality[row] = (byte)values[3];
+        chunk.mNs[row] = (short)values[4];
+        chunk.mSdn[row] = (float)values[5];
+        chunk.mSde[row] = (float)values[6];
+        chunk.mSdu[row] = (float)values[7];
+        chunk.mAge[row] = (float)values[11];
+        chunk.mRatio[row] = (float)values[12];
+        return true;
+    }
+
+    private long toUtc(long time) {
+        switch (mTimeSystem) {
+        case UTC:
+            return time;
+        case JST:
+            return time - JST_OFFSET_MILLIS;
+        case GPST:
+        default:
+            return time - GTime.getLeapSeconds(time / 1000) * 1000L;
+        }
+    }
+
+    private boolean nextToken() {
+        int i = mTokEnd;
+        while (i < mLineLen && (mLine[i] == ' ' || mLine[i] == '\t' || mLine[i] == ',')) ++i;
+        if (i == mLineLen) return false;
+        mTokStart = i;
+        while (i < mLineLen && mLine[i] != ' ' && mLine[i] != '\t' && mLine[i] != ',') ++i;
+        mTokEnd = i;
+        return true;
+    }
+
+    private int indexOf(char c, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (mLine[i] == c) return i;
+        }
+        return -1;
+    }
+
+    private boolean contains(String s) {
+        final int l = s.length();
+        outer:
+        for (int i = 0; i + l <= mLineLen; ++i) {
+            for (int j = 0; j < l; ++j) {
+                if (mLine[i + j] != s.charAt(j)) continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private long parseLong(int from, int to) {
+        long v = 0;
+        boolean neg = false;
+        int i = from;
+        if (i < to && (mLine[i] == '-' || mLine[i] == '+')) neg = mLine[i++] == '-';
+        for (; i < to; ++i) {
+            final int d = mLine[i] - '0';
+            if (d < 0 || d > 9) break;
+            v = v * 10 + d;
+        }
+        return neg ? -v : v;
+    }
+
+    /**
+     * Decimal parser for the fixed point values written by RTKLIB.
+     * Exact for up to 18 significant digits, falls back to
+     * Double.parseDouble() for exotic input.
+     */
+    private double parseDouble(int from, int to) {
+        int i = from;
+        boolean neg = false;
+        if (i < to && (mLine[i] == '-' || mLine[i] == '+')) neg = mLine[i++] == '-';
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean dot = false;
+        for (; i < to; ++i) {
+            final byte c = mLine[i];
+            if (c == '.') {
+                if (dot) return slowParse(from, to);
+                dot = true;
+            }else if (c >= '0' && c <= '9') {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (mantissa != 0) digits += 1;
+                    if (dot) scale += 1;
+                }else if (!dot) {
+                    scale -= 1;
+                }
+            }else {
+                return slowParse(from, to);
+            }
+        }
+        double v;
+        if (scale <= 0) {
+            v = mantissa * (-scale < POW10.length ? POW10[-scale] : Math.pow(10, -scale));
+        }else if (scale < POW10.length) {
+            v = mantissa / POW10[scale];
+        }else {
+            v = mantissa / Math.pow(10, scale);
+        }
+        return neg ? -v : v;
+    }
+
+    private double slowParse(int from, int to) {
+        try {
+            return Double.parseDouble(new String(mLine, from, to - from, "US-ASCII"));
+        } catch (Exception e) {
+            return Double.NaN;
+        }
+    }
+}
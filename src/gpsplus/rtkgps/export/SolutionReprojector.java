@@ -0,0 +1,227 @@
+package gpsplus.rtkgps.export;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import gpsplus.rtkgps.Proj4Converter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reprojects a whole solution log into a proj.4 CRS on several threads.
+ * <p>
+ * The calling thread parses the log into {@link SolutionChunk}s and submits
+ * each chunk to a fixed pool of projection threads. Every projection thread
+ * converts with its own {@link Proj4Converter}, i.e. its own PJ pair from
+ * the {@link gpsplus.rtkgps.Proj4Pool}. Each PJ has its own proj.4 context,
+ * so a thread's out of range points do not fail the batch of another, and
+ * proj.4 is built with {@code MUTEX_pthread} so the grids (e.g. the
+ * {@code ntf_r93.gsb} of the IGNF Lambert CRS) are loaded once under its
+ * lock. Results are written by the calling
+ * thread in submission order, so the output has the rows of the log in
+ * order whatever the thread that projected them. At most
+ * {@code 2 * threads} chunks are in flight.
+ * <p>
+ * The output is the {@link ExportFormat#PROJECTED_CSV} format.
+ * <p>
+ * Usage:
+ * <pre>
+ * SolutionReprojector.Result r = new SolutionReprojector(posFile, csvFile,
+ *         CRSRegistry.IGNF_RGF93CC46)
+ *     .setProgressListener(listener)
+ *     .run();
+ * </pre>
+ */
+public class SolutionReprojector {
+
+    static final String TAG = SolutionReprojector.class.getSimpleName();
+
+    public static final int CHUNK_SIZE = SolutionExporter.CHUNK_SIZE;
+
+    public interface ProgressListener {
+        void onReprojectionProgress(long points, double pointsPerSecond);
+    }
+
+    public static class Result {
+        public final long points;
+        public final long failedPoints;
+        public final long skippedLines;
+        public final long elapsedMillis;
+
+        Result(long points, long failedPoints, long skippedLines, long elapsedMillis) {
+            this.points = points;
+            this.failedPoints = failedPoints;
+            this.skippedLines = skippedLines;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public double getPointsPerSecond() {
+            return elapsedMillis == 0 ? 0 : points * 1000.0 / elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return points + " points in " + elapsedMillis + " ms ("
+                    + Math.round(getPointsPerSecond()) + " points/s), "
+                    + failedPoints + " not projected, " + skippedLines + " lines skipped";
+        }
+    }
+
+    /** A chunk and its projected coordinates */
+    private static class Projected {
+        SolutionChunk chunk;
+        final double x[];
+        final double y[];
+        int converted;
+
+        Projected(int capacity) {
+            x = new double[capacity];
+            y = new double[capacity];
+        }
+    }
+
+    private final File mInput;
+    private final File mOutput;
+    private final String mProj4Definition;
+    private int mThreads;
+    private ProgressListener mProgressListener;
+
+    public SolutionReprojector(File input, File output, String proj4Definition) {
+        mInput = input;
+        mOutput = output;
+        mProj4Definition = proj4Definition;
+        mThreads = Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param threads projection threads, the number of cores by default
+     */
+    public SolutionReprojector setThreads(int threads) {
+        mThreads = Math.max(1, threads);
+        return this;
+    }
+
+    public SolutionReprojector setProgressListener(ProgressListener listener) {
+        mProgressListener = listener;
+        return this;
+    }
+
+    public Result run() throws IOException {
+        final long startTime = SystemClock.elapsedRealtime();
+        final int inFlight = 2 * mThreads;
+        final SolutionChunkPool pool = new SolutionChunkPool(inFlight, CHUNK_SIZE);
+        final ArrayDeque<Projected> free = new ArrayDeque<Projected>(inFlight);
+        for (int i = 0; i < inFlight; ++i) free.add(new Projected(CHUNK_SIZE));
+        final ArrayDeque<Future<Projected>> pending = new ArrayDeque<Future<Projected>>(inFlight);
+
+        // one converter, hence one PJ pair, per projection thread
+        final List<Proj4Converter> converters = new ArrayList<Proj4Converter>();
+        final ThreadLocal<Proj4Converter> converter = new ThreadLocal<Proj4Converter>() {
+            @Override
+            protected Proj4Converter initialValue() {
+                final Proj4Converter c = new Proj4Converter();
+                synchronized (converters) {
+                    converters.add(c);
+                }
+                return c;
+            }
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(mThreads, new ThreadFactory() {
+            private int mCount = 0;
+
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, "Reproject-" + (mCount++));
+            }
+        });
+
+        final ProjectedCsvExportWriter writer = new ProjectedCsvExportWriter(mProj4Definition);
+        SolutionLogReader reader = null;
+        long points = 0;
+        long failed = 0;
+        boolean complete = false;
+        try {
+            writer.open(mOutput);
+            reader = new SolutionLogReader(mInput);
+            boolean eof = false;
+            while (!eof || !pending.isEmpty()) {
+                // keep every thread busy, then write the oldest chunk
+                while (!eof && pending.size() < inFlight) {
+                    final SolutionChunk chunk = pool.acquire();
+                    final int n = reader.read(chunk);
+                    if (n <= 0) {
+                        pool.recycle(chunk);
+                        if (n < 0) eof = true;
+                        continue;
+                    }
+                    final Projected p = free.poll();
+                    p.chunk = chunk;
+                    pending.add(executor.submit(new Callable<Projected>() {
+                        @Override
+                        public Projected call() {
+                            p.converted = converter.get().convert(mProj4Definition,
+                                    p.chunk.mLat, p.chunk.mLon, 0, p.chunk.size(), p.x, p.y);
+                            return p;
+                        }
+                    }));
+                }
+                if (pending.isEmpty()) break;
+
+                final Projected p = pending.poll().get();
+                writer.writeProjected(p.chunk, p.x, p.y);
+                points += p.chunk.size();
+                failed += p.chunk.size() - p.converted;
+                pool.recycle(p.chunk);
+                p.chunk = null;
+                free.add(p);
+
+                if (mProgressListener != null) {
+                    final long elapsed = SystemClock.elapsedRealtime() - startTime;
+                    mProgressListener.onReprojectionProgress(points,
+                            elapsed == 0 ? 0 : points * 1000.0 / elapsed);
+                }
+            }
+            complete = true;
+        }catch (InterruptedException e) {
+            throw new IOException("Reprojection interrupted");
+        }catch (ExecutionException e) {
+            throw new IOException("Reprojection failed: " + e.getCause());
+        }finally {
+            executor.shutdownNow();
+            boolean terminated = false;
+            try {
+                terminated = executor.awaitTermination(10, TimeUnit.SECONDS);
+            }catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (terminated) {
+                synchronized (converters) {
+                    for (Proj4Converter c : converters) c.release();
+                }
+            }else {
+                // a worker may still be in PJ.transform(), releasing its
+                // projections would free them under it: leak them instead
+                Log.w(TAG, "Reprojection threads still running, converters not released");
+            }
+            if (reader != null) reader.close();
+            writer.close(complete);
+        }
+
+        final Result result = new Result(points, failed, reader.getLinesSkipped(),
+                SystemClock.elapsedRealtime() - startTime);
+        Log.i(TAG, mInput.getName() + " -> " + mOutput.getName() + ": " + result);
+        return result;
+    }
+
+}
@@ -0,0 +1,22 @@
+package gpsplus.rtkgps.export;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Output of the {@link SolutionExporter}, driven by a single worker thread
+ */
+public interface SolutionSink {
+
+    public void open(File output) throws IOException;
+
+    public void write(SolutionChunk chunk) throws IOException;
+
+    /**
+     * @param complete false if the export failed, the output is only released
+     */
+    public void close(boolean complete) throws IOException;
+
+    public long getRows();
+
+}
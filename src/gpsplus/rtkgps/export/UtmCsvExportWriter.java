@@ -0,0 +1,69 @@
+package gpsplus.rtkgps.export;
+
+import gpsplus.rtkgps.utils.FastTimeFormat;
+import gpsplus.rtkgps.utm.UtmConverter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV of UTM coordinates, each row in the zone of its own position.
+ * Each chunk is converted in one batch before its rows are written; rows
+ * out of the UTM latitudes have empty coordinates.
+ */
+public class UtmCsvExportWriter extends ExportFormatWriter {
+
+    private final UtmConverter mConverter;
+
+    /** UTM coordinates of the chunk being written */
+    private double mEasting[];
+    private double mNorthing[];
+    private int mZone[];
+
+    public UtmCsvExportWriter() {
+        super();
+        mConverter = new UtmConverter();
+        mEasting = new double[0];
+        mNorthing = new double[0];
+        mZone = new int[0];
+    }
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        out.write("time_utc,zone,easting,northing,height,q,ns\n");
+    }
+
+    @Override
+    public void writeChunk(Writer out, SolutionChunk chunk) throws IOException {
+        if (mEasting.length < chunk.capacity()) {
+            mEasting = new double[chunk.capacity()];
+            mNorthing = new double[chunk.capacity()];
+            mZone = new int[chunk.capacity()];
+        }
+        mConverter.convert(chunk.mLat, chunk.mLon, 0, chunk.size(), mEasting, mNorthing, mZone);
+        super.writeChunk(out, chunk);
+    }
+
+    @Override
+    public void writeRow(Writer out, SolutionChunk c, int i) throws IOException {
+        FastTimeFormat.appendIso8601(mLine, c.mTime[i], 3);
+        mLine.append(',');
+        if (mZone[i] != 0) {
+            mLine.append(mZone[i]).append(UtmConverter.getBand(c.mLat[i]))
+                .append(',').appendFixed(mEasting[i], 4)
+                .append(',').appendFixed(mNorthing[i], 4);
+        }else {
+            mLine.append(',').append(',');
+        }
+        mLine.append(',').appendFixed(c.mHeight[i], 4)
+            .append(',').append(c.mQuality[i])
+            .append(',').append(c.mNs[i])
+            .append('\n');
+        flushLine(out);
+    }
+
+    @Override
+    public void writeFooter(Writer out) throws IOException {
+    }
+
+}
@@ -0,0 +1,47 @@
+package gpsplus.rtkgps.geoid;
+
+import gpsplus.rtklib.constants.GeoidModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+/**
+ * EGM2008 2.5' and 1' grids, "small endian" Und_min*x*_egm2008_isw=82_WGS84_TideFree_SE:
+ * rows from 90N and 0E of little-endian float32 in meters, each row
+ * framed by the 4-byte Fortran record markers.
+ */
+class Egm2008Grid extends GeoidGrid {
+
+    private final MappedGridFile mFile;
+    private final long mRowFloats;
+
+    Egm2008Grid(GeoidModel model, File file) throws IOException {
+        super(model, 0.0, 90.0, step(model), -step(model),
+                (int)Math.round(360.0 / step(model)), (int)Math.round(180.0 / step(model)) + 1, true);
+        mRowFloats = mNlon + 2;
+        mFile = new MappedGridFile(file, mRowFloats * mNlat * 4, (int)mRowFloats * 4,
+                ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static double step(GeoidModel model) {
+        switch (model) {
+        case EGM2008_M25:
+            return 2.5 / 60.0;
+        case EGM2008_M10:
+            return 1.0 / 60.0;
+        default:
+            throw new IllegalArgumentException(model.toString());
+        }
+    }
+
+    @Override
+    protected double getNode(int i, int j) {
+        return mFile.getFloat((mRowFloats * j + i + 1) * 4);
+    }
+
+    @Override
+    public void close() {
+        mFile.close();
+    }
+}
@@ -0,0 +1,34 @@
+package gpsplus.rtkgps.geoid;
+
+import gpsplus.rtklib.constants.GeoidModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+
+/**
+ * EGM96 15' grid, WW15MGH.DAC: 721 rows of 1440 big-endian int16 in
+ * centimeters, from 90N and 0E.
+ */
+class Egm96Grid extends GeoidGrid {
+
+    private static final int NLON = 1440;
+    private static final int NLAT = 721;
+
+    private final MappedGridFile mFile;
+
+    Egm96Grid(File file) throws IOException {
+        super(GeoidModel.EGM96_M150, 0.0, 90.0, 0.25, -0.25, NLON, NLAT, true);
+        mFile = new MappedGridFile(file, (long)NLON * NLAT * 2, NLON * 2, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    protected double getNode(int i, int j) {
+        return mFile.getShort(((long)NLON * j + i) * 2) * 0.01;
+    }
+
+    @Override
+    public void close() {
+        mFile.close();
+    }
+}
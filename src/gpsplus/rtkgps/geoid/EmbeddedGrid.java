@@ -0,0 +1,26 @@
+package gpsplus.rtkgps.geoid;
+
+import gpsplus.rtklib.constants.GeoidModel;
+
+/**
+ * Embedded 1x1 deg geoid of RTKLIB, sampled once from the native library:
+ * 181 rows from 90S of 361 nodes from 0E to 360E.
+ */
+class EmbeddedGrid extends GeoidGrid {
+
+    private final float mNodes[];
+
+    EmbeddedGrid(float nodes[]) {
+        super(GeoidModel.EMBEDDED, 0.0, -90.0, 1.0, 1.0, 361, 181, false);
+        mNodes = nodes;
+    }
+
+    @Override
+    protected double getNode(int i, int j) {
+        return mNodes[mNlon * j + i];
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,183 @@
+package gpsplus.rtkgps.geoid;
+
+import gpsplus.rtklib.RtkCommon;
+import gpsplus.rtklib.constants.GeoidModel;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Geoid undulation grid read from the model files used by RTKLIB, with the
+ * bilinear interpolation of RTKLIB geoid.c done in Java.
+ * <p>
+ * Nodes are numbered from (lon0, lat0), i eastward and j along
+ * {@code dlat}, i.e. southward for grids stored from the north. Grids
+ * covering every longitude wrap around. West longitudes are taken as
+ * east ones, as RTKLIB does. Implementations only read
+ * immutable data once opened, so {@link #getHeight(double, double)} may
+ * be called from any thread.
+ * <p>
+ * The four nodes of the recently used cells are kept in a small cache:
+ * a rover stays in the same few cells for hours, so most lookups are a
+ * bilinear interpolation without any file access.
+ */
+public abstract class GeoidGrid {
+
+    /** RTKLIB rejects undulations larger than this, as file errors */
+    private static final double MAX_UNDULATION = 200.0;
+
+    /** Cells cached, a block of 8x8 adjacent cells never collides */
+    private static final int CACHE_BITS = 3;
+    private static final int CACHE_MASK = (1 << CACHE_BITS) - 1;
+
+    /** Corner nodes of cell (i, j), immutable so it can be shared without lock */
+    private static final class Cell {
+        final int i;
+        final int j;
+        final double y0, y1, y2, y3;
+
+        Cell(int i, int j, double y0, double y1, double y2, double y3) {
+            this.i = i;
+            this.j = j;
+            this.y0 = y0;
+            this.y1 = y1;
+            this.y2 = y2;
+            this.y3 = y3;
+        }
+    }
+
+    public static class CacheStats {
+        public final long hits;
+        public final long misses;
+
+        CacheStats(long hits, long misses) {
+            this.hits = hits;
+            this.misses = misses;
+        }
+
+        public double getHitRate() {
+            final long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double)hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return hits + " hits, " + misses + " misses ("
+                    + Math.round(getHitRate() * 100.0) + "%)";
+        }
+    }
+
+    protected final GeoidModel mModel;
+    protected final double mLon0;
+    protected final double mLat0;
+    protected final double mDlon;
+    protected final double mDlat;
+    protected final int mNlon;
+    protected final int mNlat;
+    protected final boolean mGlobal;
+
+    private final Cell mCells[];
+    private final AtomicLong mHits;
+    private final AtomicLong mMisses;
+
+    protected GeoidGrid(GeoidModel model, double lon0, double lat0, double dlon, double dlat,
+            int nlon, int nlat, boolean global) {
+        mModel = model;
+        mLon0 = lon0;
+        mLat0 = lat0;
+        mDlon = dlon;
+        mDlat = dlat;
+        mNlon = nlon;
+        mNlat = nlat;
+        mGlobal = global;
+        mCells = new Cell[1 << (2 * CACHE_BITS)];
+        mHits = new AtomicLong();
+        mMisses = new AtomicLong();
+    }
+
+    /**
+     * Opens the grid file of {@code model}, as downloaded by ToolsActivity,
+     * or samples the embedded model of the native library
+     * @throws IOException if the file is missing or is not a {@code model} grid
+     */
+    public static GeoidGrid open(GeoidModel model) throws IOException {
+        final File file = new File(GeoidModel.getGeoidFilename(model.getRtklibId()));
+        switch (model) {
+        case EMBEDDED:
+            return new EmbeddedGrid(RtkCommon.sampleEmbeddedGeoid());
+        case EGM96_M150:
+            return new Egm96Grid(file);
+        case EGM2008_M25:
+        case EGM2008_M10:
+            return new Egm2008Grid(model, file);
+        case RAF09_M15x20:
+            return Raf09Grid.load(file);
+        default:
+            throw new IOException(model + " grid not supported");
+        }
+    }
+
+    public GeoidModel getModel() {
+        return mModel;
+    }
+
+    /**
+     * @param lat geodetic latitude (deg)
+     * @param lon geodetic longitude (deg)
+     * @return geoid height (m), 0.0 out of the grid, as RTKLIB geoidh()
+     */
+    public double getHeight(double lat, double lon) {
+        if (lon < mLon0) lon += 360.0;
+        double a = (lon - mLon0) / mDlon;
+        double b = (lat - mLat0) / mDlat;
+        if (!(a >= 0.0 && (mGlobal ? a < mNlon : a <= mNlon - 1) && b >= 0.0 && b <= mNlat - 1)) {
+            return 0.0;
+        }
+        final int i1 = (int)a;
+        final int j1 = (int)b;
+        a -= i1;
+        b -= j1;
+        final Cell c = getCell(i1, j1);
+        final double h = interpolate(c.y0, c.y1, c.y2, c.y3, a, b);
+        return Math.abs(h) > MAX_UNDULATION ? 0.0 : h;
+    }
+
+    private Cell getCell(int i1, int j1) {
+        final int slot = (i1 & CACHE_MASK) | ((j1 & CACHE_MASK) << CACHE_BITS);
+        Cell c = mCells[slot];
+        if (c != null && c.i == i1 && c.j == j1) {
+            mHits.incrementAndGet();
+            return c;
+        }
+        mMisses.incrementAndGet();
+        final int i2 = i1 < mNlon - 1 ? i1 + 1 : (mGlobal ? 0 : i1);
+        final int j2 = j1 < mNlat - 1 ? j1 + 1 : j1;
+        c = new Cell(i1, j1, getNode(i1, j1), getNode(i2, j1), getNode(i1, j2), getNode(i2, j2));
+        mCells[slot] = c;
+        return c;
+    }
+
+    public CacheStats getCacheStats() {
+        return new CacheStats(mHits.get(), mMisses.get());
+    }
+
+    static double interpolate(double y0, double y1, double y2, double y3, double a, double b) {
+        return y0 * (1.0 - a) * (1.0 - b) + y1 * a * (1.0 - b) + y2 * (1.0 - a) * b + y3 * a * b;
+    }
+
+    /**
+     * @return undulation (m) of node (i, j)
+     */
+    protected abstract double getNode(int i, int j);
+
+    /**
+     * Releases the file, the grid must not be used afterwards
+     */
+    public abstract void close();
+
+    @Override
+    public String toString() {
+        return mModel + " " + mNlon + "x" + mNlat;
+    }
+}
@@ -0,0 +1,97 @@
+package gpsplus.rtkgps.geoid;
+
+import android.util.Log;
+
+import gpsplus.rtkgps.BuildConfig;
+import gpsplus.rtklib.RtkCommon;
+import gpsplus.rtklib.constants.GeoidModel;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Geoid heights of every model, for the whole process.
+ * <p>
+ * Each model is a {@link GeoidGrid} of its own, loaded on first use and
+ * then read without lock, so the display and an export can use different
+ * models at the same time. Nothing here touches the process-global RTKLIB
+ * geoid that RtkNaviService opens for the solution output. Models without
+ * a Java grid (GSI2000) go through a private copy of the RTKLIB geoid in
+ * the native library, serialized.
+ */
+public class GeoidService {
+
+    static final String TAG = GeoidService.class.getSimpleName();
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+
+    private static final GeoidService sInstance = new GeoidService();
+
+    private final AtomicReferenceArray<GeoidGrid> mGrids;
+    /**
+     * 1 for the models that could not be loaded, not retried until
+     * {@link #reload(GeoidModel)}. Read without lock as the grids.
+     */
+    private final AtomicIntegerArray mUnavailable;
+
+    public static GeoidService getInstance() {
+        return sInstance;
+    }
+
+    private GeoidService() {
+        final int n = GeoidModel.values().length;
+        mGrids = new AtomicReferenceArray<GeoidGrid>(n);
+        mUnavailable = new AtomicIntegerArray(n);
+    }
+
+    /**
+     * @param lat geodetic latitude (deg)
+     * @param lon geodetic longitude (deg)
+     * @return geoid height (m), 0.0 out of the model or if the model is not available
+     */
+    public double getHeight(GeoidModel model, double lat, double lon) {
+        final GeoidGrid grid = getGrid(model);
+        if (grid != null) return grid.getHeight(lat, lon);
+        if (model == GeoidModel.GSI2000_M15) {
+            return RtkCommon.getExternalModelHeight(Math.toRadians(lat), Math.toRadians(lon),
+                    model.getRtklibId());
+        }
+        return 0.0;
+    }
+
+    /**
+     * @return the grid of {@code model}, loaded if needed; null if it has no
+     *  Java grid or its file cannot be read
+     */
+    public GeoidGrid getGrid(GeoidModel model) {
+        final GeoidGrid grid = mGrids.get(model.ordinal());
+        if (grid != null) return grid;
+        // GSI2000 and missing files are asked on every epoch, without lock
+        if (mUnavailable.get(model.ordinal()) != 0) return null;
+        return load(model);
+    }
+
+    private synchronized GeoidGrid load(GeoidModel model) {
+        GeoidGrid grid = mGrids.get(model.ordinal());
+        if (grid != null || mUnavailable.get(model.ordinal()) != 0) return grid;
+        try {
+            grid = GeoidGrid.open(model);
+            mGrids.set(model.ordinal(), grid);
+            if (DBG) Log.v(TAG, "Loaded " + grid);
+        }catch (IOException e) {
+            Log.e(TAG, "Cannot load " + model + ": " + e.getMessage());
+            mUnavailable.set(model.ordinal(), 1);
+        }
+        return grid;
+    }
+
+    /**
+     * Drops {@code model}, the next lookup opens its file again.
+     * Call it once the file has been downloaded or replaced.
+     */
+    public synchronized void reload(GeoidModel model) {
+        // not closed: readers may still hold the old grid
+        mGrids.set(model.ordinal(), null);
+        mUnavailable.set(model.ordinal(), 0);
+    }
+}
@@ -0,0 +1,86 @@
+package gpsplus.rtkgps.geoid;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read-only memory mapping of a grid file, by segments of whole rows.
+ * <p>
+ * The EGM2008 1' grid is close to 1 GB, more than a 32-bit process can
+ * map at once, so segments of about {@link #SEGMENT_BYTES} are mapped on
+ * first access and kept. Reads use absolute gets on the segment buffers
+ * and take no lock once the segment is mapped.
+ */
+class MappedGridFile {
+
+    static final int SEGMENT_BYTES = 32 * 1024 * 1024;
+
+    private final File mFile;
+    private final RandomAccessFile mRaf;
+    private final FileChannel mChannel;
+    private final ByteOrder mOrder;
+    private final long mSize;
+    private final long mSegmentBytes;
+    private final AtomicReferenceArray<ByteBuffer> mSegments;
+
+    /**
+     * @param rowBytes segments are a multiple of it, so no value spans two segments
+     */
+    MappedGridFile(File file, long expectedSize, int rowBytes, ByteOrder order) throws IOException {
+        mFile = file;
+        mRaf = new RandomAccessFile(file, "r");
+        mChannel = mRaf.getChannel();
+        mOrder = order;
+        mSize = mChannel.size();
+        if (mSize != expectedSize) {
+            close();
+            throw new IOException(file + ": " + mSize + " bytes, " + expectedSize + " expected");
+        }
+        mSegmentBytes = (long)Math.max(1, SEGMENT_BYTES / rowBytes) * rowBytes;
+        mSegments = new AtomicReferenceArray<ByteBuffer>((int)((mSize + mSegmentBytes - 1) / mSegmentBytes));
+    }
+
+    short getShort(long offset) {
+        return segment(offset).getShort((int)(offset % mSegmentBytes));
+    }
+
+    float getFloat(long offset) {
+        return segment(offset).getFloat((int)(offset % mSegmentBytes));
+    }
+
+    private ByteBuffer segment(long offset) {
+        final int s = (int)(offset / mSegmentBytes);
+        final ByteBuffer b = mSegments.get(s);
+        return b != null ? b : map(s);
+    }
+
+    private synchronized ByteBuffer map(int s) {
+        ByteBuffer b = mSegments.get(s);
+        if (b != null) return b;
+        final long start = s * mSegmentBytes;
+        try {
+            b = mChannel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(mSegmentBytes, mSize - start));
+        }catch (IOException e) {
+            throw new IllegalStateException("Cannot map " + mFile, e);
+        }
+        b.order(mOrder);
+        mSegments.set(s, b);
+        return b;
+    }
+
+    /**
+     * Closes the file; mapped segments stay valid until garbage collected
+     */
+    void close() {
+        try {
+            mRaf.close();
+        }catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
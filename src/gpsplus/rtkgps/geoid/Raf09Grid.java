@@ -0,0 +1,222 @@
+package gpsplus.rtkgps.geoid;
+
+import gpsplus.rtklib.constants.GeoidModel;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * RAF09 grid of metropolitan France, RAF09.mnt text file.
+ * <p>
+ * The first line holds the extent and steps in degrees: lonmin lonmax
+ * latmin latmax dlon dlat, possibly followed by other fields. The nodes
+ * follow either as one "lon lat value [precision ...]" record per line,
+ * placed by their coordinates, or as bare values (each optionally followed
+ * by its precision) by rows from the north, longitude increasing. Words
+ * and numbers glued to words are ignored. The file is small enough to be
+ * parsed once into memory.
+ */
+class Raf09Grid extends GeoidGrid {
+
+    private final float mNodes[];
+
+    private Raf09Grid(double lon0, double lat0, double dlon, double dlat, int nlon, int nlat,
+            float nodes[]) {
+        super(GeoidModel.RAF09_M15x20, lon0, lat0, dlon, dlat, nlon, nlat, false);
+        mNodes = nodes;
+    }
+
+    static Raf09Grid load(File file) throws IOException {
+        final byte data[] = readFile(file);
+        int headerEnd = 0;
+        while (headerEnd < data.length && data[headerEnd] != '\n') ++headerEnd;
+
+        final Numbers header = new Numbers(8);
+        final int headerLines = readNumbers(data, 0, headerEnd, header);
+        if (headerLines == 0 || header.count < 6) throw new IOException(file + ": no RAF09 header");
+        final double lonMin = header.values[0];
+        final double lonMax = header.values[1];
+        final double latMin = header.values[2];
+        final double latMax = header.values[3];
+        final double dlon = header.values[4];
+        final double dlat = header.values[5];
+        if (!(dlon > 0 && dlat > 0 && lonMax > lonMin && latMax > latMin)) {
+            throw new IOException(file + ": bad RAF09 header");
+        }
+        final int nlon = (int)Math.round((lonMax - lonMin) / dlon) + 1;
+        final int nlat = (int)Math.round((latMax - latMin) / dlat) + 1;
+        final int n = nlon * nlat;
+
+        final Numbers body = new Numbers(1 + data.length / 8);
+        final int lines = readNumbers(data, headerEnd, data.length, body);
+        final float nodes[] = new float[n];
+        if (lines == n && body.minPerLine >= 3 && body.minPerLine == body.maxPerLine) {
+            // lon lat value records
+            final int perNode = body.minPerLine;
+            final boolean seen[] = new boolean[n];
+            for (int k = 0; k < n; ++k) {
+                final int p = k * perNode;
+                final int i = (int)Math.round((body.values[p] - lonMin) / dlon);
+                final int j = (int)Math.round((latMax - body.values[p + 1]) / dlat);
+                if (i < 0 || i >= nlon || j < 0 || j >= nlat) {
+                    throw new IOException(file + ": node out of the grid " + body.values[p] + " " + body.values[p + 1]);
+                }
+                if (seen[nlon * j + i]) {
+                    throw new IOException(file + ": duplicate node " + body.values[p] + " " + body.values[p + 1]);
+                }
+                seen[nlon * j + i] = true;
+                nodes[nlon * j + i] = (float)body.values[p + 2];
+            }
+        }else {
+            // bare values by rows
+            final int perNode = body.count / n;
+            if (perNode < 1 || perNode * n != body.count) {
+                throw new IOException(file + ": " + body.count + " values for " + nlat + "x" + nlon + " nodes");
+            }
+            for (int k = 0; k < n; ++k) nodes[k] = (float)body.values[k * perNode];
+        }
+        return new Raf09Grid(lonMin, latMax, dlon, -dlat, nlon, nlat, nodes);
+    }
+
+    /** Numbers read from a part of the file */
+    private static class Numbers {
+        double values[];
+        int count;
+        /** numbers on the shortest and longest non empty lines */
+        int minPerLine = Integer.MAX_VALUE;
+        int maxPerLine = 0;
+
+        Numbers(int capacity) {
+            values = new double[capacity];
+        }
+
+        void add(double value) {
+            if (count >= values.length) {
+                final double grown[] = new double[values.length * 2];
+                System.arraycopy(values, 0, grown, 0, values.length);
+                values = grown;
+            }
+            values[count++] = value;
+        }
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        final byte data[] = new byte[(int)file.length()];
+        final InputStream in = new FileInputStream(file);
+        try {
+            int pos = 0;
+            while (pos < data.length) {
+                final int n = in.read(data, pos, data.length - pos);
+                if (n < 0) break;
+                pos += n;
+            }
+        }finally {
+            in.close();
+        }
+        return data;
+    }
+
+    private static boolean isSeparator(byte c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == ',' || c == ';';
+    }
+
+    /**
+     * Reads the numbers of data[from, to), token by token; tokens that are
+     * not a whole number are skipped
+     * @return number of lines holding numbers
+     */
+    private static int readNumbers(byte data[], int from, int to, Numbers dst) {
+        int lines = 0;
+        int onLine = 0;
+        int p = from;
+        while (p < to) {
+            final byte c = data[p];
+            if (c == '\n') {
+                if (onLine > 0) {
+                    lines += 1;
+                    dst.minPerLine = Math.min(dst.minPerLine, onLine);
+                    dst.maxPerLine = Math.max(dst.maxPerLine, onLine);
+                    onLine = 0;
+                }
+                ++p;
+                continue;
+            }
+            if (isSeparator(c)) {
+                ++p;
+                continue;
+            }
+            int end = p;
+            while (end < to && !isSeparator(data[end])) ++end;
+            final double value = parseNumber(data, p, end);
+            if (!Double.isNaN(value)) {
+                dst.add(value);
+                onLine += 1;
+            }
+            p = end;
+        }
+        if (onLine > 0) {
+            lines += 1;
+            dst.minPerLine = Math.min(dst.minPerLine, onLine);
+            dst.maxPerLine = Math.max(dst.maxPerLine, onLine);
+        }
+        return lines;
+    }
+
+    /**
+     * @return value of the token data[p, end), NaN if it is not a number
+     */
+    private static double parseNumber(byte data[], int p, int end) {
+        // sign, integer part, fraction, exponent
+        byte c = data[p];
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            ++p;
+        }
+        double value = 0;
+        int digits = 0;
+        while (p < end && (c = data[p]) >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            ++p;
+            ++digits;
+        }
+        if (p < end && data[p] == '.') {
+            ++p;
+            double scale = 0.1;
+            while (p < end && (c = data[p]) >= '0' && c <= '9') {
+                value += (c - '0') * scale;
+                scale *= 0.1;
+                ++p;
+                ++digits;
+            }
+        }
+        if (digits == 0) return Double.NaN;
+        if (p < end && (data[p] == 'e' || data[p] == 'E')) {
+            ++p;
+            boolean negativeExp = false;
+            if (p < end && (data[p] == '-' || data[p] == '+')) negativeExp = data[p++] == '-';
+            int exp = 0;
+            int expDigits = 0;
+            while (p < end && (c = data[p]) >= '0' && c <= '9') {
+                exp = exp * 10 + (c - '0');
+                ++p;
+                ++expDigits;
+            }
+            if (expDigits == 0) return Double.NaN;
+            value *= Math.pow(10, negativeExp ? -exp : exp);
+        }
+        if (p != end) return Double.NaN;
+        return negative ? -value : value;
+    }
+
+    @Override
+    protected double getNode(int i, int j) {
+        return mNodes[mNlon * j + i];
+    }
+
+    @Override
+    public void close() {
+    }
+}
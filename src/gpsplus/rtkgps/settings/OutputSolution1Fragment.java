@@ -32,6 +32,7 @@ public class OutputSolution1Fragment extends PreferenceFragment {
     protected static final String KEY_TYPE = "type";
     protected static final String KEY_FORMAT = "format";
     protected static final String KEY_STREAM_SETTINGS_BUTTON = "stream_settings_button";
+    public static final String KEY_ARCHIVE = "archive";
 
     private final PreferenceChangeListener mPreferenceChangeListener;
 
@@ -27,6 +27,9 @@ public class StreamFileClientFragment extends PreferenceFragment {
     public static final String KEY_SYNCDROPBOX = "syncdropbox";
     public static final String KEY_ZIPBEFORESYNCING = "zipbeforesync";
     public static final String KEY_ENABLE = "enable";
+    public static final String KEY_ROTATE_SIZE = "rotate_size";
+    public static final String KEY_ROTATE_INTERVAL = "rotate_interval";
+    public static final String KEY_UPLOAD_URL = "upload_url";
 
     private final PreferenceChangeListener mPreferenceChangeListener;
 
@@ -158,6 +161,36 @@ public class StreamFileClientFragment extends PreferenceFragment {
         return v;
     }
 
+    /**
+     * @return maximum segment size in bytes, 0 if disabled
+     */
+    public static long readRotateSize(SharedPreferences prefs) {
+        return readLong(prefs, KEY_ROTATE_SIZE) * 1024 * 1024;
+    }
+
+    /**
+     * @return maximum segment duration in milliseconds, 0 if disabled
+     */
+    public static long readRotateInterval(SharedPreferences prefs) {
+        return readLong(prefs, KEY_ROTATE_INTERVAL) * 60 * 1000;
+    }
+
+    /**
+     * @return base URL of the HTTP upload target, null if none
+     */
+    public static String readUploadUrl(SharedPreferences prefs) {
+        final String url = prefs.getString(KEY_UPLOAD_URL, "").trim();
+        return url.length() == 0 ? null : url;
+    }
+
+    private static long readLong(SharedPreferences prefs, String key) {
+        try {
+            return Math.max(0, Long.parseLong(prefs.getString(key, "0").trim()));
+        }catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     public Context getApplicationContext() {
         // return application context
         return this.getActivity().getApplicationContext();
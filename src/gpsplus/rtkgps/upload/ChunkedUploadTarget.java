@@ -0,0 +1,28 @@
+package gpsplus.rtkgps.upload;
+
+import java.io.IOException;
+
+/**
+ * {@link UploadTarget} accepting a file in chunks, so that a retry only
+ * sends the chunks not acknowledged yet.
+ */
+public interface ChunkedUploadTarget extends UploadTarget {
+
+    /**
+     * @return chunk size in bytes
+     */
+    public int getChunkSize();
+
+    /**
+     * Uploads bytes [offset, offset+length) of the file of {@code task},
+     * read in {@code data}.
+     * Chunks of the same task may be uploaded concurrently and in any order.
+     */
+    public void uploadChunk(UploadTask task, byte[] data, long offset, int length) throws IOException;
+
+    /**
+     * Commits the uploaded chunks, called once all of them were acknowledged
+     */
+    public void commit(UploadTask task) throws IOException;
+
+}
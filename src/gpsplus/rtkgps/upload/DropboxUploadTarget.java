@@ -0,0 +1,55 @@
+package gpsplus.rtkgps.upload;
+
+import android.content.Context;
+
+import com.dropbox.sync.android.DbxAccountManager;
+import com.dropbox.sync.android.DbxFile;
+import com.dropbox.sync.android.DbxFileSystem;
+import com.dropbox.sync.android.DbxPath;
+import com.dropbox.sync.android.DbxPath.InvalidPathException;
+
+import gpsplus.rtkgps.MainActivity;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Dropbox app folder. The Sync API has no ranged writes,
+ * files are sent whole and flushed with syncNowAndWait() so that a
+ * failure is reported to the queue instead of being lost.
+ */
+public class DropboxUploadTarget implements UploadTarget {
+
+    public static final String NAME = "dropbox";
+
+    private final DbxAccountManager mDbxAcctMgr;
+
+    public DropboxUploadTarget(Context context) {
+        mDbxAcctMgr = DbxAccountManager.getInstance(context.getApplicationContext(),
+                MainActivity.APP_KEY, MainActivity.APP_SECRET);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return mDbxAcctMgr.hasLinkedAccount();
+    }
+
+    @Override
+    public void upload(UploadTask task, File file) throws IOException {
+        final DbxFileSystem dbxFs = DbxFileSystem.forAccount(mDbxAcctMgr.getLinkedAccount());
+        final DbxPath path;
+        try {
+            path = new DbxPath(task.getRemoteName());
+        }catch (InvalidPathException e) {
+            throw new IOException("Invalid dropbox path " + task.getRemoteName());
+        }
+        final DbxFile remoteFile = dbxFs.exists(path) ? dbxFs.open(path) : dbxFs.create(path);
+        try {
+            remoteFile.writeFromExistingFile(file, false);
+        }finally {
+            remoteFile.close();
+        }
+        dbxFs.syncNowAndWait();
+    }
+
+}
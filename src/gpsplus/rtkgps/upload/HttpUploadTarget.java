@@ -0,0 +1,147 @@
+package gpsplus.rtkgps.upload;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.NetworkInfo;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.entity.FileEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URLEncoder;
+
+/**
+ * Plain HTTP(S) endpoint accepting ranged PUTs.
+ * <p>
+ * Every chunk is sent as {@code PUT <baseUrl>/<remote name>} with a
+ * {@code Content-Range: bytes first-last/total} header and the
+ * {@code X-Upload-Id} of the task; chunks may arrive in any order.
+ * The upload is committed by an empty PUT with
+ * <code>Content-Range: bytes &#42;/total</code>. Any 2xx status is a success.
+ * Whole files are sent as a single range before the commit.
+ * The base URL can point to a local stand-in server for testing,
+ * as HttpUploadTargetTest does.
+ * <p>
+ * Targets are named after their base URL ({@link #getName(String)}) so that
+ * the {@link UploadManager} can recreate them for the stored tasks.
+ */
+public class HttpUploadTarget implements ChunkedUploadTarget {
+
+    public static final String NAME_PREFIX = "http:";
+
+    public static final int DEFAULT_CHUNK_SIZE = 512 * 1024;
+
+    private static final int CONNECTION_TIMEOUT = 15000;
+    private static final int SOCKET_TIMEOUT = 60000;
+
+    private final Context mContext;
+    private final String mBaseUrl;
+    private final int mChunkSize;
+    private final HttpClient mHttpClient;
+
+    public HttpUploadTarget(Context context, String baseUrl) {
+        this(context, baseUrl, DEFAULT_CHUNK_SIZE);
+    }
+
+    public HttpUploadTarget(Context context, String baseUrl, int chunkSize) {
+        mContext = context.getApplicationContext();
+        mBaseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        mChunkSize = chunkSize;
+
+        final HttpParams params = new BasicHttpParams();
+        HttpConnectionParams.setConnectionTimeout(params, CONNECTION_TIMEOUT);
+        HttpConnectionParams.setSoTimeout(params, SOCKET_TIMEOUT);
+        final SchemeRegistry registry = new SchemeRegistry();
+        registry.register(new Scheme("http", PlainSocketFactory.getSocketFactory(), 80));
+        registry.register(new Scheme("https", SSLSocketFactory.getSocketFactory(), 443));
+        mHttpClient = new DefaultHttpClient(new ThreadSafeClientConnManager(params, registry), params);
+    }
+
+    /**
+     * @return name of the target of {@code baseUrl}
+     */
+    public static String getName(String baseUrl) {
+        return NAME_PREFIX + baseUrl;
+    }
+
+    /**
+     * @return base URL of the target named {@code name}, null if not an HTTP target
+     */
+    public static String getBaseUrl(String name) {
+        return name.startsWith(NAME_PREFIX) ? name.substring(NAME_PREFIX.length()) : null;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        final ConnectivityManager cm = (ConnectivityManager) mContext.getSystemService(Context.CONNECTIVITY_SERVICE);
+        final NetworkInfo ni = cm.getActiveNetworkInfo();
+        return ni != null && ni.isConnected();
+    }
+
+    @Override
+    public int getChunkSize() {
+        return mChunkSize;
+    }
+
+    @Override
+    public void uploadChunk(UploadTask task, byte[] data, long offset, int length) throws IOException {
+        final HttpPut put = createPut(task);
+        put.setHeader("Content-Range", "bytes " + offset + "-" + (offset + length - 1) + "/" + task.getLength());
+        put.setEntity(new InputStreamEntity(new ByteArrayInputStream(data, 0, length), length));
+        execute(put);
+    }
+
+    @Override
+    public void upload(UploadTask task, File file) throws IOException {
+        final long length = file.length();
+        if (length > 0) {
+            final HttpPut put = createPut(task);
+            put.setHeader("Content-Range", "bytes 0-" + (length - 1) + "/" + length);
+            put.setEntity(new FileEntity(file, "application/octet-stream"));
+            execute(put);
+        }
+        commit(task);
+    }
+
+    @Override
+    public void commit(UploadTask task) throws IOException {
+        final HttpPut put = createPut(task);
+        put.setHeader("Content-Range", "bytes */" + task.getLength());
+        execute(put);
+    }
+
+    private HttpPut createPut(UploadTask task) {
+        final HttpPut put = new HttpPut(mBaseUrl + "/" + URLEncoder.encode(task.getRemoteName()));
+        put.setHeader("X-Upload-Id", task.getId());
+        return put;
+    }
+
+    private void execute(HttpPut put) throws IOException {
+        try {
+            final HttpResponse response = mHttpClient.execute(put);
+            final int status = response.getStatusLine().getStatusCode();
+            if (response.getEntity() != null) response.getEntity().consumeContent();
+            if (status < 200 || status >= 300) {
+                throw new IOException(put.getURI() + ": HTTP " + status);
+            }
+        }catch (IOException e) {
+            put.abort();
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,336 @@
+package gpsplus.rtkgps.upload;
+
+import android.content.Context;
+import android.util.Log;
+
+import gpsplus.rtkgps.BuildConfig;
+import gpsplus.rtkgps.utils.ZipHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistent background upload queue for session files.
+ * <p>
+ * Tasks are stored in {@code upload_queue.json} as soon as they are
+ * enqueued and removed only once the target acknowledged them, so pending
+ * uploads survive a service or process restart ({@link #resume()}).
+ * Files sent to a {@link ChunkedUploadTarget} are split into chunks uploaded
+ * in parallel on a small pool; acknowledged chunks are recorded so a retry
+ * only sends the missing ones. Failures are retried with exponential backoff,
+ * and so are the checks of a target that is unavailable. A task is scheduled
+ * or running on one thread at most: it stays in the scheduled set until its
+ * run returned, then it is scheduled again if it must be retried.
+ */
+public class UploadManager {
+
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+    static final String TAG = UploadManager.class.getSimpleName();
+
+    private static final String QUEUE_FILE = "upload_queue.json";
+
+    private static final int TASK_THREADS = 2;
+    private static final int CHUNK_THREADS = 3;
+
+    private static final long RETRY_BASE_MS = 5000;
+    private static final long RETRY_MAX_MS = 30 * 60 * 1000;
+    static final int MAX_ATTEMPTS = 20;
+
+    private static UploadManager sInstance;
+
+    private final Context mContext;
+    private final UploadQueueStore mStore;
+    private final List<UploadTask> mTasks;
+    /** ids of the tasks scheduled or running */
+    private final Set<String> mScheduled;
+    private final long mRetryBaseMs;
+    private final long mRetryMaxMs;
+    private final Map<String, UploadTarget> mTargets;
+    private final ScheduledExecutorService mTaskExecutor;
+    private final ExecutorService mChunkExecutor;
+
+    public static synchronized UploadManager getInstance(Context context) {
+        if (sInstance == null) {
+            sInstance = new UploadManager(context.getApplicationContext());
+        }
+        return sInstance;
+    }
+
+    private UploadManager(Context context) {
+        this(context, new File(context.getFilesDir(), QUEUE_FILE), RETRY_BASE_MS, RETRY_MAX_MS);
+        registerTarget(DropboxUploadTarget.NAME, new DropboxUploadTarget(context));
+    }
+
+    /**
+     * Manager of the queue stored in {@code queueFile}, without the Dropbox
+     * target. Used by the tests.
+     * @param retryBaseMs first retry delay, doubled on each attempt up to
+     *        {@code retryMaxMs}
+     */
+    UploadManager(Context context, File queueFile, long retryBaseMs, long retryMaxMs) {
+        mContext = context;
+        mStore = new UploadQueueStore(queueFile);
+        mTasks = mStore.load();
+        mScheduled = new HashSet<String>();
+        mTargets = new HashMap<String, UploadTarget>();
+        mRetryBaseMs = retryBaseMs;
+        mRetryMaxMs = retryMaxMs;
+        mTaskExecutor = Executors.newScheduledThreadPool(TASK_THREADS);
+        mChunkExecutor = Executors.newFixedThreadPool(CHUNK_THREADS);
+    }
+
+    public synchronized void registerTarget(String name, UploadTarget target) {
+        mTargets.put(name, target);
+    }
+
+    /**
+     * @return target {@code name}, HTTP targets are created on first use
+     * from their name; null if unknown
+     */
+    public synchronized UploadTarget getTarget(String name) {
+        UploadTarget target = mTargets.get(name);
+        if (target == null) {
+            final String baseUrl = HttpUploadTarget.getBaseUrl(name);
+            if (baseUrl != null) {
+                target = new HttpUploadTarget(mContext, baseUrl);
+                mTargets.put(name, target);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Queues {@code localPath} and returns immediately
+     * @param compress zip the file in the background before sending it
+     */
+    public synchronized UploadTask enqueue(String localPath, String remoteName, String targetName, boolean compress) {
+        final UploadTask task = new UploadTask(UUID.randomUUID().toString(),
+                localPath, remoteName, targetName, compress);
+        mTasks.add(task);
+        mStore.save(mTasks);
+        Log.i(TAG, "Queued upload of " + localPath + " as " + task);
+        schedule(task, 0);
+        return task;
+    }
+
+    /**
+     * Schedules every stored task not already running. Called at service and
+     * application start.
+     */
+    public synchronized void resume() {
+        for (UploadTask task: mTasks) schedule(task, 0);
+    }
+
+    public synchronized int getPendingCount() {
+        return mTasks.size();
+    }
+
+    /**
+     * Stops the upload threads, the tasks stay in the queue file. Used by
+     * the tests.
+     */
+    synchronized void shutdown() {
+        mTaskExecutor.shutdownNow();
+        mChunkExecutor.shutdownNow();
+    }
+
+    private synchronized void schedule(final UploadTask task, long delayMs) {
+        if (mTaskExecutor.isShutdown()) return;
+        if (!mScheduled.add(task.getId())) return;
+        mTaskExecutor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                long retryDelay = -1;
+                try {
+                    retryDelay = process(task);
+                }finally {
+                    synchronized (UploadManager.this) {
+                        // a resume() while running did not schedule it again
+                        mScheduled.remove(task.getId());
+                        if (retryDelay >= 0) schedule(task, retryDelay);
+                    }
+                }
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return delay before the next run of {@code task}, -1 if it is done
+     */
+    private long process(UploadTask task) {
+        final UploadTarget target = getTarget(task.getTargetName());
+        if (target == null) {
+            Log.e(TAG, "No upload target " + task.getTargetName() + ", dropping " + task);
+            remove(task);
+            return -1;
+        }
+
+        try {
+            if (!target.isAvailable()) return waitTarget(task);
+            task.setWaits(0);
+
+            if (!task.isPrepared()) prepare(task, target);
+            final File file = task.getLocalFile();
+            if (!file.exists()) {
+                Log.e(TAG, file + " disappeared, dropping " + task);
+                remove(task);
+                return -1;
+            }
+            if (target instanceof ChunkedUploadTarget) {
+                final ChunkedUploadTarget chunked = (ChunkedUploadTarget)target;
+                uploadChunks(task, chunked, file);
+                chunked.commit(task);
+            }else {
+                target.upload(task, file);
+            }
+        }catch (IOException e) {
+            Log.w(TAG, "Upload of " + task + " failed: " + e.getMessage());
+            return retryLater(task);
+        }catch (RuntimeException e) {
+            // e.g. DbxRuntimeException from the Dropbox SDK
+            Log.w(TAG, "Upload of " + task + " failed", e);
+            return retryLater(task);
+        }
+
+        deleteCompressed(task);
+        Log.i(TAG, "Uploaded " + task);
+        remove(task);
+        return -1;
+    }
+
+    /**
+     * Deletes the archive made by {@link #prepare(UploadTask, UploadTarget)}
+     */
+    private void deleteCompressed(UploadTask task) {
+        if (!task.isCompressed() || !task.isPrepared()) return;
+        final File file = task.getLocalFile();
+        if (file.exists() && !file.delete()) Log.w(TAG, "Cannot delete " + file);
+    }
+
+    private void prepare(UploadTask task, UploadTarget target) throws IOException {
+        final File source = new File(task.getSourcePath());
+        if (!source.exists()) throw new IOException(source + " not found");
+        String localPath = task.getSourcePath();
+        if (task.isCompressed()) {
+            localPath = localPath + ".zip";
+            if (!ZipHelper.zip(new String[] {task.getSourcePath()}, localPath)) {
+                throw new IOException("Cannot compress " + source);
+            }
+        }
+        final int chunkSize = target instanceof ChunkedUploadTarget
+                ? ((ChunkedUploadTarget)target).getChunkSize() : 0;
+        task.prepare(localPath, new File(localPath).length(), chunkSize);
+        persist();
+    }
+
+    private void uploadChunks(final UploadTask task, final ChunkedUploadTarget target, final File file)
+            throws IOException {
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 0; i < task.getChunkCount(); ++i) {
+            if (task.isChunkDone(i)) continue;
+            final int chunk = i;
+            futures.add(mChunkExecutor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws IOException {
+                    uploadChunk(task, target, file, chunk);
+                    return null;
+                }
+            }));
+        }
+
+        IOException error = null;
+        for (Future<Void> f: futures) {
+            try {
+                f.get();
+            }catch (ExecutionException e) {
+                if (error == null) {
+                    error = e.getCause() instanceof IOException
+                            ? (IOException)e.getCause()
+                            : new IOException(e.getCause().toString());
+                }
+            }catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted");
+            }
+        }
+        if (error != null) throw error;
+    }
+
+    private void uploadChunk(UploadTask task, ChunkedUploadTarget target, File file, int chunk)
+            throws IOException {
+        final long offset = task.getChunkOffset(chunk);
+        final int length = task.getChunkLength(chunk);
+        final byte data[] = new byte[length];
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            raf.seek(offset);
+            raf.readFully(data);
+        }finally {
+            raf.close();
+        }
+        target.uploadChunk(task, data, offset, length);
+        task.setChunkDone(chunk);
+        persist();
+        if (DBG) Log.v(TAG, task + ": chunk " + (chunk + 1) + "/" + task.getChunkCount());
+    }
+
+    /**
+     * Counts a failed attempt of {@code task}, which is given up after
+     * {@link #MAX_ATTEMPTS}
+     * @return delay before the next attempt, -1 if given up
+     */
+    private synchronized long retryLater(UploadTask task) {
+        task.incAttempts();
+        if (task.getAttempts() >= MAX_ATTEMPTS) {
+            Log.e(TAG, "Giving up " + task + " after " + task.getAttempts() + " attempts");
+            deleteCompressed(task);
+            remove(task);
+            return -1;
+        }
+        persist();
+        final long delay = getRetryDelay(task.getAttempts());
+        if (DBG) Log.v(TAG, "Retrying " + task + " in " + delay + " ms");
+        return delay;
+    }
+
+    /**
+     * Checks the target of {@code task} again later. The task is kept
+     * however long the target stays unavailable.
+     * @return delay before the next check
+     */
+    private synchronized long waitTarget(UploadTask task) {
+        final long delay = getRetryDelay(task.getWaits());
+        task.setWaits(task.getWaits() + 1);
+        if (DBG) Log.v(TAG, task.getTargetName() + " unavailable, retrying " + task + " in " + delay + " ms");
+        return delay;
+    }
+
+    long getRetryDelay(int attempts) {
+        return Math.min(mRetryBaseMs << Math.min(attempts, 16), mRetryMaxMs);
+    }
+
+    private synchronized void remove(UploadTask task) {
+        mTasks.remove(task);
+        mStore.save(mTasks);
+    }
+
+    private synchronized void persist() {
+        mStore.save(mTasks);
+    }
+
+}
@@ -0,0 +1,91 @@
+package gpsplus.rtkgps.upload;
+
+import android.util.Log;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON file holding the pending {@link UploadTask}s.
+ * Written to a temporary file and renamed so that a crash never leaves a
+ * truncated queue behind.
+ */
+class UploadQueueStore {
+
+    static final String TAG = UploadQueueStore.class.getSimpleName();
+
+    private final File mFile;
+    private final File mTmpFile;
+
+    UploadQueueStore(File file) {
+        mFile = file;
+        mTmpFile = new File(file.getPath() + ".tmp");
+    }
+
+    synchronized List<UploadTask> load() {
+        final List<UploadTask> tasks = new ArrayList<UploadTask>();
+        if (!mFile.exists()) return tasks;
+        InputStream in = null;
+        try {
+            in = new FileInputStream(mFile);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte buf[] = new byte[4096];
+            int n;
+            while ((n = in.read(buf)) > 0) bytes.write(buf, 0, n);
+            final JSONArray a = new JSONArray(bytes.toString("UTF-8"));
+            for (int i = 0; i < a.length(); ++i) {
+                tasks.add(UploadTask.fromJson(a.getJSONObject(i)));
+            }
+        }catch (IOException e) {
+            Log.e(TAG, "Cannot read upload queue", e);
+        }catch (JSONException e) {
+            Log.e(TAG, "Corrupted upload queue", e);
+        }finally {
+            if (in != null) {
+                try {
+                    in.close();
+                }catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+        return tasks;
+    }
+
+    synchronized void save(List<UploadTask> tasks) {
+        FileOutputStream out = null;
+        try {
+            final JSONArray a = new JSONArray();
+            for (UploadTask t: tasks) a.put(t.toJson());
+            out = new FileOutputStream(mTmpFile);
+            out.write(a.toString().getBytes("UTF-8"));
+            out.getFD().sync();
+            out.close();
+            out = null;
+            if (!mTmpFile.renameTo(mFile)) {
+                Log.e(TAG, "Cannot rename " + mTmpFile);
+            }
+        }catch (IOException e) {
+            Log.e(TAG, "Cannot write upload queue", e);
+        }catch (JSONException e) {
+            Log.e(TAG, "Cannot serialize upload queue", e);
+        }finally {
+            if (out != null) {
+                try {
+                    out.close();
+                }catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package gpsplus.rtkgps.upload;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Remote destination of the {@link UploadManager} accepting whole files.
+ * Targets able to receive parts of a file implement {@link ChunkedUploadTarget}.
+ * Implementations are called from several upload threads at once.
+ */
+public interface UploadTarget {
+
+    /**
+     * @return false if uploads cannot be attempted now (no account, no network),
+     * the task is then retried later
+     */
+    public boolean isAvailable();
+
+    /**
+     * Uploads the whole {@code file}
+     */
+    public void upload(UploadTask task, File file) throws IOException;
+
+}
@@ -0,0 +1,188 @@
+package gpsplus.rtkgps.upload;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+
+/**
+ * Persistent state of one file upload: source, remote name, target,
+ * and the set of chunks already acknowledged by the target.
+ */
+public class UploadTask {
+
+    private static final String JSON_ID = "id";
+    private static final String JSON_SOURCE = "source";
+    private static final String JSON_LOCAL = "local";
+    private static final String JSON_REMOTE = "remote";
+    private static final String JSON_TARGET = "target";
+    private static final String JSON_COMPRESS = "compress";
+    private static final String JSON_LENGTH = "length";
+    private static final String JSON_CHUNK_SIZE = "chunk_size";
+    private static final String JSON_DONE = "done";
+    private static final String JSON_ATTEMPTS = "attempts";
+
+    private final String mId;
+    private final String mSourcePath;
+    private final String mRemoteName;
+    private final String mTargetName;
+    private final boolean mCompress;
+
+    /** File actually sent, null until prepared (compressed) */
+    private String mLocalPath;
+    private long mLength;
+    private int mChunkSize;
+    private boolean mDoneChunks[];
+    private int mAttempts;
+    /** checks of an unavailable target in a row, not persisted */
+    private int mWaits;
+
+    public UploadTask(String id, String sourcePath, String remoteName, String targetName, boolean compress) {
+        mId = id;
+        mSourcePath = sourcePath;
+        mRemoteName = remoteName;
+        mTargetName = targetName;
+        mCompress = compress;
+        mLocalPath = null;
+        mLength = 0;
+        mChunkSize = 0;
+        mDoneChunks = new boolean[0];
+        mAttempts = 0;
+    }
+
+    public String getId() {
+        return mId;
+    }
+
+    public String getSourcePath() {
+        return mSourcePath;
+    }
+
+    public String getRemoteName() {
+        return mRemoteName;
+    }
+
+    public String getTargetName() {
+        return mTargetName;
+    }
+
+    public boolean isCompressed() {
+        return mCompress;
+    }
+
+    public boolean isPrepared() {
+        return mLocalPath != null;
+    }
+
+    public File getLocalFile() {
+        return mLocalPath == null ? null : new File(mLocalPath);
+    }
+
+    public long getLength() {
+        return mLength;
+    }
+
+    public int getChunkSize() {
+        return mChunkSize;
+    }
+
+    public int getAttempts() {
+        return mAttempts;
+    }
+
+    void incAttempts() {
+        mAttempts += 1;
+    }
+
+    int getWaits() {
+        return mWaits;
+    }
+
+    void setWaits(int waits) {
+        mWaits = waits;
+    }
+
+    /**
+     * Fixes the uploaded file and its chunk layout.
+     * @param chunkSize 0 for a single whole-file chunk
+     */
+    synchronized void prepare(String localPath, long length, int chunkSize) {
+        mLocalPath = localPath;
+        mLength = length;
+        mChunkSize = chunkSize;
+        final int count;
+        if (chunkSize <= 0 || length == 0) {
+            count = 1;
+        }else {
+            count = (int)((length + chunkSize - 1) / chunkSize);
+        }
+        mDoneChunks = new boolean[count];
+    }
+
+    public synchronized int getChunkCount() {
+        return mDoneChunks.length;
+    }
+
+    public long getChunkOffset(int chunk) {
+        return (long)chunk * mChunkSize;
+    }
+
+    public int getChunkLength(int chunk) {
+        if (mChunkSize <= 0) return (int)Math.min(mLength, Integer.MAX_VALUE);
+        return (int)Math.min(mChunkSize, mLength - getChunkOffset(chunk));
+    }
+
+    public synchronized boolean isChunkDone(int chunk) {
+        return mDoneChunks[chunk];
+    }
+
+    synchronized void setChunkDone(int chunk) {
+        mDoneChunks[chunk] = true;
+    }
+
+    public synchronized boolean isAllChunksDone() {
+        for (boolean b: mDoneChunks) {
+            if (!b) return false;
+        }
+        return true;
+    }
+
+    synchronized JSONObject toJson() throws JSONException {
+        final JSONObject o = new JSONObject();
+        o.put(JSON_ID, mId);
+        o.put(JSON_SOURCE, mSourcePath);
+        if (mLocalPath != null) o.put(JSON_LOCAL, mLocalPath);
+        o.put(JSON_REMOTE, mRemoteName);
+        o.put(JSON_TARGET, mTargetName);
+        o.put(JSON_COMPRESS, mCompress);
+        o.put(JSON_LENGTH, mLength);
+        o.put(JSON_CHUNK_SIZE, mChunkSize);
+        final char done[] = new char[mDoneChunks.length];
+        for (int i = 0; i < done.length; ++i) done[i] = mDoneChunks[i] ? '1' : '0';
+        o.put(JSON_DONE, new String(done));
+        o.put(JSON_ATTEMPTS, mAttempts);
+        return o;
+    }
+
+    static UploadTask fromJson(JSONObject o) throws JSONException {
+        final UploadTask t = new UploadTask(o.getString(JSON_ID),
+                o.getString(JSON_SOURCE),
+                o.getString(JSON_REMOTE),
+                o.getString(JSON_TARGET),
+                o.getBoolean(JSON_COMPRESS));
+        if (o.has(JSON_LOCAL)) {
+            t.prepare(o.getString(JSON_LOCAL), o.getLong(JSON_LENGTH), o.getInt(JSON_CHUNK_SIZE));
+            final String done = o.getString(JSON_DONE);
+            for (int i = 0; i < done.length() && i < t.mDoneChunks.length; ++i) {
+                t.mDoneChunks[i] = done.charAt(i) == '1';
+            }
+        }
+        t.mAttempts = o.optInt(JSON_ATTEMPTS, 0);
+        return t;
+    }
+
+    @Override
+    public String toString() {
+        return mRemoteName + " (" + mTargetName + ")";
+    }
+}
@@ -0,0 +1,64 @@
+package gpsplus.rtkgps.utils;
+
+/**
+ * Allocation-free formatting of the coordinates shown by the solution
+ * views, with the layouts of the former String.format() calls.
+ */
+public class FastCoordinateFormat {
+
+    private static final long SECOND_SCALE = 10000L;
+
+    private FastCoordinateFormat() {
+    }
+
+    /**
+     * Appends "DD° MM' SS.SSSS\" H", H being N/S for a latitude and E/W
+     * for a longitude. The degrees are split as RTKLIB deg2dms().
+     * @param deg angle (deg)
+     */
+    public static TextBuffer appendDms(TextBuffer dst, double deg, boolean isLat) {
+        // nudge so that values like 45.5 are not split as 45° 29' 60.0000"
+        double a = Math.abs(deg) + 1.0E-12;
+        long d = (long)Math.floor(a);
+        a = (a - d) * 60.0;
+        long m = (long)Math.floor(a);
+        a = (a - m) * 60.0;
+        long s = (long)(a * SECOND_SCALE + 0.5);
+        if (s >= 60L * SECOND_SCALE) {
+            s -= 60L * SECOND_SCALE;
+            if (++m == 60) {
+                m = 0;
+                ++d;
+            }
+        }
+        dst.appendPadded(d, 2).append('°').append(' ');
+        dst.appendPadded(m, 2).append('\'').append(' ');
+        dst.appendPadded(s / SECOND_SCALE, 2).append('.').appendPadded(s % SECOND_SCALE, 4);
+        dst.append('"').append(' ');
+        return dst.append(deg >= 0.0 ? (isLat ? 'N' : 'E') : (isLat ? 'S' : 'W'));
+    }
+
+    /**
+     * Appends "%11.8f°"
+     * @param deg angle (deg)
+     */
+    public static TextBuffer appendDegrees(TextBuffer dst, double deg) {
+        return dst.appendFixed(deg, 8, 11).append('°');
+    }
+
+    /**
+     * Appends the standard deviations of three variances, one per line,
+     * as "N:%6.3f\nE:%6.3f\nU:%6.3f m". Negative variances are shown as 0.
+     * @param labels axis names, e.g. "NEU"
+     * @param v1,v2,v3 variances (m^2)
+     */
+    public static TextBuffer appendSigmas(TextBuffer dst, String labels,
+            double v1, double v2, double v3) {
+        dst.append(labels.charAt(0)).append(':').appendFixed(Math.sqrt(v1 < 0 ? 0 : v1), 3, 6);
+        dst.append('\n');
+        dst.append(labels.charAt(1)).append(':').appendFixed(Math.sqrt(v2 < 0 ? 0 : v2), 3, 6);
+        dst.append('\n');
+        dst.append(labels.charAt(2)).append(':').appendFixed(Math.sqrt(v3 < 0 ? 0 : v3), 3, 6);
+        return dst.append(" m");
+    }
+}
@@ -0,0 +1,96 @@
+package gpsplus.rtkgps.utils;
+
+/**
+ * Allocation-free calendar arithmetic and timestamp formatting.
+ * All times are milliseconds since January 1, 1970 00:00:00 in the
+ * time system of the caller (UTC or GPST), no time zone is applied.
+ */
+public class FastTimeFormat {
+
+    public static final long MILLIS_PER_DAY = 86400000L;
+
+    /** GPS time origin (1980-01-06 00:00:00) in milliseconds since 1970-01-01 */
+    public static final long GPS_EPOCH_MILLIS = 315964800000L;
+
+    public static final long MILLIS_PER_WEEK = 7L * MILLIS_PER_DAY;
+
+    private FastTimeFormat() {
+    }
+
+    /**
+     * @return days since 1970-01-01 of the proleptic gregorian date
+     */
+    public static long daysFromCivil(int year, int month, int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final int era = (y >= 0 ? y : y - 399) / 400;
+        final int yoe = y - era * 400;
+        final int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        final int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097L + doe - 719468L;
+    }
+
+    public static long toMillis(int year, int month, int day, int hour, int min, double sec) {
+        return daysFromCivil(year, month, day) * MILLIS_PER_DAY
+                + (hour * 3600L + min * 60L) * 1000L
+                + Math.round(sec * 1000.0);
+    }
+
+    public static long gpsWeekTowToMillis(int week, double tow) {
+        return GPS_EPOCH_MILLIS + week * MILLIS_PER_WEEK + Math.round(tow * 1000.0);
+    }
+
+    /**
+     * Appends "yyyy-MM-ddTHH:mm:ss[.SSS]Z"
+     * @param millisDigits 0 to 3 fractional digits
+     */
+    public static TextBuffer appendIso8601(TextBuffer dst, long millis, int millisDigits) {
+        appendDate(dst, millis, '-');
+        dst.append('T');
+        appendTime(dst, millis, millisDigits);
+        return dst.append('Z');
+    }
+
+    /**
+     * Appends "yyyy/MM/dd HH:mm:ss.SSS", the RTKLIB solution time layout
+     */
+    public static TextBuffer appendRtklibTime(TextBuffer dst, long millis, int millisDigits) {
+        appendDate(dst, millis, '/');
+        dst.append(' ');
+        return appendTime(dst, millis, millisDigits);
+    }
+
+    public static TextBuffer appendDate(TextBuffer dst, long millis, char separator) {
+        final long z = floorDiv(millis, MILLIS_PER_DAY) + 719468L;
+        final long era = (z >= 0 ? z : z - 146096) / 146097;
+        final long doe = z - era * 146097;
+        final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        final long mp = (5 * doy + 2) / 153;
+        final long day = doy - (153 * mp + 2) / 5 + 1;
+        final long month = mp < 10 ? mp + 3 : mp - 9;
+        final long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+        dst.appendPadded(year, 4).append(separator);
+        dst.appendPadded(month, 2).append(separator);
+        return dst.appendPadded(day, 2);
+    }
+
+    public static TextBuffer appendTime(TextBuffer dst, long millis, int millisDigits) {
+        final long ms = millis - floorDiv(millis, MILLIS_PER_DAY) * MILLIS_PER_DAY;
+        final long sec = ms / 1000;
+        dst.appendPadded(sec / 3600, 2).append(':');
+        dst.appendPadded((sec / 60) % 60, 2).append(':');
+        dst.appendPadded(sec % 60, 2);
+        if (millisDigits > 0) {
+            long frac = ms % 1000;
+            for (int i = millisDigits; i < 3; ++i) frac /= 10;
+            dst.append('.').appendPadded(frac, millisDigits);
+        }
+        return dst;
+    }
+
+    private static long floorDiv(long a, long b) {
+        final long q = a / b;
+        return (a % b != 0 && ((a < 0) != (b < 0))) ? q - 1 : q;
+    }
+}
@@ -0,0 +1,126 @@
+package gpsplus.rtkgps.utils;
+
+import android.util.Log;
+
+import gpsplus.rtkgps.BuildConfig;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Compresses a log file while RTKLIB is still writing it.
+ * <p>
+ * A background thread tails the file and, every {@code intervalMs}, appends
+ * the bytes written since the previous pass to {@code <log>.gz} as a new
+ * gzip member. The .gz is therefore always readable up to the last pass
+ * even after a crash, and {@link #stop()} only has to compress the tail.
+ */
+public class GzipLogFollower {
+
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+    static final String TAG = GzipLogFollower.class.getSimpleName();
+
+    public static final long DEFAULT_INTERVAL_MS = 10000;
+
+    private static final int BUFFER = 64 * 1024;
+
+    private final File mLog;
+    private final File mGzip;
+    private final long mIntervalMs;
+    private final byte mBuffer[];
+
+    /** Bytes of mLog already compressed into mGzip */
+    private long mOffset;
+
+    private Thread mThread;
+    private volatile boolean mRunning;
+
+    public GzipLogFollower(String logPath) {
+        this(logPath, DEFAULT_INTERVAL_MS);
+    }
+
+    public GzipLogFollower(String logPath, long intervalMs) {
+        mLog = new File(logPath);
+        mGzip = new File(getGzipFilename(logPath));
+        mIntervalMs = intervalMs;
+        mBuffer = new byte[BUFFER];
+        mOffset = 0;
+    }
+
+    public static String getGzipFilename(String logPath) {
+        return logPath + ".gz";
+    }
+
+    public File getLogFile() {
+        return mLog;
+    }
+
+    public File getGzipFile() {
+        return mGzip;
+    }
+
+    public synchronized long getCompressedBytes() {
+        return mOffset;
+    }
+
+    public void start() {
+        if (mGzip.exists() && !mGzip.delete()) {
+            Log.e(TAG, "Cannot delete " + mGzip);
+        }
+        mOffset = 0;
+        mRunning = true;
+        mThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (mRunning) {
+                    try {
+                        Thread.sleep(mIntervalMs);
+                    }catch (InterruptedException e) {
+                        break;
+                    }
+                    flush();
+                }
+            }
+        }, TAG + "-" + mLog.getName());
+        mThread.setPriority(Thread.MIN_PRIORITY);
+        mThread.start();
+    }
+
+    /**
+     * Stops the follower and compresses the remaining tail.
+     * Call once the log stream is closed.
+     * @return true if the .gz holds the whole log
+     */
+    public boolean stop() {
+        mRunning = false;
+        if (mThread != null) {
+            mThread.interrupt();
+            try {
+                mThread.join();
+            }catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            mThread = null;
+        }
+        return flush() && (mOffset == mLog.length());
+    }
+
+    private synchronized boolean flush() {
+        final long length = mLog.length();
+        if (length < mOffset) {
+            // Truncated by a reopen, the compressed copy is no longer valid
+            Log.e(TAG, mLog + " shrank from " + mOffset + " to " + length);
+            return false;
+        }
+        if (length == mOffset) return true;
+        try {
+            mOffset += ZipHelper.gzipAppend(mLog, mOffset, length, mGzip, mBuffer);
+            if (DBG) Log.v(TAG, mLog.getName() + ": " + mOffset + " bytes compressed");
+            return true;
+        }catch (IOException e) {
+            Log.e(TAG, "Cannot compress " + mLog, e);
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,379 @@
+package gpsplus.rtkgps.utils;
+
+import android.util.Log;
+
+import gpsplus.rtkgps.BuildConfig;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Size and time based rotation of a file written by RTKLIB.
+ * <p>
+ * A monitor thread watches the file being written and, once it reaches
+ * {@code maxSegmentBytes} or {@code maxSegmentMillis}, has the
+ * {@link StreamRotator} switch the RTKLIB stream to the next segment file,
+ * {@code <file>.NNN}; the first segment is the file opened by RTKLIB.
+ * Each closed segment is handed to a shared worker pool which compresses
+ * it to {@code <file>.NNN.gz}, deletes it, computes the MD5 of the
+ * compressed file and notifies the {@link SegmentListener} (e.g. to queue
+ * the upload). Concatenating the uncompressed segments gives back the
+ * whole stream byte for byte.
+ * <p>
+ * Paths containing RTKLIB time keywords (%Y, %m, ...) are resolved to the
+ * file actually opened for the session. The compressed segments are listed
+ * by index in {@code <file>.segments.json}.
+ */
+public class LogRotationManager {
+
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+    static final String TAG = LogRotationManager.class.getSimpleName();
+
+    private static final long POLL_INTERVAL_MS = 1000;
+    private static final int BUFFER = 64 * 1024;
+    private static final int WORKER_THREADS = 2;
+
+    /** Shared by every session: compression is CPU bound */
+    private static final ExecutorService sWorkers = Executors.newFixedThreadPool(WORKER_THREADS);
+
+    public interface StreamRotator {
+        /**
+         * Closes the file of the stream, which continues in {@code path}
+         * @return false if the stream could not be switched
+         */
+        public boolean rotate(String path);
+    }
+
+    public interface SegmentListener {
+        /** Called from a worker thread once the segment is compressed */
+        public void onSegmentReady(LogRotationManager manager, Segment segment);
+    }
+
+    public static class Segment {
+        public final int index;
+        public final long start;
+        public final long end;
+        public final long startTime;
+        public final long endTime;
+        public final File file;
+        private String mMd5;
+
+        Segment(int index, long start, long end, long startTime, long endTime, File file) {
+            this.index = index;
+            this.start = start;
+            this.end = end;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.file = file;
+        }
+
+        public String getMd5() {
+            return mMd5;
+        }
+
+        JSONObject toJson() throws JSONException {
+            final JSONObject o = new JSONObject();
+            o.put("index", index);
+            o.put("start", start);
+            o.put("end", end);
+            o.put("start_time", startTime);
+            o.put("end_time", endTime);
+            o.put("file", file.getName());
+            o.put("md5", mMd5);
+            return o;
+        }
+    }
+
+    private final String mPathTemplate;
+    private final long mSessionStart;
+    private final long mMaxSegmentBytes;
+    private final long mMaxSegmentMillis;
+    private final StreamRotator mRotator;
+    private final SegmentListener mListener;
+
+    private File mFile;
+    /** segment being written */
+    private File mSegmentFile;
+    private boolean mRotationFailed;
+    private long mSegmentStart;
+    private long mSegmentStartTime;
+    private int mSegmentIndex;
+    private final List<Segment> mSegments;
+
+    private Thread mMonitor;
+    private volatile boolean mRunning;
+
+    /**
+     * @param pathTemplate path given to RTKLIB, may contain time keywords
+     * @param sessionStart System.currentTimeMillis() when the stream was opened
+     * @param maxSegmentBytes 0 for no size limit
+     * @param maxSegmentMillis 0 for no time limit
+     * @param rotator switches the RTKLIB stream writing the file
+     */
+    public LogRotationManager(String pathTemplate, long sessionStart,
+            long maxSegmentBytes, long maxSegmentMillis,
+            StreamRotator rotator, SegmentListener listener) {
+        mPathTemplate = pathTemplate;
+        mSessionStart = sessionStart;
+        mMaxSegmentBytes = maxSegmentBytes;
+        mMaxSegmentMillis = maxSegmentMillis;
+        mRotator = rotator;
+        mListener = listener;
+        mSegments = new ArrayList<Segment>();
+    }
+
+    public String getPathTemplate() {
+        return mPathTemplate;
+    }
+
+    /**
+     * @return file written by RTKLIB, null until it has been found
+     */
+    public synchronized File getFile() {
+        return mFile;
+    }
+
+    public void start() {
+        mSegmentStart = 0;
+        mSegmentStartTime = mSessionStart;
+        mSegmentIndex = 0;
+        mSegmentFile = null;
+        mRotationFailed = false;
+        mRunning = true;
+        mMonitor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (mRunning) {
+                    try {
+                        Thread.sleep(POLL_INTERVAL_MS);
+                    }catch (InterruptedException e) {
+                        break;
+                    }
+                    poll(false);
+                }
+            }
+        }, TAG);
+        mMonitor.setPriority(Thread.MIN_PRIORITY);
+        mMonitor.start();
+    }
+
+    /**
+     * Closes the last segment. Call once RTKLIB closed the stream; the
+     * remaining compression and upload continue in the background.
+     */
+    public void stop() {
+        mRunning = false;
+        if (mMonitor != null) {
+            mMonitor.interrupt();
+            try {
+                mMonitor.join();
+            }catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            mMonitor = null;
+        }
+        poll(true);
+    }
+
+    private synchronized void poll(boolean last) {
+        if (mFile == null) {
+            mFile = resolveFile();
+            if (mFile == null) {
+                if (last) Log.w(TAG, "No file found for " + mPathTemplate);
+                return;
+            }
+            if (DBG) Log.v(TAG, mPathTemplate + " -> " + mFile);
+            mSegmentFile = mFile;
+        }
+        final long length = mSegmentFile.length();
+        final long now = System.currentTimeMillis();
+        if (last) {
+            // the stream is closed
+            if (length > 0) {
+                closeSegment(length, now);
+            }else if (mSegmentIndex > 0 && !mSegmentFile.delete()) {
+                Log.w(TAG, "Cannot delete " + mSegmentFile);
+            }
+            return;
+        }
+        final boolean full = (mMaxSegmentBytes > 0) && (length >= mMaxSegmentBytes);
+        final boolean expired = (mMaxSegmentMillis > 0) && (now - mSegmentStartTime >= mMaxSegmentMillis);
+        if ((full || expired) && (length > 0)) {
+            final File next = getSegmentFile(mSegmentIndex + 1, "");
+            if (!mRotator.rotate(next.getPath())) {
+                if (!mRotationFailed) Log.e(TAG, "Cannot switch " + mFile + " to " + next);
+                mRotationFailed = true;
+                return;
+            }
+            mRotationFailed = false;
+            // closed by the rotation, its length is final
+            closeSegment(mSegmentFile.length(), now);
+            mSegmentFile = next;
+        }
+    }
+
+    private File getSegmentFile(int index, String suffix) {
+        return new File(String.format(Locale.US, "%s.%03d%s", mFile.getPath(), index, suffix));
+    }
+
+    private void closeSegment(long length, long now) {
+        final File gz = getSegmentFile(mSegmentIndex, ".gz");
+        final Segment segment = new Segment(mSegmentIndex, mSegmentStart, mSegmentStart + length,
+                mSegmentStartTime, now, gz);
+        final File src = mSegmentFile;
+        mSegmentIndex += 1;
+        mSegmentStart += length;
+        mSegmentStartTime = now;
+
+        sWorkers.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    if (gz.exists() && !gz.delete()) throw new IOException("Cannot delete " + gz);
+                    ZipHelper.gzipAppend(src, 0, segment.end - segment.start, gz, new byte[BUFFER]);
+                    segment.mMd5 = md5(gz);
+                }catch (IOException e) {
+                    Log.e(TAG, "Cannot compress segment " + gz, e);
+                    return;
+                }
+                if (!src.delete()) Log.w(TAG, "Cannot delete " + src);
+                addToIndex(segment);
+                if (DBG) Log.v(TAG, gz.getName() + ": " + (segment.end - segment.start) + " bytes, md5 " + segment.mMd5);
+                if (mListener != null) mListener.onSegmentReady(LogRotationManager.this, segment);
+            }
+        });
+    }
+
+    /**
+     * Adds a compressed segment to the index, kept sorted by segment index
+     * since workers finish in any order. The index is written to a
+     * temporary file renamed over the previous one, so that a crash leaves
+     * either index whole.
+     */
+    private void addToIndex(Segment segment) {
+        synchronized (mSegments) {
+            int pos = mSegments.size();
+            while (pos > 0 && mSegments.get(pos - 1).index > segment.index) pos -= 1;
+            mSegments.add(pos, segment);
+
+            final File indexFile = new File(mFile.getPath() + ".segments.json");
+            final File tmpFile = new File(indexFile.getPath() + ".tmp");
+            FileOutputStream out = null;
+            try {
+                final JSONArray a = new JSONArray();
+                for (Segment s: mSegments) a.put(s.toJson());
+                final JSONObject index = new JSONObject();
+                index.put("file", mFile.getName());
+                index.put("session_start", mSessionStart);
+                index.put("segments", a);
+                out = new FileOutputStream(tmpFile);
+                out.write(index.toString().getBytes("UTF-8"));
+                out.flush();
+                out.getFD().sync();
+                out.close();
+                out = null;
+                if (!tmpFile.renameTo(indexFile)) throw new IOException("Cannot rename " + tmpFile);
+            }catch (IOException e) {
+                Log.e(TAG, "Cannot write segment index", e);
+            }catch (JSONException e) {
+                Log.e(TAG, "Cannot write segment index", e);
+            }finally {
+                if (out != null) {
+                    try {
+                        out.close();
+                    }catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                }
+            }
+        }
+    }
+
+    private File resolveFile() {
+        return resolveRtklibPath(mPathTemplate, mSessionStart);
+    }
+
+    /**
+     * Finds the file opened by RTKLIB for a path template. Keywords are
+     * expanded by RTKLIB with the GPS time at open, so rather than guessing
+     * that time the newest file matching the template and modified since
+     * {@code sessionStart} is taken.
+     * @return null if no such file exists
+     */
+    public static File resolveRtklibPath(String pathTemplate, long sessionStart) {
+        final File template = new File(pathTemplate);
+        if (pathTemplate.indexOf('%') < 0) {
+            return template.exists() ? template : null;
+        }
+        final File dir = template.getParentFile();
+        if (dir == null || !dir.isDirectory()) return null;
+        final Pattern pattern = Pattern.compile(templateToRegex(template.getName()));
+        File best = null;
+        final File files[] = dir.listFiles();
+        if (files == null) return null;
+        for (File f: files) {
+            if (!pattern.matcher(f.getName()).matches()) continue;
+            if (f.lastModified() < sessionStart - 2000) continue;
+            if (best == null || f.lastModified() > best.lastModified()) best = f;
+        }
+        return best;
+    }
+
+    static String templateToRegex(String name) {
+        final StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < name.length()) {
+            final char c = name.charAt(i);
+            if (c == '%' && i + 1 < name.length()) {
+                final char k = name.charAt(i + 1);
+                i += 2;
+                switch (k) {
+                case 'Y': case 'W': sb.append("\\d{4}"); break;
+                case 'y': case 'm': case 'd': case 'M': case 'S': case 'h': sb.append("\\d{2}"); break;
+                case 'n': sb.append("\\d{3}"); break;
+                case 'D': sb.append("\\d"); break;
+                case 'H': sb.append("[a-x]"); break;
+                default: sb.append(".*"); break;
+                }
+            }else {
+                sb.append(Pattern.quote(String.valueOf(c)));
+                i += 1;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String md5(File file) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        }catch (NoSuchAlgorithmException e) {
+            throw new IOException("MD5 not available");
+        }
+        final InputStream in = new FileInputStream(file);
+        try {
+            final byte buf[] = new byte[BUFFER];
+            int n;
+            while ((n = in.read(buf)) > 0) digest.update(buf, 0, n);
+        }finally {
+            in.close();
+        }
+        return HexString.bytesToHex(digest.digest());
+    }
+
+}
@@ -0,0 +1,224 @@
+package gpsplus.rtkgps.utils;
+
+import gpsplus.rtklib.RtkServerObservationStatus;
+import gpsplus.rtklib.RtkServerObservationStatus.SatStatus;
+import gpsplus.rtklib.constants.Constants;
+
+/**
+ * SNR of the last epochs of a receiver, per satellite and frequency.
+ * <p>
+ * Epochs are sampled at most once per interval into ring buffers of a
+ * fixed number of epochs: each satellite has one byte[] row per frequency,
+ * allocated the first time the satellite is seen, so adding an epoch does
+ * not allocate. A sample of 0 means the satellite was not observed.
+ * <p>
+ * Intervals without an epoch are kept as empty epochs, so that epochs stay
+ * evenly spaced in time and a view can draw a time grid over them.
+ * <p>
+ * Epochs are numbered from 0 since the creation or the last {@link #clear()};
+ * the sample of epoch {@code e} is in the column {@code e % capacity} of
+ * the rows, which lets views keep their own ring of columns. Not thread
+ * safe, the history is fed and read on the UI thread.
+ */
+public class SnrHistory {
+
+    public static final int FREQ1 = 0;
+
+    public static final int FREQ2 = 1;
+
+    public static final int FREQ3 = 2;
+
+    private static final int NFREQ = 3;
+
+    private final int mCapacity;
+
+    private final long mIntervalMillis;
+
+    /** GPS time (ms) of each epoch */
+    private final long mTimes[];
+
+    /** mSnr[row * NFREQ + freq][column], rows allocated on first sight */
+    private final byte mSnr[][];
+
+    /** row of each satellite number, -1 if never seen */
+    private final int mRowOfSat[];
+
+    private final int mSatOfRow[];
+
+    /** last epoch each row had a sample */
+    private final long mLastSeen[];
+
+    private int mRows;
+
+    private long mEpochs;
+
+    private final SatStatus mSatStatus;
+
+    /**
+     * @param capacity epochs kept
+     * @param intervalMillis minimum time between two epochs kept (ms)
+     */
+    public SnrHistory(int capacity, long intervalMillis) {
+        if (capacity <= 0 || intervalMillis < 0) throw new IllegalArgumentException();
+        mCapacity = capacity;
+        mIntervalMillis = intervalMillis;
+        mTimes = new long[capacity];
+        mSnr = new byte[Constants.MAXSAT * NFREQ][];
+        mRowOfSat = new int[Constants.MAXSAT + 1];
+        mSatOfRow = new int[Constants.MAXSAT];
+        mLastSeen = new long[Constants.MAXSAT];
+        mSatStatus = new SatStatus();
+        clear();
+    }
+
+    public void clear() {
+        for (int i = 0; i < mRowOfSat.length; ++i) mRowOfSat[i] = -1;
+        for (int i = 0; i < mSnr.length; ++i) mSnr[i] = null;
+        mRows = 0;
+        mEpochs = 0;
+    }
+
+    /**
+     * Adds the epoch of {@code status}
+     * @return false if the epoch was not kept: no satellites, same epoch
+     * as the last one, or closer to it than the interval
+     */
+    public boolean add(RtkServerObservationStatus status) {
+        final int ns = status.getNumSatellites();
+        if (ns == 0) return false;
+
+        final long time = status.getTime().getGpsTimeMillis();
+        if (mEpochs > 0) {
+            final long last = mTimes[(int)((mEpochs - 1) % mCapacity)];
+            // a time going back is a new stream, keep it
+            if (time == last || (time > last && time - last < mIntervalMillis)) return false;
+            if (time > last && mIntervalMillis > 0) {
+                // only the last capacity epochs of a long gap are kept
+                final long missing = (time - last) / mIntervalMillis - 1;
+                for (long i = Math.max(1, missing - mCapacity + 1); i <= missing; ++i) {
+                    addColumn(last + i * mIntervalMillis);
+                }
+            }
+        }
+
+        final long epoch = mEpochs;
+        final int column = addColumn(time);
+        for (int i = 0; i < ns; ++i) {
+            status.getSatStatus(i, mSatStatus);
+            final int row = getRow(mSatStatus.getSatNumber());
+            if (row < 0) continue;
+            mSnr[row * NFREQ + FREQ1][column] = toSample(mSatStatus.getFreq1Snr());
+            mSnr[row * NFREQ + FREQ2][column] = toSample(mSatStatus.getFreq2Snr());
+            mSnr[row * NFREQ + FREQ3][column] = toSample(mSatStatus.getFreq3Snr());
+            mLastSeen[row] = epoch;
+        }
+        return true;
+    }
+
+    /**
+     * Adds an epoch without samples
+     * @return its column
+     */
+    private int addColumn(long time) {
+        final int column = (int)(mEpochs % mCapacity);
+        for (int i = 0; i < mRows * NFREQ; ++i) mSnr[i][column] = 0;
+        mTimes[column] = time;
+        mEpochs += 1;
+        return column;
+    }
+
+    /**
+     * @return number of epochs kept at most
+     */
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    public long getIntervalMillis() {
+        return mIntervalMillis;
+    }
+
+    /**
+     * @return number of epochs added since the creation or the last clear
+     */
+    public long getEpochCount() {
+        return mEpochs;
+    }
+
+    /**
+     * @return number of epochs kept
+     */
+    public int getSize() {
+        return (int)Math.min(mEpochs, mCapacity);
+    }
+
+    /**
+     * @return first epoch still kept
+     */
+    public long getFirstEpoch() {
+        return mEpochs - getSize();
+    }
+
+    /**
+     * @return number of satellites seen, kept or not
+     */
+    public int getRowCount() {
+        return mRows;
+    }
+
+    /**
+     * @return satellite number of {@code row}
+     */
+    public int getSatNumber(int row) {
+        return mSatOfRow[row];
+    }
+
+    /**
+     * @return last epoch {@code row} had a sample, compare with
+     * {@link #getFirstEpoch()}
+     */
+    public long getLastSeenEpoch(int row) {
+        return mLastSeen[row];
+    }
+
+    /**
+     * @return GPS time (ms) of a kept epoch
+     */
+    public long getTimeMillis(long epoch) {
+        checkEpoch(epoch);
+        return mTimes[(int)(epoch % mCapacity)];
+    }
+
+    /**
+     * @param freq {@link #FREQ1}, {@link #FREQ2}, {@link #FREQ3}
+     * @return SNR (dBHz) of a kept epoch, 0 if not observed
+     */
+    public int getSnr(int row, int freq, long epoch) {
+        checkEpoch(epoch);
+        if (row < 0 || row >= mRows || freq < 0 || freq >= NFREQ) throw new IllegalArgumentException();
+        return mSnr[row * NFREQ + freq][(int)(epoch % mCapacity)] & 0xff;
+    }
+
+    private void checkEpoch(long epoch) {
+        if (epoch < getFirstEpoch() || epoch >= mEpochs) throw new IllegalArgumentException();
+    }
+
+    private int getRow(int sat) {
+        if (sat <= 0 || sat >= mRowOfSat.length) return -1;
+        int row = mRowOfSat[sat];
+        if (row < 0) {
+            row = mRows;
+            // new rows hold no sample of the epochs kept
+            for (int f = 0; f < NFREQ; ++f) mSnr[row * NFREQ + f] = new byte[mCapacity];
+            mSatOfRow[row] = sat;
+            mLastSeen[row] = mEpochs;
+            mRowOfSat[sat] = row;
+            mRows += 1;
+        }
+        return row;
+    }
+
+    private static byte toSample(int snr) {
+        return (byte)Math.max(0, Math.min(snr, 255));
+    }
+}
@@ -0,0 +1,172 @@
+package gpsplus.rtkgps.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Growable char[] line builder with allocation-free numeric appenders.
+ * Used on hot paths (exporters, per-epoch views) where String.format()
+ * and Double.toString() would allocate for every value.
+ */
+public class TextBuffer implements CharSequence {
+
+    private static final long POW10[] = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+        100000000L, 1000000000L, 10000000000L, 100000000000L
+    };
+
+    private static final String MIN_LONG = Long.toString(Long.MIN_VALUE);
+
+    private char mBuf[];
+    private int mLength;
+
+    public TextBuffer() {
+        this(128);
+    }
+
+    public TextBuffer(int capacity) {
+        mBuf = new char[Math.max(16, capacity)];
+        mLength = 0;
+    }
+
+    public TextBuffer clear() {
+        mLength = 0;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return mLength;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index >= mLength) throw new IndexOutOfBoundsException();
+        return mBuf[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(mBuf, start, end - start);
+    }
+
+    /**
+     * @return backing array, valid up to {@link #length()}
+     */
+    public char[] array() {
+        return mBuf;
+    }
+
+    public void writeTo(Writer out) throws IOException {
+        out.write(mBuf, 0, mLength);
+    }
+
+    public boolean contentEquals(TextBuffer other) {
+        if (other.mLength != mLength) return false;
+        for (int i = 0; i < mLength; ++i) {
+            if (mBuf[i] != other.mBuf[i]) return false;
+        }
+        return true;
+    }
+
+    public void copyFrom(TextBuffer src) {
+        ensureCapacity(src.mLength);
+        System.arraycopy(src.mBuf, 0, mBuf, 0, src.mLength);
+        mLength = src.mLength;
+    }
+
+    public TextBuffer append(char c) {
+        ensureCapacity(mLength + 1);
+        mBuf[mLength++] = c;
+        return this;
+    }
+
+    public TextBuffer append(String s) {
+        final int l = s.length();
+        ensureCapacity(mLength + l);
+        s.getChars(0, l, mBuf, mLength);
+        mLength += l;
+        return this;
+    }
+
+    public TextBuffer append(long v) {
+        if (v == Long.MIN_VALUE) return append(MIN_LONG);
+        if (v < 0) {
+            append('-');
+            v = -v;
+        }
+        return appendPadded(v, 1);
+    }
+
+    /**
+     * Appends a non-negative integer left-padded with zeros to {@code width} digits
+     */
+    public TextBuffer appendPadded(long v, int width) {
+        int digits = 1;
+        for (long t = v / 10; t != 0; t /= 10) ++digits;
+        if (digits < width) digits = width;
+        ensureCapacity(mLength + digits);
+        int pos = mLength + digits;
+        for (int i = 0; i < digits; ++i) {
+            mBuf[--pos] = (char)('0' + (v % 10));
+            v /= 10;
+        }
+        mLength += digits;
+        return this;
+    }
+
+    /**
+     * Appends {@code v} with exactly {@code decimals} fractional digits
+     * (half-up rounding), e.g. appendFixed(-1.5, 3) gives "-1.500"
+     */
+    public TextBuffer appendFixed(double v, int decimals) {
+        if (decimals < 0 || decimals >= POW10.length) throw new IllegalArgumentException();
+        if (Double.isNaN(v)) return append("NaN");
+        if (Double.isInfinite(v)) return append(v > 0 ? "Infinity" : "-Infinity");
+
+        final long scale = POW10[decimals];
+        final double scaled = Math.abs(v) * scale;
+        if (scaled >= 9.0e17) {
+            // Out of the fixed point range, should not happen with coordinates
+            return append(Double.toString(v));
+        }
+        final long r = (long)(scaled + 0.5);
+        if (v < 0 && r != 0) append('-');
+        appendPadded(r / scale, 1);
+        if (decimals > 0) {
+            append('.');
+            appendPadded(r % scale, decimals);
+        }
+        return this;
+    }
+
+    /**
+     * Appends {@code v} as {@link #appendFixed(double, int)}, left-padded
+     * with spaces to {@code width} chars, as "%width.decimalsf"
+     */
+    public TextBuffer appendFixed(double v, int decimals, int width) {
+        final int start = mLength;
+        appendFixed(v, decimals);
+        final int pad = width - (mLength - start);
+        if (pad > 0) {
+            ensureCapacity(mLength + pad);
+            System.arraycopy(mBuf, start, mBuf, start + pad, mLength - start);
+            for (int i = 0; i < pad; ++i) mBuf[start + i] = ' ';
+            mLength += pad;
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new String(mBuf, 0, mLength);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > mBuf.length) {
+            char newBuf[] = new char[Math.max(capacity, mBuf.length * 2)];
+            System.arraycopy(mBuf, 0, newBuf, 0, mLength);
+            mBuf = newBuf;
+        }
+    }
+}
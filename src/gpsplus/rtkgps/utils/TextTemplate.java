@@ -0,0 +1,144 @@
+package gpsplus.rtkgps.utils;
+
+import java.util.ArrayList;
+
+/**
+ * printf-like format, parsed once, that appends its numeric arguments to a
+ * {@link TextBuffer} without allocating. Meant for the format strings of
+ * the resources that are refreshed on every epoch.
+ * <p>
+ * Only {@code %[n$][width][.precision]f}, {@code %[n$][width]d},
+ * {@code %%} and {@code %n} are supported; a default precision of 6 is
+ * used for {@code f}, as String.format() does.
+ */
+public class TextTemplate {
+
+    private static final int DEFAULT_PRECISION = 6;
+
+    /** Text before each placeholder, the last one is the tail */
+    private final String mLiterals[];
+    private final int mArgs[];
+    private final int mWidths[];
+    private final int mPrecisions[];
+    private final boolean mIntegers[];
+
+    /**
+     * @throws IllegalArgumentException if the format has an unsupported conversion
+     */
+    public TextTemplate(String format) {
+        final ArrayList<String> literals = new ArrayList<String>();
+        final ArrayList<int[]> specs = new ArrayList<int[]>();
+        final StringBuilder literal = new StringBuilder();
+        int nextArg = 0;
+        int i = 0;
+        final int l = format.length();
+        while (i < l) {
+            final char c = format.charAt(i++);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            if (i >= l) throw new IllegalArgumentException(format);
+            if (format.charAt(i) == '%') {
+                literal.append('%');
+                ++i;
+                continue;
+            }
+            if (format.charAt(i) == 'n') {
+                literal.append('\n');
+                ++i;
+                continue;
+            }
+
+            int number = -1;
+            int start = i;
+            while (i < l && Character.isDigit(format.charAt(i))) ++i;
+            if (i > start) number = Integer.parseInt(format.substring(start, i));
+
+            int arg;
+            int width = 0;
+            if (i < l && format.charAt(i) == '$') {
+                if (number < 1) throw new IllegalArgumentException(format);
+                arg = number - 1;
+                ++i;
+                start = i;
+                while (i < l && Character.isDigit(format.charAt(i))) ++i;
+                if (i > start) width = Integer.parseInt(format.substring(start, i));
+            }else {
+                arg = nextArg++;
+                if (number > 0) width = number;
+            }
+
+            int precision = -1;
+            if (i < l && format.charAt(i) == '.') {
+                start = ++i;
+                while (i < l && Character.isDigit(format.charAt(i))) ++i;
+                if (i == start) throw new IllegalArgumentException(format);
+                precision = Integer.parseInt(format.substring(start, i));
+            }
+
+            if (i >= l) throw new IllegalArgumentException(format);
+            final char conversion = format.charAt(i++);
+            if (conversion == 'f') {
+                if (precision < 0) precision = DEFAULT_PRECISION;
+            }else if (conversion == 'd') {
+                if (precision >= 0) throw new IllegalArgumentException(format);
+            }else {
+                throw new IllegalArgumentException(format);
+            }
+
+            literals.add(literal.toString());
+            literal.setLength(0);
+            specs.add(new int[] {arg, width, precision, conversion == 'd' ? 1 : 0});
+        }
+        literals.add(literal.toString());
+
+        final int n = specs.size();
+        mLiterals = literals.toArray(new String[n + 1]);
+        mArgs = new int[n];
+        mWidths = new int[n];
+        mPrecisions = new int[n];
+        mIntegers = new boolean[n];
+        for (int s = 0; s < n; ++s) {
+            final int spec[] = specs.get(s);
+            mArgs[s] = spec[0];
+            mWidths[s] = spec[1];
+            mPrecisions[s] = spec[2];
+            mIntegers[s] = spec[3] != 0;
+        }
+    }
+
+    /**
+     * @return number of arguments the format refers to
+     */
+    public int getArgumentCount() {
+        int count = 0;
+        for (int arg : mArgs) count = Math.max(count, arg + 1);
+        return count;
+    }
+
+    /**
+     * Appends the formatted text; {@code d} arguments are truncated to long
+     * @param args at least {@link #getArgumentCount()} values
+     */
+    public TextBuffer append(TextBuffer dst, double args[]) {
+        final int n = mArgs.length;
+        for (int s = 0; s < n; ++s) {
+            dst.append(mLiterals[s]);
+            final double v = args[mArgs[s]];
+            if (mIntegers[s]) {
+                appendInteger(dst, (long)v, mWidths[s]);
+            }else {
+                dst.appendFixed(v, mPrecisions[s], mWidths[s]);
+            }
+        }
+        return dst.append(mLiterals[n]);
+    }
+
+    private static void appendInteger(TextBuffer dst, long v, int width) {
+        int digits = v < 0 ? 2 : 1;
+        for (long t = v / 10; t != 0; t /= 10) ++digits;
+        for (int i = digits; i < width; ++i) dst.append(' ');
+        dst.append(v);
+    }
+}
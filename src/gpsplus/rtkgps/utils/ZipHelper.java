@@ -4,15 +4,22 @@ import android.util.Log;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 public class ZipHelper {
     private static final int BUFFER = 8192;
 
-    public static void zip(String[] _files, String zipFileName) {
+    /**
+     * @return false if the archive could not be written
+     */
+    public static boolean zip(String[] _files, String zipFileName) {
         try {
             BufferedInputStream origin = null;
             FileOutputStream dest = new FileOutputStream(zipFileName);
@@ -38,6 +45,39 @@ public class ZipHelper {
             out.close();
         } catch (Exception e) {
             e.printStackTrace();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compresses bytes [from, to) of {@code src} as one complete gzip member
+     * appended to {@code dst}. A sequence of members is a valid gzip file, so
+     * {@code dst} stays readable up to the last finished member.
+     * @param buffer work buffer
+     * @return number of bytes compressed
+     */
+    public static long gzipAppend(File src, long from, long to, File dst, byte buffer[]) throws IOException {
+        if (to <= from) return 0;
+        final RandomAccessFile in = new RandomAccessFile(src, "r");
+        final FileOutputStream fout = new FileOutputStream(dst, true);
+        try {
+            final GZIPOutputStream out = new GZIPOutputStream(fout, buffer.length);
+            in.seek(from);
+            long remaining = to - from;
+            while (remaining > 0) {
+                final int count = in.read(buffer, 0, (int)Math.min(buffer.length, remaining));
+                if (count < 0) break;
+                out.write(buffer, 0, count);
+                remaining -= count;
+            }
+            out.finish();
+            out.flush();
+            fout.getFD().sync();
+            return (to - from) - remaining;
+        }finally {
+            in.close();
+            fout.close();
         }
     }
 }
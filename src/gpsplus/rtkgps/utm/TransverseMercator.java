@@ -0,0 +1,179 @@
+package gpsplus.rtkgps.utm;
+
+import gpsplus.rtklib.Geodesy;
+
+/**
+ * Transverse Mercator projection of the WGS84 ellipsoid with the Krüger
+ * series to the 6th order in n (C. F. F. Karney, "Transverse Mercator with
+ * an accuracy of a few nanometers", J. Geodesy 85, 2011). The error is
+ * below 5 nm within 3900 km of the central meridian, far better than the
+ * millimeter the views and exports need.
+ * <p>
+ * The series coefficients are computed once; the methods only use their
+ * arguments and the caller arrays, so they may be called from any thread.
+ */
+public final class TransverseMercator {
+
+    /** third flattening */
+    private static final double N = Geodesy.FE_WGS84 / (2.0 - Geodesy.FE_WGS84);
+
+    /** eccentricity */
+    private static final double E = Math.sqrt(Geodesy.FE_WGS84 * (2.0 - Geodesy.FE_WGS84));
+
+    /** rectifying radius (m) */
+    private static final double A;
+
+    /** forward series, alpha[j - 1] is the coefficient of sin(2j xi') */
+    private static final double ALPHA[];
+
+    /** inverse series */
+    private static final double BETA[];
+
+    static {
+        final double n = N;
+        final double n2 = n * n;
+        final double n3 = n2 * n;
+        final double n4 = n3 * n;
+        final double n5 = n4 * n;
+        final double n6 = n5 * n;
+
+        A = Geodesy.RE_WGS84 / (1.0 + n) * (1.0 + n2 / 4.0 + n4 / 64.0 + n6 / 256.0);
+
+        ALPHA = new double[] {
+                n / 2.0 - 2.0 / 3.0 * n2 + 5.0 / 16.0 * n3 + 41.0 / 180.0 * n4
+                    - 127.0 / 288.0 * n5 + 7891.0 / 37800.0 * n6,
+                13.0 / 48.0 * n2 - 3.0 / 5.0 * n3 + 557.0 / 1440.0 * n4
+                    + 281.0 / 630.0 * n5 - 1983433.0 / 1935360.0 * n6,
+                61.0 / 240.0 * n3 - 103.0 / 140.0 * n4 + 15061.0 / 26880.0 * n5
+                    + 167603.0 / 181440.0 * n6,
+                49561.0 / 161280.0 * n4 - 179.0 / 168.0 * n5 + 6601661.0 / 7257600.0 * n6,
+                34729.0 / 80640.0 * n5 - 3418889.0 / 1995840.0 * n6,
+                212378941.0 / 319334400.0 * n6
+        };
+
+        BETA = new double[] {
+                n / 2.0 - 2.0 / 3.0 * n2 + 37.0 / 96.0 * n3 - 1.0 / 360.0 * n4
+                    - 81.0 / 512.0 * n5 + 96199.0 / 604800.0 * n6,
+                1.0 / 48.0 * n2 + 1.0 / 15.0 * n3 - 437.0 / 1440.0 * n4
+                    + 46.0 / 105.0 * n5 - 1118711.0 / 3870720.0 * n6,
+                17.0 / 480.0 * n3 - 37.0 / 840.0 * n4 - 209.0 / 4480.0 * n5
+                    + 5569.0 / 90720.0 * n6,
+                4397.0 / 161280.0 * n4 - 11.0 / 504.0 * n5 - 830251.0 / 7257600.0 * n6,
+                4583.0 / 161280.0 * n5 - 108847.0 / 3991680.0 * n6,
+                20648693.0 / 638668800.0 * n6
+        };
+    }
+
+    private TransverseMercator() {
+    }
+
+    /**
+     * Projects a geodetic position
+     * @param lat latitude (rad)
+     * @param dlon longitude from the central meridian (rad), within +/- 90 deg
+     * @param k0 scale on the central meridian
+     * @param dst {x,y} (m) written at dst[offset], x eastward from the central
+     * meridian and y northward from the equator
+     */
+    public static void forward(double lat, double dlon, double k0, double dst[], int offset) {
+        final double cosl = Math.cos(dlon);
+        final double sinl = Math.sin(dlon);
+
+        // conformal latitude, as tan
+        final double tau = Math.tan(lat);
+        final double sqrt1tau2 = Math.sqrt(1.0 + tau * tau);
+        final double sigma = Math.sinh(atanh(E * tau / sqrt1tau2) * E);
+        final double taup = tau * Math.sqrt(1.0 + sigma * sigma) - sigma * sqrt1tau2;
+
+        final double xip = Math.atan2(taup, cosl);
+        final double etap = asinh(sinl / Math.sqrt(taup * taup + cosl * cosl));
+
+        // sin and cos of 2j xi', sinh and cosh of 2j eta' by the
+        // multiple angle recurrences, one transcendental call each
+        final double s2 = Math.sin(2.0 * xip);
+        final double c2 = Math.cos(2.0 * xip);
+        final double sh2 = Math.sinh(2.0 * etap);
+        final double ch2 = Math.cosh(2.0 * etap);
+        double s = s2, c = c2, sh = sh2, ch = ch2;
+        double xi = xip;
+        double eta = etap;
+        for (int j = 0; j < ALPHA.length; ++j) {
+            xi += ALPHA[j] * s * ch;
+            eta += ALPHA[j] * c * sh;
+            final double sn = s * c2 + c * s2;
+            final double cn = c * c2 - s * s2;
+            final double shn = sh * ch2 + ch * sh2;
+            final double chn = ch * ch2 + sh * sh2;
+            s = sn;
+            c = cn;
+            sh = shn;
+            ch = chn;
+        }
+
+        dst[offset] = k0 * A * eta;
+        dst[offset + 1] = k0 * A * xi;
+    }
+
+    /**
+     * Inverse of {@link #forward(double, double, double, double[], int)}
+     * @param x easting from the central meridian (m)
+     * @param y northing from the equator (m)
+     * @param dst {lat,dlon} (rad) written at dst[offset], dlon from the
+     * central meridian
+     */
+    public static void inverse(double x, double y, double k0, double dst[], int offset) {
+        final double xi = y / (k0 * A);
+        final double eta = x / (k0 * A);
+
+        final double s2 = Math.sin(2.0 * xi);
+        final double c2 = Math.cos(2.0 * xi);
+        final double sh2 = Math.sinh(2.0 * eta);
+        final double ch2 = Math.cosh(2.0 * eta);
+        double s = s2, c = c2, sh = sh2, ch = ch2;
+        double xip = xi;
+        double etap = eta;
+        for (int j = 0; j < BETA.length; ++j) {
+            xip -= BETA[j] * s * ch;
+            etap -= BETA[j] * c * sh;
+            final double sn = s * c2 + c * s2;
+            final double cn = c * c2 - s * s2;
+            final double shn = sh * ch2 + ch * sh2;
+            final double chn = ch * ch2 + sh * sh2;
+            s = sn;
+            c = cn;
+            sh = shn;
+            ch = chn;
+        }
+
+        final double sinhetap = Math.sinh(etap);
+        final double sinxip = Math.sin(xip);
+        final double cosxip = Math.cos(xip);
+        final double taup = sinxip / Math.sqrt(sinhetap * sinhetap + cosxip * cosxip);
+
+        // Newton iterations on the conformal latitude, 2 or 3 are enough
+        final double e2 = E * E;
+        double tau = taup;
+        for (int i = 0; i < 5; ++i) {
+            final double sqrt1tau2 = Math.sqrt(1.0 + tau * tau);
+            final double sigma = Math.sinh(atanh(E * tau / sqrt1tau2) * E);
+            final double taui = tau * Math.sqrt(1.0 + sigma * sigma) - sigma * sqrt1tau2;
+            final double dtau = (taup - taui) / Math.sqrt(1.0 + taui * taui)
+                    * (1.0 + (1.0 - e2) * tau * tau) / ((1.0 - e2) * sqrt1tau2);
+            tau += dtau;
+            if (Math.abs(dtau) < 1E-12) break;
+        }
+
+        dst[offset] = Math.atan(tau);
+        dst[offset + 1] = Math.atan2(sinhetap, cosxip);
+    }
+
+    private static double atanh(double x) {
+        return 0.5 * Math.log1p(2.0 * x / (1.0 - x));
+    }
+
+    private static double asinh(double x) {
+        final double a = Math.abs(x);
+        final double r = Math.log1p(a + a * a / (1.0 + Math.sqrt(a * a + 1.0)));
+        return x < 0 ? -r : r;
+    }
+}
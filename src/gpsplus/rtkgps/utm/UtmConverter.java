@@ -0,0 +1,241 @@
+package gpsplus.rtkgps.utm;
+
+import gpsplus.rtkgps.utils.TextBuffer;
+
+/**
+ * UTM and MGRS coordinates of WGS84 positions, projected with
+ * {@link TransverseMercator}.
+ * <p>
+ * The zone of the last position is kept with the bounds of its zone and
+ * latitude band: a rover stays in the same cell for hours, so most
+ * conversions only check the bounds before projecting. Converters keep
+ * the last result and are not thread safe, use one per thread.
+ * <p>
+ * UTM is defined from 80°S to 84°N; the polar regions (UPS) are not
+ * handled and the conversion methods return false there.
+ */
+public class UtmConverter {
+
+    public static final double K0 = 0.9996;
+
+    public static final double FALSE_EASTING = 500000.0;
+
+    public static final double FALSE_NORTHING_SOUTH = 10000000.0;
+
+    public static final double MIN_LATITUDE = -80.0;
+
+    public static final double MAX_LATITUDE = 84.0;
+
+    /** Latitude bands of 8°, X is 12° */
+    private static final String BANDS = "CDEFGHJKLMNPQRSTUVWX";
+
+    /** MGRS 100 km square column letters, by zone modulo 3 */
+    private static final String MGRS_COLUMNS[] = {"STUVWXYZ", "ABCDEFGH", "JKLMNPQR"};
+
+    /** MGRS 100 km square row letters, offset by 5 in even zones */
+    private static final String MGRS_ROWS = "ABCDEFGHJKLMNPQRSTUV";
+
+    /** Cached zone and the cell of the grid it is valid in (deg) */
+    private int mZone;
+    private double mCentralMeridian;
+    private double mCellLatMin, mCellLatMax, mCellLonMin, mCellLonMax;
+
+    private final double mXy[];
+
+    private double mEasting;
+    private double mNorthing;
+    private int mResultZone;
+    private char mResultBand;
+
+    public UtmConverter() {
+        mZone = 0;
+        mXy = new double[2];
+    }
+
+    /**
+     * Converts a position, the result is then read with the getters
+     * @param lat latitude (deg)
+     * @param lon longitude (deg)
+     * @return false out of the UTM latitudes
+     */
+    public boolean convert(double lat, double lon) {
+        if (!(lat >= MIN_LATITUDE && lat <= MAX_LATITUDE)) return false;
+        if (lon < -180.0 || lon >= 180.0) lon = normalizeLongitude(lon);
+        if (mZone == 0 || lat < mCellLatMin || lat >= mCellLatMax
+                || lon < mCellLonMin || lon >= mCellLonMax) {
+            selectZone(lat, lon);
+        }
+        TransverseMercator.forward(Math.toRadians(lat), Math.toRadians(lon - mCentralMeridian), K0, mXy, 0);
+        mEasting = mXy[0] + FALSE_EASTING;
+        mNorthing = lat < 0.0 ? mXy[1] + FALSE_NORTHING_SOUTH : mXy[1];
+        mResultZone = mZone;
+        mResultBand = getBand(lat);
+        return true;
+    }
+
+    /**
+     * Converts {@code count} positions stored column-wise. The zone of
+     * each position is the zone of its own cell, as {@link #convert(double, double)}.
+     * Positions out of the UTM latitudes have NaN coordinates and zone 0.
+     * @param zone zone of each position, may be null if not needed
+     * @return number of positions converted
+     */
+    public int convert(double lat[], double lon[], int offset, int count,
+            double easting[], double northing[], int zone[]) {
+        int converted = 0;
+        for (int i = offset; i < offset + count; ++i) {
+            if (convert(lat[i], lon[i])) {
+                easting[i] = mEasting;
+                northing[i] = mNorthing;
+                if (zone != null) zone[i] = mResultZone;
+                converted += 1;
+            }else {
+                easting[i] = Double.NaN;
+                northing[i] = Double.NaN;
+                if (zone != null) zone[i] = 0;
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Converts UTM coordinates back to a geodetic position
+     * @param dst {lat,lon} (deg) written at dst[offset]
+     */
+    public static void toLatLon(int zone, boolean north, double easting, double northing,
+            double dst[], int offset) {
+        final double y = north ? northing : northing - FALSE_NORTHING_SOUTH;
+        TransverseMercator.inverse(easting - FALSE_EASTING, y, K0, dst, offset);
+        dst[offset] = Math.toDegrees(dst[offset]);
+        dst[offset + 1] = normalizeLongitude(Math.toDegrees(dst[offset + 1]) + getCentralMeridian(zone));
+    }
+
+    /**
+     * @return easting (m) of the last position converted
+     */
+    public double getEasting() {
+        return mEasting;
+    }
+
+    /**
+     * @return northing (m) of the last position converted
+     */
+    public double getNorthing() {
+        return mNorthing;
+    }
+
+    /**
+     * @return zone number, 1 to 60, of the last position converted
+     */
+    public int getZone() {
+        return mResultZone;
+    }
+
+    /**
+     * @return latitude band letter, C to X, of the last position converted
+     */
+    public char getBand() {
+        return mResultBand;
+    }
+
+    /**
+     * Appends the zone and band of the last position, e.g. "31U"
+     */
+    public TextBuffer appendZone(TextBuffer dst) {
+        return dst.append(mResultZone).append(mResultBand);
+    }
+
+    /**
+     * Appends the MGRS reference of the last position, e.g.
+     * "31U DQ 48251 11932"
+     * @param digits digits of the easting and northing, 1 to 5 (10 km to 1 m)
+     */
+    public TextBuffer appendMgrs(TextBuffer dst, int digits) {
+        if (digits < 1 || digits > 5) throw new IllegalArgumentException();
+        // 100 km square ids, northings repeat every 2000 km
+        final long e = (long)Math.floor(mEasting);
+        final long n = (long)Math.floor(mNorthing);
+        final int column = (int)(e / 100000L);
+        final int row = (int)((n / 100000L) % 20L);
+        final String columns = MGRS_COLUMNS[mResultZone % 3];
+        appendZone(dst).append(' ');
+        dst.append(columns.charAt(column - 1));
+        dst.append(MGRS_ROWS.charAt((row + (mResultZone % 2 == 0 ? 5 : 0)) % 20));
+        long divisor = 1;
+        for (int i = digits; i < 5; ++i) divisor *= 10;
+        dst.append(' ').appendPadded((e % 100000L) / divisor, digits);
+        return dst.append(' ').appendPadded((n % 100000L) / divisor, digits);
+    }
+
+    /**
+     * @return central meridian (deg) of {@code zone}
+     */
+    public static double getCentralMeridian(int zone) {
+        return zone * 6.0 - 183.0;
+    }
+
+    /**
+     * @param lat latitude (deg), within the UTM latitudes
+     * @return band letter
+     */
+    public static char getBand(double lat) {
+        final int band = (int)Math.floor((lat + 80.0) / 8.0);
+        return BANDS.charAt(Math.min(band, BANDS.length() - 1));
+    }
+
+    /**
+     * @return zone of the position, with the Norway and Svalbard exceptions
+     */
+    public static int getZone(double lat, double lon) {
+        if (lon < -180.0 || lon >= 180.0) lon = normalizeLongitude(lon);
+        int zone = (int)Math.floor((lon + 180.0) / 6.0) + 1;
+        if (lat >= 56.0 && lat < 64.0 && lon >= 3.0 && lon < 12.0) {
+            zone = 32;
+        }else if (lat >= 72.0 && lon >= 0.0 && lon < 42.0) {
+            if (lon < 9.0) {
+                zone = 31;
+            }else if (lon < 21.0) {
+                zone = 33;
+            }else if (lon < 33.0) {
+                zone = 35;
+            }else {
+                zone = 37;
+            }
+        }
+        return Math.min(zone, 60);
+    }
+
+    /**
+     * Caches the zone of the cell containing the position. Cells are the
+     * zone strips cut by the bands, the exceptions at 56° and 72°N being
+     * cells of their own.
+     */
+    private void selectZone(double lat, double lon) {
+        mZone = getZone(lat, lon);
+        mCentralMeridian = getCentralMeridian(mZone);
+
+        final int band = Math.min((int)Math.floor((lat + 80.0) / 8.0), BANDS.length() - 1);
+        mCellLatMin = -80.0 + band * 8.0;
+        mCellLatMax = band == BANDS.length() - 1 ? MAX_LATITUDE + 1E-9 : mCellLatMin + 8.0;
+        final double strip = Math.floor((lon + 180.0) / 6.0) * 6.0 - 180.0;
+        if (mCellLatMin == 56.0 && lon >= 0.0 && lon < 12.0) {
+            // band V: zone 31 shrinks to 3°, zone 32 spans 3° to 12°
+            mCellLonMin = lon < 3.0 ? 0.0 : 3.0;
+            mCellLonMax = lon < 3.0 ? 3.0 : 12.0;
+        }else if (mCellLatMin >= 72.0 && lon >= 0.0 && lon < 42.0) {
+            // band X: zones 31, 33, 35 and 37 of 9° or 12°
+            mCellLonMin = lon < 9.0 ? 0.0 : (lon < 21.0 ? 9.0 : (lon < 33.0 ? 21.0 : 33.0));
+            mCellLonMax = lon < 9.0 ? 9.0 : (lon < 21.0 ? 21.0 : (lon < 33.0 ? 33.0 : 42.0));
+        }else {
+            mCellLonMin = strip;
+            mCellLonMax = strip + 6.0;
+        }
+    }
+
+    private static double normalizeLongitude(double lon) {
+        lon = lon % 360.0;
+        if (lon >= 180.0) lon -= 360.0;
+        if (lon < -180.0) lon += 360.0;
+        return lon;
+    }
+}
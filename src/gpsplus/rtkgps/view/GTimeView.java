@@ -9,6 +9,8 @@ import android.widget.TextView;
 
 import gpsplus.rtkgps.BuildConfig;
 import gpsplus.rtkgps.R;
+import gpsplus.rtkgps.utils.FastTimeFormat;
+import gpsplus.rtkgps.utils.TextBuffer;
 import gpsplus.rtklib.GTime;
 
 import java.text.SimpleDateFormat;
@@ -67,6 +69,12 @@ public class GTimeView extends TextView {
 
     private SimpleDateFormat mGTimeFormatter;
 
+    /** Default template, formatted without SimpleDateFormat into mText */
+    private boolean mDefaultTemplate;
+    private TimeZone mLocalTimeZone;
+    private String mFormatLabel;
+    private final TextBuffer mText;
+
     public GTimeView(Context context) {
         this(context, null);
     }
@@ -76,6 +84,7 @@ public class GTimeView extends TextView {
 
         mGTime = new GTime();
         mGTimeDate = new Date();
+        mText = new TextBuffer(48);
 
         // process style attributes
         TypedArray a = context.obtainStyledAttributes(
@@ -130,6 +139,9 @@ public class GTimeView extends TextView {
     }
 
     private void updateTimeFormatter() {
+        mDefaultTemplate = DEFAULT_TIME_TEMPLATE.equals(mTimeTemplate);
+        mLocalTimeZone = TimeZone.getDefault();
+        mFormatLabel = getResources().getString(mTimeFormat.mDescriptionId);
         switch (mTimeFormat) {
         case GPS:
             mGTimeFormatter = new SimpleDateFormat(mTimeTemplate, Locale.US);
@@ -151,6 +163,11 @@ public class GTimeView extends TextView {
     private void updateTextViewValue() {
         String time;
 
+        if (mDefaultTemplate) {
+            updateTextViewValueFast();
+            return;
+        }
+
         try {
             switch (mTimeFormat) {
             case GPS:
@@ -191,4 +208,31 @@ public class GTimeView extends TextView {
 
         setText(time);
     }
+
+    /**
+     * Same text as with the default template, without allocation
+     */
+    private void updateTextViewValueFast() {
+        final long millis;
+        mText.clear();
+        switch (mTimeFormat) {
+        case GPS:
+            mGTime.appendGpst(mText, 3);
+            break;
+        case UTC:
+            FastTimeFormat.appendRtklibTime(mText, mGTime.getUtcTimeMillis(), 3);
+            break;
+        case LOCAL:
+            millis = mGTime.getUtcTimeMillis();
+            FastTimeFormat.appendRtklibTime(mText, millis + mLocalTimeZone.getOffset(millis), 3);
+            break;
+        case GPS_TOW:
+            mGTime.appendGpsWeekTow(mText, 3);
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+        if (mTimeFormat != Format.GPS_TOW) mText.append(' ').append(mFormatLabel);
+        setText(mText.array(), 0, mText.length());
+    }
 }
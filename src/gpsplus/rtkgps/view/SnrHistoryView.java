@@ -0,0 +1,323 @@
+package gpsplus.rtkgps.view;
+
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Paint.Style;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.util.AttributeSet;
+import android.view.View;
+
+import gpsplus.rtkgps.BuildConfig;
+import gpsplus.rtkgps.R;
+import gpsplus.rtkgps.utils.SnrHistory;
+import gpsplus.rtklib.RtkCommon;
+import gpsplus.rtklib.constants.Constants;
+
+/**
+ * Waterfall of the SNR of the last epochs, one row per satellite and one
+ * column per epoch, the last epoch on the right.
+ * <p>
+ * Cells are the pixels of a bitmap of one column per epoch of the
+ * {@link SnrHistory}, used as a ring in the same way as the history:
+ * {@link #update()} only writes the columns of the new epochs, and the
+ * bitmap is drawn scaled, in two parts, by onDraw(). The whole bitmap is
+ * only redrawn when the satellites shown or the band change.
+ */
+public class SnrHistoryView extends View {
+
+    @SuppressWarnings("unused")
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+
+    static final String TAG = SnrHistoryView.class.getSimpleName();
+
+    private final static int MIN_SNR = 10;
+
+    private static final int GRID_TEXT_SIZE = 12;
+
+    private static final int GRID_TEXT_COLOR = Color.GRAY;
+
+    private SnrHistory mHistory;
+
+    private int mBand;
+
+    /** one pixel per epoch and satellite shown */
+    private Bitmap mBitmap;
+
+    private final int mColumn[];
+
+    /** rows of the history shown, by satellite number */
+    private final int mRows[];
+    private final int mNewRows[];
+    private final String mRowLabels[];
+    private int mRowCount;
+
+    /** epochs of the history written to the bitmap */
+    private long mDrawnEpochs;
+
+    private String mSpanLabel;
+
+    private final Paint mGridPaint, mGridTextPaint, mBitmapPaint;
+    private final float mRowLabelLength;
+    private final Rect mSrc;
+    private final RectF mDst, mPlot;
+
+    public SnrHistoryView(Context context) {
+        this(context, null);
+    }
+
+    public SnrHistoryView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+
+        int gridTextSize;
+        int gridTextColor;
+
+        mBand = SnrView.BAND_L1;
+        mColumn = new int[Constants.MAXSAT];
+        mRows = new int[Constants.MAXSAT];
+        mNewRows = new int[Constants.MAXSAT];
+        mRowLabels = new String[Constants.MAXSAT];
+        mRowCount = 0;
+
+        // process style attributes
+        TypedArray a = context.obtainStyledAttributes(
+                attrs, R.styleable.SnrView, 0, 0);
+        try {
+            gridTextSize = a.getInt(R.styleable.SnrView_grid_text_size, GRID_TEXT_SIZE);
+            gridTextColor = a.getColor(R.styleable.SnrView_grid_text_color, GRID_TEXT_COLOR);
+        }finally {
+            a.recycle();
+        }
+
+        final float density = getResources().getDisplayMetrics().density;
+
+        mGridPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mGridPaint.setColor(gridTextColor);
+        mGridPaint.setStyle(Style.STROKE);
+
+        mGridTextPaint = new Paint(mGridPaint);
+        mGridTextPaint.setTextSize(gridTextSize * density);
+        mGridTextPaint.setTextAlign(Paint.Align.CENTER);
+        mGridTextPaint.setStyle(Style.FILL);
+
+        // no filtering, cells stay sharp when scaled
+        mBitmapPaint = new Paint();
+
+        mRowLabelLength = mGridTextPaint.measureText("G00") + 5;
+        mSrc = new Rect();
+        mDst = new RectF();
+        mPlot = new RectF();
+    }
+
+    /**
+     * @param history history shown, redrawn on {@link #update()}
+     */
+    public void setHistory(SnrHistory history) {
+        mHistory = history;
+        mBitmap = null;
+        mSpanLabel = null;
+        if (history != null) {
+            mBitmap = Bitmap.createBitmap(history.getCapacity(), Constants.MAXSAT,
+                    Bitmap.Config.ARGB_8888);
+            final long span = history.getCapacity() * history.getIntervalMillis() / 60000L;
+            if (span > 0) {
+                mSpanLabel = getContext().getString(R.string.snr_history_span, span);
+            }
+        }
+        redraw();
+    }
+
+    public SnrHistory getHistory() {
+        return mHistory;
+    }
+
+    /**
+     *
+     * @param band {@link SnrView#BAND_ANY}, {@link SnrView#BAND_L1},
+     * {@link SnrView#BAND_L2}, {@link SnrView#BAND_L5}
+     */
+    public void setFreqBand(int band) {
+        switch (band) {
+        case SnrView.BAND_ANY:
+        case SnrView.BAND_L1:
+        case SnrView.BAND_L2:
+        case SnrView.BAND_L5:
+            if (mBand == band) return;
+            mBand = band;
+            break;
+        default:
+            throw new IllegalArgumentException();
+        }
+        redraw();
+    }
+
+    /**
+     * Draws the epochs added to the history since the last call
+     */
+    public void update() {
+        if (mHistory == null) return;
+
+        final long epochs = mHistory.getEpochCount();
+        if (epochs == mDrawnEpochs) return;
+
+        final int rowCount = selectRows(mNewRows);
+        if (epochs < mDrawnEpochs
+                || epochs - mDrawnEpochs > mHistory.getCapacity()
+                || !sameRows(mNewRows, rowCount)) {
+            redraw();
+            return;
+        }
+
+        for (long e = mDrawnEpochs; e < epochs; ++e) drawColumn(e);
+        mDrawnEpochs = epochs;
+        invalidate();
+    }
+
+    private void redraw() {
+        mRowCount = 0;
+        mDrawnEpochs = 0;
+        if (mHistory != null) {
+            mRowCount = selectRows(mRows);
+            for (int r = 0; r < mRowCount; ++r) {
+                mRowLabels[r] = RtkCommon.getSatId(mHistory.getSatNumber(mRows[r]));
+            }
+            mBitmap.eraseColor(Color.TRANSPARENT);
+            mDrawnEpochs = mHistory.getEpochCount();
+            for (long e = mHistory.getFirstEpoch(); e < mDrawnEpochs; ++e) drawColumn(e);
+        }
+        invalidate();
+    }
+
+    /**
+     * Selects the rows of the satellites seen in the epochs kept, sorted
+     * by satellite number
+     * @return number of rows
+     */
+    private int selectRows(int dst[]) {
+        final long first = mHistory.getFirstEpoch();
+        int count = 0;
+        for (int row = 0; row < mHistory.getRowCount(); ++row) {
+            if (mHistory.getLastSeenEpoch(row) < first) continue;
+            final int sat = mHistory.getSatNumber(row);
+            int i = count;
+            while (i > 0 && mHistory.getSatNumber(dst[i - 1]) > sat) {
+                dst[i] = dst[i - 1];
+                i -= 1;
+            }
+            dst[i] = row;
+            count += 1;
+        }
+        return count;
+    }
+
+    private boolean sameRows(int rows[], int rowCount) {
+        if (rowCount != mRowCount) return false;
+        for (int r = 0; r < rowCount; ++r) {
+            if (rows[r] != mRows[r]) return false;
+        }
+        return true;
+    }
+
+    private void drawColumn(long epoch) {
+        if (mRowCount == 0) return;
+        for (int r = 0; r < mRowCount; ++r) {
+            final int snr = getSnr(mRows[r], epoch);
+            mColumn[r] = snr > MIN_SNR ? GpsSkyView.getSatellitePaintColor(snr, true) : Color.TRANSPARENT;
+        }
+        final int x = (int)(epoch % mHistory.getCapacity());
+        mBitmap.setPixels(mColumn, 0, 1, x, 0, 1, mRowCount);
+    }
+
+    private int getSnr(int row, long epoch) {
+        switch (mBand) {
+        case SnrView.BAND_L1:
+            return mHistory.getSnr(row, SnrHistory.FREQ1, epoch);
+        case SnrView.BAND_L2:
+            return mHistory.getSnr(row, SnrHistory.FREQ2, epoch);
+        case SnrView.BAND_L5:
+            return mHistory.getSnr(row, SnrHistory.FREQ3, epoch);
+        default:
+            return Math.max(mHistory.getSnr(row, SnrHistory.FREQ1, epoch),
+                    Math.max(mHistory.getSnr(row, SnrHistory.FREQ2, epoch),
+                            mHistory.getSnr(row, SnrHistory.FREQ3, epoch)));
+        }
+    }
+
+    private void drawGrid(Canvas canvas) {
+        final float footerSize = mGridTextPaint.getTextSize() + 5;
+
+        mPlot.set(getPaddingLeft() + mRowLabelLength,
+                getPaddingTop(),
+                getWidth() - getPaddingRight() - mGridPaint.getStrokeWidth(),
+                getHeight() - getPaddingBottom() - footerSize);
+        canvas.drawRect(mPlot, mGridPaint);
+
+        final float textY = mPlot.bottom + mGridTextPaint.getTextSize();
+        if (mSpanLabel != null) {
+            mGridTextPaint.setTextAlign(Paint.Align.LEFT);
+            canvas.drawText(mSpanLabel, mPlot.left, textY, mGridTextPaint);
+            mGridTextPaint.setTextAlign(Paint.Align.CENTER);
+        }
+
+        // a line per minute
+        if (mHistory != null && mHistory.getIntervalMillis() > 0) {
+            final float minuteWidth = (mPlot.right - mPlot.left)
+                    * 60000.0f / mHistory.getIntervalMillis() / mHistory.getCapacity();
+            if (minuteWidth > 2 * mGridTextPaint.getTextSize()) {
+                for (float x = mPlot.right - minuteWidth; x > mPlot.left; x -= minuteWidth) {
+                    canvas.drawLine(x, mPlot.top, x, mPlot.bottom, mGridPaint);
+                }
+            }
+        }
+    }
+
+    private void drawSnr(Canvas canvas) {
+        if (mHistory == null || mRowCount == 0) return;
+
+        final int capacity = mHistory.getCapacity();
+        final int size = mHistory.getSize();
+        final float columnWidth = (mPlot.right - mPlot.left) / capacity;
+        final float rowHeight = (mPlot.bottom - mPlot.top) / mRowCount;
+
+        if (size < capacity) {
+            mSrc.set(0, 0, size, mRowCount);
+            mDst.set(mPlot.right - size * columnWidth, mPlot.top, mPlot.right, mPlot.bottom);
+            canvas.drawBitmap(mBitmap, mSrc, mDst, mBitmapPaint);
+        }else {
+            // oldest epochs from the next column to write
+            final int head = (int)(mHistory.getEpochCount() % capacity);
+            final float split = mPlot.left + (capacity - head) * columnWidth;
+            mSrc.set(head, 0, capacity, mRowCount);
+            mDst.set(mPlot.left, mPlot.top, split, mPlot.bottom);
+            canvas.drawBitmap(mBitmap, mSrc, mDst, mBitmapPaint);
+            if (head > 0) {
+                mSrc.set(0, 0, head, mRowCount);
+                mDst.set(split, mPlot.top, mPlot.right, mPlot.bottom);
+                canvas.drawBitmap(mBitmap, mSrc, mDst, mBitmapPaint);
+            }
+        }
+
+        // satellite ids, every few rows if they do not fit
+        final float textSize = mGridTextPaint.getTextSize();
+        final int step = Math.max(1, (int)Math.ceil(textSize / rowHeight));
+        for (int r = 0; r < mRowCount; r += step) {
+            canvas.drawText(mRowLabels[r],
+                    mPlot.left - mRowLabelLength / 2.0f,
+                    mPlot.top + (r + 0.5f) * rowHeight + 0.4f * textSize,
+                    mGridTextPaint);
+        }
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+
+        drawGrid(canvas);
+        drawSnr(canvas);
+    }
+
+}
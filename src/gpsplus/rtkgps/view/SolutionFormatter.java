@@ -0,0 +1,354 @@
+package gpsplus.rtkgps.view;
+
+import gpsplus.rtkgps.Proj4Converter;
+import gpsplus.rtkgps.geoid.GeoidService;
+import gpsplus.rtkgps.utils.FastCoordinateFormat;
+import gpsplus.rtkgps.utils.TextBuffer;
+import gpsplus.rtkgps.utils.TextTemplate;
+import gpsplus.rtkgps.utm.UtmConverter;
+import gpsplus.rtkgps.view.SolutionView.Format;
+import gpsplus.rtklib.Geodesy;
+import gpsplus.rtklib.RtkControlResult;
+import gpsplus.rtklib.Solution;
+import gpsplus.rtklib.constants.GeoidModel;
+
+import org.jscience.geography.coordinates.LatLong;
+import org.jscience.geography.coordinates.UTM;
+import org.jscience.geography.coordinates.crs.CoordinatesConverter;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.measure.unit.NonSI;
+import javax.measure.unit.SI;
+
+/**
+ * Formats the coordinates, standard deviations and age of a solution, as
+ * shown by {@link SolutionView}, into reused {@link TextBuffer}s.
+ * <p>
+ * The conversions work on preallocated arrays and the numbers are written
+ * with {@link FastCoordinateFormat}, so an epoch does not allocate. UTM
+ * coordinates come from {@link UtmConverter}, jscience is only left for
+ * the polar regions.
+ */
+public class SolutionFormatter {
+
+    public static final int COORDINATES = 4;
+
+    private Format mFormat;
+
+    /** Model of the altitudes, null for ellipsoidal heights */
+    private GeoidModel mGeoidModel;
+
+    private String mCustomProj4;
+
+    private Proj4Converter mProj4Converter;
+
+    private final UtmConverter mUtmConverter;
+
+    private final TextTemplate mAgeTemplate;
+    private final String mAgeFormat;
+    private final double mAgeArgs[];
+
+    private final double mEcef[];
+    private final double mPos[];
+    private final double mBasePos[];
+    private final double mBaseline[];
+    private final double mEnu[];
+    private final double mQ[];
+    private final double mQe[];
+    private final double mLat[];
+    private final double mLon[];
+    private final double mX[];
+    private final double mY[];
+
+    private final TextBuffer mCoordinates[];
+    private final TextBuffer mCovariance;
+    private final TextBuffer mAge;
+
+    /**
+     * @param ageFormat format of the age text, with the age, the AR ratio and
+     * the number of satellites as arguments
+     */
+    public SolutionFormatter(String ageFormat) {
+        TextTemplate template;
+        try {
+            template = new TextTemplate(ageFormat);
+        }catch (IllegalArgumentException e) {
+            // not a layout TextTemplate handles, use String.format()
+            e.printStackTrace();
+            template = null;
+        }
+        mAgeTemplate = template;
+        mAgeFormat = ageFormat;
+        mAgeArgs = new double[3];
+
+        mFormat = SolutionView.DEFAULT_SOLUTION_FORMAT;
+        mUtmConverter = new UtmConverter();
+        mEcef = new double[3];
+        mPos = new double[3];
+        mBasePos = new double[3];
+        mBaseline = new double[3];
+        mEnu = new double[3];
+        mQ = new double[9];
+        mQe = new double[9];
+        mLat = new double[1];
+        mLon = new double[1];
+        mX = new double[1];
+        mY = new double[1];
+
+        mCoordinates = new TextBuffer[COORDINATES];
+        for (int i = 0; i < COORDINATES; ++i) mCoordinates[i] = new TextBuffer(32);
+        mCovariance = new TextBuffer(48);
+        mAge = new TextBuffer(48);
+    }
+
+    public void setFormat(Format format) {
+        mFormat = format;
+    }
+
+    public Format getFormat() {
+        return mFormat;
+    }
+
+    /**
+     * @param model geoid of the altitudes, null to show ellipsoidal heights only
+     */
+    public void setGeoidModel(GeoidModel model) {
+        mGeoidModel = model;
+    }
+
+    public GeoidModel getGeoidModel() {
+        return mGeoidModel;
+    }
+
+    public boolean isGeodetic() {
+        return mGeoidModel != null;
+    }
+
+    /**
+     * @param proj4 resolved proj.4 definition of {@link Format#PROJ4_CUSTOM},
+     *        null if it could not be resolved: no coordinates are shown
+     */
+    public void setCustomProj4(String proj4) {
+        mCustomProj4 = proj4;
+    }
+
+    /**
+     * @return true if the format shows altitudes, i.e. depends on the geoid model
+     */
+    public boolean usesGeoid() {
+        switch (mFormat) {
+        case ECEF:
+        case ENU_BASELINE:
+        case PYL_BASELINE:
+            return false;
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Formats the rover solution of {@code rtk}
+     * @return false if there is no position to show, the texts are then unchanged
+     */
+    public boolean format(RtkControlResult rtk) {
+        final Solution sol = rtk.getSolution();
+        sol.getPosition(mEcef, 0);
+        if (Geodesy.norm(mEcef, 0, 3) <= 0.0) return false;
+        Geodesy.ecef2pos(mEcef[0], mEcef[1], mEcef[2], mPos, 0);
+        sol.getQrMatrix(mQ);
+        Geodesy.covenu(mPos[0], mPos[1], mQ, mQe);
+        return formatCoordinates(rtk.getRb());
+    }
+
+    /**
+     * Formats a position of the demo mode
+     * @param lat, lon, height geodetic position (rad, m)
+     * @param qe, qn, qu variances in local coordinates (m^2)
+     * @param rb base position {x,y,z} (m)
+     * @return false if there is no position to show, the texts are then unchanged
+     */
+    public boolean format(double lat, double lon, double height,
+            double qe, double qn, double qu, double rb[]) {
+        mPos[0] = lat;
+        mPos[1] = lon;
+        mPos[2] = height;
+        Geodesy.pos2ecef(lat, lon, height, mEcef, 0);
+        Arrays.fill(mQ, 0.0);
+        Arrays.fill(mQe, 0.0);
+        mQe[0] = qe;
+        mQe[4] = qn;
+        mQe[8] = qu;
+        return formatCoordinates(rb);
+    }
+
+    public void formatAge(double age, double ratio, int ns) {
+        mAge.clear();
+        if (mAgeTemplate != null) {
+            mAgeArgs[0] = age;
+            mAgeArgs[1] = ratio;
+            mAgeArgs[2] = ns;
+            mAgeTemplate.append(mAge, mAgeArgs);
+        }else {
+            mAge.append(String.format(Locale.US, mAgeFormat, age, ratio, ns));
+        }
+    }
+
+    /**
+     * @param i coordinate, 0 to {@link #COORDINATES} - 1
+     */
+    public TextBuffer getCoordinate(int i) {
+        return mCoordinates[i];
+    }
+
+    public TextBuffer getCovariance() {
+        return mCovariance;
+    }
+
+    public TextBuffer getAge() {
+        return mAge;
+    }
+
+    /**
+     * Gives the projections back to the pool, the formatter may be used
+     * again afterwards
+     */
+    public void release() {
+        if (mProj4Converter != null) mProj4Converter.release();
+    }
+
+    private boolean formatCoordinates(double rb[]) {
+        final double lat = mPos[0];
+        final double lon = mPos[1];
+        final double height = mPos[2];
+        final double dlat = Math.toDegrees(lat);
+        final double dlon = Math.toDegrees(lon);
+        final TextBuffer c1 = mCoordinates[0];
+        final TextBuffer c2 = mCoordinates[1];
+        final TextBuffer c3 = mCoordinates[2];
+        final TextBuffer c4 = mCoordinates[3];
+
+        switch (mFormat) {
+        case PROJ4_LAMBERT93:
+        case PROJ4_LAMBERT93_CC43:
+        case PROJ4_LAMBERT93_CC44:
+        case PROJ4_LAMBERT93_CC45:
+        case PROJ4_LAMBERT93_CC46:
+        case PROJ4_LAMBERT93_CC47:
+        case PROJ4_LAMBERT93_CC48:
+        case PROJ4_LAMBERT93_CC49:
+        case PROJ4_LAMBERT93_CC50:
+        case PROJ4_LAMBERTIIE:
+        case PROJ4_NAD83:
+        case PROJ4_CUSTOM:
+            final String proj4 = mFormat.getProj4String() != null ? mFormat.getProj4String() : mCustomProj4;
+            if (proj4 == null) return false;
+            if (mProj4Converter == null) mProj4Converter = new Proj4Converter();
+            mLat[0] = dlat;
+            mLon[0] = dlon;
+            try {
+                mProj4Converter.convert(proj4, mLat, mLon, 0, 1, mX, mY);
+            }catch (IllegalArgumentException e) {
+                // definition rejected by proj.4, e.g. a mistyped custom one
+                return false;
+            }
+            clearCoordinates();
+            c1.appendFixed(mX[0], 3).append(" m");
+            c2.appendFixed(mY[0], 3).append(" m");
+            c3.appendFixed(height - getGeoidHeight(dlat, dlon), 3).append(" m el.");
+            appendNeuSigmas();
+            break;
+        case UTM:
+            final double geoidHeight = getGeoidHeight(dlat, dlon);
+            clearCoordinates();
+            if (mUtmConverter.convert(dlat, dlon)) {
+                c1.appendFixed(mUtmConverter.getEasting(), 3).append(" m");
+                c2.appendFixed(mUtmConverter.getNorthing(), 3).append(" m");
+                mUtmConverter.appendZone(c4);
+            }else {
+                // polar regions, UPS coordinates
+                final CoordinatesConverter<LatLong, UTM> latLongToUTM = LatLong.CRS.getConverterTo(UTM.CRS);
+                final UTM utm = latLongToUTM.convert(LatLong.valueOf(dlat, dlon, NonSI.DEGREE_ANGLE));
+                c1.appendFixed(utm.eastingValue(SI.METER), 3).append(" m");
+                c2.appendFixed(utm.northingValue(SI.METER), 3).append(" m");
+                c4.append(utm.longitudeZone()).append(utm.latitudeZone());
+            }
+            c3.appendFixed(height - geoidHeight, 3).append(" m el.");
+            appendNeuSigmas();
+            break;
+        case WGS84:
+        case WGS84_FLOAT:
+            clearCoordinates();
+            if (mFormat == Format.WGS84) {
+                FastCoordinateFormat.appendDms(c1, dlat, true);
+                FastCoordinateFormat.appendDms(c2, dlon, false);
+            }else {
+                FastCoordinateFormat.appendDegrees(c1, dlat);
+                FastCoordinateFormat.appendDegrees(c2, dlon);
+            }
+            c3.appendFixed(height, 3).append("m el.");
+            if (isGeodetic()) {
+                c4.appendFixed(height - getGeoidHeight(dlat, dlon), 3).append("m el.");
+            }
+            appendNeuSigmas();
+            break;
+        case ECEF:
+            clearCoordinates();
+            c1.appendFixed(mEcef[0], 3);
+            c2.appendFixed(mEcef[1], 3);
+            c3.appendFixed(mEcef[2], 3);
+            mCovariance.clear();
+            FastCoordinateFormat.appendSigmas(mCovariance, "XYZ", mQ[0], mQ[4], mQ[8]);
+            break;
+        case ENU_BASELINE:
+        case PYL_BASELINE:
+            mBaseline[0] = mEcef[0] - rb[0];
+            mBaseline[1] = mEcef[1] - rb[1];
+            mBaseline[2] = mEcef[2] - rb[2];
+            final double baselineLen = Geodesy.norm(mBaseline, 0, 3);
+            if (baselineLen <= 0.0) return false;
+
+            Geodesy.ecef2pos(rb[0], rb[1], rb[2], mBasePos, 0);
+            Geodesy.ecef2enu(mBasePos[0], mBasePos[1], mBaseline, 0, mEnu, 0);
+            Geodesy.covenu(mBasePos[0], mBasePos[1], mQ, mQe);
+
+            clearCoordinates();
+            if (mFormat == Format.ENU_BASELINE) {
+                c1.appendFixed(mEnu[0], 3).append(" m");
+                c2.appendFixed(mEnu[1], 3).append(" m");
+                c3.appendFixed(mEnu[2], 3).append(" m");
+            }else {
+                final double pitch = Math.asin(mEnu[2] / baselineLen);
+                double yaw = Math.atan2(mEnu[0], mEnu[1]);
+                if (yaw < 0.0) yaw += 2.0 * Math.PI;
+                c1.appendFixed(Math.toDegrees(pitch), 3).append(" °");
+                c2.appendFixed(Math.toDegrees(yaw), 3).append(" °");
+                c3.appendFixed(baselineLen, 3).append(" m");
+            }
+            mCovariance.clear();
+            FastCoordinateFormat.appendSigmas(mCovariance, "ENU", mQe[0], mQe[4], mQe[8]);
+            break;
+        default:
+            throw new IllegalStateException();
+        }
+        return true;
+    }
+
+    private void clearCoordinates() {
+        for (int i = 0; i < COORDINATES; ++i) mCoordinates[i].clear();
+    }
+
+    private void appendNeuSigmas() {
+        mCovariance.clear();
+        FastCoordinateFormat.appendSigmas(mCovariance, "NEU", mQe[4], mQe[0], mQe[8]);
+    }
+
+    /**
+     * @return geoid height (m) of the selected model, 0 for ellipsoidal heights
+     */
+    private double getGeoidHeight(double dlat, double dlon) {
+        if (mGeoidModel == null) return 0.0;
+        return GeoidService.getInstance().getHeight(mGeoidModel, dlat, dlon);
+    }
+}
@@ -7,6 +7,7 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.util.AttributeSet;
+import android.util.Log;
 import android.view.View;
 import android.widget.TableLayout;
 import android.widget.TextView;
@@ -14,32 +15,19 @@ import android.widget.TextView;
 import gpsplus.rtkgps.BuildConfig;
 import gpsplus.rtkgps.DemoModeLocation;
 import gpsplus.rtkgps.MainActivity;
-import gpsplus.rtkgps.Proj4Converter;
 import gpsplus.rtkgps.R;
 import gpsplus.rtkgps.RtkNaviService;
 import gpsplus.rtkgps.settings.SolutionOutputSettingsFragment;
-import gpsplus.rtklib.RtkCommon;
-import gpsplus.rtklib.RtkCommon.Deg2Dms;
-import gpsplus.rtklib.RtkCommon.Matrix3x3;
 import gpsplus.rtklib.RtkCommon.Position3d;
 import gpsplus.rtklib.RtkControlResult;
 import gpsplus.rtklib.Solution;
 import gpsplus.rtklib.constants.GeoidModel;
 import gpsplus.rtklib.constants.SolutionStatus;
 
-import org.jscience.geography.coordinates.LatLong;
-import org.jscience.geography.coordinates.UTM;
-import org.jscience.geography.coordinates.crs.CoordinatesConverter;
 import org.proj4.CRSRegistry;
-import org.proj4.ProjCoordinate;
+import org.proj4.EpsgRegistry;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.text.NumberFormat;
-import java.util.Locale;
-
-import javax.measure.unit.NonSI;
-import javax.measure.unit.SI;
+import java.io.IOException;
 
 public class SolutionView extends TableLayout {
 
@@ -163,10 +151,6 @@ public class SolutionView extends TableLayout {
 
     private Format mSolutionFormat;
 
-    private boolean mBoolIsGeodetic = false;
-
-    private final NumberFormat mCoordEcefFormatter;
-
     private final TextView mTextViewSolutionStatus;
 
     private final SolutionIndicatorView mSolutionIndicatorView;
@@ -179,9 +163,37 @@ public class SolutionView extends TableLayout {
 
     private final TextView mTextViewCovariance;
     private final TextView mTextViewAge;
-    private Proj4Converter proj4Converter = null;
-    private GeoidModel model;
-    public RtkCommon rtkCommon;
+
+    /** Texts refreshed on every epoch, only set when they change */
+    private final TextViewUpdater mGeoidModelText;
+    private final TextViewUpdater mCoordNameTexts[];
+    private final TextViewUpdater mCoordValueTexts[];
+    private final TextViewUpdater mCovarianceText;
+    private final TextViewUpdater mAgeText;
+    private int mSolutionStatusResId;
+
+    private final SolutionFormatter mFormatter;
+
+    /** Resources read once, not on every epoch */
+    private final String mEllipsoidalHeight;
+    private final String mHeightName, mAltitudeName, mZoneName;
+    private final String mCustomProj4Default;
+    private final SharedPreferences mPrefs;
+    private String mGeoidModelPref;
+    private String mCustomProj4Pref;
+
+    /** format or preferences changed since the last {@link #setStats(RtkControlResult)} */
+    private boolean mDirty;
+
+    // kept here, the preferences only hold a weak reference to their listeners
+    private final SharedPreferences.OnSharedPreferenceChangeListener mPrefsListener =
+            new SharedPreferences.OnSharedPreferenceChangeListener() {
+        @Override
+        public void onSharedPreferenceChanged(SharedPreferences prefs, String key) {
+            mDirty = true;
+        }
+    };
+
     private DemoModeLocation mDemoModeLocation;
 
     public SolutionView(Context context, AttributeSet attrs) {
@@ -225,8 +237,22 @@ public class SolutionView extends TableLayout {
         mTextViewCovariance = (TextView)findViewById(R.id.covariance_text);
         mTextViewAge = (TextView)findViewById(R.id.age_text);
 
-        mCoordEcefFormatter = new DecimalFormat("0.000",
-                DecimalFormatSymbols.getInstance(Locale.US));
+        mGeoidModelText = new TextViewUpdater(mTextViewGeoidModel);
+        mCoordNameTexts = new TextViewUpdater[] {
+                new TextViewUpdater(mTextViewCoord1Name),
+                new TextViewUpdater(mTextViewCoord2Name),
+                new TextViewUpdater(mTextViewCoord3Name),
+                new TextViewUpdater(mTextViewCoord4Name)
+        };
+        mCoordValueTexts = new TextViewUpdater[] {
+                new TextViewUpdater(mTextViewCoord1Value),
+                new TextViewUpdater(mTextViewCoord2Value),
+                new TextViewUpdater(mTextViewCoord3Value),
+                new TextViewUpdater(mTextViewCoord4Value)
+        };
+        mCovarianceText = new TextViewUpdater(mTextViewCovariance);
+        mAgeText = new TextViewUpdater(mTextViewAge);
+        mSolutionStatusResId = 0;
 
         if (textColor != null) {
             ((TextView)findViewById(R.id.solution_title)).setTextColor(textColor);
@@ -243,13 +269,26 @@ public class SolutionView extends TableLayout {
             mTextViewAge.setTextColor(textColor);
         }
 
+        final String wgs84Names[] = getResources().getStringArray(R.array.solution_view_coordinates_wgs84);
+        mEllipsoidalHeight = getResources().getStringArray(R.array.solopt_height_entries)[0];
+        mHeightName = wgs84Names[2];
+        mAltitudeName = wgs84Names[3];
+        mZoneName = getResources().getStringArray(R.array.solution_view_coordinates_utm)[3];
+        mCustomProj4Default = getResources().getString(R.string.solopt_output_customproj4_default);
+        mPrefs = context.getSharedPreferences(SolutionOutputSettingsFragment.SHARED_PREFS_NAME, 0);
+        mDirty = true;
+
+        mFormatter = new SolutionFormatter(getResources().getString(R.string.solution_view_age_text_format));
+
         mDemoModeLocation = MainActivity.getDemoModeLocation();
 
         if (mDemoModeLocation.isInDemoMode()) {
             mSolutionFormat = Format.WGS84;
+            mFormatter.setFormat(mSolutionFormat);
             updateCoordinatesHeader();
             setStats(new RtkControlResult());
         }else {
+            mFormatter.setFormat(mSolutionFormat);
             updateCoordinatesHeader();
             clearCoordinates();
             setStats(new RtkControlResult());
@@ -257,12 +296,19 @@ public class SolutionView extends TableLayout {
     }
 
     @Override
-    protected void finalize() throws Throwable {
-        if (rtkCommon!=null)
-        {
-            rtkCommon.closegeoid();
-        }
-        super.finalize();
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        mPrefs.registerOnSharedPreferenceChangeListener(mPrefsListener);
+        // changes while detached were missed
+        mDirty = true;
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        mPrefs.unregisterOnSharedPreferenceChangeListener(mPrefsListener);
+        // let other views and exports reuse the projections
+        mFormatter.release();
     }
 
     public void setStats(RtkControlResult status) {
@@ -276,8 +322,13 @@ public class SolutionView extends TableLayout {
             resId = sol.getSolutionStatus().getNameResId();
             solStatus = sol.getSolutionStatus();
         }
-        mTextViewSolutionStatus.setText(resId);
+        if (resId != mSolutionStatusResId) {
+            mTextViewSolutionStatus.setText(resId);
+            mSolutionStatusResId = resId;
+        }
         mSolutionIndicatorView.setStatus(solStatus);
+        if (mDirty) updatePreferences();
+        mDirty = false;
         updateCoordinates(status);
         updateAgeText(sol);
     }
@@ -285,295 +336,137 @@ public class SolutionView extends TableLayout {
     public void setFormat(Format format) {
         if (format != mSolutionFormat) {
             mSolutionFormat = format;
+            mFormatter.setFormat(format);
             updateCoordinatesHeader();
             clearCoordinates();
+            mDirty = true;
         }
     }
 
+    /**
+     * @return true if the format or a solution output preference changed
+     * since the last {@link #setStats(RtkControlResult)}: the solution must
+     * be set again, even if its epoch did not change
+     */
+    public boolean isDirty() {
+        return mDirty;
+    }
+
     public Format getFormat() {
         return mSolutionFormat;
     }
 
-    private double getAltitudeCorrection(double lat, double lon)
-    {
-     // Gets if solution height is geodetic or ellipsoidal
-        double dGeoidHeight = 0.0;
-        String mSzEllipsoidal = this.getContext().getResources().getStringArray(R.array.solopt_height_entries)[0];
-        SharedPreferences prefs= this.getContext().getSharedPreferences(SolutionOutputSettingsFragment.SHARED_PREFS_NAME, 0);
-        String strHeightPref = prefs.getString(SolutionOutputSettingsFragment.KEY_HEIGHT, mSzEllipsoidal);
-        if (strHeightPref.equals(mSzEllipsoidal))
-        {
-            dGeoidHeight = 0.0;
-            mBoolIsGeodetic = false;
-            model = null;
-            mTextViewGeoidModel.setText(getResources().getStringArray(R.array.solopt_height_entries)[0]);
-        }else
-        {
-            mBoolIsGeodetic = true;
-            model = GeoidModel.valueOf( prefs.getString(SolutionOutputSettingsFragment.KEY_GEOID_MODEL,GeoidModel.EMBEDDED.name()) );
-            mTextViewGeoidModel.setText(model.name());
-            if (rtkCommon == null)
-            {
-                rtkCommon = new RtkCommon();
+    /**
+     * Reads whether solution heights are geodetic or ellipsoidal, and the
+     * custom projection, once the format or the preferences changed.
+     */
+    private void updatePreferences() {
+        final String strHeightPref = mPrefs.getString(SolutionOutputSettingsFragment.KEY_HEIGHT, mEllipsoidalHeight);
+        if (strHeightPref.equals(mEllipsoidalHeight)) {
+            mFormatter.setGeoidModel(null);
+        }else {
+            final String modelPref = mPrefs.getString(SolutionOutputSettingsFragment.KEY_GEOID_MODEL, GeoidModel.EMBEDDED.name());
+            if (mFormatter.getGeoidModel() == null || !modelPref.equals(mGeoidModelPref)) {
+                mFormatter.setGeoidModel(GeoidModel.valueOf(modelPref));
+                mGeoidModelPref = modelPref;
             }
-            dGeoidHeight = rtkCommon.getAltitudeCorrection(lat, lon, model.getRtklibId());
         }
-        return dGeoidHeight;
 
+        if (mSolutionFormat == Format.PROJ4_CUSTOM) {
+            final String customProj4 = mPrefs.getString(SolutionOutputSettingsFragment.KEY_CUSTOM_PROJ4, mCustomProj4Default);
+            if (!customProj4.equals(mCustomProj4Pref)) {
+                String resolved;
+                try {
+                    // "EPSG:2154" is accepted as well as a proj.4 string
+                    resolved = EpsgRegistry.getInstance(MainActivity.getApplicationDirectory()).resolve(customProj4);
+                } catch (IOException e) {
+                    Log.w(TAG, "Cannot read the EPSG registry for " + customProj4, e);
+                    resolved = null;
+                } catch (IllegalArgumentException e) {
+                    // unknown or malformed code, proj.4 would reject it on every epoch
+                    Log.w(TAG, "Cannot resolve " + customProj4 + ": " + e.getMessage());
+                    resolved = null;
+                }
+                mFormatter.setCustomProj4(resolved);
+                mCustomProj4Pref = customProj4;
+            }
+        }
     }
-    private void updateCoordinates(RtkControlResult rtk) {
-        RtkCommon.Position3d roverPos;
-        double Qe[];
-        double dGeoidHeight = 0.0;
-        final Solution sol = rtk.getSolution();
-        Position3d roverEcefPos = new Position3d();
-        RtkCommon.Matrix3x3 cov;
 
+    private void updateCoordinates(RtkControlResult rtk) {
+        final boolean formatted;
 
-        double lat,lon,height;
         if (mDemoModeLocation.isInDemoMode() && RtkNaviService.mbStarted) {
-            roverPos = mDemoModeLocation.getPosition();
+            final Position3d roverPos = mDemoModeLocation.getPosition();
             if (roverPos == null){
                 return;
             }
-            lat = roverPos.getLat();
-            lon=roverPos.getLon();
-            height=roverPos.getHeight();
-            Qe = new double[9];
-            Qe[4] = mDemoModeLocation.getNAccuracy();
-            Qe[0] = mDemoModeLocation.getEAccuracy();
-            Qe[8] = mDemoModeLocation.getVAccuracy();
-            double[] covD = {0,0,0,0,0,0,0,0,0} ;
-            cov = new Matrix3x3(covD);
-            RtkCommon.pos2ecef(lat, lon, height, roverEcefPos);
+            formatted = mFormatter.format(roverPos.getLat(), roverPos.getLon(), roverPos.getHeight(),
+                    mDemoModeLocation.getEAccuracy(),
+                    mDemoModeLocation.getNAccuracy(),
+                    mDemoModeLocation.getVAccuracy(),
+                    rtk.getRb());
         }else {
-            roverEcefPos = sol.getPosition();
-            if (RtkCommon.norm(roverEcefPos.getValues()) <= 0.0) {
-                return;
-            }
-            roverPos = RtkCommon.ecef2pos(roverEcefPos);
-            cov = sol.getQrMatrix();
-            lat = roverPos.getLat();
-            lon=roverPos.getLon();
-            height=roverPos.getHeight();
-            Qe = RtkCommon.covenu(lat, lon, cov).getValues();
+            formatted = mFormatter.format(rtk);
+        }
+        if (!formatted) return;
+
+        if (mFormatter.usesGeoid()) {
+            final GeoidModel model = mFormatter.getGeoidModel();
+            mGeoidModelText.update(model == null ? mEllipsoidalHeight : model.name());
+            updateCoordinateNames();
+        }
+        for (int i = 0; i < SolutionFormatter.COORDINATES; ++i) {
+            mCoordValueTexts[i].update(mFormatter.getCoordinate(i));
         }
-        double dlat = Math.toDegrees(lat);
-        double dlon = Math.toDegrees(lon);
+        mCovarianceText.update(mFormatter.getCovariance());
+    }
 
+    /**
+     * Names of the coordinates that depend on the height preference
+     */
+    private void updateCoordinateNames() {
+        final boolean geodetic = mFormatter.isGeodetic();
         switch (mSolutionFormat) {
-            case PROJ4_LAMBERT93:
-            case PROJ4_LAMBERT93_CC43:
-            case PROJ4_LAMBERT93_CC44:
-            case PROJ4_LAMBERT93_CC45:
-            case PROJ4_LAMBERT93_CC46:
-            case PROJ4_LAMBERT93_CC47:
-            case PROJ4_LAMBERT93_CC48:
-            case PROJ4_LAMBERT93_CC49:
-            case PROJ4_LAMBERT93_CC50:
-            case PROJ4_LAMBERTIIE:
-            case PROJ4_NAD83:
-            case PROJ4_CUSTOM:
-                ProjCoordinate proj4Coordinate;
-                if (proj4Converter == null)
-                {
-                    proj4Converter = new Proj4Converter();
-                }
-                if (mSolutionFormat.getProj4String() != null) {
-                    proj4Coordinate = proj4Converter.convert(mSolutionFormat.getProj4String(), dlat, dlon);
-                }else{
-                    // if PROJ4_CUSTOM
-                    SharedPreferences prefs= this.getContext().getSharedPreferences(SolutionOutputSettingsFragment.SHARED_PREFS_NAME, 0);
-                    String strCustomProj4 = prefs.getString(SolutionOutputSettingsFragment.KEY_CUSTOM_PROJ4, getResources().getString(R.string.solopt_output_customproj4_default));
-                    proj4Coordinate = proj4Converter.convert(strCustomProj4, dlat, dlon);
-                }
-                cov = sol.getQrMatrix();
-                dGeoidHeight = getAltitudeCorrection(lat, lon);
-                mTextViewCoord1Value.setText(String.format(Locale.US, "%.3f m", proj4Coordinate.x));
-                mTextViewCoord2Value.setText(String.format(Locale.US, "%.3f m", proj4Coordinate.y));
-                mTextViewCoord3Value.setText(String.format(Locale.US, "%.3f m el.", height-dGeoidHeight));
-                if (mBoolIsGeodetic)
-                {
-                    mTextViewCoord3Name.setText(this.getContext().getResources().getStringArray(R.array.solution_view_coordinates_wgs84)[3]); //Altitude
-                }else{
-                    mTextViewCoord3Name.setText(this.getContext().getResources().getStringArray(R.array.solution_view_coordinates_wgs84)[2]); //Height
-                }
-                mTextViewCovariance.setText(String.format(
-                        Locale.US,
-                        "N:%6.3f\nE:%6.3f\nU:%6.3f m",
-                        Math.sqrt(Qe[4] < 0 ? 0 : Qe[4]),
-                        Math.sqrt(Qe[0] < 0 ? 0 : Qe[0]),
-                        Math.sqrt(Qe[8] < 0 ? 0 : Qe[8])
-                        ));
-                break;
         case UTM:
-
-            dGeoidHeight = getAltitudeCorrection(lat, lon);
-            CoordinatesConverter<LatLong, UTM> latLongToUTM = LatLong.CRS.getConverterTo(UTM.CRS);
-            LatLong latLong = LatLong.valueOf(dlat, dlon, NonSI.DEGREE_ANGLE);
-            UTM utm = latLongToUTM.convert(latLong);
-            mTextViewCoord1Value.setText(String.format(Locale.US, "%.3f m", utm.eastingValue(SI.METER)));
-            mTextViewCoord2Value.setText(String.format(Locale.US, "%.3f m", utm.northingValue(SI.METER)));
-            mTextViewCoord3Value.setText(String.format(Locale.US, "%.3f m el.", height-dGeoidHeight));
-            mTextViewCoord4Value.setText( Integer.toString(utm.longitudeZone())+utm.latitudeZone());
-            if (mBoolIsGeodetic)
-            {
-                mTextViewCoord3Name.setText(this.getContext().getResources().getStringArray(R.array.solution_view_coordinates_wgs84)[3]); //Altitude
-            }else{
-                mTextViewCoord3Name.setText(this.getContext().getResources().getStringArray(R.array.solution_view_coordinates_wgs84)[2]); //Height
-            }
-            mTextViewCoord4Name.setText(this.getContext().getResources().getStringArray(R.array.solution_view_coordinates_utm)[3]); //Zone:
-            mTextViewCovariance.setText(String.format(
-                    Locale.US,
-                    "N:%6.3f\nE:%6.3f\nU:%6.3f m",
-                    Math.sqrt(Qe[4] < 0 ? 0 : Qe[4]),
-                    Math.sqrt(Qe[0] < 0 ? 0 : Qe[0]),
-                    Math.sqrt(Qe[8] < 0 ? 0 : Qe[8])
-                    ));
+            mCoordNameTexts[3].update(mZoneName);
+            // and the altitude, as the projections
+        case PROJ4_LAMBERT93:
+        case PROJ4_LAMBERT93_CC43:
+        case PROJ4_LAMBERT93_CC44:
+        case PROJ4_LAMBERT93_CC45:
+        case PROJ4_LAMBERT93_CC46:
+        case PROJ4_LAMBERT93_CC47:
+        case PROJ4_LAMBERT93_CC48:
+        case PROJ4_LAMBERT93_CC49:
+        case PROJ4_LAMBERT93_CC50:
+        case PROJ4_LAMBERTIIE:
+        case PROJ4_NAD83:
+        case PROJ4_CUSTOM:
+            mCoordNameTexts[2].update(geodetic ? mAltitudeName : mHeightName);
             break;
         case WGS84:
         case WGS84_FLOAT:
-            String strLat, strLon, strHeight,strAltitude="";
-
-                if (mSolutionFormat == Format.WGS84) {
-                    strLat = Deg2Dms.toString(Math.toDegrees(lat), true);
-                    strLon = Deg2Dms.toString(Math.toDegrees(lon), false);
-                }else {
-                    strLat = String.format(Locale.US, "%11.8f°", Math.toDegrees(lat));
-                    strLon = String.format(Locale.US, "%11.8f°", Math.toDegrees(lon));
-                }
-
-                dGeoidHeight = getAltitudeCorrection(lat, lon);
-
-                if (mBoolIsGeodetic)
-                {
-                    mTextViewCoord4Name.setText(this.getContext().getResources().getStringArray(R.array.solution_view_coordinates_wgs84)[3]); //Altitude:
-
-                }else
-                {
-                    mTextViewCoord4Name.setText("");
-                }
-                strAltitude = String.format(Locale.US, "%.3fm el.", height-dGeoidHeight);
-                strHeight = String.format(Locale.US, "%.3fm el.", height);
-
-            mTextViewCoord1Value.setText(strLat);
-            mTextViewCoord2Value.setText(strLon);
-            mTextViewCoord3Value.setText(strHeight);
-            if (mBoolIsGeodetic)
-            {
-                mTextViewCoord4Value.setText(strAltitude);
-            }else
-            {
-                mTextViewCoord4Value.setText("");
-            }
-            mTextViewCovariance.setText(String.format(
-                    Locale.US,
-                    "N:%6.3f\nE:%6.3f\nU:%6.3f m",
-                    Math.sqrt(Qe[4] < 0 ? 0 : Qe[4]),
-                    Math.sqrt(Qe[0] < 0 ? 0 : Qe[0]),
-                    Math.sqrt(Qe[8] < 0 ? 0 : Qe[8])
-                    ));
-            break;
-        case ECEF:
-            final float[] qr = sol.getPositionVariance();
-            mTextViewCoord1Value.setText(mCoordEcefFormatter.format(roverEcefPos.getX()));
-            mTextViewCoord2Value.setText(mCoordEcefFormatter.format(roverEcefPos.getY()));
-            mTextViewCoord3Value.setText(mCoordEcefFormatter.format(roverEcefPos.getZ()));
-            mTextViewCovariance.setText(String.format(
-                    Locale.US,
-                    "X:%6.3f\nY:%6.3f\nZ:%6.3f m",
-                    Math.sqrt(qr[0] < 0 ? 0 : qr[0]),
-                    Math.sqrt(qr[1] < 0 ? 0 : qr[1]),
-                    Math.sqrt(qr[2] < 0 ? 0 : qr[2])
-                    ));
-            break;
-        case ENU_BASELINE:
-        case PYL_BASELINE:
-            final Position3d baseEcefPos;
-            final Position3d baselineVector;
-            final Position3d enu;
-            final Position3d basePos;
-            double baselineLen;
-            String v1, v2, v3;
-
-            baseEcefPos = rtk.getBasePosition();
-
-            baselineVector = new Position3d(
-                    roverEcefPos.getX() - baseEcefPos.getX(),
-                    roverEcefPos.getY() - baseEcefPos.getY(),
-                    roverEcefPos.getZ() - baseEcefPos.getZ()
-                    );
-
-            baselineLen = baselineVector.getNorm();
-            if (baselineLen <= 0.0) {
-                break;
-            }
-
-            basePos = RtkCommon.ecef2pos(baseEcefPos);
-            enu = RtkCommon.ecef2enu(basePos.getLat(), basePos.getLon(), baselineVector);
-            cov = sol.getQrMatrix();
-            Qe = RtkCommon.covenu(basePos.getLat(), basePos.getLon(), cov).getValues();
-
-            if (mSolutionFormat == Format.ENU_BASELINE) {
-                v1 = String.format(Locale.US, "%.3f m", enu.getLat());
-                v2 = String.format(Locale.US, "%.3f m", enu.getLon());
-                v3 = String.format(Locale.US, "%.3f m", enu.getHeight());
-            }else {
-                double pitch, yaw;
-                pitch = Math.asin(enu.getHeight()/baselineLen);
-                yaw = Math.atan2(enu.getLat(), enu.getLon());
-                if (yaw < 0.0) yaw += 2.0 * Math.PI;
-
-                v1 = String.format(Locale.US, "%.3f °", Math.toDegrees(pitch));
-                v2 = String.format(Locale.US, "%.3f °", Math.toDegrees(yaw));
-                v3 = String.format(Locale.US, "%.3f m", baselineLen);
-            }
-
-            mTextViewCoord1Value.setText(v1);
-            mTextViewCoord2Value.setText(v2);
-            mTextViewCoord3Value.setText(v3);
-            mTextViewCovariance.setText(String.format(
-                    Locale.US,
-                    "E:%6.3f\nN:%6.3f\nU:%6.3f m",
-                    Math.sqrt(Qe[0] < 0 ? 0 : Qe[0]),
-                    Math.sqrt(Qe[4] < 0 ? 0 : Qe[4]),
-                    Math.sqrt(Qe[8] < 0 ? 0 : Qe[8])
-                    ));
+            mCoordNameTexts[3].update(geodetic ? mAltitudeName : "");
             break;
         default:
-            throw new IllegalStateException();
+            break;
         }
     }
 
     private void clearCoordinates() {
-        mTextViewCoord1Value.setText("");
-        mTextViewCoord2Value.setText("");
-        mTextViewCoord3Value.setText("");
+        for (int i = 0; i < SolutionFormatter.COORDINATES - 1; ++i) {
+            mCoordValueTexts[i].update("");
+        }
     }
 
     private void updateAgeText(Solution sol) {
-        String format = getResources().getString(R.string.solution_view_age_text_format);
         if (mDemoModeLocation.isInDemoMode() && RtkNaviService.mbStarted) {
-
-            mTextViewAge.setText(String.format(
-                    Locale.US,
-                    format,
-                    mDemoModeLocation.getAge(),
-                    0.0,
-                    mDemoModeLocation.getNbSat()
-                    ));
-
+            mFormatter.formatAge(mDemoModeLocation.getAge(), 0.0, mDemoModeLocation.getNbSat());
         }else{
-
-            mTextViewAge.setText(String.format(
-                    Locale.US,
-                    format,
-                    sol.getAge(),
-                    sol.getRatio(),
-                    sol.getNs()
-                    ));
+            mFormatter.formatAge(sol.getAge(), sol.getRatio(), sol.getNs());
         }
-
+        mAgeText.update(mFormatter.getAge());
     }
 
     private void updateCoordinatesHeader() {
@@ -584,19 +477,20 @@ public class SolutionView extends TableLayout {
             headers = getResources().getStringArray(mSolutionFormat.mHeadersArrayId);
         }
         mTextViewCoordinateSystem.setText(getResources().getString(mSolutionFormat.getDescriptionResId()));
+        final GeoidModel model = mFormatter.getGeoidModel();
         if (model != null)
         {
-            mTextViewGeoidModel.setText(model.name());
+            mGeoidModelText.update(model.name());
         }
-        mTextViewCoord1Name.setText(headers[0]);
-        mTextViewCoord2Name.setText(headers[1]);
-        mTextViewCoord3Name.setText(headers[2]);
+        mCoordNameTexts[0].update(headers[0]);
+        mCoordNameTexts[1].update(headers[1]);
+        mCoordNameTexts[2].update(headers[2]);
         if (headers.length == 4)
         {
-            mTextViewCoord4Name.setText(headers[3]);
+            mCoordNameTexts[3].update(headers[3]);
         }else{
-            mTextViewCoord4Name.setText("");
-            mTextViewCoord4Value.setText("");
+            mCoordNameTexts[3].update("");
+            mCoordValueTexts[3].update("");
         }
     }
 
@@ -69,6 +69,8 @@ public class StreamIndicatorsView extends View {
     }
 
     public void setStats(RtkServerStreamStatus status, int serverStatus) {
+        // redrawn on state changes only, the stats are polled 4 times a second
+        if (serverStatus == mServerStatus && mStatus.hasSameStates(status)) return;
         status.copyTo(mStatus);
         mServerStatus = serverStatus;
         invalidate();
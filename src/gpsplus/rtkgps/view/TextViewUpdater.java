@@ -0,0 +1,50 @@
+package gpsplus.rtkgps.view;
+
+import android.widget.TextView;
+
+import gpsplus.rtkgps.utils.TextBuffer;
+
+/**
+ * Sets the text of a TextView from a {@link TextBuffer}, only when it has
+ * changed. The view is given the chars of a buffer owned by the updater,
+ * no String is created.
+ */
+class TextViewUpdater {
+
+    private final TextView mView;
+
+    /** Text shown by the view, its array is referenced by the view */
+    private final TextBuffer mShown;
+
+    /** Scratch buffer of {@link #update(String)} */
+    private final TextBuffer mString;
+
+    private boolean mValid;
+
+    TextViewUpdater(TextView view) {
+        mView = view;
+        mShown = new TextBuffer(32);
+        mString = new TextBuffer(32);
+        mValid = false;
+    }
+
+    public TextView getView() {
+        return mView;
+    }
+
+    /**
+     * @return true if the text of the view was changed
+     */
+    public boolean update(TextBuffer text) {
+        if (mValid && mShown.contentEquals(text)) return false;
+        mShown.copyFrom(text);
+        mView.setText(mShown.array(), 0, mShown.length());
+        mValid = true;
+        return true;
+    }
+
+    public boolean update(String text) {
+        mString.clear().append(text);
+        return update(mString);
+    }
+}
@@ -1,13 +1,48 @@
 package gpsplus.rtklib;
 
+import gpsplus.rtkgps.utils.FastTimeFormat;
+import gpsplus.rtkgps.utils.TextBuffer;
 import proguard.annotation.Keep;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.TimeZone;
-
+/**
+ * RTKLIB gtime_t, a GPS time.
+ * <p>
+ * Conversions are done in Java, as RTKLIB time2gpst() and gpst2utc(),
+ * with the leap second table below.
+ */
 public class GTime {
 
+    /** GPS time origin (1980-01-06 00:00:00) in seconds since 1970-01-01 */
+    private static final long GPS_EPOCH = FastTimeFormat.GPS_EPOCH_MILLIS / 1000;
+
+    private static final long SECONDS_PER_WEEK = 7 * 86400;
+
+    /**
+     * UTC dates of the leap seconds (s since 1970-01-01) and GPST-UTC (s)
+     * from these dates, newest first. Add a line on top when the IERS
+     * Bulletin C announces a leap second.
+     */
+    private static final long LEAP_SECONDS[][] = {
+        { FastTimeFormat.daysFromCivil(2017, 1, 1) * 86400, 18 },
+        { FastTimeFormat.daysFromCivil(2015, 7, 1) * 86400, 17 },
+        { FastTimeFormat.daysFromCivil(2012, 7, 1) * 86400, 16 },
+        { FastTimeFormat.daysFromCivil(2009, 1, 1) * 86400, 15 },
+        { FastTimeFormat.daysFromCivil(2006, 1, 1) * 86400, 14 },
+        { FastTimeFormat.daysFromCivil(1999, 1, 1) * 86400, 13 },
+        { FastTimeFormat.daysFromCivil(1997, 7, 1) * 86400, 12 },
+        { FastTimeFormat.daysFromCivil(1996, 1, 1) * 86400, 11 },
+        { FastTimeFormat.daysFromCivil(1994, 7, 1) * 86400, 10 },
+        { FastTimeFormat.daysFromCivil(1993, 7, 1) * 86400, 9 },
+        { FastTimeFormat.daysFromCivil(1992, 7, 1) * 86400, 8 },
+        { FastTimeFormat.daysFromCivil(1991, 1, 1) * 86400, 7 },
+        { FastTimeFormat.daysFromCivil(1990, 1, 1) * 86400, 6 },
+        { FastTimeFormat.daysFromCivil(1988, 1, 1) * 86400, 5 },
+        { FastTimeFormat.daysFromCivil(1985, 7, 1) * 86400, 4 },
+        { FastTimeFormat.daysFromCivil(1983, 7, 1) * 86400, 3 },
+        { FastTimeFormat.daysFromCivil(1982, 7, 1) * 86400, 2 },
+        { FastTimeFormat.daysFromCivil(1981, 7, 1) * 86400, 1 },
+    };
+
     /**
      * time (s) expressed by standard time_t
      */
@@ -42,11 +77,24 @@ public class GTime {
         this.sec = sec;
     }
 
+    /**
+     * @param gpst GPS time (s since 1970-01-01)
+     * @return GPST-UTC (s) at that time
+     */
+    public static int getLeapSeconds(long gpst) {
+        for (long leap[]: LEAP_SECONDS) {
+            if (gpst - leap[1] >= leap[0]) return (int)leap[1];
+        }
+        return 0;
+    }
+
     /**
      *
      * @return UTC time in milliseconds since January 1, 1970 00:00:00 UTC
      */
-    public native long getUtcTimeMillis();
+    public long getUtcTimeMillis() {
+        return (this.time - getLeapSeconds(this.time)) * 1000 + Math.round(this.sec * 1000.0);
+    }
 
     /**
      *
@@ -59,12 +107,41 @@ public class GTime {
     /**
      * @return GPS week number
      */
-    public native int getGpsWeek();
+    public int getGpsWeek() {
+        return (int)((this.time - GPS_EPOCH) / SECONDS_PER_WEEK);
+    }
 
     /**
      * @return GPS time of week (s)
      */
-    public native double getGpsTow();
+    public double getGpsTow() {
+        final long sec = this.time - GPS_EPOCH;
+        return (double)(sec - (sec / SECONDS_PER_WEEK) * SECONDS_PER_WEEK) + this.sec;
+    }
+
+    /**
+     * Appends the UTC time, "yyyy-MM-ddTHH:mm:ss[.SSS]Z"
+     * @param millisDigits 0 to 3 fractional digits
+     */
+    public TextBuffer appendUtcIso8601(TextBuffer dst, int millisDigits) {
+        return FastTimeFormat.appendIso8601(dst, getUtcTimeMillis(), millisDigits);
+    }
+
+    /**
+     * Appends the GPS time, "yyyy/MM/dd HH:mm:ss[.SSS]" as RTKLIB prints it
+     * @param millisDigits 0 to 3 fractional digits
+     */
+    public TextBuffer appendGpst(TextBuffer dst, int millisDigits) {
+        return FastTimeFormat.appendRtklibTime(dst, getGpsTimeMillis(), millisDigits);
+    }
+
+    /**
+     * Appends "week wwww ttttt.ttt s"
+     */
+    public TextBuffer appendGpsWeekTow(TextBuffer dst, int decimals) {
+        dst.append("week ").appendPadded(getGpsWeek(), 4).append(' ');
+        return dst.appendFixed(getGpsTow(), decimals).append(" s");
+    }
 
     @Override
     public String toString() {
@@ -72,11 +149,7 @@ public class GTime {
     }
 
     public String getUtcXMLTime() {
-        SimpleDateFormat sdtFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
-        sdtFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
-        Date dt = new Date(getUtcTimeMillis());
-        String szDate = sdtFormat.format(dt);
-        return szDate;
+        return appendUtcIso8601(new TextBuffer(24), 0).toString();
     }
 
 }
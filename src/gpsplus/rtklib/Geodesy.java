@@ -0,0 +1,189 @@
+package gpsplus.rtklib;
+
+/**
+ * Java port of the coordinate functions of RTKLIB rtkcmn.c.
+ * <p>
+ * The operations are done in the same order as in RTKLIB (dot() sums from
+ * the last element, matmul() from the first), so results match the native
+ * library to the last bit, apart from last-ulp differences between the
+ * Java and C math libraries and the fused multiply-adds the C compiler
+ * may emit.
+ * <p>
+ * Nothing is allocated: results go to caller arrays at a given offset,
+ * and the batch variants work on packed {x,y,z} or {lat,lon,h} triplets.
+ */
+public final class Geodesy {
+
+    /** earth semimajor axis (WGS84) (m) */
+    public static final double RE_WGS84 = 6378137.0;
+
+    /** earth flattening (WGS84) */
+    public static final double FE_WGS84 = (1.0 / 298.257223563);
+
+    private static final double E2 = FE_WGS84 * (2.0 - FE_WGS84);
+
+    private Geodesy() {
+    }
+
+    /**
+     * euclid norm of vector
+     * @param a vector
+     * @param offset first element in a
+     * @param n size of the vector
+     * @return || a ||
+     */
+    public static double norm(double a[], int offset, int n) {
+        double c = 0.0;
+        while (--n >= 0) c += a[offset + n] * a[offset + n];
+        return Math.sqrt(c);
+    }
+
+    /**
+     * Transform ecef position to geodetic position
+     * @param x ecef position X (m)
+     * @param y ecef position Y (m)
+     * @param z ecef position Z (m)
+     * @param dst geodetic position {lat,lon,h} (rad,m) written at dst[offset]
+     */
+    public static void ecef2pos(double x, double y, double z, double dst[], int offset) {
+        final double r2 = y * y + x * x;
+        double v = RE_WGS84;
+        double zk = 0.0;
+        double zi = z;
+        while (Math.abs(zi - zk) >= 1E-4) {
+            zk = zi;
+            final double sinp = zi / Math.sqrt(r2 + zi * zi);
+            v = RE_WGS84 / Math.sqrt(1.0 - E2 * sinp * sinp);
+            zi = z + v * E2 * sinp;
+        }
+        dst[offset] = r2 > 1E-12 ? Math.atan(zi / Math.sqrt(r2)) : (z > 0.0 ? Math.PI / 2.0 : -Math.PI / 2.0);
+        dst[offset + 1] = r2 > 1E-12 ? Math.atan2(y, x) : 0.0;
+        dst[offset + 2] = Math.sqrt(r2 + zi * zi) - v;
+    }
+
+    /**
+     * Transforms {@code count} packed ecef positions {x,y,z} to geodetic
+     * positions {lat,lon,h}. src and dst may be the same array.
+     */
+    public static void ecef2pos(double src[], int srcOffset, double dst[], int dstOffset, int count) {
+        for (int i = 0; i < count; ++i) {
+            final int s = srcOffset + 3 * i;
+            ecef2pos(src[s], src[s + 1], src[s + 2], dst, dstOffset + 3 * i);
+        }
+    }
+
+    /**
+     * transform geodetic position to ecef position
+     * @param lat latitude (rad, WGS84)
+     * @param lon longitude (rad, WGS84)
+     * @param height ellipsoidal height (m)
+     * @param dst ecef position {x,y,z} (m) written at dst[offset]
+     */
+    public static void pos2ecef(double lat, double lon, double height, double dst[], int offset) {
+        final double sinp = Math.sin(lat);
+        final double cosp = Math.cos(lat);
+        final double sinl = Math.sin(lon);
+        final double cosl = Math.cos(lon);
+        final double v = RE_WGS84 / Math.sqrt(1.0 - E2 * sinp * sinp);
+        dst[offset] = (v + height) * cosp * cosl;
+        dst[offset + 1] = (v + height) * cosp * sinl;
+        dst[offset + 2] = (v * (1.0 - E2) + height) * sinp;
+    }
+
+    /**
+     * Transforms {@code count} packed geodetic positions {lat,lon,h} to
+     * ecef positions {x,y,z}. src and dst may be the same array.
+     */
+    public static void pos2ecef(double src[], int srcOffset, double dst[], int dstOffset, int count) {
+        for (int i = 0; i < count; ++i) {
+            final int s = srcOffset + 3 * i;
+            pos2ecef(src[s], src[s + 1], src[s + 2], dst, dstOffset + 3 * i);
+        }
+    }
+
+    /**
+     * compute ecef to local coordinate transfromation matrix
+     * @param lat, lon geodetic position {lat,lon} (rad)
+     * @param E ecef to local coord transformation matrix (3x3, column-major)
+     */
+    public static void xyz2enu(double lat, double lon, double E[]) {
+        final double sinp = Math.sin(lat);
+        final double cosp = Math.cos(lat);
+        final double sinl = Math.sin(lon);
+        final double cosl = Math.cos(lon);
+        E[0] = -sinl;        E[3] = cosl;         E[6] = 0.0;
+        E[1] = -sinp * cosl; E[4] = -sinp * sinl; E[7] = cosp;
+        E[2] = cosp * cosl;  E[5] = cosp * sinl;  E[8] = sinp;
+    }
+
+    /**
+     * transform ecef vector to local tangental coordinate
+     * @param lat, lon geodetic position {lat,lon} (rad)
+     * @param r vector in ecef coordinate {x,y,z} at r[rOffset]
+     * @param e vector in local tangental coordinate {e,n,u} written at e[eOffset]
+     */
+    public static void ecef2enu(double lat, double lon, double r[], int rOffset, double e[], int eOffset) {
+        ecef2enu(lat, lon, r, rOffset, e, eOffset, 1);
+    }
+
+    /**
+     * Transforms {@code count} packed ecef vectors, all relative to the same
+     * origin, to local tangental coordinates. r and e may be the same array.
+     */
+    public static void ecef2enu(double lat, double lon, double r[], int rOffset,
+            double e[], int eOffset, int count) {
+        final double sinp = Math.sin(lat);
+        final double cosp = Math.cos(lat);
+        final double sinl = Math.sin(lon);
+        final double cosl = Math.cos(lon);
+        final double e0 = -sinl,        e3 = cosl,        e6 = 0.0;
+        final double e1 = -sinp * cosl, e4 = -sinp * sinl, e7 = cosp;
+        final double e2 = cosp * cosl,  e5 = cosp * sinl,  e8 = sinp;
+        for (int i = 0; i < count; ++i) {
+            final int s = rOffset + 3 * i;
+            final int d = eOffset + 3 * i;
+            final double x = r[s], y = r[s + 1], z = r[s + 2];
+            e[d] = e0 * x + e3 * y + e6 * z;
+            e[d + 1] = e1 * x + e4 * y + e7 * z;
+            e[d + 2] = e2 * x + e5 * y + e8 * z;
+        }
+    }
+
+    /**
+     * transform ecef covariance to local tangental coordinate
+     * @param lat, lon geodetic position {lat,lon} (rad)
+     * @param P covariance in ecef coordinate (3x3)
+     * @param Q covariance in local tangental coordinate (3x3), may be P
+     */
+    public static void covenu(double lat, double lon, double P[], double Q[]) {
+        final double sinp = Math.sin(lat);
+        final double cosp = Math.cos(lat);
+        final double sinl = Math.sin(lon);
+        final double cosl = Math.cos(lon);
+        final double e0 = -sinl,        e3 = cosl,        e6 = 0.0;
+        final double e1 = -sinp * cosl, e4 = -sinp * sinl, e7 = cosp;
+        final double e2 = cosp * cosl,  e5 = cosp * sinl,  e8 = sinp;
+
+        // EP = E * P
+        final double ep0 = e0 * P[0] + e3 * P[1] + e6 * P[2];
+        final double ep1 = e1 * P[0] + e4 * P[1] + e7 * P[2];
+        final double ep2 = e2 * P[0] + e5 * P[1] + e8 * P[2];
+        final double ep3 = e0 * P[3] + e3 * P[4] + e6 * P[5];
+        final double ep4 = e1 * P[3] + e4 * P[4] + e7 * P[5];
+        final double ep5 = e2 * P[3] + e5 * P[4] + e8 * P[5];
+        final double ep6 = e0 * P[6] + e3 * P[7] + e6 * P[8];
+        final double ep7 = e1 * P[6] + e4 * P[7] + e7 * P[8];
+        final double ep8 = e2 * P[6] + e5 * P[7] + e8 * P[8];
+
+        // Q = EP * E'
+        Q[0] = ep0 * e0 + ep3 * e3 + ep6 * e6;
+        Q[1] = ep1 * e0 + ep4 * e3 + ep7 * e6;
+        Q[2] = ep2 * e0 + ep5 * e3 + ep8 * e6;
+        Q[3] = ep0 * e1 + ep3 * e4 + ep6 * e7;
+        Q[4] = ep1 * e1 + ep4 * e4 + ep7 * e7;
+        Q[5] = ep2 * e1 + ep5 * e4 + ep8 * e7;
+        Q[6] = ep0 * e2 + ep3 * e5 + ep6 * e8;
+        Q[7] = ep1 * e2 + ep4 * e5 + ep7 * e8;
+        Q[8] = ep2 * e2 + ep5 * e5 + ep8 * e8;
+    }
+}
@@ -25,10 +25,16 @@ public class RtkCommon {
     public static native String getSatId(int satNo);
 
 
+    /** Model opened in the process-global RTKLIB geoid, guarded by RtkCommon.class */
+    private static int sGeoidModelId = 0;
+
+    /** Guards the private copy of the RTKLIB geoid used by the Java lookups */
+    private static final Object sPrivateGeoidLock = new Object();
+
     public RtkCommon(int modelId) {
         super();
         this.modelId = modelId;
-        opengeoid(modelId, GeoidModel.getGeoidFilename(modelId));
+        openGlobalGeoid(modelId);
     }
 
     public RtkCommon() {
@@ -39,7 +45,14 @@ public class RtkCommon {
     public RtkCommon(GeoidModel geoidModel) {
         super();
         this.modelId = geoidModel.getRtklibId();
-        opengeoid(this.modelId, GeoidModel.getGeoidFilename(this.modelId));
+        openGlobalGeoid(this.modelId);
+    }
+
+    private void openGlobalGeoid(int model) {
+        synchronized (RtkCommon.class) {
+            opengeoid(model, GeoidModel.getGeoidFilename(model));
+            sGeoidModelId = model;
+        }
     }
     /**
      * compute DOP (dilution of precision)
@@ -87,14 +100,31 @@ public class RtkCommon {
     }
     public double getAltitudeCorrection(double lat, double lon, int model)
     {
-        String filename = GeoidModel.getGeoidFilename(model);
-        if (model!=this.modelId)
-        {
-            closegeoid();
-            opengeoid(model,filename);
+        synchronized (RtkCommon.class) {
+            if (model!=sGeoidModelId)
+            {
+                closegeoid();
+                openGlobalGeoid(model);
+            }
             this.modelId = model;
+            return getAltitudeCorrection(lat,lon);
+        }
+    }
+
+    /**
+     * Samples the embedded 1x1 deg geoid of RTKLIB at its nodes.
+     * <p>
+     * Read from the private copy of the RTKLIB geoid, see
+     * {@link #getExternalModelHeight(double, double, int)}: the model the
+     * navigation service opened is left alone.
+     * @return 181 rows from 90S of 361 undulations (m) from 0E to 360E
+     */
+    public static float[] sampleEmbeddedGeoid() {
+        final float nodes[] = new float[361 * 181];
+        synchronized (sPrivateGeoidLock) {
+            _getEmbeddedGeoid(nodes);
         }
-        return getAltitudeCorrection(lat,lon);
+        return nodes;
     }
     /**
      * get geoid height from geoid external model (or mod 0 for embedded)
@@ -105,6 +135,26 @@ public class RtkCommon {
      * @return geoid height (m) (0.0:error)
      */
     public static native double geoidh_from_external_model(double lat, double lon, int model, String file);
+
+    /**
+     * Geoid height of a model, looked up in a private copy of the RTKLIB
+     * geoid. The process-global geoid is read by the native server thread
+     * for the solution output without any lock: closing or reopening it
+     * from Java, as {@link #geoidh_from_external_model(double, double, int, String)}
+     * does, would race with it. The private copy keeps the last model open.
+     * @param lat geodetic position lat (rad)
+     * @param lon geodetic position lon (rad)
+     * @return geoid height (m) (0.0:error)
+     */
+    public static double getExternalModelHeight(double lat, double lon, int model) {
+        synchronized (sPrivateGeoidLock) {
+            return _privateGeoidh(lat, lon, model, GeoidModel.getGeoidFilename(model));
+        }
+    }
+
+    private static native void _getEmbeddedGeoid(float dst[]);
+
+    private static native double _privateGeoidh(double lat, double lon, int model, String file);
     /**
      * convert degree to degree-minute-second
      * @param deg degree
@@ -117,7 +167,16 @@ public class RtkCommon {
      * @param a vector a (n x 1)
      * @return || a ||
      */
-    public static native double norm(double a[]);
+    static native double _norm(double a[]);
+
+    /**
+     * euclid norm of vector
+     * @param a vector a (n x 1)
+     * @return || a ||
+     */
+    public static double norm(double a[]) {
+        return Geodesy.norm(a, 0, a.length);
+    }
 
     /**
      * Transform ecef position to geodetic position
@@ -140,7 +199,7 @@ public class RtkCommon {
         if (dst == null) {
             dst = new Position3d();
         }
-        _ecef2pos(x, y, z, dst.mPos);
+        Geodesy.ecef2pos(x, y, z, dst.mPos, 0);
         return dst;
     }
 
@@ -186,7 +245,7 @@ public class RtkCommon {
         if (dst == null) {
             dst = new Position3d();
         }
-        _pos2ecef(lat, lon, height, dst.mPos);
+        Geodesy.pos2ecef(lat, lon, height, dst.mPos, 0);
         return dst;
     }
 
@@ -209,7 +268,7 @@ public class RtkCommon {
      */
     public static Matrix3x3 covenu(double lat, double lon, Matrix3x3 cov, Matrix3x3 dst) {
         if (dst == null) dst = new Matrix3x3();
-        _covenu(lat, lon, cov.mMatrix, dst.mMatrix);
+        Geodesy.covenu(lat, lon, cov.mMatrix, dst.mMatrix);
         return dst;
     }
 
@@ -241,7 +300,7 @@ public class RtkCommon {
      */
     public static Position3d ecef2enu(double lat, double lon, Position3d r, Position3d dst) {
         if (dst == null) dst = new Position3d();
-        _ecef2enu(lat, lon, r.mPos, dst.mPos);
+        Geodesy.ecef2enu(lat, lon, r.mPos, 0, dst.mPos, 0);
         return dst;
     }
 
@@ -331,7 +390,7 @@ public class RtkCommon {
         }
 
         public double getNorm() {
-            return norm(mPos);
+            return Geodesy.norm(mPos, 0, mPos.length);
         }
     }
 
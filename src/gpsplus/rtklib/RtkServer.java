@@ -18,6 +18,13 @@ public class RtkServer {
     public final static int RECEIVER_BASE = 1;
     public final static int RECEIVER_EPHEM = 2;
 
+    /** Stream indices, as in the types and paths of _rtksvrstart() */
+    public final static int STREAM_OUTPUT_SOLUTION1 = 3;
+    public final static int STREAM_OUTPUT_SOLUTION2 = 4;
+    public final static int STREAM_LOG_ROVER = 5;
+    public final static int STREAM_LOG_BASE = 6;
+    public final static int STREAM_LOG_CORRECTION = 7;
+
     /**
      * Status: {@link RtkServerStreamStatus.STATE_CLOSE},
      * {@link RtkServerStreamStatus.STATE_WAIT},
@@ -148,6 +155,18 @@ public class RtkServer {
         }
     }
 
+    /**
+     * Continues an output or log file stream in a new file. Nothing
+     * written to the stream is lost; the previous file is closed.
+     * @param stream {@link #STREAM_OUTPUT_SOLUTION1} to {@link #STREAM_LOG_CORRECTION}
+     * @param path new file, without keywords or options
+     * @return false if the stream is not an open file or {@code path}
+     * cannot be created
+     */
+    public boolean rotateFileStream(int stream, @Nonnull String path) {
+        return _rotateFileStream(stream, path);
+    }
+
     public void readSP3(String file){
         _readsp3(file);
     }
@@ -237,4 +256,6 @@ public class RtkServer {
 
     private native void _readsp3(String file);
     private native void _readsatant(String file);
+
+    private native boolean _rotateFileStream(int stream, String path);
 }
@@ -55,6 +55,20 @@ public class RtkServerStreamStatus {
                 );
     }
 
+    /**
+     * @return true if both have the same stream states, messages are not compared
+     */
+    public boolean hasSameStates(RtkServerStreamStatus other) {
+        return mInputRover == other.mInputRover
+                && mInputBase == other.mInputBase
+                && mInputCorrection == other.mInputCorrection
+                && mOutputSolution1 == other.mOutputSolution1
+                && mOutputSolution2 == other.mOutputSolution2
+                && mLogRover == other.mLogRover
+                && mLogBase == other.mLogBase
+                && mLogCorrection == other.mLogCorrection;
+    }
+
     public void clear() {
         setStatus(
                 STATE_CLOSE,
@@ -92,21 +92,43 @@ public class Solution {
         return r;
     }
 
+    /**
+     * @return time of the solution, as {@link GTime#getGpsTimeMillis()},
+     * without copying it
+     */
+    public long getGpsTimeMillis() {
+        return mTime.getGpsTimeMillis();
+    }
+
     public Matrix3x3 getQrMatrix() {
         double m[] = new double[9];
-        m[0] = mQr[0];
-        m[4] = mQr[1];
-        m[8] = mQr[2];
-        m[1] = m[3] = mQr[3];
-        m[5] = m[7] = mQr[4];
-        m[2] = m[6] = mQr[5];
+        getQrMatrix(m);
         return new Matrix3x3(m);
     }
 
+    /**
+     * Copies the position covariance as a 3x3 matrix to dst[0..8]
+     */
+    public void getQrMatrix(double dst[]) {
+        dst[0] = mQr[0];
+        dst[4] = mQr[1];
+        dst[8] = mQr[2];
+        dst[1] = dst[3] = mQr[3];
+        dst[5] = dst[7] = mQr[4];
+        dst[2] = dst[6] = mQr[5];
+    }
+
     public Position3d getPosition() {
         return new Position3d(mRr[0], mRr[1], mRr[2]);
     }
 
+    /**
+     * Copies the position {x,y,z} or {e,n,u} (m) to dst[offset]
+     */
+    public void getPosition(double dst[], int offset) {
+        System.arraycopy(mRr, 0, dst, offset, 3);
+    }
+
     /**
      * @return position variance/covariance (m^2)
      * {c_xx,c_yy,c_zz,c_xy,c_yz,c_zx} or
@@ -0,0 +1,360 @@
+package org.osmdroid.tileprovider.modules;
+
+import android.util.Log;
+
+import gpsplus.rtkgps.BuildConfig;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Persistent LRU index of the tile cache.
+ * <p>
+ * Tile paths, sizes and last access times are kept in a LinkedHashMap in
+ * access order, so the cache size is known without walking the cache and
+ * the least recently used tiles are evicted in O(1) each. Changes are
+ * appended to a journal in the cache directory:
+ * <pre>
+ * P size time key    tile saved
+ * R time key         tile read
+ * D key              tile deleted
+ * </pre>
+ * which is replayed at startup and compacted once it gets more than twice
+ * as long as the index. The cache directory is walked only once, when no
+ * journal exists yet.
+ */
+public class TileCacheIndex {
+
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+    static final String TAG = TileCacheIndex.class.getSimpleName();
+
+    private static final String JOURNAL_FILE = "cache.journal";
+    private static final String JOURNAL_MAGIC = "rtkgps.tilecache";
+    private static final String JOURNAL_VERSION = "1";
+
+    /** Journal lines allowed besides one per entry before compaction */
+    private static final int JOURNAL_SLACK = 2000;
+
+    private static final Map<File, TileCacheIndex> sInstances = new HashMap<File, TileCacheIndex>();
+
+    private static class Entry {
+        final long size;
+        long lastAccess;
+
+        Entry(long size, long lastAccess) {
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private final File mDirectory;
+    private final File mJournalFile;
+    private final LinkedHashMap<String, Entry> mEntries;
+    private long mSize;
+    private int mJournalLines;
+    private Writer mJournal;
+    private volatile boolean mLoaded;
+
+    public static TileCacheIndex getInstance(File directory) {
+        synchronized (sInstances) {
+            TileCacheIndex index = sInstances.get(directory);
+            if (index == null) {
+                index = new TileCacheIndex(directory);
+                sInstances.put(directory, index);
+            }
+            return index;
+        }
+    }
+
+    private TileCacheIndex(File directory) {
+        mDirectory = directory;
+        mJournalFile = new File(directory, JOURNAL_FILE);
+        mEntries = new LinkedHashMap<String, Entry>(1024, 0.75f, true);
+        mSize = 0;
+        mLoaded = false;
+    }
+
+    /**
+     * Reads the journal, or builds the index from the cache directory if
+     * there is none. Slow the first time only; call from a background
+     * thread. Other methods block until the index is loaded.
+     */
+    public synchronized void load() {
+        if (mLoaded) return;
+        final long start = System.currentTimeMillis();
+        boolean rebuild = true;
+        if (mJournalFile.exists()) {
+            try {
+                readJournal();
+                rebuild = false;
+            }catch (IOException e) {
+                Log.e(TAG, "Cannot read " + mJournalFile + ", rebuilding index", e);
+                mEntries.clear();
+                mSize = 0;
+            }
+        }
+        if (rebuild) {
+            scanDirectory();
+        }
+        if (rebuild || mJournalLines > 2 * mEntries.size() + JOURNAL_SLACK) {
+            compactJournal();
+        }
+        mLoaded = true;
+        if (DBG) {
+            Log.d(TAG, mEntries.size() + " tiles, " + mSize + " bytes indexed in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        }
+    }
+
+    public boolean isLoaded() {
+        return mLoaded;
+    }
+
+    /**
+     * @return bytes used by the indexed tiles
+     */
+    public synchronized long getSize() {
+        return mSize;
+    }
+
+    public synchronized int getCount() {
+        return mEntries.size();
+    }
+
+    /**
+     * Records a tile written to the cache
+     * @param key path relative to the cache directory
+     */
+    public synchronized void put(String key, long size) {
+        load();
+        final long now = System.currentTimeMillis();
+        final Entry old = mEntries.put(key, new Entry(size, now));
+        if (old != null) mSize -= old.size;
+        mSize += size;
+        journal("P " + size + " " + now + " " + key);
+        flushJournal();
+    }
+
+    /**
+     * Records a tile read from the cache. Ignored while the index is loading.
+     */
+    public void recordAccess(String key) {
+        if (!mLoaded) return;
+        synchronized (this) {
+            final Entry e = mEntries.get(key);
+            if (e == null) return;
+            e.lastAccess = System.currentTimeMillis();
+            journal("R " + e.lastAccess + " " + key);
+            if (mJournalLines > 2 * mEntries.size() + JOURNAL_SLACK) compactJournal();
+        }
+    }
+
+    /**
+     * Deletes least recently used tiles until the cache is not larger than
+     * {@code targetSize}
+     * @return number of tiles deleted
+     */
+    public synchronized int trimToSize(long targetSize) {
+        load();
+        int deleted = 0;
+        final Iterator<Map.Entry<String, Entry>> it = mEntries.entrySet().iterator();
+        while (mSize > targetSize && it.hasNext()) {
+            final Map.Entry<String, Entry> e = it.next();
+            final File file = new File(mDirectory, e.getKey());
+            if (!file.delete() && file.exists()) {
+                Log.w(TAG, "Cannot delete " + file);
+                continue;
+            }
+            it.remove();
+            mSize -= e.getValue().size;
+            deleted += 1;
+            journal("D " + e.getKey());
+        }
+        flushJournal();
+        if (mJournalLines > 2 * mEntries.size() + JOURNAL_SLACK) compactJournal();
+        return deleted;
+    }
+
+    /**
+     * Writes pending journal lines to disk
+     */
+    public synchronized void flushJournal() {
+        if (mJournal == null) return;
+        try {
+            mJournal.flush();
+        }catch (IOException e) {
+            Log.e(TAG, "Cannot write " + mJournalFile, e);
+        }
+    }
+
+    private void journal(String line) {
+        try {
+            if (mJournal == null) {
+                mJournal = new BufferedWriter(new OutputStreamWriter(
+                        new FileOutputStream(mJournalFile, true), "UTF-8"));
+            }
+            mJournal.write(line);
+            mJournal.write('\n');
+            mJournalLines += 1;
+        }catch (IOException e) {
+            Log.e(TAG, "Cannot write " + mJournalFile, e);
+        }
+    }
+
+    private void readJournal() throws IOException {
+        final BufferedReader in = new BufferedReader(new InputStreamReader(
+                new FileInputStream(mJournalFile), "UTF-8"), 64 * 1024);
+        try {
+            if (!JOURNAL_MAGIC.equals(in.readLine()) || !JOURNAL_VERSION.equals(in.readLine())) {
+                throw new IOException("Unknown journal header");
+            }
+            mJournalLines = 2;
+            String line;
+            while ((line = in.readLine()) != null) {
+                mJournalLines += 1;
+                try {
+                    replay(line);
+                }catch (RuntimeException e) {
+                    // Truncated last line after a crash
+                    Log.w(TAG, "Bad journal line: " + line);
+                }
+            }
+        }finally {
+            in.close();
+        }
+    }
+
+    private void replay(String line) {
+        final char op = line.charAt(0);
+        if (op == 'P') {
+            final int s1 = line.indexOf(' ', 2);
+            final int s2 = line.indexOf(' ', s1 + 1);
+            final long size = Long.parseLong(line.substring(2, s1));
+            final long time = Long.parseLong(line.substring(s1 + 1, s2));
+            final Entry old = mEntries.put(line.substring(s2 + 1), new Entry(size, time));
+            if (old != null) mSize -= old.size;
+            mSize += size;
+        }else if (op == 'R') {
+            final int s1 = line.indexOf(' ', 2);
+            final Entry e = mEntries.get(line.substring(s1 + 1));
+            if (e != null) e.lastAccess = Long.parseLong(line.substring(2, s1));
+        }else if (op == 'D') {
+            final Entry old = mEntries.remove(line.substring(2));
+            if (old != null) mSize -= old.size;
+        }else {
+            throw new IllegalArgumentException(line);
+        }
+    }
+
+    /**
+     * Rewrites the journal with one line per entry, in access order
+     */
+    private void compactJournal() {
+        if (mJournal != null) {
+            try {
+                mJournal.close();
+            }catch (IOException e) {
+                e.printStackTrace();
+            }
+            mJournal = null;
+        }
+        final File tmp = new File(mDirectory, JOURNAL_FILE + ".tmp");
+        Writer out = null;
+        try {
+            if (!mDirectory.exists() && !mDirectory.mkdirs()) throw new IOException("Cannot create " + mDirectory);
+            out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tmp), "UTF-8"), 64 * 1024);
+            out.write(JOURNAL_MAGIC + "\n" + JOURNAL_VERSION + "\n");
+            for (Map.Entry<String, Entry> e: mEntries.entrySet()) {
+                out.write("P " + e.getValue().size + " " + e.getValue().lastAccess + " " + e.getKey() + "\n");
+            }
+            out.close();
+            out = null;
+            if (!tmp.renameTo(mJournalFile)) throw new IOException("Cannot rename " + tmp);
+            mJournalLines = mEntries.size() + 2;
+        }catch (IOException e) {
+            Log.e(TAG, "Cannot compact " + mJournalFile, e);
+        }finally {
+            if (out != null) {
+                try {
+                    out.close();
+                }catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * One time migration of an existing cache: indexes every tile with its
+     * modification time as last access
+     */
+    private void scanDirectory() {
+        final List<File> files = new ArrayList<File>();
+        listFiles(mDirectory, files);
+        Collections.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(final File f1, final File f2) {
+                return Long.valueOf(f1.lastModified()).compareTo(f2.lastModified());
+            }
+        });
+        final int prefix = mDirectory.getPath().length() + 1;
+        for (File f: files) {
+            final long size = f.length();
+            mEntries.put(f.getPath().substring(prefix), new Entry(size, f.lastModified()));
+            mSize += size;
+        }
+        Log.i(TAG, "Indexed " + files.size() + " cached tiles");
+    }
+
+    private void listFiles(final File directory, List<File> files) {
+        final File[] z = directory.listFiles();
+        if (z != null) {
+            for (final File file : z) {
+                if (file.isFile()) {
+                    if (!file.getName().startsWith(JOURNAL_FILE)) files.add(file);
+                }else if (file.isDirectory() && !isSymbolicDirectoryLink(directory, file)) {
+                    listFiles(file, files); // *** recurse ***
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks to see if it appears that a directory is a symbolic link. It does this by comparing
+     * the canonical path of the parent directory and the parent directory of the directory's
+     * canonical path. If they are equal, then they come from the same true parent. If not, then
+     * pDirectory is a symbolic link. If we get an exception, we err on the side of caution and
+     * return "true" expecting the scan to now skip further processing since
+     * something went goofy.
+     */
+    private static boolean isSymbolicDirectoryLink(final File pParentDirectory, final File pDirectory) {
+        try {
+            final String canonicalParentPath1 = pParentDirectory.getCanonicalPath();
+            final String canonicalParentPath2 = pDirectory.getCanonicalFile().getParent();
+            return !canonicalParentPath1.equals(canonicalParentPath2);
+        } catch (final IOException e) {
+            return true;
+        } catch (final NoSuchElementException e) {
+            // See: http://code.google.com/p/android/issues/detail?id=4961
+            // See: http://code.google.com/p/android/issues/detail?id=5807
+            return true;
+        }
+    }
+
+}
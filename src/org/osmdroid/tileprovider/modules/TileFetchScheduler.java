@@ -0,0 +1,302 @@
+package org.osmdroid.tileprovider.modules;
+
+import android.util.Log;
+
+import gpsplus.rtkgps.BuildConfig;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.osmdroid.tileprovider.MapTile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fetches tiles over a shared keep-alive HTTP client with a fixed number of
+ * worker threads.
+ * <p>
+ * Tiles of the current viewport are fetched before prefetch tiles, newest
+ * request first. Concurrent requests of the same URL are coalesced into a
+ * single download. When the viewport changes, viewport requests for tiles
+ * that are no longer visible are cancelled, aborting the connection if the
+ * download already started. The connection manager of the client bounds
+ * the connections per host.
+ */
+public class TileFetchScheduler {
+
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+    static final String TAG = TileFetchScheduler.class.getSimpleName();
+
+    /** Tiles displayed now, cancelled when they leave the viewport */
+    public static final int PRIORITY_VIEWPORT = 0;
+    /** Tiles fetched ahead of display, never cancelled by the viewport */
+    public static final int PRIORITY_PREFETCH = 1;
+
+    /** Tiles around the viewport kept when it moves */
+    private static final int VIEWPORT_MARGIN = 1;
+
+    /** Thrown by {@link TileFetchScheduler#fetch} for cancelled requests */
+    public static class CancelledException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public CancelledException(String message) {
+            super(message);
+        }
+    }
+
+    private static final int QUEUED = 0;
+    private static final int RUNNING = 1;
+    private static final int DONE = 2;
+
+    /** One download, shared by every caller asking for the same URL */
+    private static class Request {
+        final String mUrl;
+        final MapTile mTile;
+        final String mUserAgent;
+        final CountDownLatch mDone;
+        boolean mCancellable;
+        int mState;
+        boolean mCancelled;
+        HttpGet mGet;
+        byte mData[];
+        IOException mError;
+
+        Request(String url, MapTile tile, String userAgent, boolean cancellable) {
+            mUrl = url;
+            mTile = tile;
+            mUserAgent = userAgent;
+            mCancellable = cancellable;
+            mDone = new CountDownLatch(1);
+            mState = QUEUED;
+        }
+    }
+
+    /** Queue entry; a request may be queued again with a higher priority */
+    private static class Ticket implements Comparable<Ticket> {
+        final Request mRequest;
+        final int mPriority;
+        final long mSeq;
+
+        Ticket(Request request, int priority, long seq) {
+            mRequest = request;
+            mPriority = priority;
+            mSeq = seq;
+        }
+
+        @Override
+        public int compareTo(Ticket another) {
+            if (mPriority != another.mPriority) return mPriority < another.mPriority ? -1 : 1;
+            // newest first
+            return mSeq > another.mSeq ? -1 : (mSeq == another.mSeq ? 0 : 1);
+        }
+    }
+
+    private final HttpClient mClient;
+    private final PriorityBlockingQueue<Ticket> mQueue;
+    private final Map<String, Request> mRequests;
+    private final AtomicLong mSeq;
+    private final Thread mWorkers[];
+    private volatile boolean mRunning;
+
+    private int mViewportZoom;
+    private int mViewportLeft, mViewportTop, mViewportRight, mViewportBottom;
+
+    /**
+     * @param client thread safe client, its connection manager should allow
+     *        {@code threads} connections per host
+     * @param threads number of parallel downloads
+     */
+    public TileFetchScheduler(HttpClient client, int threads) {
+        mClient = client;
+        mQueue = new PriorityBlockingQueue<Ticket>();
+        mRequests = new HashMap<String, Request>();
+        mSeq = new AtomicLong();
+        mViewportZoom = -1;
+        mRunning = true;
+        mWorkers = new Thread[threads];
+        for (int i = 0; i < threads; ++i) {
+            mWorkers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    work();
+                }
+            }, TAG + "-" + i);
+            mWorkers[i].setDaemon(true);
+            mWorkers[i].start();
+        }
+    }
+
+    /**
+     * Downloads {@code url}, waiting for an identical request in progress
+     * if any.
+     * @param tile tile of the URL, checked against the viewport
+     * @return tile data, null if the server did not return it
+     * @throws CancelledException if the tile left the viewport
+     */
+    public byte[] fetch(MapTile tile, String url, String userAgent, int priority) throws IOException {
+        final Request request;
+        synchronized (this) {
+            if (!mRunning) throw new CancelledException("Scheduler stopped");
+            if (priority == PRIORITY_VIEWPORT && !isInViewport(tile)) {
+                throw new CancelledException(tile + " not in viewport");
+            }
+            Request r = mRequests.get(url);
+            if (r == null || r.mCancelled) {
+                // a cancelled download may still be aborting
+                r = new Request(url, tile, userAgent, priority == PRIORITY_VIEWPORT);
+                mRequests.put(url, r);
+                mQueue.add(new Ticket(r, priority, mSeq.incrementAndGet()));
+            }else {
+                if (DBG) Log.v(TAG, "Coalesced " + url);
+                if (priority == PRIORITY_PREFETCH) {
+                    // someone wants the tile whatever the viewport
+                    r.mCancellable = false;
+                }else if (r.mState == QUEUED) {
+                    mQueue.add(new Ticket(r, priority, mSeq.incrementAndGet()));
+                }
+            }
+            request = r;
+        }
+
+        try {
+            request.mDone.await();
+        }catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancelledException("Interrupted");
+        }
+        if (request.mError != null) throw request.mError;
+        return request.mData;
+    }
+
+    /**
+     * Sets the tiles displayed by the map and cancels the viewport requests
+     * outside them
+     */
+    public void setViewport(int zoom, int left, int top, int right, int bottom) {
+        final List<Request> cancelled = new ArrayList<Request>();
+        synchronized (this) {
+            mViewportZoom = zoom;
+            mViewportLeft = left - VIEWPORT_MARGIN;
+            mViewportTop = top - VIEWPORT_MARGIN;
+            mViewportRight = right + VIEWPORT_MARGIN;
+            mViewportBottom = bottom + VIEWPORT_MARGIN;
+            for (Request r: mRequests.values()) {
+                if (r.mCancellable && !isInViewport(r.mTile)) cancelled.add(r);
+            }
+            for (Request r: cancelled) cancel(r);
+        }
+        if (DBG && !cancelled.isEmpty()) Log.v(TAG, cancelled.size() + " stale tile requests cancelled");
+    }
+
+    /**
+     * Cancels every request and stops the workers
+     */
+    public void shutdown() {
+        synchronized (this) {
+            mRunning = false;
+            for (Request r: new ArrayList<Request>(mRequests.values())) cancel(r);
+        }
+        for (Thread t: mWorkers) t.interrupt();
+    }
+
+    /**
+     * @return number of tickets waiting for a worker, stale ones included
+     */
+    int getQueueSize() {
+        return mQueue.size();
+    }
+
+    private boolean isInViewport(MapTile tile) {
+        if (mViewportZoom < 0) return true;
+        return tile.getZoomLevel() == mViewportZoom
+                && tile.getX() >= mViewportLeft && tile.getX() <= mViewportRight
+                && tile.getY() >= mViewportTop && tile.getY() <= mViewportBottom;
+    }
+
+    /** Called with the lock held */
+    private void cancel(Request r) {
+        r.mCancelled = true;
+        if (r.mState == RUNNING) {
+            // the worker completes the request when the aborted execute() throws
+            r.mGet.abort();
+        }else if (r.mState == QUEUED) {
+            complete(r, null, new CancelledException(r.mUrl + " cancelled"));
+        }
+    }
+
+    /** Called with the lock held */
+    private void complete(Request r, byte data[], IOException error) {
+        if (r.mState == DONE) return;
+        r.mState = DONE;
+        r.mData = data;
+        r.mError = error;
+        r.mGet = null;
+        if (mRequests.get(r.mUrl) == r) mRequests.remove(r.mUrl);
+        r.mDone.countDown();
+    }
+
+    private void work() {
+        while (mRunning) {
+            final Ticket ticket;
+            try {
+                ticket = mQueue.take();
+            }catch (InterruptedException e) {
+                break;
+            }
+            final Request r = ticket.mRequest;
+            final HttpGet get;
+            synchronized (this) {
+                if (r.mState != QUEUED) continue;
+                get = new HttpGet(r.mUrl);
+                if (r.mUserAgent != null) get.setHeader("User-Agent", r.mUserAgent);
+                r.mGet = get;
+                r.mState = RUNNING;
+            }
+
+            byte data[] = null;
+            IOException error = null;
+            try {
+                data = download(get);
+            }catch (IOException e) {
+                error = e;
+            }catch (RuntimeException e) {
+                error = new IOException(e.toString());
+            }
+
+            synchronized (this) {
+                if (r.mCancelled) {
+                    complete(r, null, new CancelledException(r.mUrl + " cancelled"));
+                }else {
+                    complete(r, data, error);
+                }
+            }
+        }
+    }
+
+    private byte[] download(HttpGet get) throws IOException {
+        final HttpResponse response = mClient.execute(get);
+        final HttpEntity entity = response.getEntity();
+        final org.apache.http.StatusLine line = response.getStatusLine();
+        if (line.getStatusCode() != 200) {
+            Log.w(TAG, "Problem downloading " + get.getURI() + " HTTP response: " + line);
+            // release the connection for reuse
+            if (entity != null) entity.consumeContent();
+            return null;
+        }
+        if (entity == null) {
+            Log.w(TAG, "No content downloading " + get.getURI());
+            return null;
+        }
+        // reads the whole entity, so the connection is kept alive
+        return EntityUtils.toByteArray(entity);
+    }
+}
@@ -0,0 +1,600 @@
+package org.osmdroid.tileprovider.modules;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.os.SystemClock;
+import android.util.Log;
+
+import gpsplus.rtkgps.BuildConfig;
+import gpsplus.rtkgps.geoportail.License;
+
+import org.osmdroid.tileprovider.MapTile;
+import org.osmdroid.tileprovider.tilesource.ITileSource;
+import org.osmdroid.tileprovider.tilesource.OnlineTileSourceBase;
+import org.osmdroid.util.GeoPoint;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Downloads the tiles of a work area into an MBTiles archive, for use
+ * without network coverage.
+ * <p>
+ * Tiles intersecting the polygon are enumerated zoom level by zoom level
+ * and fetched by {@code parallelism} threads through a
+ * {@link TileFetchScheduler} at {@link TileFetchScheduler#PRIORITY_PREFETCH},
+ * so the tiles of the displayed map keep precedence and the connection
+ * limit of the scheduler is shared. The calling thread is the only writer
+ * of the SQLite archive and commits every {@link #BATCH_TILES} tiles or
+ * {@link #BATCH_MILLIS} ms, whichever comes first.
+ * <p>
+ * Tiles are enumerated once, while they are fetched. Tiles already in the
+ * archive are skipped, so running an interrupted job again resumes it; at
+ * most the last uncommitted batch is downloaded twice. They are read before
+ * the download into one {@link BitSet} per zoom level, indexed in the
+ * bounding box of the polygon at that level.
+ * <p>
+ * The archive at {@link TileSourceArchive#getArchiveFile(ITileSource)} is
+ * read by the map while the same tile source is displayed, see
+ * {@link WMTSMapTileProviderBasic#reloadArchives()}.
+ * <p>
+ * Usage:
+ * <pre>
+ * TilePreseeder.Result r = new TilePreseeder(provider.getScheduler(), tileSource,
+ *         polygon, 12, 18, TileSourceArchive.getArchiveFile(tileSource))
+ *     .setProgressListener(listener)
+ *     .run();
+ * </pre>
+ */
+public class TilePreseeder {
+
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+    static final String TAG = TilePreseeder.class.getSimpleName();
+
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /** Tiles per transaction */
+    public static final int BATCH_TILES = 200;
+    /** Maximum time a downloaded tile waits for its commit */
+    public static final long BATCH_MILLIS = 2000;
+
+    private static final long PROGRESS_INTERVAL_MS = 1000;
+
+    /** Mercator latitude limit, as in TileSystem */
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    public interface ProgressListener {
+        /**
+         * Called from the writing thread
+         * @param done tiles already archived, written or failed
+         * @param total tiles of the bounding box of the area at all zoom
+         *        levels until every tile was enumerated, then the tiles
+         *        in the area
+         */
+        void onPreseedProgress(int done, int total, double tilesPerSecond);
+    }
+
+    public static class Result {
+        /** tiles in the area, the ones enumerated if not complete */
+        public final int total;
+        public final int existing;
+        public final int written;
+        public final int failed;
+        public final long elapsedMillis;
+        /** false if the job was cancelled or the network was lost */
+        public final boolean complete;
+
+        Result(int total, int existing, int written, int failed, long elapsedMillis, boolean complete) {
+            this.total = total;
+            this.existing = existing;
+            this.written = written;
+            this.failed = failed;
+            this.elapsedMillis = elapsedMillis;
+            this.complete = complete;
+        }
+
+        public double getTilesPerSecond() {
+            return elapsedMillis == 0 ? 0 : written * 1000.0 / elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return written + "/" + total + " tiles in " + elapsedMillis + " ms ("
+                    + Math.round(getTilesPerSecond()) + " tiles/s), "
+                    + existing + " already archived, " + failed + " failed"
+                    + (complete ? "" : ", interrupted");
+        }
+    }
+
+    /** Downloaded tile handed to the writer, data null on failure */
+    private static class Fetched {
+        final MapTile tile;
+        final byte data[];
+
+        Fetched(MapTile tile, byte data[]) {
+            this.tile = tile;
+            this.data = data;
+        }
+    }
+
+    private static final Fetched END = new Fetched(null, null);
+
+    private final TileFetchScheduler mScheduler;
+    private final OnlineTileSourceBase mTileSource;
+    private final int mMinZoom;
+    private final int mMaxZoom;
+    private final File mArchive;
+    /** Polygon in normalized Mercator coordinates, 0..1 from north-west */
+    private final double mPolygonX[];
+    private final double mPolygonY[];
+    private final double mWest, mSouth, mEast, mNorth;
+    private int mParallelism;
+    private String mUserAgent;
+    private ProgressListener mProgressListener;
+
+    private volatile boolean mCancelled;
+    private volatile boolean mNetworkLost;
+
+    /**
+     * @param polygon work area, at least 3 points
+     * @param archive .mbtiles file, created if needed
+     */
+    public TilePreseeder(TileFetchScheduler scheduler, OnlineTileSourceBase tileSource,
+            List<GeoPoint> polygon, int minZoom, int maxZoom, File archive) {
+        if (polygon.size() < 3) throw new IllegalArgumentException("Polygon needs 3 points");
+        mScheduler = scheduler;
+        mTileSource = tileSource;
+        mMinZoom = Math.max(minZoom, tileSource.getMinimumZoomLevel());
+        mMaxZoom = Math.min(maxZoom, tileSource.getMaximumZoomLevel());
+        mArchive = archive;
+        mParallelism = DEFAULT_PARALLELISM;
+        mUserAgent = License.getUserAgent();
+
+        final int n = polygon.size();
+        mPolygonX = new double[n];
+        mPolygonY = new double[n];
+        double west = 180, east = -180, south = 90, north = -90;
+        for (int i = 0; i < n; ++i) {
+            final GeoPoint p = polygon.get(i);
+            final double lat = Math.max(-MAX_LATITUDE, Math.min(p.getLatitude(), MAX_LATITUDE));
+            final double lon = p.getLongitude();
+            mPolygonX[i] = (lon + 180.0) / 360.0;
+            final double sinLat = Math.sin(Math.toRadians(lat));
+            mPolygonY[i] = 0.5 - Math.log((1.0 + sinLat) / (1.0 - sinLat)) / (4.0 * Math.PI);
+            west = Math.min(west, lon);
+            east = Math.max(east, lon);
+            south = Math.min(south, lat);
+            north = Math.max(north, lat);
+        }
+        mWest = west;
+        mSouth = south;
+        mEast = east;
+        mNorth = north;
+
+        // the bounding box is the largest at the maximum zoom
+        getBoundingBox(mMaxZoom, new int[4]);
+    }
+
+    /**
+     * @param parallelism downloads in flight, the scheduler threads bound
+     *        the actual parallelism
+     */
+    public TilePreseeder setParallelism(int parallelism) {
+        mParallelism = Math.max(1, parallelism);
+        return this;
+    }
+
+    public TilePreseeder setUserAgent(String userAgent) {
+        mUserAgent = userAgent;
+        return this;
+    }
+
+    public TilePreseeder setProgressListener(ProgressListener listener) {
+        mProgressListener = listener;
+        return this;
+    }
+
+    /**
+     * Stops the job after the tiles in flight, which are committed
+     */
+    public void cancel() {
+        mCancelled = true;
+    }
+
+    /**
+     * Runs the job in the calling thread, which writes the archive
+     */
+    public Result run() throws IOException {
+        final long startTime = SystemClock.elapsedRealtime();
+        mCancelled = false;
+        mNetworkLost = false;
+
+        final SQLiteDatabase db;
+        try {
+            db = SQLiteDatabase.openDatabase(mArchive.getPath(), null,
+                    SQLiteDatabase.OPEN_READWRITE | SQLiteDatabase.CREATE_IF_NECESSARY
+                    | SQLiteDatabase.NO_LOCALIZED_COLLATORS);
+        }catch (RuntimeException e) {
+            throw new IOException("Cannot open " + mArchive + ": " + e);
+        }
+
+        int total = 0, existing = 0, written = 0, failed = 0;
+        final Thread threads[] = new Thread[mParallelism];
+        final BlockingQueue<Fetched> results = new ArrayBlockingQueue<Fetched>(4 * mParallelism);
+        int started = 0;
+        try {
+            createSchema(db);
+            writeMetadata(db);
+
+            final TileEnumerator tiles = new TileEnumerator(readArchivedTiles(db));
+            final int boundingTotal = getBoundingBoxTileCount();
+            if (DBG) Log.d(TAG, "at most " + boundingTotal + " tiles");
+            for (; started < mParallelism; ++started) {
+                threads[started] = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        fetchTiles(tiles, results);
+                    }
+                }, TAG + "-" + started);
+                threads[started].start();
+            }
+
+            final SQLiteStatement insert = db.compileStatement("INSERT OR REPLACE INTO "
+                    + MBTilesFileArchive.TABLE_TILES + " (zoom_level, tile_column, tile_row, tile_data)"
+                    + " VALUES (?, ?, ?, ?)");
+            int batch = 0;
+            long batchStart = 0;
+            long lastProgress = startTime;
+            int running = started;
+            try {
+                while (running > 0) {
+                    final Fetched f = results.take();
+                    if (f == END) {
+                        running -= 1;
+                    }else if (f.data == null) {
+                        failed += 1;
+                    }else {
+                        if (batch == 0) {
+                            db.beginTransaction();
+                            batchStart = SystemClock.elapsedRealtime();
+                        }
+                        final int z = f.tile.getZoomLevel();
+                        insert.bindLong(1, z);
+                        insert.bindLong(2, f.tile.getX());
+                        // MBTiles rows are numbered from the south (TMS)
+                        insert.bindLong(3, (1 << z) - 1 - f.tile.getY());
+                        insert.bindBlob(4, f.data);
+                        insert.executeInsert();
+                        written += 1;
+                        batch += 1;
+                    }
+
+                    final long now = SystemClock.elapsedRealtime();
+                    if (batch > 0 && (batch >= BATCH_TILES || now - batchStart >= BATCH_MILLIS || running == 0)) {
+                        db.setTransactionSuccessful();
+                        db.endTransaction();
+                        batch = 0;
+                    }
+                    if (mProgressListener != null && now - lastProgress >= PROGRESS_INTERVAL_MS) {
+                        lastProgress = now;
+                        existing = tiles.getSkipped();
+                        mProgressListener.onPreseedProgress(existing + written + failed,
+                                tiles.isDone() ? tiles.getCount() : boundingTotal,
+                                written * 1000.0 / Math.max(1, now - startTime));
+                    }
+                }
+            }catch (InterruptedException e) {
+                mCancelled = true;
+                Thread.currentThread().interrupt();
+            }finally {
+                if (batch > 0) {
+                    // keep what was downloaded
+                    db.setTransactionSuccessful();
+                    db.endTransaction();
+                }
+                insert.close();
+                existing = tiles.getSkipped();
+                total = tiles.getCount();
+            }
+        }catch (RuntimeException e) {
+            // SQLiteException, e.g. storage full
+            mCancelled = true;
+            throw new IOException("Cannot write " + mArchive + ": " + e);
+        }finally {
+            mCancelled |= Thread.currentThread().isInterrupted();
+            for (int i = 0; i < started; ++i) {
+                // drain the results so no fetch thread stays blocked
+                while (threads[i].isAlive()) {
+                    results.clear();
+                    try {
+                        threads[i].join(100);
+                    }catch (InterruptedException e) {
+                        mCancelled = true;
+                    }
+                }
+            }
+            db.close();
+        }
+
+        final Result result = new Result(total, existing, written, failed,
+                SystemClock.elapsedRealtime() - startTime, !mCancelled && !mNetworkLost);
+        if (mProgressListener != null) {
+            mProgressListener.onPreseedProgress(existing + written + failed, total, result.getTilesPerSecond());
+        }
+        Log.i(TAG, mArchive.getName() + ": " + result);
+        return result;
+    }
+
+    private void fetchTiles(TileEnumerator tiles, BlockingQueue<Fetched> results) {
+        try {
+            MapTile tile;
+            while (!mCancelled && !mNetworkLost && (tile = tiles.next()) != null) {
+                byte data[] = null;
+                try {
+                    data = mScheduler.fetch(tile, mTileSource.getTileURLString(tile), mUserAgent,
+                            TileFetchScheduler.PRIORITY_PREFETCH);
+                }catch (TileFetchScheduler.CancelledException e) {
+                    // scheduler stopped with the map
+                    mCancelled = true;
+                }catch (UnknownHostException e) {
+                    Log.w(TAG, "No network, stopping: " + e);
+                    mNetworkLost = true;
+                }catch (IOException e) {
+                    Log.w(TAG, "Cannot download " + tile + ": " + e);
+                }
+                results.put(new Fetched(tile, data));
+            }
+            results.put(END);
+        }catch (InterruptedException e) {
+            mCancelled = true;
+            // the writer may be waiting for this thread
+            results.offer(END);
+        }
+    }
+
+    private static void createSchema(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE IF NOT EXISTS metadata (name TEXT, value TEXT)");
+        db.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS metadata_name ON metadata (name)");
+        db.execSQL("CREATE TABLE IF NOT EXISTS " + MBTilesFileArchive.TABLE_TILES
+                + " (zoom_level INTEGER, tile_column INTEGER, tile_row INTEGER, tile_data BLOB)");
+        db.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS tile_index ON "
+                + MBTilesFileArchive.TABLE_TILES + " (zoom_level, tile_column, tile_row)");
+    }
+
+    private void writeMetadata(SQLiteDatabase db) {
+        String format = mTileSource.imageFilenameEnding().toLowerCase(Locale.US);
+        if (format.startsWith(".")) format = format.substring(1);
+        if ("jpeg".equals(format)) format = "jpg";
+
+        final String bounds = String.format(Locale.US, "%.6f,%.6f,%.6f,%.6f", mWest, mSouth, mEast, mNorth);
+        final String metadata[][] = {
+                {"name", mTileSource.name()},
+                {"type", "baselayer"},
+                {"version", "1"},
+                {"description", mTileSource.name() + " " + bounds},
+                {"format", format},
+                {"bounds", bounds},
+                {"minzoom", String.valueOf(mMinZoom)},
+                {"maxzoom", String.valueOf(mMaxZoom)},
+        };
+        db.beginTransaction();
+        try {
+            for (String m[] : metadata) {
+                db.execSQL("INSERT OR REPLACE INTO metadata (name, value) VALUES (?, ?)", m);
+            }
+            db.setTransactionSuccessful();
+        }finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * @return tiles archived at each zoom level from mMinZoom, indexed as
+     *         {@link #getBoundingBoxIndex(int[], int, int)}
+     */
+    private BitSet[] readArchivedTiles(SQLiteDatabase db) {
+        final BitSet archived[] = new BitSet[Math.max(0, mMaxZoom - mMinZoom + 1)];
+        final int box[] = new int[4];
+        int count = 0;
+        for (int z = mMinZoom; z <= mMaxZoom; ++z) {
+            getBoundingBox(z, box);
+            final BitSet zoomArchived = new BitSet();
+            // MBTiles rows are numbered from the south (TMS)
+            final Cursor c = db.rawQuery("SELECT tile_column, tile_row FROM "
+                    + MBTilesFileArchive.TABLE_TILES + " WHERE zoom_level = ?"
+                    + " AND tile_column BETWEEN ? AND ? AND tile_row BETWEEN ? AND ?",
+                    new String[] {String.valueOf(z),
+                            String.valueOf(box[0]), String.valueOf(box[2]),
+                            String.valueOf((1 << z) - 1 - box[3]), String.valueOf((1 << z) - 1 - box[1])});
+            try {
+                while (c.moveToNext()) {
+                    zoomArchived.set(getBoundingBoxIndex(box, c.getInt(0), (1 << z) - 1 - c.getInt(1)));
+                    count += 1;
+                }
+            }finally {
+                c.close();
+            }
+            archived[z - mMinZoom] = zoomArchived;
+        }
+        if (DBG) Log.d(TAG, count + " tiles of the bounding box already archived");
+        return archived;
+    }
+
+    /**
+     * Tiles of the bounding box of the polygon at {@code zoom}
+     * @param box left, top, right, bottom
+     */
+    private void getBoundingBox(int zoom, int box[]) {
+        final int n = 1 << zoom;
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < mPolygonX.length; ++i) {
+            minX = Math.min(minX, mPolygonX[i] * n);
+            maxX = Math.max(maxX, mPolygonX[i] * n);
+            minY = Math.min(minY, mPolygonY[i] * n);
+            maxY = Math.max(maxY, mPolygonY[i] * n);
+        }
+        box[0] = Math.max(0, (int)Math.floor(minX));
+        box[1] = Math.max(0, (int)Math.floor(minY));
+        box[2] = Math.min(n - 1, (int)Math.floor(maxX));
+        box[3] = Math.min(n - 1, (int)Math.floor(maxY));
+        if ((long)(box[2] - box[0] + 1) * (box[3] - box[1] + 1) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Area too large at zoom " + zoom);
+        }
+    }
+
+    private static int getBoundingBoxIndex(int box[], int x, int y) {
+        return (y - box[1]) * (box[2] - box[0] + 1) + (x - box[0]);
+    }
+
+    /**
+     * @return tiles of the bounding boxes at all zoom levels, an upper bound
+     *         of the tiles in the area
+     */
+    private int getBoundingBoxTileCount() {
+        final int box[] = new int[4];
+        long count = 0;
+        for (int z = mMinZoom; z <= mMaxZoom; ++z) {
+            getBoundingBox(z, box);
+            count += (long)(box[2] - box[0] + 1) * (box[3] - box[1] + 1);
+        }
+        return (int)Math.min(count, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Tiles intersecting the polygon, zoom level by zoom level, shared by
+     * the fetch threads
+     */
+    private class TileEnumerator {
+        private final BitSet mArchived[];
+        private final double mX[];
+        private final double mY[];
+        private final int mBox[];
+        private int mZoom;
+        private int mTileX, mTileY;
+        private int mCount;
+        private int mSkipped;
+        private boolean mDone;
+
+        /**
+         * @param archived tiles skipped, see {@link #readArchivedTiles(SQLiteDatabase)}
+         */
+        TileEnumerator(BitSet archived[]) {
+            mArchived = archived;
+            mX = new double[mPolygonX.length];
+            mY = new double[mPolygonY.length];
+            mBox = new int[] {0, 0, -1, -1};
+            mZoom = mMinZoom - 1;
+            mTileX = 0;
+            mTileY = 0;
+        }
+
+        /** @return null once every tile was returned */
+        synchronized MapTile next() {
+            for (;;) {
+                if (mTileX > mBox[2]) {
+                    mTileX = mBox[0];
+                    mTileY += 1;
+                }
+                if (mTileY > mBox[3]) {
+                    if (mZoom >= mMaxZoom) {
+                        mDone = true;
+                        return null;
+                    }
+                    startZoom(mZoom + 1);
+                    continue;
+                }
+                final int x = mTileX++;
+                final int y = mTileY;
+                if (!intersects(x, y)) continue;
+                mCount += 1;
+                if (mArchived[mZoom - mMinZoom].get(getBoundingBoxIndex(mBox, x, y))) {
+                    mSkipped += 1;
+                    continue;
+                }
+                return new MapTile(mZoom, x, y);
+            }
+        }
+
+        /** @return tiles intersecting the polygon enumerated so far */
+        synchronized int getCount() {
+            return mCount;
+        }
+
+        /** @return tiles enumerated so far that were already archived */
+        synchronized int getSkipped() {
+            return mSkipped;
+        }
+
+        /** @return true once every tile was enumerated */
+        synchronized boolean isDone() {
+            return mDone;
+        }
+
+        private void startZoom(int zoom) {
+            final int n = 1 << zoom;
+            for (int i = 0; i < mX.length; ++i) {
+                mX[i] = mPolygonX[i] * n;
+                mY[i] = mPolygonY[i] * n;
+            }
+            getBoundingBox(zoom, mBox);
+            mZoom = zoom;
+            mTileX = mBox[0];
+            mTileY = mBox[1];
+        }
+
+        /** Tile square [x, x+1] x [y, y+1] against the polygon at mZoom */
+        private boolean intersects(int x, int y) {
+            if (contains(x + 0.5, y + 0.5)) return true;
+            final int n = mX.length;
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                if (segmentIntersects(mX[j], mY[j], mX[i], mY[i], x, y, x + 1, y + 1)) return true;
+            }
+            return false;
+        }
+
+        private boolean contains(double px, double py) {
+            boolean inside = false;
+            final int n = mX.length;
+            for (int i = 0, j = n - 1; i < n; j = i++) {
+                if ((mY[i] > py) != (mY[j] > py)
+                        && px < (mX[j] - mX[i]) * (py - mY[i]) / (mY[j] - mY[i]) + mX[i]) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+
+    /** Liang-Barsky clipping of a segment by a rectangle */
+    private static boolean segmentIntersects(double x0, double y0, double x1, double y1,
+            double left, double top, double right, double bottom) {
+        final double dx = x1 - x0;
+        final double dy = y1 - y0;
+        final double p[] = {-dx, dx, -dy, dy};
+        final double q[] = {x0 - left, right - x0, y0 - top, bottom - y0};
+        double t0 = 0, t1 = 1;
+        for (int i = 0; i < 4; ++i) {
+            if (p[i] == 0) {
+                if (q[i] < 0) return false;
+            }else {
+                final double t = q[i] / p[i];
+                if (p[i] < 0) {
+                    if (t > t1) return false;
+                    if (t > t0) t0 = t;
+                }else {
+                    if (t < t0) return false;
+                    if (t < t1) t1 = t;
+                }
+            }
+        }
+        return true;
+    }
+}
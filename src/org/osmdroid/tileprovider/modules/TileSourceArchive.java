@@ -0,0 +1,90 @@
+package org.osmdroid.tileprovider.modules;
+
+import android.database.sqlite.SQLiteException;
+import android.util.Log;
+
+import gpsplus.rtkgps.BuildConfig;
+
+import org.osmdroid.tileprovider.MapTile;
+import org.osmdroid.tileprovider.constants.OpenStreetMapTileProviderConstants;
+import org.osmdroid.tileprovider.tilesource.ITileSource;
+import org.osmdroid.tileprovider.tilesource.IStyledTileSource;
+
+import java.io.File;
+import java.io.InputStream;
+
+/**
+ * MBTiles archive of the displayed tile source, as written by
+ * {@link TilePreseeder} in {@link #getArchiveFile(ITileSource)}.
+ * <p>
+ * {@link MBTilesFileArchive} returns its tiles whatever the tile source
+ * asked, so this only answers for the source it was opened for.
+ * {@link WMTSMapTileProviderBasic} gives it as the only archive of its
+ * {@link MapTileFileArchiveProvider} and opens it again when the tile
+ * source changes.
+ */
+public class TileSourceArchive implements IArchiveFile {
+
+    private static final boolean DBG = BuildConfig.DEBUG & true;
+    static final String TAG = TileSourceArchive.class.getSimpleName();
+
+    private String mArchiveName;
+
+    private MBTilesFileArchive mArchive;
+
+    /**
+     * @return name of the archive of {@code source}, with the style of
+     *         styled sources as Bing road and aerial have the same name
+     */
+    public static String getArchiveName(ITileSource source) {
+        if (source instanceof IStyledTileSource) {
+            final Object style = ((IStyledTileSource<?>)source).getStyle();
+            if (style != null) return source.name() + "-" + style;
+        }
+        return source.name();
+    }
+
+    /**
+     * @return archive of {@code source} in OSMDROID_PATH
+     */
+    public static File getArchiveFile(ITileSource source) {
+        return new File(OpenStreetMapTileProviderConstants.OSMDROID_PATH,
+                getArchiveName(source) + ".mbtiles");
+    }
+
+    /**
+     * Closes the current archive and opens the one of {@code source}, if
+     * it exists
+     */
+    public synchronized void open(ITileSource source) {
+        close();
+        mArchiveName = getArchiveName(source);
+        final File file = getArchiveFile(source);
+        if (!file.exists()) return;
+        try {
+            mArchive = MBTilesFileArchive.getDatabaseFileArchive(file);
+            if (DBG) Log.v(TAG, "Opened " + file);
+        }catch (SQLiteException e) {
+            Log.w(TAG, "Cannot open " + file + ": " + e);
+        }
+    }
+
+    @Override
+    public synchronized InputStream getInputStream(ITileSource source, MapTile tile) {
+        if (mArchive == null || !getArchiveName(source).equals(mArchiveName)) return null;
+        return mArchive.getInputStream(source, tile);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (mArchive != null) {
+            mArchive.close();
+            mArchive = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return TAG + " " + mArchiveName;
+    }
+}
@@ -7,16 +7,14 @@ import android.util.Log;
 import gpsplus.rtkgps.BuildConfig;
 import gpsplus.rtkgps.geoportail.License;
 
-import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpVersion;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.HttpClient;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.params.ConnManagerParams;
+import org.apache.http.conn.params.ConnPerRouteBean;
 import org.apache.http.conn.scheme.PlainSocketFactory;
 import org.apache.http.conn.scheme.Scheme;
 import org.apache.http.conn.scheme.SchemeRegistry;
@@ -29,7 +27,6 @@ import org.apache.http.params.BasicHttpParams;
 import org.apache.http.params.HttpParams;
 import org.apache.http.params.HttpProtocolParams;
 import org.apache.http.protocol.HTTP;
-import org.apache.http.util.EntityUtils;
 import org.osmdroid.tileprovider.BitmapPool;
 import org.osmdroid.tileprovider.MapTile;
 import org.osmdroid.tileprovider.MapTileRequestState;
@@ -37,15 +34,10 @@ import org.osmdroid.tileprovider.ReusableBitmapDrawable;
 import org.osmdroid.tileprovider.tilesource.BitmapTileSourceBase.LowMemoryException;
 import org.osmdroid.tileprovider.tilesource.ITileSource;
 import org.osmdroid.tileprovider.tilesource.OnlineTileSourceBase;
-import org.osmdroid.tileprovider.util.StreamUtils;
 
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.Socket;
 import java.net.UnknownHostException;
 import java.security.KeyManagementException;
@@ -75,6 +67,12 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
     private static final boolean DBG = BuildConfig.DEBUG & true;
     static final String TAG = WMTSMapTileDownloader.class.getSimpleName();
 
+    /** Parallel downloads, also the keep-alive connections kept per host */
+    private static final int FETCH_THREADS = 4;
+
+    /** osmdroid loader threads waiting on the scheduler */
+    private static final int LOADER_THREADS = 8;
+
     // ===========================================================
     // Fields
     // ===========================================================
@@ -85,6 +83,8 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
 
     private final INetworkAvailablityCheck mNetworkAvailablityCheck;
 
+    private final TileFetchScheduler mScheduler;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -100,11 +100,22 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
     public WMTSMapTileDownloader(final ITileSource pTileSource,
             final IFilesystemCache pFilesystemCache,
             final INetworkAvailablityCheck pNetworkAvailablityCheck) {
-        super(NUMBER_OF_TILE_DOWNLOAD_THREADS, TILE_DOWNLOAD_MAXIMUM_QUEUE_SIZE);
+        super(LOADER_THREADS, TILE_DOWNLOAD_MAXIMUM_QUEUE_SIZE);
 
         mFilesystemCache = pFilesystemCache;
         mNetworkAvailablityCheck = pNetworkAvailablityCheck;
         setTileSource(pTileSource);
+
+        // The main changes are here dealing with credentials.
+        // create the credentials with username and password
+        CredentialsProvider credProvider = new BasicCredentialsProvider();
+        credProvider.setCredentials(new AuthScope(AuthScope.ANY_HOST, AuthScope.ANY_PORT),
+            new UsernamePasswordCredentials("", ""));
+
+        // one client for every download, so connections are kept alive
+        HttpClient httpClient = getNewHttpClient();
+        ((AbstractHttpClient) httpClient).setCredentialsProvider(credProvider);
+        mScheduler = new TileFetchScheduler(httpClient, FETCH_THREADS);
     }
 
     // ===========================================================
@@ -115,6 +126,18 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
         return mTileSource;
     }
 
+    public TileFetchScheduler getScheduler() {
+        return mScheduler;
+    }
+
+    /**
+     * Sets the tiles displayed by the map, pending downloads of tiles no
+     * longer displayed are cancelled.
+     */
+    public void setViewport(int zoom, int left, int top, int right, int bottom) {
+        mScheduler.setViewport(zoom, left, top, right, bottom);
+    }
+
     // ===========================================================
     // Methods from SuperClass/Interfaces
     // ===========================================================
@@ -139,6 +162,12 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
         return true;
     }
 
+    @Override
+    public void detach() {
+        mScheduler.shutdown();
+        super.detach();
+    }
+
     @Override
     public int getMinimumZoomLevel() {
         return (mTileSource != null ? mTileSource.getMinimumZoomLevel() : MINIMUM_ZOOMLEVEL);
@@ -173,8 +202,6 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
                 return null;
             }
 
-            InputStream in = null;
-            OutputStream out = null;
             final MapTile tile = aState.getMapTile();
 
             try {
@@ -197,47 +224,12 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
                     return null;
                 }
 
-                // The main changes are here dealing with credentials.
-                // create the credentials with username and password
-                CredentialsProvider credProvider = new BasicCredentialsProvider();
-                credProvider.setCredentials(new AuthScope(AuthScope.ANY_HOST, AuthScope.ANY_PORT),
-                    new UsernamePasswordCredentials("", ""));
-
-                // get the client
-                HttpClient httpClient = getNewHttpClient();
-                ((AbstractHttpClient) httpClient).setCredentialsProvider(credProvider);
-
-                Log.d(TAG,"WMTSMapTileDownloader -- tileURLString ------------------------- " + tileURLString);
-
-                final HttpUriRequest head = new HttpGet(tileURLString);
                 //Geoportail has a mandatory user-agent
-                head.setHeader("User-Agent", License.getUserAgent()); // TODO have tileSource dependent User-Agent
-                final HttpResponse response = httpClient.execute(head);
-
-                // Check to see if we got success
-                final org.apache.http.StatusLine line = response.getStatusLine();
-                if (line.getStatusCode() != 200) {
-                    Log.w(TAG,"WMTSMapTileDownloader -- Problem downloading MapTile: " + tile + " HTTP response: " + line);
-                    if (DBG)
-                    {
-                        String responseAsString = EntityUtils.toString(response.getEntity());
-                        Log.d(TAG,responseAsString);
-                    }
+                final byte[] data = mScheduler.fetch(tile, tileURLString, License.getUserAgent(), // TODO have tileSource dependent User-Agent
+                        TileFetchScheduler.PRIORITY_VIEWPORT);
+                if (data == null) {
                     return null;
                 }
-
-                final HttpEntity entity = response.getEntity();
-                if (entity == null) {
-                    Log.w(TAG,"WMTSMapTileDownloader -- No content downloading MapTile: " + tile);
-                    return null;
-                }
-                in = entity.getContent();
-
-                final ByteArrayOutputStream dataStream = new ByteArrayOutputStream();
-                out = new BufferedOutputStream(dataStream, StreamUtils.IO_BUFFER_SIZE);
-                StreamUtils.copy(in, out);
-                out.flush();
-                final byte[] data = dataStream.toByteArray();
                 final ByteArrayInputStream byteStream = new ByteArrayInputStream(data);
 
                 // Save the data to the filesystem cache
@@ -248,6 +240,11 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
                 final Drawable result = mTileSource.getDrawable(byteStream);
 
                 return result;
+            } catch (final TileFetchScheduler.CancelledException e) {
+                // the tile left the viewport, it will be requested again if displayed
+                if (DBG) {
+                    Log.d(TAG,"WMTSMapTileDownloader -- " + e.getMessage());
+                }
             } catch (final UnknownHostException e) {
                 // no network connection so empty the queue
                 Log.w(TAG,"WMSMapTileDownloader -- UnknownHostException downloading MapTile: " + tile + " : " + e);
@@ -262,9 +259,6 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
                 Log.w(TAG,"WMSMapTileDownloader -- IOException downloading MapTile: " + tile + " : " + e);
             } catch (final Throwable e) {
                 Log.e(TAG,"WMSMapTileDownloader -- Error downloading MapTile: " + tile, e);
-            } finally {
-                StreamUtils.closeStream(in);
-                StreamUtils.closeStream(out);
             }
 
             return null;
@@ -303,6 +297,8 @@ public class WMTSMapTileDownloader extends MapTileModuleProviderBase {
             HttpParams params = new BasicHttpParams();
             HttpProtocolParams.setVersion(params, HttpVersion.HTTP_1_1);
             HttpProtocolParams.setContentCharset(params, HTTP.UTF_8);
+            ConnManagerParams.setMaxConnectionsPerRoute(params, new ConnPerRouteBean(FETCH_THREADS));
+            ConnManagerParams.setMaxTotalConnections(params, FETCH_THREADS);
 
             SchemeRegistry registry = new SchemeRegistry();
             registry.register(new Scheme("http", PlainSocketFactory.getSocketFactory(), 80));
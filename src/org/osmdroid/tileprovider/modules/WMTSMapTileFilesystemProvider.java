@@ -0,0 +1,54 @@
+package org.osmdroid.tileprovider.modules;
+
+import android.graphics.drawable.Drawable;
+
+import org.osmdroid.tileprovider.IRegisterReceiver;
+import org.osmdroid.tileprovider.MapTileRequestState;
+import org.osmdroid.tileprovider.constants.OpenStreetMapTileProviderConstants;
+import org.osmdroid.tileprovider.tilesource.ITileSource;
+
+/**
+ * {@link MapTileFilesystemProvider} recording tile reads in the
+ * {@link TileCacheIndex}, so the cache trimming done by {@link WMTSTileWriter}
+ * evicts the least recently used tiles.
+ */
+public class WMTSMapTileFilesystemProvider extends MapTileFilesystemProvider
+    implements OpenStreetMapTileProviderConstants {
+
+    private final TileCacheIndex mIndex;
+
+    /** Set by the super constructor, no initializer */
+    private volatile ITileSource mIndexedTileSource;
+
+    public WMTSMapTileFilesystemProvider(final IRegisterReceiver pRegisterReceiver,
+            final ITileSource pTileSource) {
+        super(pRegisterReceiver, pTileSource);
+        mIndex = TileCacheIndex.getInstance(TILE_PATH_BASE);
+    }
+
+    @Override
+    public void setTileSource(final ITileSource pTileSource) {
+        mIndexedTileSource = pTileSource;
+        super.setTileSource(pTileSource);
+    }
+
+    @Override
+    protected Runnable getTileLoader() {
+        return new IndexedTileLoader();
+    }
+
+    protected class IndexedTileLoader extends MapTileFilesystemProvider.TileLoader {
+
+        @Override
+        public Drawable loadTile(final MapTileRequestState pState) throws CantContinueException {
+            final Drawable drawable = super.loadTile(pState);
+            final ITileSource tileSource = mIndexedTileSource;
+            if (drawable != null && tileSource != null) {
+                mIndex.recordAccess(tileSource.getTileRelativeFilenameString(pState.getMapTile())
+                        + TILE_PATH_EXTENSION);
+            }
+            return drawable;
+        }
+    }
+
+}
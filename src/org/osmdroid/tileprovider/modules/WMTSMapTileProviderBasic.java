@@ -12,14 +12,19 @@ import org.osmdroid.tileprovider.util.SimpleRegisterReceiver;
 
 /**
  * This top-level tile provider implements a basic tile request chain which includes a
- * {@link MapTileFilesystemProvider} (a file-system cache), a {@link MapTileFileArchiveProvider}
+ * {@link WMTSMapTileFilesystemProvider} (a file-system cache), a {@link MapTileFileArchiveProvider}
  * (archive provider), and a {@link WMTSMapTileDownloader} (downloads map tiles via tile source).
+ * The archive provider only reads the {@link TileSourceArchive} of the current tile source.
  *
  * @author Steve Potell -- spotell@t-sciences.com
  *
  */
 public class WMTSMapTileProviderBasic extends MapTileProviderArray implements IMapTileProviderCallback {
 
+    private final TileSourceArchive mArchive;
+
+    private final WMTSMapTileDownloader mDownloader;
+
     /**
      * Creates a {@link MapTileProviderBasic}.
      */
@@ -44,17 +49,49 @@ public class WMTSMapTileProviderBasic extends MapTileProviderArray implements IM
 
         final WMTSTileWriter tileWriter = new WMTSTileWriter();
 
-        final MapTileFilesystemProvider fileSystemProvider = new MapTileFilesystemProvider(
+        final MapTileFilesystemProvider fileSystemProvider = new WMTSMapTileFilesystemProvider(
                 pRegisterReceiver, pTileSource);
         mTileProviderList.add(fileSystemProvider);
 
+        mArchive = new TileSourceArchive();
+        mArchive.open(pTileSource);
         final MapTileFileArchiveProvider archiveProvider = new MapTileFileArchiveProvider(
-                pRegisterReceiver, pTileSource);
+                pRegisterReceiver, pTileSource, new IArchiveFile[] {mArchive});
         mTileProviderList.add(archiveProvider);
 
         final WMTSMapTileDownloader downloaderProvider = new WMTSMapTileDownloader(pTileSource, tileWriter,
                 aNetworkAvailablityCheck);
         mTileProviderList.add(downloaderProvider);
+        mDownloader = downloaderProvider;
+    }
+
+    /**
+     * Sets the tiles displayed by the map, in tile coordinates at {@code zoom}.
+     * Downloads of tiles outside are cancelled.
+     */
+    public void setViewport(int zoom, int left, int top, int right, int bottom) {
+        mDownloader.setViewport(zoom, left, top, right, bottom);
+    }
+
+    /**
+     * @return the scheduler of the map downloads, to fetch tiles ahead of display
+     * @see TilePreseeder
+     */
+    public TileFetchScheduler getScheduler() {
+        return mDownloader.getScheduler();
+    }
+
+    @Override
+    public void setTileSource(final ITileSource aTileSource) {
+        super.setTileSource(aTileSource);
+        mArchive.open(aTileSource);
+    }
+
+    /**
+     * Opens again the archive of the tile source, e.g. after a {@link TilePreseeder} run
+     */
+    public void reloadArchives() {
+        mArchive.open(getTileSource());
     }
 
 } // end WMSMapTileProviderBasic
@@ -16,15 +16,11 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
-import java.util.NoSuchElementException;
 
 /**
  * An implementation of {@link IFilesystemCache}. It writes tiles to the file system cache. If the
- * cache exceeds 600 Mb then it will be trimmed to 500 Mb.
+ * cache exceeds 600 Mb then it will be trimmed to 500 Mb, least recently used tiles first.
+ * The cache size and the tiles access order come from the {@link TileCacheIndex}.
  *
  * @author Neil Boyd
  *
@@ -47,8 +43,7 @@ public class WMTSTileWriter implements IFilesystemCache, OpenStreetMapTileProvid
     // Fields
     // ===========================================================
 
-    /** amount of disk space used by tile cache **/
-    private static long mUsedCacheSpace;
+    private final TileCacheIndex mIndex;
 
     // ===========================================================
     // Constructors
@@ -62,16 +57,16 @@ public class WMTSTileWriter implements IFilesystemCache, OpenStreetMapTileProvid
 
         this.TILE_MAX_CACHE_SIZE_BYTES = max_cache_size;
         this.TILE_TRIM_CACHE_SIZE_BYTES = trim_cache_size;
-        // do this in the background because it takes a long time
+        this.mIndex = TileCacheIndex.getInstance(TILE_PATH_BASE);
+        // the index walks the cache the first time only
         final Thread t = new Thread() {
             @Override
             public void run() {
-                mUsedCacheSpace = 0; // because it's static
-                calculateDirectorySize(TILE_PATH_BASE);
+                mIndex.load();
                 if (DBG) {
-                    Log.d(TAG,"Osmdroid current cache size is "+mUsedCacheSpace);
+                    Log.d(TAG,"Osmdroid current cache size is "+mIndex.getSize());
                 }
-                if (mUsedCacheSpace > TILE_MAX_CACHE_SIZE_BYTES) {
+                if (mIndex.getSize() > TILE_MAX_CACHE_SIZE_BYTES) {
                     cutCurrentCache();
                 }
                 if (DBG) {
@@ -88,13 +83,14 @@ public class WMTSTileWriter implements IFilesystemCache, OpenStreetMapTileProvid
     // ===========================================================
 
     /**
-     * Get the amount of disk space used by the tile cache. This will initially be zero since the
-     * used space is calculated in the background.
+     * Get the amount of disk space used by the tile cache. This will initially be zero until the
+     * cache index is loaded in the background.
      *
      * @return size in bytes
      */
     public static long getUsedCacheSpace() {
-        return mUsedCacheSpace;
+        final TileCacheIndex index = TileCacheIndex.getInstance(TILE_PATH_BASE);
+        return index.isLoaded() ? index.getSize() : 0;
     }
 
     // ===========================================================
@@ -105,8 +101,8 @@ public class WMTSTileWriter implements IFilesystemCache, OpenStreetMapTileProvid
     public boolean saveFile(final ITileSource pTileSource, final MapTile pTile,
             final InputStream pStream) {
 
-        final File file = new File(TILE_PATH_BASE, pTileSource.getTileRelativeFilenameString(pTile)
-                + TILE_PATH_EXTENSION);
+        final String key = pTileSource.getTileRelativeFilenameString(pTile) + TILE_PATH_EXTENSION;
+        final File file = new File(TILE_PATH_BASE, key);
 
         final File parent = file.getParentFile();
         if (!parent.exists() && !createFolderAndCheckIfExists(parent)) {
@@ -119,9 +115,9 @@ public class WMTSTileWriter implements IFilesystemCache, OpenStreetMapTileProvid
                     StreamUtils.IO_BUFFER_SIZE);
             final long length = StreamUtils.copy(pStream, outputStream);
 
-            mUsedCacheSpace += length;
-            if (mUsedCacheSpace > TILE_MAX_CACHE_SIZE_BYTES) {
-                cutCurrentCache(); // TODO perhaps we should do this in the background
+            mIndex.put(key, length);
+            if (mIndex.getSize() > TILE_MAX_CACHE_SIZE_BYTES) {
+                cutCurrentCache();
             }
         } catch (final IOException e) {
             return false;
@@ -164,98 +160,21 @@ public class WMTSTileWriter implements IFilesystemCache, OpenStreetMapTileProvid
         }
     }
 
-    private void calculateDirectorySize(final File pDirectory) {
-        final File[] z = pDirectory.listFiles();
-        if (z != null) {
-            for (final File file : z) {
-                if (file.isFile()) {
-                    mUsedCacheSpace += file.length();
-                }
-                if (file.isDirectory() && !isSymbolicDirectoryLink(pDirectory, file)) {
-                    calculateDirectorySize(file); // *** recurse ***
-                }
-            }
-        }
-    }
-
-    /**
-     * Checks to see if it appears that a directory is a symbolic link. It does this by comparing
-     * the canonical path of the parent directory and the parent directory of the directory's
-     * canonical path. If they are equal, then they come from the same true parent. If not, then
-     * pDirectory is a symbolic link. If we get an exception, we err on the side of caution and
-     * return "true" expecting the calculateDirectorySize to now skip further processing since
-     * something went goofy.
-     */
-    private boolean isSymbolicDirectoryLink(final File pParentDirectory, final File pDirectory) {
-        try {
-            final String canonicalParentPath1 = pParentDirectory.getCanonicalPath();
-            final String canonicalParentPath2 = pDirectory.getCanonicalFile().getParent();
-            return !canonicalParentPath1.equals(canonicalParentPath2);
-        } catch (final IOException e) {
-            return true;
-        } catch (final NoSuchElementException e) {
-            // See: http://code.google.com/p/android/issues/detail?id=4961
-            // See: http://code.google.com/p/android/issues/detail?id=5807
-            return true;
-        }
-
-    }
-
-    private List<File> getDirectoryFileList(final File aDirectory) {
-        final List<File> files = new ArrayList<File>();
-
-        final File[] z = aDirectory.listFiles();
-        if (z != null) {
-            for (final File file : z) {
-                if (file.isFile()) {
-                    files.add(file);
-                }
-                if (file.isDirectory()) {
-                    files.addAll(getDirectoryFileList(file));
-                }
-            }
-        }
-
-        return files;
-    }
-
     /**
-     * If the cache size is greater than the max then trim it down to the trim level. This method is
-     * synchronized so that only one thread can run it at a time.
+     * If the cache size is greater than the max then trim it down to the trim level, evicting
+     * the least recently used tiles of the index.
      */
     private void cutCurrentCache() {
 
-        synchronized (TILE_PATH_BASE) {
-
-            if (mUsedCacheSpace > TILE_TRIM_CACHE_SIZE_BYTES) {
-
-                logger.info("Trimming tile cache from " + mUsedCacheSpace + " to "
-                        + TILE_TRIM_CACHE_SIZE_BYTES);
-
-                final List<File> z = getDirectoryFileList(TILE_PATH_BASE);
+        final long size = mIndex.getSize();
+        if (size > TILE_TRIM_CACHE_SIZE_BYTES) {
 
-                // order list by files day created from old to new
-                final File[] files = z.toArray(new File[0]);
-                Arrays.sort(files, new Comparator<File>() {
-                    @Override
-                    public int compare(final File f1, final File f2) {
-                        return Long.valueOf(f1.lastModified()).compareTo(f2.lastModified());
-                    }
-                });
+            logger.info("Trimming tile cache from " + size + " to "
+                    + TILE_TRIM_CACHE_SIZE_BYTES);
 
-                for (final File file : files) {
-                    if (mUsedCacheSpace <= TILE_TRIM_CACHE_SIZE_BYTES) {
-                        break;
-                    }
+            final int deleted = mIndex.trimToSize(TILE_TRIM_CACHE_SIZE_BYTES);
 
-                    final long length = file.length();
-                    if (file.delete()) {
-                        mUsedCacheSpace -= length;
-                    }
-                }
-
-                Log.i(TAG,"Finished trimming tile cache");
-            }
+            Log.i(TAG,"Finished trimming tile cache, " + deleted + " tiles deleted");
         }
     }
 
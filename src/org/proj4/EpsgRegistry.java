@@ -0,0 +1,171 @@
+package org.proj4;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Proj.4 definitions of the EPSG codes, read from the binary registry
+ * {@code proj4/epsg.bin} built by {@code tools/epsg2bin.py}.
+ * <p>
+ * The file is memory-mapped on the first lookup, nothing is parsed ahead:
+ * a code is found by binary search in the sorted index and only its
+ * strings are decoded. Lookups may be done from any thread.
+ */
+public class EpsgRegistry {
+
+    public static final String FILE_NAME = "proj4" + File.separator + "epsg.bin";
+
+    private static final int MAGIC = 0x45505347; // "EPSG"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 12;
+
+    private static final Map<String, EpsgRegistry> sInstances = new HashMap<String, EpsgRegistry>();
+
+    private final File mFile;
+    private volatile ByteBuffer mBuffer;
+    private int mCount;
+    private int mStringTable;
+
+    /**
+     * @param applicationPath directory the proj4 assets are copied to
+     */
+    public static EpsgRegistry getInstance(String applicationPath) {
+        synchronized (sInstances) {
+            EpsgRegistry registry = sInstances.get(applicationPath);
+            if (registry == null) {
+                registry = new EpsgRegistry(new File(applicationPath, FILE_NAME));
+                sInstances.put(applicationPath, registry);
+            }
+            return registry;
+        }
+    }
+
+    public EpsgRegistry(File file) {
+        mFile = file;
+    }
+
+    /**
+     * @return the proj.4 definition of {@code code}, null if the code is unknown
+     */
+    public String getDefinition(int code) throws IOException {
+        final int entry = find(code);
+        return entry < 0 ? null : readString(mBuffer.getInt(entry + 4));
+    }
+
+    /**
+     * @return the name of the CRS, null if the code is unknown
+     */
+    public String getName(int code) throws IOException {
+        final int entry = find(code);
+        return entry < 0 ? null : readString(mBuffer.getInt(entry + 8));
+    }
+
+    /**
+     * Resolves "EPSG:code" to its proj.4 definition; other strings are
+     * returned as is.
+     * @throws IllegalArgumentException if the code is unknown
+     */
+    public String resolve(String definition) throws IOException {
+        final String s = definition.trim();
+        if (!s.toUpperCase(Locale.US).startsWith("EPSG:")) return definition;
+        final int code;
+        try {
+            code = Integer.parseInt(s.substring(5).trim());
+        }catch (NumberFormatException e) {
+            throw new IllegalArgumentException(definition);
+        }
+        final String resolved = getDefinition(code);
+        if (resolved == null) throw new IllegalArgumentException("Unknown EPSG code " + code);
+        return resolved;
+    }
+
+    /**
+     * @return number of codes in the registry
+     */
+    public int size() throws IOException {
+        map();
+        return mCount;
+    }
+
+    /**
+     * @return i-th code, in increasing order
+     */
+    public int getCode(int i) throws IOException {
+        map();
+        if (i < 0 || i >= mCount) throw new IndexOutOfBoundsException(String.valueOf(i));
+        return mBuffer.getInt(HEADER_SIZE + i * ENTRY_SIZE);
+    }
+
+    /**
+     * @return position of the index entry of {@code code}, -1 if not found
+     */
+    private int find(int code) throws IOException {
+        map();
+        final ByteBuffer b = mBuffer;
+        int low = 0;
+        int high = mCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int entry = HEADER_SIZE + mid * ENTRY_SIZE;
+            final int c = b.getInt(entry);
+            if (c < code) {
+                low = mid + 1;
+            }else if (c > code) {
+                high = mid - 1;
+            }else {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    private String readString(int offset) {
+        if (offset < 0) return null;
+        final ByteBuffer b = mBuffer;
+        final int pos = mStringTable + offset;
+        final int length = b.getShort(pos) & 0xffff;
+        final byte bytes[] = new byte[length];
+        for (int i = 0; i < length; ++i) bytes[i] = b.get(pos + 2 + i);
+        try {
+            return new String(bytes, "UTF-8");
+        }catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void map() throws IOException {
+        if (mBuffer != null) return;
+        synchronized (this) {
+            if (mBuffer != null) return;
+            final RandomAccessFile f = new RandomAccessFile(mFile, "r");
+            final ByteBuffer b;
+            try {
+                final FileChannel channel = f.getChannel();
+                // the mapping stays valid once the file is closed
+                b = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }finally {
+                f.close();
+            }
+            if (b.capacity() < HEADER_SIZE || b.getInt(0) != MAGIC) {
+                throw new IOException(mFile + ": not an EPSG registry");
+            }
+            if (b.getInt(4) != VERSION) {
+                throw new IOException(mFile + ": unsupported version " + b.getInt(4));
+            }
+            mCount = b.getInt(8);
+            mStringTable = b.getInt(12);
+            if (mStringTable != HEADER_SIZE + mCount * ENTRY_SIZE || mStringTable > b.capacity()) {
+                throw new IOException(mFile + ": corrupted index");
+            }
+            mBuffer = b;
+        }
+    }
+}
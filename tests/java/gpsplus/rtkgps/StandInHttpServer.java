@@ -0,0 +1,172 @@
+package gpsplus.rtkgps;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal HTTP/1.1 server on the loopback interface, standing in for the
+ * remote servers of the application in the checks. Each connection has its
+ * own thread and is kept alive, requests carry a Content-Length body.
+ */
+public class StandInHttpServer {
+
+    public static class Request {
+        public String method;
+        public String path;
+        /** header names in lower case */
+        public final Map<String, String> headers = new HashMap<String, String>();
+        public byte body[];
+
+        public String getHeader(String name) {
+            return headers.get(name.toLowerCase(Locale.US));
+        }
+    }
+
+    public interface Handler {
+        /**
+         * @return status code, the response body is written to {@code body}
+         */
+        public int handle(Request request, OutputStream body) throws IOException;
+    }
+
+    private final Handler mHandler;
+    private final ServerSocket mServerSocket;
+    private final AtomicInteger mConnections;
+    private final AtomicInteger mRequests;
+    private final Thread mAcceptThread;
+
+    public StandInHttpServer(Handler handler) throws IOException {
+        mHandler = handler;
+        mServerSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+        mConnections = new AtomicInteger();
+        mRequests = new AtomicInteger();
+        mAcceptThread = new Thread("StandInHttpServer") {
+            @Override
+            public void run() {
+                acceptLoop();
+            }
+        };
+        mAcceptThread.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + mServerSocket.getLocalPort();
+    }
+
+    public int getConnectionCount() {
+        return mConnections.get();
+    }
+
+    public int getRequestCount() {
+        return mRequests.get();
+    }
+
+    public void stop() throws InterruptedException {
+        try {
+            mServerSocket.close();
+        }catch (IOException e) {
+            e.printStackTrace();
+        }
+        mAcceptThread.join();
+    }
+
+    private void acceptLoop() {
+        while (true) {
+            final Socket socket;
+            try {
+                socket = mServerSocket.accept();
+            }catch (IOException e) {
+                // closed by stop()
+                return;
+            }
+            mConnections.incrementAndGet();
+            new Thread("StandInHttpServer connection") {
+                @Override
+                public void run() {
+                    try {
+                        serve(socket);
+                    }catch (IOException e) {
+                        e.printStackTrace();
+                    }finally {
+                        try {
+                            socket.close();
+                        }catch (IOException e) {
+                            e.printStackTrace();
+                        }
+                    }
+                }
+            }.start();
+        }
+    }
+
+    private void serve(Socket socket) throws IOException {
+        final InputStream in = new BufferedInputStream(socket.getInputStream());
+        final OutputStream out = socket.getOutputStream();
+        Request request;
+        while ((request = readRequest(in)) != null) {
+            mRequests.incrementAndGet();
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            final int status = mHandler.handle(request, body);
+            final String head = "HTTP/1.1 " + status + " Status\r\n"
+                    + "Content-Length: " + body.size() + "\r\n"
+                    + "\r\n";
+            out.write(head.getBytes("US-ASCII"));
+            body.writeTo(out);
+            out.flush();
+        }
+    }
+
+    /**
+     * @return null at the end of the connection
+     */
+    private static Request readRequest(InputStream in) throws IOException {
+        final String requestLine = readLine(in);
+        if (requestLine == null || requestLine.length() == 0) return null;
+        final String parts[] = requestLine.split(" ");
+        if (parts.length < 2) throw new IOException("Bad request line " + requestLine);
+
+        final Request request = new Request();
+        request.method = parts[0];
+        request.path = parts[1];
+        String line;
+        while ((line = readLine(in)) != null && line.length() != 0) {
+            final int colon = line.indexOf(':');
+            if (colon < 0) continue;
+            request.headers.put(line.substring(0, colon).trim().toLowerCase(Locale.US),
+                    line.substring(colon + 1).trim());
+        }
+
+        final String contentLength = request.getHeader("Content-Length");
+        final int length = contentLength == null ? 0 : Integer.parseInt(contentLength);
+        request.body = new byte[length];
+        int n = 0;
+        while (n < length) {
+            final int r = in.read(request.body, n, length - n);
+            if (r < 0) throw new IOException("Truncated body");
+            n += r;
+        }
+        return request;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = in.read()) >= 0) {
+            if (c == '\n') break;
+            if (c != '\r') sb.append((char)c);
+        }
+        if (c < 0 && sb.length() == 0) return null;
+        return sb.toString();
+    }
+
+}
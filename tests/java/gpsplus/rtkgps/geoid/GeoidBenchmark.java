@@ -0,0 +1,95 @@
+package gpsplus.rtkgps.geoid;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import gpsplus.rtklib.RtkCommon;
+import gpsplus.rtklib.constants.GeoidModel;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares {@link GeoidGrid} with the native RTKLIB geoid, on random
+ * points of the grid extent of each model downloaded by ToolsActivity.
+ * Runs as an instrumentation test, the report is logged.
+ */
+public class GeoidBenchmark extends TestCase {
+
+    static final String TAG = GeoidBenchmark.class.getSimpleName();
+
+    private static final int POINTS = 100000;
+
+    /** largest difference with RTKLIB (m) */
+    private static final double MAX_DIFF = 1e-3;
+
+    public void testSameAsRtklib() throws IOException {
+        for (GeoidModel model : GeoidModel.values()) {
+            // no native lookup of its own, no grid
+            if (model == GeoidModel.EMBEDDED || model == GeoidModel.GSI2000_M15) continue;
+            if (!new File(GeoidModel.getGeoidFilename(model.getRtklibId())).exists()) {
+                Log.i(TAG, model + " not downloaded");
+                continue;
+            }
+            final StringBuilder report = new StringBuilder();
+            final double maxDiff = run(model, POINTS, report);
+            assertTrue(report.toString(), maxDiff <= MAX_DIFF);
+        }
+    }
+
+    /**
+     * @param model external model, the embedded one has no native lookup of its own
+     * @param points number of random points
+     * @param report one-line report, appended to and logged
+     * @return largest difference with RTKLIB (m)
+     */
+    private static double run(GeoidModel model, int points, StringBuilder report) throws IOException {
+        if (model == GeoidModel.EMBEDDED) throw new IllegalArgumentException(model.toString());
+        final double lat[] = new double[points];
+        final double lon[] = new double[points];
+        final double heights[] = new double[points];
+
+        final long openStart = SystemClock.elapsedRealtime();
+        final GeoidGrid grid = GeoidGrid.open(model);
+        final long openMillis = SystemClock.elapsedRealtime() - openStart;
+        try {
+            final Random random = new Random(points);
+            final double latMin = Math.min(grid.mLat0, grid.mLat0 + grid.mDlat * (grid.mNlat - 1));
+            final double latSpan = Math.abs(grid.mDlat) * (grid.mNlat - 1);
+            final double lonSpan = grid.mDlon * (grid.mGlobal ? grid.mNlon : grid.mNlon - 1);
+            for (int i = 0; i < points; ++i) {
+                lat[i] = latMin + random.nextDouble() * latSpan;
+                lon[i] = grid.mLon0 + random.nextDouble() * lonSpan;
+                if (lon[i] > 180.0) lon[i] -= 360.0;
+            }
+
+            final long javaStart = System.nanoTime();
+            for (int i = 0; i < points; ++i) heights[i] = grid.getHeight(lat[i], lon[i]);
+            final long javaNanos = System.nanoTime() - javaStart;
+
+            double maxDiff = 0;
+            final long nativeStart = System.nanoTime();
+            for (int i = 0; i < points; ++i) {
+                final double h = RtkCommon.getExternalModelHeight(Math.toRadians(lat[i]),
+                        Math.toRadians(lon[i]), model.getRtklibId());
+                maxDiff = Math.max(maxDiff, Math.abs(h - heights[i]));
+            }
+            final long nativeNanos = System.nanoTime() - nativeStart;
+
+            report.append(String.format(Locale.US,
+                    "%s: %d points, opened in %d ms, java %.0f points/s, native %.0f points/s, max diff %.4f m, cache %s",
+                    grid, points, openMillis,
+                    points * 1e9 / Math.max(1, javaNanos),
+                    points * 1e9 / Math.max(1, nativeNanos),
+                    maxDiff, grid.getCacheStats()));
+            Log.i(TAG, report.toString());
+            return maxDiff;
+        }finally {
+            grid.close();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package gpsplus.rtkgps.upload;
+
+import android.test.AndroidTestCase;
+
+import gpsplus.rtkgps.StandInHttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Uploads to a {@link StandInHttpServer} implementing the protocol
+ * documented in {@link HttpUploadTarget}: ranged PUTs in any order, then
+ * a commit that the server refuses while a byte is missing.
+ */
+public class HttpUploadTargetTest extends AndroidTestCase {
+
+    private static final Pattern RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+    private static final Pattern COMMIT = Pattern.compile("bytes \\*/(\\d+)");
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /** ranges received by upload id, indexed by offset */
+    private final Map<String, Map<Long, byte[]>> mParts = new HashMap<String, Map<Long, byte[]>>();
+
+    /** committed files by path */
+    private final Map<String, byte[]> mFiles = new HashMap<String, byte[]>();
+
+    private StandInHttpServer mServer;
+    private File mFile;
+    private byte mContent[];
+
+    private final StandInHttpServer.Handler mHandler = new StandInHttpServer.Handler() {
+        @Override
+        public int handle(StandInHttpServer.Request request, OutputStream body) throws IOException {
+            final String id = request.getHeader("X-Upload-Id");
+            final String range = request.getHeader("Content-Range");
+            if (!"PUT".equals(request.method) || id == null || range == null) return 400;
+            synchronized (mParts) {
+                Map<Long, byte[]> parts = mParts.get(id);
+                if (parts == null) {
+                    parts = new HashMap<Long, byte[]>();
+                    mParts.put(id, parts);
+                }
+                Matcher m = RANGE.matcher(range);
+                if (m.matches()) {
+                    final long first = Long.parseLong(m.group(1));
+                    final long last = Long.parseLong(m.group(2));
+                    if (last - first + 1 != request.body.length) return 400;
+                    parts.put(first, request.body);
+                    return 200;
+                }
+                m = COMMIT.matcher(range);
+                if (!m.matches()) return 400;
+                final long total = Long.parseLong(m.group(1));
+                final ByteArrayOutputStream file = new ByteArrayOutputStream();
+                while (file.size() < total) {
+                    final byte part[] = parts.get(Long.valueOf(file.size()));
+                    if (part == null) return 409;
+                    file.write(part);
+                }
+                mFiles.put(request.path, file.toByteArray());
+                mParts.remove(id);
+                return 201;
+            }
+        }
+    };
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mServer = new StandInHttpServer(mHandler);
+        mContent = new byte[5 * CHUNK_SIZE + 123];
+        new Random(27).nextBytes(mContent);
+        mFile = new File(getContext().getCacheDir(), "upload_check.bin");
+        final FileOutputStream out = new FileOutputStream(mFile);
+        try {
+            out.write(mContent);
+        }finally {
+            out.close();
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.stop();
+        mFile.delete();
+        super.tearDown();
+    }
+
+    private UploadTask createTask(String remoteName, int chunkSize) {
+        final UploadTask task = new UploadTask("id-" + remoteName, mFile.getPath(),
+                remoteName, HttpUploadTarget.getName(mServer.getBaseUrl()), false);
+        task.prepare(mFile.getPath(), mFile.length(), chunkSize);
+        return task;
+    }
+
+    private void uploadChunk(HttpUploadTarget target, UploadTask task, int chunk) throws IOException {
+        final long offset = task.getChunkOffset(chunk);
+        final int length = task.getChunkLength(chunk);
+        final byte data[] = Arrays.copyOfRange(mContent, (int)offset, (int)offset + length);
+        target.uploadChunk(task, data, offset, length);
+    }
+
+    public void testChunksInAnyOrder() throws IOException {
+        final HttpUploadTarget target = new HttpUploadTarget(getContext(), mServer.getBaseUrl(), CHUNK_SIZE);
+        final UploadTask task = createTask("chunked.bin", target.getChunkSize());
+        assertEquals(6, task.getChunkCount());
+
+        for (int i = task.getChunkCount() - 1; i >= 0; --i) uploadChunk(target, task, i);
+        target.commit(task);
+
+        assertTrue(Arrays.equals(mContent, mFiles.get("/chunked.bin")));
+    }
+
+    public void testCommitRefusedWithMissingChunk() throws IOException {
+        final HttpUploadTarget target = new HttpUploadTarget(getContext(), mServer.getBaseUrl(), CHUNK_SIZE);
+        final UploadTask task = createTask("missing.bin", target.getChunkSize());
+
+        for (int i = 0; i < task.getChunkCount(); ++i) {
+            if (i != 2) uploadChunk(target, task, i);
+        }
+        try {
+            target.commit(task);
+            fail("commit accepted with a missing chunk");
+        }catch (IOException e) {
+            // 409 from the server
+        }
+
+        // the retry only sends the missing chunk
+        uploadChunk(target, task, 2);
+        target.commit(task);
+        assertTrue(Arrays.equals(mContent, mFiles.get("/missing.bin")));
+    }
+
+    public void testWholeFile() throws IOException {
+        final HttpUploadTarget target = new HttpUploadTarget(getContext(), mServer.getBaseUrl(), CHUNK_SIZE);
+        final UploadTask task = createTask("whole.bin", 0);
+
+        target.upload(task, mFile);
+
+        assertTrue(Arrays.equals(mContent, mFiles.get("/whole.bin")));
+        assertEquals(2, mServer.getRequestCount());
+    }
+
+}
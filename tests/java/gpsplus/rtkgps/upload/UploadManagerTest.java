@@ -0,0 +1,180 @@
+package gpsplus.rtkgps.upload;
+
+import android.test.AndroidTestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retries, resume and give-up of the {@link UploadManager} queue, with a
+ * target failing on demand and retry delays of a few milliseconds.
+ */
+public class UploadManagerTest extends AndroidTestCase {
+
+    private static final String TARGET = "fake";
+
+    private static final long TIMEOUT_MS = 10000;
+
+    /** Whole file target failing its first calls */
+    private static class FakeTarget implements UploadTarget {
+        volatile boolean mAvailable = true;
+        volatile int mIOFailures;
+        volatile int mRuntimeFailures;
+        /** if set, uploads wait for it once they counted {@link #mEntered} down */
+        volatile CountDownLatch mRelease;
+        final CountDownLatch mEntered = new CountDownLatch(1);
+        final AtomicInteger mCalls = new AtomicInteger();
+        final AtomicInteger mRunning = new AtomicInteger();
+        final AtomicInteger mMaxRunning = new AtomicInteger();
+
+        @Override
+        public boolean isAvailable() {
+            return mAvailable;
+        }
+
+        @Override
+        public void upload(UploadTask task, File file) throws IOException {
+            final int running = mRunning.incrementAndGet();
+            if (running > mMaxRunning.get()) mMaxRunning.set(running);
+            try {
+                final int call = mCalls.incrementAndGet();
+                mEntered.countDown();
+                if (mRelease != null) {
+                    try {
+                        mRelease.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    }catch (InterruptedException e) {
+                        throw new IOException("Interrupted");
+                    }
+                }
+                if (call <= mRuntimeFailures) throw new IllegalStateException("failure " + call);
+                if (call <= mRuntimeFailures + mIOFailures) throw new IOException("failure " + call);
+            }finally {
+                mRunning.decrementAndGet();
+            }
+        }
+    }
+
+    private File mQueueFile;
+    private File mSource;
+    private UploadManager mManager;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mQueueFile = new File(getContext().getCacheDir(), "upload_queue_check.json");
+        mQueueFile.delete();
+        mSource = new File(getContext().getCacheDir(), "upload_manager_check.pos");
+        final FileOutputStream out = new FileOutputStream(mSource);
+        try {
+            out.write(new byte[4096]);
+        }finally {
+            out.close();
+        }
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        if (mManager != null) mManager.shutdown();
+        mManager = null;
+        mQueueFile.delete();
+        mSource.delete();
+        new File(mSource.getPath() + ".zip").delete();
+        super.tearDown();
+    }
+
+    private UploadManager createManager(FakeTarget target) {
+        final UploadManager manager = new UploadManager(getContext(), mQueueFile, 1, 4);
+        manager.registerTarget(TARGET, target);
+        return manager;
+    }
+
+    /** Waits for the queue to be empty, fails after {@link #TIMEOUT_MS} */
+    private static void awaitEmpty(UploadManager manager) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (manager.getPendingCount() > 0) {
+            assertTrue("queue not empty", System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    public void testRetriesFailures() throws InterruptedException {
+        final FakeTarget target = new FakeTarget();
+        target.mIOFailures = 2;
+        target.mRuntimeFailures = 1;
+        mManager = createManager(target);
+
+        mManager.enqueue(mSource.getPath(), "retry.pos", TARGET, false);
+        awaitEmpty(mManager);
+
+        assertEquals(4, target.mCalls.get());
+    }
+
+    public void testGiveUpDeletesArchive() throws InterruptedException {
+        final FakeTarget target = new FakeTarget();
+        target.mIOFailures = Integer.MAX_VALUE;
+        mManager = createManager(target);
+
+        mManager.enqueue(mSource.getPath(), "give_up.pos", TARGET, true);
+        awaitEmpty(mManager);
+
+        assertEquals(UploadManager.MAX_ATTEMPTS, target.mCalls.get());
+        assertFalse(new File(mSource.getPath() + ".zip").exists());
+        assertTrue(mSource.exists());
+    }
+
+    public void testResumeDuringUpload() throws InterruptedException {
+        final FakeTarget target = new FakeTarget();
+        target.mRelease = new CountDownLatch(1);
+        mManager = createManager(target);
+
+        mManager.enqueue(mSource.getPath(), "resume.pos", TARGET, false);
+        assertTrue(target.mEntered.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        // as a service start while the application runs
+        mManager.resume();
+        mManager.resume();
+        target.mRelease.countDown();
+        awaitEmpty(mManager);
+
+        assertEquals(1, target.mCalls.get());
+        assertEquals(1, target.mMaxRunning.get());
+    }
+
+    public void testResumeAfterRestart() throws InterruptedException {
+        final FakeTarget offline = new FakeTarget();
+        offline.mAvailable = false;
+        final UploadManager first = createManager(offline);
+        first.enqueue(mSource.getPath(), "restart.pos", TARGET, false);
+        first.shutdown();
+        assertEquals(0, offline.mCalls.get());
+
+        final FakeTarget target = new FakeTarget();
+        mManager = createManager(target);
+        assertEquals(1, mManager.getPendingCount());
+        mManager.resume();
+        awaitEmpty(mManager);
+
+        assertEquals(1, target.mCalls.get());
+    }
+
+    public void testRetryDelay() {
+        final UploadManager manager = new UploadManager(getContext(), mQueueFile, 5000, 30 * 60 * 1000);
+        try {
+            long previous = 0;
+            for (int i = 0; i < 40; ++i) {
+                final long delay = manager.getRetryDelay(i);
+                assertTrue(delay >= previous);
+                assertTrue(delay <= 30 * 60 * 1000);
+                previous = delay;
+            }
+            assertEquals(2 * manager.getRetryDelay(0), manager.getRetryDelay(1));
+            assertEquals(30 * 60 * 1000, previous);
+        }finally {
+            manager.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package gpsplus.rtkgps.utm;
+
+import android.util.Log;
+
+import gpsplus.rtkgps.Proj4Converter;
+
+import junit.framework.TestCase;
+
+import org.jscience.geography.coordinates.LatLong;
+import org.jscience.geography.coordinates.UTM;
+import org.jscience.geography.coordinates.crs.CoordinatesConverter;
+
+import java.util.Locale;
+import java.util.Random;
+
+import javax.measure.unit.NonSI;
+import javax.measure.unit.SI;
+
+/**
+ * Compares {@link UtmConverter} with the jscience conversion it replaces
+ * and with proj.4: time per point and largest distance between the
+ * results. jscience is compared on random positions between 80°S and
+ * 72°N, leaving out the zone exceptions it does not apply; proj.4 on
+ * positions of zone 31. Each method is warmed up on the whole set before
+ * being timed. Runs as an instrumentation test, the proj.4 part needs
+ * the proj4 files; the report is logged.
+ */
+public class UtmBenchmark extends TestCase {
+
+    static final String TAG = UtmBenchmark.class.getSimpleName();
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final int POINTS = 10000;
+
+    /** largest distance with jscience (m), as in {@link UtmConverterTest} */
+    private static final double MAX_JSCIENCE_DISTANCE = 0.05;
+
+    /** largest distance with proj.4 (m) */
+    private static final double MAX_PROJ4_DISTANCE = 1e-3;
+
+    private static final String PROJ4_UTM31 = "+proj=utm +zone=31 +ellps=WGS84 +datum=WGS84 +units=m +no_defs";
+
+    public void testSameAsReferences() {
+        final StringBuilder failed = new StringBuilder();
+        final String report = run(POINTS, failed);
+        assertTrue("distance over the limit with " + failed + "\n" + report,
+                failed.length() == 0);
+    }
+
+    /**
+     * @param points number of random positions of each set
+     * @param failed references too far from UtmConverter, appended to
+     * @return the report, one line per method, also logged
+     */
+    private static String run(int points, StringBuilder failed) {
+        final double lat[] = new double[points];
+        final double lon[] = new double[points];
+        final double easting[] = new double[points];
+        final double northing[] = new double[points];
+        final int zone[] = new int[points];
+        final double refEasting[] = new double[points];
+        final double refNorthing[] = new double[points];
+        final int refZone[] = new int[points];
+        final UtmConverter converter = new UtmConverter();
+        final StringBuilder report = new StringBuilder();
+        final Random random = new Random(points);
+        long nanos = 0, refNanos = 0;
+
+        // jscience, whole earth
+        for (int i = 0; i < points; ++i) {
+            lat[i] = -80.0 + 152.0 * random.nextDouble();
+            lon[i] = -180.0 + 360.0 * random.nextDouble();
+        }
+        final CoordinatesConverter<LatLong, UTM> latLongToUtm = LatLong.CRS.getConverterTo(UTM.CRS);
+        for (int round = 0; round <= WARMUP_ROUNDS; ++round) {
+            long t = System.nanoTime();
+            converter.convert(lat, lon, 0, points, easting, northing, zone);
+            nanos = System.nanoTime() - t;
+            t = System.nanoTime();
+            for (int i = 0; i < points; ++i) {
+                final UTM utm = latLongToUtm.convert(LatLong.valueOf(lat[i], lon[i], NonSI.DEGREE_ANGLE));
+                refEasting[i] = utm.eastingValue(SI.METER);
+                refNorthing[i] = utm.northingValue(SI.METER);
+                refZone[i] = utm.longitudeZone();
+            }
+            refNanos = System.nanoTime() - t;
+        }
+        append(report, failed, "jscience", points, nanos, refNanos,
+                maxDistance(easting, northing, zone, refEasting, refNorthing, refZone, points),
+                MAX_JSCIENCE_DISTANCE);
+
+        // proj.4, zone 31
+        for (int i = 0; i < points; ++i) {
+            lat[i] = -80.0 + 152.0 * random.nextDouble();
+            lon[i] = 6.0 * random.nextDouble();
+            refZone[i] = 31;
+        }
+        final Proj4Converter proj4 = new Proj4Converter();
+        try {
+            for (int round = 0; round <= WARMUP_ROUNDS; ++round) {
+                long t = System.nanoTime();
+                converter.convert(lat, lon, 0, points, easting, northing, zone);
+                nanos = System.nanoTime() - t;
+                t = System.nanoTime();
+                proj4.convert(PROJ4_UTM31, lat, lon, 0, points, refEasting, refNorthing);
+                refNanos = System.nanoTime() - t;
+            }
+        }finally {
+            proj4.release();
+        }
+        for (int i = 0; i < points; ++i) {
+            // proj.4 has no false northing in the south
+            if (lat[i] < 0.0) refNorthing[i] += UtmConverter.FALSE_NORTHING_SOUTH;
+        }
+        append(report, failed, "proj.4", points, nanos, refNanos,
+                maxDistance(easting, northing, zone, refEasting, refNorthing, refZone, points),
+                MAX_PROJ4_DISTANCE);
+
+        final String r = report.toString();
+        Log.i(TAG, r);
+        return r;
+    }
+
+    private static double maxDistance(double e[], double n[], int zone[],
+            double refE[], double refN[], int refZone[], int points) {
+        double max = 0;
+        for (int i = 0; i < points; ++i) {
+            if (zone[i] != refZone[i]) continue;
+            max = Math.max(max, Math.hypot(e[i] - refE[i], n[i] - refN[i]));
+        }
+        return max;
+    }
+
+    private static void append(StringBuilder report, StringBuilder failed, String name,
+            int points, long nanos, long refNanos, double maxDistance, double limit) {
+        report.append(String.format(Locale.US,
+                "%s: %.0f ns/point, %s %.0f ns/point, max distance %.4f m\n",
+                "UtmConverter", (double)nanos / points, name, (double)refNanos / points, maxDistance));
+        if (!(maxDistance <= limit)) {
+            if (failed.length() > 0) failed.append(", ");
+            failed.append(name);
+        }
+    }
+}
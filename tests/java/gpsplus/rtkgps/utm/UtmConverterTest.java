@@ -0,0 +1,127 @@
+package gpsplus.rtkgps.utm;
+
+import junit.framework.TestCase;
+
+import org.jscience.geography.coordinates.LatLong;
+import org.jscience.geography.coordinates.UTM;
+import org.jscience.geography.coordinates.crs.CoordinatesConverter;
+
+import java.util.Random;
+
+import javax.measure.unit.NonSI;
+import javax.measure.unit.SI;
+
+/**
+ * Checks {@link UtmConverter} on random positions: round trip, Snyder's
+ * series close to the central meridian, and the jscience conversion it
+ * replaces. Runs on a device or on a desktop JVM with the application
+ * classes and jscience.
+ */
+public class UtmConverterTest extends TestCase {
+
+    private static final int POINTS = 200000;
+
+    /** WGS84 */
+    private static final double A = 6378137.0;
+    private static final double F = 1.0 / 298.257223563;
+    private static final double E2 = F * (2.0 - F);
+    private static final double EP2 = E2 / (1.0 - E2);
+
+    private static final double METERS_PER_DEGREE = 111320.0;
+
+    public void testRoundTrip() {
+        final UtmConverter converter = new UtmConverter();
+        final Random random = new Random(1);
+        final double latLon[] = new double[2];
+        double maxError = 0;
+        for (int i = 0; i < POINTS; ++i) {
+            final double lat = -80.0 + 164.0 * random.nextDouble();
+            final double lon = -180.0 + 360.0 * random.nextDouble();
+            assertTrue(converter.convert(lat, lon));
+            UtmConverter.toLatLon(converter.getZone(), lat >= 0, converter.getEasting(),
+                    converter.getNorthing(), latLon, 0);
+            double dlon = latLon[1] - lon;
+            if (dlon > 180.0) dlon -= 360.0;
+            if (dlon < -180.0) dlon += 360.0;
+            final double error = METERS_PER_DEGREE * Math.hypot(latLon[0] - lat,
+                    dlon * Math.cos(Math.toRadians(lat)));
+            maxError = Math.max(maxError, error);
+        }
+        assertTrue("round trip error " + maxError + " m", maxError < 1e-8);
+    }
+
+    public void testSnyderSeries() {
+        final Random random = new Random(2);
+        final double xy[] = new double[2];
+        final double ref[] = new double[2];
+        double maxError = 0;
+        for (int i = 0; i < POINTS; ++i) {
+            final double lat = Math.toRadians(-79.0 + 151.0 * random.nextDouble());
+            final double dlon = Math.toRadians(-3.0 + 6.0 * random.nextDouble());
+            TransverseMercator.forward(lat, dlon, UtmConverter.K0, xy, 0);
+            snyderForward(lat, dlon, UtmConverter.K0, ref);
+            maxError = Math.max(maxError, Math.hypot(xy[0] - ref[0], xy[1] - ref[1]));
+        }
+        assertTrue("difference with Snyder " + maxError + " m", maxError < 1e-3);
+    }
+
+    public void testJscience() {
+        final UtmConverter converter = new UtmConverter();
+        final CoordinatesConverter<LatLong, UTM> latLongToUtm = LatLong.CRS.getConverterTo(UTM.CRS);
+        final Random random = new Random(3);
+        double maxError = 0;
+        for (int i = 0; i < POINTS; ++i) {
+            // jscience applies neither the Norway nor the Svalbard zones
+            final double lat = -80.0 + 152.0 * random.nextDouble();
+            final double lon = -180.0 + 360.0 * random.nextDouble();
+            if (lat >= 56.0 && lat < 64.0 && lon >= 3.0 && lon < 12.0) continue;
+            assertTrue(converter.convert(lat, lon));
+            final UTM utm = latLongToUtm.convert(LatLong.valueOf(lat, lon, NonSI.DEGREE_ANGLE));
+            assertEquals(utm.longitudeZone(), converter.getZone());
+            // jscience puts southern latitudes in the wrong band
+            if (lat >= 0) assertEquals(utm.latitudeZone(), converter.getBand());
+            maxError = Math.max(maxError, Math.hypot(utm.eastingValue(SI.METER) - converter.getEasting(),
+                    utm.northingValue(SI.METER) - converter.getNorthing()));
+        }
+        assertTrue("difference with jscience " + maxError + " m", maxError < 0.05);
+    }
+
+    public void testZoneExceptions() {
+        // south-west Norway
+        assertEquals(32, UtmConverter.getZone(60.0, 4.0));
+        assertEquals(31, UtmConverter.getZone(60.0, 2.9));
+        // Svalbard
+        assertEquals(31, UtmConverter.getZone(78.0, 8.9));
+        assertEquals(33, UtmConverter.getZone(78.0, 9.0));
+        assertEquals(33, UtmConverter.getZone(78.0, 20.9));
+        assertEquals(35, UtmConverter.getZone(78.0, 21.0));
+        assertEquals(37, UtmConverter.getZone(78.0, 33.0));
+        assertEquals('X', UtmConverter.getBand(83.9));
+        assertEquals('C', UtmConverter.getBand(-80.0));
+    }
+
+    /**
+     * Transverse Mercator series of Snyder, Map Projections: A Working
+     * Manual (1987), eqs. 8-9 to 8-10
+     * @param dst {x,y} (m)
+     */
+    private static void snyderForward(double lat, double dlon, double k0, double dst[]) {
+        final double sin = Math.sin(lat);
+        final double cos = Math.cos(lat);
+        final double tan = Math.tan(lat);
+        final double n = A / Math.sqrt(1.0 - E2 * sin * sin);
+        final double t = tan * tan;
+        final double c = EP2 * cos * cos;
+        final double a = dlon * cos;
+        final double m = A * ((1.0 - E2 / 4.0 - 3.0 * E2 * E2 / 64.0 - 5.0 * E2 * E2 * E2 / 256.0) * lat
+                - (3.0 * E2 / 8.0 + 3.0 * E2 * E2 / 32.0 + 45.0 * E2 * E2 * E2 / 1024.0) * Math.sin(2.0 * lat)
+                + (15.0 * E2 * E2 / 256.0 + 45.0 * E2 * E2 * E2 / 1024.0) * Math.sin(4.0 * lat)
+                - (35.0 * E2 * E2 * E2 / 3072.0) * Math.sin(6.0 * lat));
+        dst[0] = k0 * n * (a + (1.0 - t + c) * a * a * a / 6.0
+                + (5.0 - 18.0 * t + t * t + 72.0 * c - 58.0 * EP2) * Math.pow(a, 5) / 120.0);
+        dst[1] = k0 * (m + n * tan * (a * a / 2.0
+                + (5.0 - t + 9.0 * c + 4.0 * c * c) * Math.pow(a, 4) / 24.0
+                + (61.0 - 58.0 * t + t * t + 600.0 * c - 330.0 * EP2) * Math.pow(a, 6) / 720.0));
+    }
+
+}
@@ -0,0 +1,152 @@
+package gpsplus.rtkgps.view;
+
+import android.os.Debug;
+import android.util.Log;
+
+import gpsplus.rtkgps.utils.TextBuffer;
+import gpsplus.rtkgps.view.SolutionView.Format;
+import gpsplus.rtklib.Geodesy;
+import gpsplus.rtklib.RtkCommon.Deg2Dms;
+
+import junit.framework.TestCase;
+
+import java.util.Locale;
+
+/**
+ * Counts the objects allocated by the epochs of {@link SolutionView}: a
+ * rover moving by a few centimeters per epoch is formatted in every
+ * format by {@link SolutionFormatter}, and in WGS84 by the String.format()
+ * code it replaces. Also gives how often each text actually changes,
+ * i.e. how many setText() calls are left. Runs as an instrumentation
+ * test, the projections need the proj4 files; the report is logged.
+ */
+public class SolutionFormatBenchmark extends TestCase {
+
+    static final String TAG = SolutionFormatBenchmark.class.getSimpleName();
+
+    private static final int WARMUP_TICKS = 16;
+
+    private static final int TICKS = 1000;
+
+    private static final String AGE_FORMAT = "Age: %1$.1fs\nRatio: %2$.1f\n#Of sat: %3$d";
+
+    /**
+     * Epochs of every format but UTM, whose polar regions go through
+     * jscience, allocate nothing
+     */
+    public void testNoAllocationPerEpoch() {
+        final StringBuilder failed = new StringBuilder();
+        final String report = run(TICKS, failed);
+        assertTrue("objects allocated per epoch by " + failed + "\n" + report,
+                failed.length() == 0);
+    }
+
+    /**
+     * @param ticks epochs per format
+     * @param failed formats other than UTM that allocated, appended to
+     * @return the report, one line per format, also logged
+     */
+    private static String run(int ticks, StringBuilder failed) {
+        final SolutionFormatter formatter = new SolutionFormatter(AGE_FORMAT);
+        final TextBuffer shown[] = new TextBuffer[SolutionFormatter.COORDINATES + 2];
+        for (int i = 0; i < shown.length; ++i) shown[i] = new TextBuffer(48);
+        final double base[] = new double[3];
+        final StringBuilder report = new StringBuilder();
+
+        Geodesy.pos2ecef(Math.toRadians(45.0), Math.toRadians(5.0), 200.0, base, 0);
+        try {
+            for (Format format : Format.values()) {
+                if (format == Format.PROJ4_CUSTOM) continue;
+                formatter.setFormat(format);
+                for (int i = 0; i < WARMUP_TICKS; ++i) tick(formatter, i, base, null);
+
+                for (TextBuffer s : shown) s.clear();
+                Debug.startAllocCounting();
+                Debug.resetThreadAllocCount();
+                Debug.resetThreadAllocSize();
+                final long start = System.nanoTime();
+                int changes = 0;
+                for (int i = 0; i < ticks; ++i) changes += tick(formatter, i, base, shown);
+                final long nanos = System.nanoTime() - start;
+                final int count = Debug.getThreadAllocCount();
+                final int size = Debug.getThreadAllocSize();
+                Debug.stopAllocCounting();
+
+                append(report, format.name(), ticks, nanos, count, size,
+                        100.0 * changes / (ticks * shown.length));
+                if (count != 0 && format != Format.UTM) {
+                    if (failed.length() > 0) failed.append(", ");
+                    failed.append(format.name());
+                }
+            }
+        }finally {
+            formatter.release();
+        }
+
+        for (int i = 0; i < WARMUP_TICKS; ++i) tickLegacy(i);
+        Debug.startAllocCounting();
+        Debug.resetThreadAllocCount();
+        Debug.resetThreadAllocSize();
+        final long start = System.nanoTime();
+        for (int i = 0; i < ticks; ++i) tickLegacy(i);
+        final long nanos = System.nanoTime() - start;
+        final int count = Debug.getThreadAllocCount();
+        final int size = Debug.getThreadAllocSize();
+        Debug.stopAllocCounting();
+        append(report, "WGS84 String.format", ticks, nanos, count, size, 100.0);
+
+        final String r = report.toString();
+        Log.i(TAG, r);
+        return r;
+    }
+
+    /**
+     * @param shown texts of the previous tick, null not to count changes
+     * @return number of texts that differ from the previous tick
+     */
+    private static int tick(SolutionFormatter formatter, int i, double base[], TextBuffer shown[]) {
+        formatter.format(Math.toRadians(45.0 + 1E-7 * i), Math.toRadians(5.0 + 2E-7 * i), 250.0 + 0.01 * i,
+                1E-4, 2E-4, 9E-4, base);
+        formatter.formatAge(1.0 + 0.25 * (i % 8), 3.5, 12);
+        if (shown == null) return 0;
+        int changes = 0;
+        for (int c = 0; c < SolutionFormatter.COORDINATES; ++c) {
+            changes += update(shown[c], formatter.getCoordinate(c));
+        }
+        changes += update(shown[SolutionFormatter.COORDINATES], formatter.getCovariance());
+        changes += update(shown[SolutionFormatter.COORDINATES + 1], formatter.getAge());
+        return changes;
+    }
+
+    private static int update(TextBuffer shown, TextBuffer text) {
+        if (shown.contentEquals(text)) return 0;
+        shown.copyFrom(text);
+        return 1;
+    }
+
+    /**
+     * The WGS84 texts as formatted before {@link SolutionFormatter}
+     */
+    private static int tickLegacy(int i) {
+        final double lat = 45.0 + 1E-7 * i;
+        final double lon = 5.0 + 2E-7 * i;
+        final double height = 250.0 + 0.01 * i;
+        final String texts[] = new String[] {
+                Deg2Dms.toString(lat, true),
+                Deg2Dms.toString(lon, false),
+                String.format(Locale.US, "%.3fm el.", height),
+                String.format(Locale.US, "%.3fm el.", height),
+                String.format(Locale.US, "N:%6.3f\nE:%6.3f\nU:%6.3f m",
+                        Math.sqrt(2E-4), Math.sqrt(1E-4), Math.sqrt(9E-4)),
+                String.format(Locale.US, AGE_FORMAT, 1.0 + 0.25 * (i % 8), 3.5, 12)
+        };
+        return texts.length;
+    }
+
+    private static void append(StringBuilder report, String name, int ticks, long nanos,
+            int count, int size, double changedPercent) {
+        report.append(String.format(Locale.US,
+                "%s: %.1f µs/tick, %.1f objects/tick (%d bytes), %.0f%% of texts changed\n",
+                name, nanos / 1000.0 / ticks, (double)count / ticks, size / ticks, changedPercent));
+    }
+}
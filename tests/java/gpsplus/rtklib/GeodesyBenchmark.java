@@ -0,0 +1,166 @@
+package gpsplus.rtklib;
+
+import android.util.Log;
+
+import junit.framework.TestCase;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares {@link Geodesy} with the JNI functions of RTKLIB it replaces:
+ * time per call and largest difference on random positions around the
+ * earth. Each function is warmed up on the whole set before being timed.
+ * Runs as an instrumentation test, the report is logged.
+ */
+public class GeodesyBenchmark extends TestCase {
+
+    static final String TAG = GeodesyBenchmark.class.getSimpleName();
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final int POINTS = 10000;
+
+    /** largest difference with RTKLIB (m, rad) */
+    private static final double MAX_DIFF = 1e-6;
+
+    public void testSameAsRtklib() {
+        final StringBuilder failed = new StringBuilder();
+        final String report = run(POINTS, failed);
+        assertTrue("difference with RTKLIB over " + MAX_DIFF + " in " + failed + "\n" + report,
+                failed.length() == 0);
+    }
+
+    /**
+     * @param points number of random positions
+     * @param failed functions differing from RTKLIB by more than MAX_DIFF, appended to
+     * @return the report, one line per function, also logged
+     */
+    private static String run(int points, StringBuilder failed) {
+        final double pos[] = new double[3 * points];
+        final double ecef[] = new double[3 * points];
+        final double out[] = new double[3 * points];
+        final double ref[] = new double[3 * points];
+        final double cov[] = new double[9];
+        final double q[] = new double[9];
+        final double qRef[] = new double[9];
+        final double tmp[] = new double[3];
+
+        final Random random = new Random(points);
+        for (int i = 0; i < points; ++i) {
+            pos[3 * i] = Math.asin(2.0 * random.nextDouble() - 1.0);
+            pos[3 * i + 1] = (2.0 * random.nextDouble() - 1.0) * Math.PI;
+            pos[3 * i + 2] = -100.0 + 9000.0 * random.nextDouble();
+            RtkCommon._pos2ecef(pos[3 * i], pos[3 * i + 1], pos[3 * i + 2], tmp);
+            System.arraycopy(tmp, 0, ecef, 3 * i, 3);
+        }
+        for (int i = 0; i < 9; ++i) cov[i] = random.nextDouble();
+
+        final StringBuilder report = new StringBuilder();
+        long javaNanos = 0, jniNanos = 0;
+
+        // ecef2pos
+        for (int round = 0; round <= WARMUP_ROUNDS; ++round) {
+            long t = System.nanoTime();
+            Geodesy.ecef2pos(ecef, 0, out, 0, points);
+            javaNanos = System.nanoTime() - t;
+            t = System.nanoTime();
+            for (int i = 0; i < points; ++i) {
+                RtkCommon._ecef2pos(ecef[3 * i], ecef[3 * i + 1], ecef[3 * i + 2], tmp);
+                System.arraycopy(tmp, 0, ref, 3 * i, 3);
+            }
+            jniNanos = System.nanoTime() - t;
+        }
+        append(report, failed, "ecef2pos", points, javaNanos, jniNanos, maxDiff(out, ref));
+
+        // pos2ecef
+        for (int round = 0; round <= WARMUP_ROUNDS; ++round) {
+            long t = System.nanoTime();
+            Geodesy.pos2ecef(pos, 0, out, 0, points);
+            javaNanos = System.nanoTime() - t;
+            t = System.nanoTime();
+            for (int i = 0; i < points; ++i) {
+                RtkCommon._pos2ecef(pos[3 * i], pos[3 * i + 1], pos[3 * i + 2], tmp);
+                System.arraycopy(tmp, 0, ref, 3 * i, 3);
+            }
+            jniNanos = System.nanoTime() - t;
+        }
+        append(report, failed, "pos2ecef", points, javaNanos, jniNanos, maxDiff(out, ref));
+
+        // ecef2enu, one origin per vector
+        for (int round = 0; round <= WARMUP_ROUNDS; ++round) {
+            long t = System.nanoTime();
+            for (int i = 0; i < points; ++i) {
+                Geodesy.ecef2enu(pos[3 * i], pos[3 * i + 1], ecef, 3 * i, out, 3 * i);
+            }
+            javaNanos = System.nanoTime() - t;
+            final double r[] = new double[3];
+            t = System.nanoTime();
+            for (int i = 0; i < points; ++i) {
+                System.arraycopy(ecef, 3 * i, r, 0, 3);
+                RtkCommon._ecef2enu(pos[3 * i], pos[3 * i + 1], r, tmp);
+                System.arraycopy(tmp, 0, ref, 3 * i, 3);
+            }
+            jniNanos = System.nanoTime() - t;
+        }
+        append(report, failed, "ecef2enu", points, javaNanos, jniNanos, maxDiff(out, ref));
+
+        // covenu
+        double covDiff = 0;
+        for (int round = 0; round <= WARMUP_ROUNDS; ++round) {
+            covDiff = 0;
+            long t = System.nanoTime();
+            for (int i = 0; i < points; ++i) Geodesy.covenu(pos[3 * i], pos[3 * i + 1], cov, q);
+            javaNanos = System.nanoTime() - t;
+            t = System.nanoTime();
+            for (int i = 0; i < points; ++i) RtkCommon._covenu(pos[3 * i], pos[3 * i + 1], cov, qRef);
+            jniNanos = System.nanoTime() - t;
+        }
+        for (int i = 0; i < points; ++i) {
+            Geodesy.covenu(pos[3 * i], pos[3 * i + 1], cov, q);
+            RtkCommon._covenu(pos[3 * i], pos[3 * i + 1], cov, qRef);
+            covDiff = Math.max(covDiff, maxDiff(q, qRef));
+        }
+        append(report, failed, "covenu", points, javaNanos, jniNanos, covDiff);
+
+        // norm
+        double sum = 0, sumRef = 0;
+        for (int round = 0; round <= WARMUP_ROUNDS; ++round) {
+            sum = sumRef = 0;
+            long t = System.nanoTime();
+            for (int i = 0; i < points; ++i) sum += Geodesy.norm(ecef, 3 * i, 3);
+            javaNanos = System.nanoTime() - t;
+            t = System.nanoTime();
+            for (int i = 0; i < points; ++i) {
+                System.arraycopy(ecef, 3 * i, tmp, 0, 3);
+                sumRef += RtkCommon._norm(tmp);
+            }
+            jniNanos = System.nanoTime() - t;
+        }
+        double normDiff = 0;
+        for (int i = 0; i < points; ++i) {
+            System.arraycopy(ecef, 3 * i, tmp, 0, 3);
+            normDiff = Math.max(normDiff, Math.abs(Geodesy.norm(ecef, 3 * i, 3) - RtkCommon._norm(tmp)));
+        }
+        append(report, failed, "norm", points, javaNanos, jniNanos, normDiff);
+
+        Log.i(TAG, report.toString());
+        return report.toString();
+    }
+
+    private static double maxDiff(double a[], double b[]) {
+        double max = 0;
+        for (int i = 0; i < a.length; ++i) max = Math.max(max, Math.abs(a[i] - b[i]));
+        return max;
+    }
+
+    private static void append(StringBuilder report, StringBuilder failed, String function,
+            int points, long javaNanos, long jniNanos, double maxDiff) {
+        report.append(String.format(Locale.US, "%s: java %.1f ns, jni %.1f ns, max diff %.3g%n",
+                function, (double)javaNanos / points, (double)jniNanos / points, maxDiff));
+        if (!(maxDiff <= MAX_DIFF)) {
+            if (failed.length() > 0) failed.append(", ");
+            failed.append(function);
+        }
+    }
+}
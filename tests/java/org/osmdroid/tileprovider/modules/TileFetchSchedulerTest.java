@@ -0,0 +1,207 @@
+package org.osmdroid.tileprovider.modules;
+
+import gpsplus.rtkgps.StandInHttpServer;
+
+import junit.framework.TestCase;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.params.ConnManagerParams;
+import org.apache.http.conn.params.ConnPerRouteBean;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpParams;
+import org.osmdroid.tileprovider.MapTile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches tiles from a {@link StandInHttpServer} answering each request
+ * with the path of the tile, through a client set up as the one of
+ * {@link WMTSMapTileDownloader}. The server holds its answers until the
+ * test opens the gate, so that the workers are known to be busy while the
+ * next tiles are queued.
+ */
+public class TileFetchSchedulerTest extends TestCase {
+
+    private static final int THREADS = 2;
+    private static final long TIMEOUT_MS = 10000;
+
+    /** paths in the order the server received them */
+    private final List<String> mServed = Collections.synchronizedList(new ArrayList<String>());
+
+    /** one permit per request received */
+    private Semaphore mReceived;
+
+    /** the server answers once opened */
+    private CountDownLatch mGate;
+
+    private StandInHttpServer mServer;
+    private TileFetchScheduler mScheduler;
+    private ExecutorService mCallers;
+
+    private final StandInHttpServer.Handler mHandler = new StandInHttpServer.Handler() {
+        @Override
+        public int handle(StandInHttpServer.Request request, OutputStream body) throws IOException {
+            mServed.add(request.path);
+            mReceived.release();
+            try {
+                if (!mGate.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)) return 503;
+            }catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 503;
+            }
+            body.write(request.path.getBytes("US-ASCII"));
+            return 200;
+        }
+    };
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mServed.clear();
+        mReceived = new Semaphore(0);
+        mGate = new CountDownLatch(1);
+        mServer = new StandInHttpServer(mHandler);
+
+        final HttpParams params = new BasicHttpParams();
+        ConnManagerParams.setMaxConnectionsPerRoute(params, new ConnPerRouteBean(THREADS));
+        ConnManagerParams.setMaxTotalConnections(params, THREADS);
+        final SchemeRegistry registry = new SchemeRegistry();
+        registry.register(new Scheme("http", PlainSocketFactory.getSocketFactory(), 80));
+        final HttpClient client = new DefaultHttpClient(new ThreadSafeClientConnManager(params, registry), params);
+
+        mScheduler = new TileFetchScheduler(client, THREADS);
+        mCallers = Executors.newCachedThreadPool();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mGate.countDown();
+        mScheduler.shutdown();
+        mCallers.shutdownNow();
+        mServer.stop();
+        super.tearDown();
+    }
+
+    private Future<String> fetch(final int zoom, final int x, final int y, final int priority) {
+        final String path = "/" + zoom + "/" + x + "/" + y;
+        return mCallers.submit(new Callable<String>() {
+            @Override
+            public String call() throws IOException {
+                final byte data[] = mScheduler.fetch(new MapTile(zoom, x, y),
+                        mServer.getBaseUrl() + path, null, priority);
+                return new String(data, "US-ASCII");
+            }
+        });
+    }
+
+    /**
+     * Waits for the server to receive {@code count} more requests
+     */
+    private void awaitReceived(int count) throws InterruptedException {
+        assertTrue("requests received: " + mServed,
+                mReceived.tryAcquire(count, TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Waits for {@code count} tickets in the queue of the scheduler
+     */
+    private void awaitQueued(int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (mScheduler.getQueueSize() < count) {
+            assertTrue("queued: " + mScheduler.getQueueSize(), System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Keeps every worker busy until the gate opens
+     */
+    private List<Future<String>> occupyWorkers(int zoom, int priority) throws InterruptedException {
+        final List<Future<String>> busy = new ArrayList<Future<String>>();
+        for (int i = 0; i < THREADS; ++i) busy.add(fetch(zoom, i, 0, priority));
+        awaitReceived(THREADS);
+        return busy;
+    }
+
+    public void testCoalescedRequests() throws Exception {
+        final List<Future<String>> busy = occupyWorkers(12, TileFetchScheduler.PRIORITY_PREFETCH);
+        final List<Future<String>> results = new ArrayList<Future<String>>();
+        for (int i = 0; i < 5; ++i) {
+            results.add(fetch(10, 1, 1, TileFetchScheduler.PRIORITY_VIEWPORT));
+        }
+        // a new request, then a ticket more for each viewport caller
+        awaitQueued(5);
+        mGate.countDown();
+
+        for (Future<String> f: results) assertEquals("/10/1/1", f.get());
+        for (Future<String> f: busy) f.get();
+        assertEquals(THREADS + 1, mServer.getRequestCount());
+    }
+
+    public void testViewportBeforePrefetch() throws Exception {
+        final List<Future<String>> results = occupyWorkers(12, TileFetchScheduler.PRIORITY_PREFETCH);
+        for (int i = 0; i < 4; ++i) {
+            results.add(fetch(12, 200 + i, 0, TileFetchScheduler.PRIORITY_PREFETCH));
+        }
+        awaitQueued(4);
+        results.add(fetch(10, 0, 0, TileFetchScheduler.PRIORITY_VIEWPORT));
+        results.add(fetch(10, 1, 0, TileFetchScheduler.PRIORITY_VIEWPORT));
+        awaitQueued(6);
+        mGate.countDown();
+
+        for (Future<String> f: results) f.get();
+        final List<String> next = mServed.subList(THREADS, THREADS + 2);
+        assertTrue(next.toString(), next.contains("/10/0/0") && next.contains("/10/1/0"));
+    }
+
+    public void testStaleViewportCancelled() throws Exception {
+        mScheduler.setViewport(10, 0, 0, 3, 3);
+        final List<Future<String>> busy = occupyWorkers(10, TileFetchScheduler.PRIORITY_VIEWPORT);
+        final Future<String> stale = fetch(10, 3, 3, TileFetchScheduler.PRIORITY_VIEWPORT);
+        final Future<String> prefetch = fetch(10, 3, 4, TileFetchScheduler.PRIORITY_PREFETCH);
+        awaitQueued(2);
+
+        // pans away from row 3, the margin keeps row 2
+        mScheduler.setViewport(10, 0, 0, 1, 1);
+        mGate.countDown();
+
+        try {
+            stale.get();
+            fail("stale tile fetched");
+        }catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TileFetchScheduler.CancelledException);
+        }
+        assertEquals("/10/3/4", prefetch.get());
+        for (Future<String> f: busy) f.get();
+        assertFalse(mServed.contains("/10/3/3"));
+    }
+
+    public void testConnectionsKeptAlive() throws Exception {
+        mGate.countDown();
+        final List<Future<String>> results = new ArrayList<Future<String>>();
+        for (int i = 0; i < 12; ++i) {
+            results.add(fetch(14, i, 0, TileFetchScheduler.PRIORITY_PREFETCH));
+        }
+        for (Future<String> f: results) f.get();
+        assertEquals(12, mServer.getRequestCount());
+        assertTrue("connections: " + mServer.getConnectionCount(), mServer.getConnectionCount() <= THREADS);
+    }
+
+}
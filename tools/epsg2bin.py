@@ -0,0 +1,80 @@
+#!/usr/bin/env python3
+"""Builds assets/proj4/epsg.bin, the EPSG registry read by org.proj4.EpsgRegistry,
+from the proj.4 'epsg' init file.
+
+usage: tools/epsg2bin.py [assets/proj4/epsg [assets/proj4/epsg.bin]]
+
+Layout, big-endian:
+    0   'EPSG'
+    4   int32 version (1)
+    8   int32 count
+    12  int32 offset of the string table
+    16  count x { int32 code, int32 definition, int32 name }, sorted by code;
+        definition and name are offsets in the string table, -1 if none
+    ..  string table: { uint16 length, UTF-8 bytes }, identical strings stored once
+Run it again whenever the epsg file is updated.
+"""
+
+import re
+import struct
+import sys
+
+MAGIC = b'EPSG'
+VERSION = 1
+ENTRY = re.compile(r'^<(\d+)>\s*(.*?)\s*<>\s*$')
+
+
+def parse(path):
+    entries = {}
+    name = None
+    with open(path, encoding='utf-8') as f:
+        for line in f:
+            line = line.rstrip('\n')
+            if line.startswith('#'):
+                name = line[1:].strip()
+                continue
+            m = ENTRY.match(line)
+            if m:
+                # collapse the double spaces of some definitions
+                entries[int(m.group(1))] = (' '.join(m.group(2).split()), name)
+            name = None
+    return entries
+
+
+def build(entries):
+    table = bytearray()
+    offsets = {}
+
+    def intern(s):
+        if s is None:
+            return -1
+        if s not in offsets:
+            data = s.encode('utf-8')
+            if len(data) > 0xffff:
+                raise ValueError('string too long: ' + s[:40])
+            offsets[s] = len(table)
+            table.extend(struct.pack('>H', len(data)))
+            table.extend(data)
+        return offsets[s]
+
+    index = bytearray()
+    for code in sorted(entries):
+        definition, name = entries[code]
+        index.extend(struct.pack('>iii', code, intern(definition), intern(name)))
+
+    header = MAGIC + struct.pack('>iii', VERSION, len(entries), 16 + len(index))
+    return header + index + table
+
+
+def main():
+    src = sys.argv[1] if len(sys.argv) > 1 else 'assets/proj4/epsg'
+    dst = sys.argv[2] if len(sys.argv) > 2 else 'assets/proj4/epsg.bin'
+    entries = parse(src)
+    data = build(entries)
+    with open(dst, 'wb') as f:
+        f.write(data)
+    print('%s: %d codes, %d bytes' % (dst, len(entries), len(data)))
+
+
+if __name__ == '__main__':
+    main()